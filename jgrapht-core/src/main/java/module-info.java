@@ -38,6 +38,8 @@ module org.jgrapht.core
     exports org.jgrapht.graph;
     exports org.jgrapht.graph.builder;
     exports org.jgrapht.graph.concurrent;
+    exports org.jgrapht.graph.mapped;
+    exports org.jgrapht.graph.snapshot;
     exports org.jgrapht.graph.specifics;
     exports org.jgrapht.traverse;
     exports org.jgrapht.util;
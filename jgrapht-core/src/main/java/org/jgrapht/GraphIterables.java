@@ -19,6 +19,8 @@ package org.jgrapht;
 
 import org.jgrapht.util.LiveIterableWrapper;
 
+import java.util.function.*;
+
 /**
  * Presents a graph as a collection of views suitable for graphs which contain a very large number
  * of vertices or edges. Graph algorithms written these methods can work with graphs without the
@@ -247,4 +249,106 @@ public interface GraphIterables<V, E>
         return new LiveIterableWrapper<>(() -> getGraph().getAllEdges(sourceVertex, targetVertex));
     }
 
+    /**
+     * Performs the given action for each edge touching the specified vertex. Unlike
+     * {@link #edgesOf(Object)}, graph implementations may perform this traversal without
+     * allocating any views or iterators. If the graph is modified while the traversal is in
+     * progress, the results of the traversal are undefined.
+     *
+     * @param vertex input vertex
+     * @param action the action to be performed for each edge
+     * @throws IllegalArgumentException if vertex is not found in the graph.
+     * @throws NullPointerException if vertex or action is <code>null</code>.
+     */
+    default void forEachEdgeOf(V vertex, Consumer<? super E> action)
+    {
+        getGraph().edgesOf(vertex).forEach(action);
+    }
+
+    /**
+     * Performs the given action for each edge incoming into the specified vertex. Unlike
+     * {@link #incomingEdgesOf(Object)}, graph implementations may perform this traversal without
+     * allocating any views or iterators. If the graph is modified while the traversal is in
+     * progress, the results of the traversal are undefined.
+     *
+     * <p>
+     * In the case of undirected graphs the action is performed for all edges touching the vertex.
+     *
+     * @param vertex input vertex
+     * @param action the action to be performed for each edge
+     * @throws IllegalArgumentException if vertex is not found in the graph.
+     * @throws NullPointerException if vertex or action is <code>null</code>.
+     */
+    default void forEachIncomingEdge(V vertex, Consumer<? super E> action)
+    {
+        getGraph().incomingEdgesOf(vertex).forEach(action);
+    }
+
+    /**
+     * Performs the given action for each edge outgoing from the specified vertex. Unlike
+     * {@link #outgoingEdgesOf(Object)}, graph implementations may perform this traversal without
+     * allocating any views or iterators. If the graph is modified while the traversal is in
+     * progress, the results of the traversal are undefined.
+     *
+     * <p>
+     * In the case of undirected graphs the action is performed for all edges touching the vertex.
+     *
+     * @param vertex input vertex
+     * @param action the action to be performed for each edge
+     * @throws IllegalArgumentException if vertex is not found in the graph.
+     * @throws NullPointerException if vertex or action is <code>null</code>.
+     */
+    default void forEachOutgoingEdge(V vertex, Consumer<? super E> action)
+    {
+        getGraph().outgoingEdgesOf(vertex).forEach(action);
+    }
+
+    /**
+     * Performs the given action for the opposite vertex of each edge touching the specified
+     * vertex. A neighbor connected by multiple edges is visited once per edge, in the same way as
+     * {@link Graphs#neighborListOf(Graph, Object)} lists it once per edge.
+     *
+     * @param vertex input vertex
+     * @param action the action to be performed for each neighbor
+     * @throws IllegalArgumentException if vertex is not found in the graph.
+     * @throws NullPointerException if vertex or action is <code>null</code>.
+     */
+    default void forEachNeighbor(V vertex, Consumer<? super V> action)
+    {
+        Graph<V, E> g = getGraph();
+        forEachEdgeOf(vertex, e -> action.accept(Graphs.getOppositeVertex(g, e, vertex)));
+    }
+
+    /**
+     * Performs the given action for the source of each edge incoming into the specified vertex.
+     * A predecessor connected by multiple edges is visited once per edge, in the same way as
+     * {@link Graphs#predecessorListOf(Graph, Object)} lists it once per edge.
+     *
+     * @param vertex input vertex
+     * @param action the action to be performed for each predecessor
+     * @throws IllegalArgumentException if vertex is not found in the graph.
+     * @throws NullPointerException if vertex or action is <code>null</code>.
+     */
+    default void forEachPredecessor(V vertex, Consumer<? super V> action)
+    {
+        Graph<V, E> g = getGraph();
+        forEachIncomingEdge(vertex, e -> action.accept(Graphs.getOppositeVertex(g, e, vertex)));
+    }
+
+    /**
+     * Performs the given action for the target of each edge outgoing from the specified vertex. A
+     * successor connected by multiple edges is visited once per edge, in the same way as
+     * {@link Graphs#successorListOf(Graph, Object)} lists it once per edge.
+     *
+     * @param vertex input vertex
+     * @param action the action to be performed for each successor
+     * @throws IllegalArgumentException if vertex is not found in the graph.
+     * @throws NullPointerException if vertex or action is <code>null</code>.
+     */
+    default void forEachSuccessor(V vertex, Consumer<? super V> action)
+    {
+        Graph<V, E> g = getGraph();
+        forEachOutgoingEdge(vertex, e -> action.accept(Graphs.getOppositeVertex(g, e, vertex)));
+    }
+
 }
@@ -17,11 +17,13 @@
  */
 package org.jgrapht;
 
+import org.jgrapht.alg.scoring.*;
 import org.jgrapht.alg.shortestpath.*;
 import org.jgrapht.alg.util.*;
 import org.jgrapht.util.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.stream.*;
 
 /**
@@ -276,8 +278,9 @@ public abstract class GraphMetrics
      * other.
      *
      * <p>
-     * For more details of this algorithm see Ullman, Jeffrey: "Mining of Massive Datasets",
-     * Cambridge University Press, Chapter 10
+     * For simple graphs the triangles are counted with {@link TriangleCounting}, which uses the
+     * forward algorithm on sorted integer adjacency arrays. Otherwise the algorithm described in
+     * Ullman, Jeffrey: "Mining of Massive Datasets", Cambridge University Press, Chapter 10 is used.
      *
      * @param graph the input graph
      * @param <V> the graph vertex type
@@ -287,9 +290,54 @@ public abstract class GraphMetrics
      * @throws IllegalArgumentException if {@code graph} is not undirected
      */
     public static <V, E> long getNumberOfTriangles(Graph<V, E> graph)
+    {
+        return getNumberOfTriangles(graph, null);
+    }
+
+    /**
+     * Count the number of non-trivial triangles in an undirected graph, in parallel if the graph is
+     * simple. A non-trivial triangle is formed by three distinct vertices all connected to each
+     * other.
+     *
+     * <p>
+     * It is up to the caller to manage the lifecycle of the pool.
+     *
+     * @param graph the input graph
+     * @param pool the pool used to count the triangles of a simple graph in parallel, if null the
+     *        count is sequential
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @return the number of triangles in the graph
+     * @throws NullPointerException if {@code graph} is {@code null}
+     * @throws IllegalArgumentException if {@code graph} is not undirected
+     * @see #getNumberOfTriangles(Graph)
+     */
+    public static <V, E> long getNumberOfTriangles(Graph<V, E> graph, ForkJoinPool pool)
     {
         GraphTests.requireUndirected(graph);
 
+        if (GraphTests.isSimple(graph)) {
+            return new TriangleCounting<>(graph, pool).getNumberOfTriangles();
+        }
+
+        return countTrianglesInMultigraph(graph);
+    }
+
+    /**
+     * An $O(|E|^{3/2})$ algorithm for counting the number of non-trivial triangles in an undirected
+     * graph which may contain self-loops and multiple edges.
+     *
+     * <p>
+     * For more details of this algorithm see Ullman, Jeffrey: "Mining of Massive Datasets",
+     * Cambridge University Press, Chapter 10
+     *
+     * @param graph the input graph
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @return the number of triangles in the graph
+     */
+    private static <V, E> long countTrianglesInMultigraph(Graph<V, E> graph)
+    {
         final int sqrtV = (int) Math.sqrt(graph.vertexSet().size());
 
         List<V> vertexList = new ArrayList<>(graph.vertexSet());
@@ -272,9 +272,7 @@ public abstract class Graphs
     {
         List<V> neighbors = new ArrayList<>();
 
-        for (E e : g.iterables().edgesOf(vertex)) {
-            neighbors.add(getOppositeVertex(g, e, vertex));
-        }
+        g.iterables().forEachNeighbor(vertex, neighbors::add);
 
         return neighbors;
     }
@@ -317,9 +315,7 @@ public abstract class Graphs
     {
         List<V> predecessors = new ArrayList<>();
 
-        for (E e : g.iterables().incomingEdgesOf(vertex)) {
-            predecessors.add(getOppositeVertex(g, e, vertex));
-        }
+        g.iterables().forEachPredecessor(vertex, predecessors::add);
 
         return predecessors;
     }
@@ -342,9 +338,7 @@ public abstract class Graphs
     {
         List<V> successors = new ArrayList<>();
 
-        for (E e : g.iterables().outgoingEdgesOf(vertex)) {
-            successors.add(getOppositeVertex(g, e, vertex));
-        }
+        g.iterables().forEachSuccessor(vertex, successors::add);
 
         return successors;
     }
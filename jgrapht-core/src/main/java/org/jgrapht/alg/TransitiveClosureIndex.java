@@ -0,0 +1,506 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg;
+
+import org.jgrapht.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * The transitive closure of a directed graph, as a structure which answers reachability queries
+ * without materializing the closure as edges of a graph.
+ *
+ * <p>
+ * The strongly connected components of the graph are computed first, and the closure is computed
+ * on the acyclic condensation, processing the components in reverse topological order. In the
+ * default representation, each component stores the bitset of the components reachable from it,
+ * which is the union of the bitsets of its successors computed with word-parallel {@code long}
+ * operations. Numbering the components in reverse topological order, the bitset of a component
+ * only contains smaller components, so the bitsets form a triangular matrix of $c^2 / 16$ bytes for
+ * $c$ components. A query takes constant time.
+ *
+ * <p>
+ * Alternatively the closure can be compressed with a chain decomposition: the condensation is
+ * covered by $k$ vertex-disjoint paths, and each component stores, for every path, the first
+ * position of the path which it reaches. This requires $4ck$ bytes, which is much smaller than the
+ * bitsets for graphs with a narrow structure, and still answers queries in constant time.
+ *
+ * <p>
+ * The components are grouped into levels by the length of the longest path to a sink of the
+ * condensation, so that the components of a level only depend on components of lower levels. If
+ * a {@link ForkJoinPool} is provided, the components of each level are processed in parallel
+ * chunks.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see TransitiveClosure
+ * @see TransitiveReduction
+ */
+public class TransitiveClosureIndex<V, E>
+{
+    /*
+     * Number of components of a level processed by a single task.
+     */
+    private static final int TASK_SIZE = 256;
+
+    private final ForkJoinPool pool;
+    private final Map<V, Integer> componentOf;
+    private final int components;
+
+    // the successor components of each component, in compressed sparse row format
+    private final int[] successorStart;
+    private final int[] successors;
+
+    // the bitsets of the default representation
+    private final long[][] reachable;
+
+    // the chain decomposition
+    private final int[] chain;
+    private final int[] chainPosition;
+    private final int[][] firstReached;
+
+    /**
+     * Compute the transitive closure of a graph sequentially, stored as bitsets.
+     *
+     * @param graph the graph; must be directed
+     * @throws IllegalArgumentException if the graph is not directed
+     */
+    public TransitiveClosureIndex(Graph<V, E> graph)
+    {
+        this(graph, null, false);
+    }
+
+    /**
+     * Compute the transitive closure of a graph, stored as bitsets.
+     *
+     * <p>
+     * If a pool is provided, the closure is computed in parallel using the pool. It is up to the
+     * user of this algorithm to manage the lifecycle of the pool.
+     *
+     * @param graph the graph; must be directed
+     * @param pool the pool used for the parallel computation, if null the computation is
+     *        sequential
+     * @throws IllegalArgumentException if the graph is not directed
+     */
+    public TransitiveClosureIndex(Graph<V, E> graph, ForkJoinPool pool)
+    {
+        this(graph, pool, false);
+    }
+
+    /**
+     * Compute the transitive closure of a graph.
+     *
+     * <p>
+     * If a pool is provided, the closure is computed in parallel using the pool. It is up to the
+     * user of this algorithm to manage the lifecycle of the pool.
+     *
+     * @param graph the graph; must be directed
+     * @param pool the pool used for the parallel computation, if null the computation is
+     *        sequential
+     * @param chainCompression whether to compress the closure with a chain decomposition instead
+     *        of storing bitsets
+     * @throws IllegalArgumentException if the graph is not directed
+     */
+    public TransitiveClosureIndex(Graph<V, E> graph, ForkJoinPool pool, boolean chainCompression)
+    {
+        GraphTests.requireDirected(graph, "Graph must be directed");
+        this.pool = pool;
+
+        List<V> vertices = new ArrayList<>(graph.vertexSet());
+        Map<V, Integer> indices = new VertexToIntegerMapping<>(vertices).getVertexMap();
+        int n = vertices.size();
+        int[] start = new int[n + 1];
+        int m = 0;
+        for (int v = 0; v < n; v++) {
+            start[v] = m;
+            m += graph.outDegreeOf(vertices.get(v));
+        }
+        start[n] = m;
+        int[] targets = new int[m];
+        m = 0;
+        for (V v : vertices) {
+            for (E e : graph.outgoingEdgesOf(v)) {
+                targets[m++] = indices.get(Graphs.getOppositeVertex(graph, e, v));
+            }
+        }
+
+        int[] component = stronglyConnectedComponents(n, start, targets);
+        int c = 0;
+        for (int v = 0; v < n; v++) {
+            c = Math.max(c, component[v] + 1);
+        }
+        this.components = c;
+        this.componentOf = new HashMap<>(indices);
+        for (Map.Entry<V, Integer> entry : componentOf.entrySet()) {
+            entry.setValue(component[entry.getValue()]);
+        }
+
+        // the condensation, with the members of each component grouped by counting sort
+        int[] memberStart = new int[c + 1];
+        for (int v = 0; v < n; v++) {
+            memberStart[component[v] + 1]++;
+        }
+        for (int i = 0; i < c; i++) {
+            memberStart[i + 1] += memberStart[i];
+        }
+        int[] members = new int[n];
+        int[] fill = Arrays.copyOf(memberStart, c);
+        for (int v = 0; v < n; v++) {
+            members[fill[component[v]]++] = v;
+        }
+        this.successorStart = new int[c + 1];
+        int[] buffer = new int[m];
+        int[] seen = new int[c];
+        Arrays.fill(seen, -1);
+        int size = 0;
+        for (int i = 0; i < c; i++) {
+            successorStart[i] = size;
+            for (int k = memberStart[i]; k < memberStart[i + 1]; k++) {
+                int v = members[k];
+                for (int j = start[v]; j < start[v + 1]; j++) {
+                    int d = component[targets[j]];
+                    if (d != i && seen[d] != i) {
+                        seen[d] = i;
+                        buffer[size++] = d;
+                    }
+                }
+            }
+        }
+        successorStart[c] = size;
+        this.successors = Arrays.copyOf(buffer, size);
+
+        if (chainCompression) {
+            this.reachable = null;
+            this.chain = new int[c];
+            this.chainPosition = new int[c];
+            this.firstReached = new int[c][];
+            decomposeIntoChains();
+        } else {
+            this.reachable = new long[c][];
+            this.chain = null;
+            this.chainPosition = null;
+            this.firstReached = null;
+        }
+        computeClosure();
+    }
+
+    /**
+     * Check whether there is a directed path from one vertex to another. A vertex is always
+     * reachable from itself.
+     *
+     * @param source the source vertex
+     * @param target the target vertex
+     * @return whether the target vertex is reachable from the source vertex
+     * @throws IllegalArgumentException if a vertex is not in the graph
+     */
+    public boolean isReachable(V source, V target)
+    {
+        return isComponentReachable(getComponent(source), getComponent(target));
+    }
+
+    /**
+     * Get the number of strongly connected components of the graph.
+     *
+     * @return the number of strongly connected components
+     */
+    public int getNumberOfComponents()
+    {
+        return components;
+    }
+
+    /**
+     * Get the number of chains of the chain decomposition.
+     *
+     * @return the number of chains, or -1 if the closure is not compressed
+     */
+    public int getNumberOfChains()
+    {
+        if (chain == null) {
+            return -1;
+        }
+        return components == 0 ? 0 : firstReached[0].length;
+    }
+
+    /**
+     * Get the strongly connected component of a vertex. The components are numbered in reverse
+     * topological order.
+     *
+     * @param v the vertex
+     * @return the component
+     * @throws IllegalArgumentException if the vertex is not in the graph
+     */
+    int getComponent(V v)
+    {
+        Integer result = componentOf.get(v);
+        if (result == null) {
+            throw new IllegalArgumentException("Graph must contain the vertex " + v);
+        }
+        return result;
+    }
+
+    /**
+     * Check whether a component is reachable from another.
+     *
+     * @param a the source component
+     * @param b the target component
+     * @return whether component b is reachable from component a
+     */
+    boolean isComponentReachable(int a, int b)
+    {
+        if (a == b) {
+            return true;
+        }
+        if (b > a) {
+            // the components are numbered in reverse topological order
+            return false;
+        }
+        if (reachable != null) {
+            return (reachable[a][b >>> 6] & (1L << b)) != 0L;
+        }
+        return firstReached[a][chain[b]] <= chainPosition[b];
+    }
+
+    /**
+     * Add the components which are reachable from a component by a non-empty path to a bitset.
+     * Only supported if the closure is not compressed.
+     *
+     * @param a the component
+     * @param into the bitset, with at least one bit per component
+     */
+    void addReachableComponents(int a, long[] into)
+    {
+        long[] row = reachable[a];
+        for (int w = 0; w < row.length; w++) {
+            into[w] |= row[w];
+        }
+    }
+
+    /**
+     * Cover the condensation with vertex-disjoint paths, by greedily extending a path from each
+     * component which is not yet covered, in topological order.
+     */
+    private void decomposeIntoChains()
+    {
+        Arrays.fill(chain, -1);
+        int chains = 0;
+        for (int i = components - 1; i >= 0; i--) {
+            if (chain[i] != -1) {
+                continue;
+            }
+            int current = i;
+            int position = 0;
+            while (current != -1) {
+                chain[current] = chains;
+                chainPosition[current] = position++;
+                int next = -1;
+                for (int j = successorStart[current]; j < successorStart[current + 1]; j++) {
+                    int d = successors[j];
+                    // prefer the successor which is closest in topological order
+                    if (chain[d] == -1 && d > next) {
+                        next = d;
+                    }
+                }
+                current = next;
+            }
+            chains++;
+        }
+        for (int i = 0; i < components; i++) {
+            firstReached[i] = new int[chains];
+        }
+    }
+
+    /**
+     * Compute the closure, level by level.
+     */
+    private void computeClosure()
+    {
+        // the level of a component is the length of the longest path to a sink
+        int[] level = new int[components];
+        int levels = 0;
+        for (int i = 0; i < components; i++) {
+            for (int j = successorStart[i]; j < successorStart[i + 1]; j++) {
+                level[i] = Math.max(level[i], level[successors[j]] + 1);
+            }
+            levels = Math.max(levels, level[i] + 1);
+        }
+        int[] levelStart = new int[levels + 1];
+        for (int i = 0; i < components; i++) {
+            levelStart[level[i] + 1]++;
+        }
+        for (int l = 0; l < levels; l++) {
+            levelStart[l + 1] += levelStart[l];
+        }
+        int[] ordered = new int[components];
+        int[] fill = Arrays.copyOf(levelStart, levels);
+        for (int i = 0; i < components; i++) {
+            ordered[fill[level[i]]++] = i;
+        }
+
+        for (int l = 0; l < levels; l++) {
+            if (pool == null || levelStart[l + 1] - levelStart[l] <= TASK_SIZE) {
+                computeRange(ordered, levelStart[l], levelStart[l + 1]);
+            } else {
+                pool.invoke(new LevelTask(ordered, levelStart[l], levelStart[l + 1]));
+            }
+        }
+    }
+
+    /**
+     * Compute the closure of a range of components whose successors are already processed.
+     *
+     * @param ordered the components ordered by level
+     * @param from the first component, inclusive
+     * @param to the last component, exclusive
+     */
+    private void computeRange(int[] ordered, int from, int to)
+    {
+        for (int k = from; k < to; k++) {
+            int i = ordered[k];
+            if (reachable != null) {
+                long[] row = new long[(i + 63) >>> 6];
+                for (int j = successorStart[i]; j < successorStart[i + 1]; j++) {
+                    int d = successors[j];
+                    long[] other = reachable[d];
+                    for (int w = 0; w < other.length; w++) {
+                        row[w] |= other[w];
+                    }
+                    row[d >>> 6] |= 1L << d;
+                }
+                reachable[i] = row;
+            } else {
+                int[] first = firstReached[i];
+                Arrays.fill(first, Integer.MAX_VALUE);
+                for (int j = successorStart[i]; j < successorStart[i + 1]; j++) {
+                    int d = successors[j];
+                    int[] other = firstReached[d];
+                    for (int w = 0; w < first.length; w++) {
+                        first[w] = Math.min(first[w], other[w]);
+                    }
+                    first[chain[d]] = Math.min(first[chain[d]], chainPosition[d]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Compute the strongly connected components with an iterative version of Tarjan's algorithm.
+     * The components are numbered in the order in which they are completed, which is a reverse
+     * topological order of the condensation.
+     *
+     * @param n the number of vertices
+     * @param start the start of the successors of each vertex
+     * @param targets the successors
+     * @return the component of each vertex
+     */
+    private static int[] stronglyConnectedComponents(int n, int[] start, int[] targets)
+    {
+        int[] result = new int[n];
+        int[] index = new int[n];
+        int[] lowlink = new int[n];
+        Arrays.fill(index, -1);
+        boolean[] onStack = new boolean[n];
+        int[] stack = new int[n];
+        int stackSize = 0;
+        int[] callStack = new int[n];
+        int[] position = new int[n];
+        int nextIndex = 0;
+        int components = 0;
+
+        for (int root = 0; root < n; root++) {
+            if (index[root] != -1) {
+                continue;
+            }
+            int depth = 0;
+            callStack[0] = root;
+            position[0] = start[root];
+            index[root] = lowlink[root] = nextIndex++;
+            stack[stackSize++] = root;
+            onStack[root] = true;
+
+            while (depth >= 0) {
+                int v = callStack[depth];
+                if (position[depth] < start[v + 1]) {
+                    int w = targets[position[depth]++];
+                    if (index[w] == -1) {
+                        index[w] = lowlink[w] = nextIndex++;
+                        stack[stackSize++] = w;
+                        onStack[w] = true;
+                        callStack[++depth] = w;
+                        position[depth] = start[w];
+                    } else if (onStack[w]) {
+                        lowlink[v] = Math.min(lowlink[v], index[w]);
+                    }
+                    continue;
+                }
+                if (lowlink[v] == index[v]) {
+                    int w;
+                    do {
+                        w = stack[--stackSize];
+                        onStack[w] = false;
+                        result[w] = components;
+                    } while (w != v);
+                    components++;
+                }
+                depth--;
+                if (depth >= 0) {
+                    int u = callStack[depth];
+                    lowlink[u] = Math.min(lowlink[u], lowlink[v]);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * A task which computes the closure of a range of components of the same level.
+     */
+    private class LevelTask
+        extends
+        RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] ordered;
+        private final int from;
+        private final int to;
+
+        LevelTask(int[] ordered, int from, int to)
+        {
+            this.ordered = ordered;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (to - from <= TASK_SIZE) {
+                computeRange(ordered, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            LevelTask left = new LevelTask(ordered, from, mid);
+            left.fork();
+            new LevelTask(ordered, mid, to).compute();
+            left.join();
+        }
+    }
+}
@@ -18,6 +18,7 @@
 package org.jgrapht.alg;
 
 import org.jgrapht.*;
+import org.jgrapht.alg.cycle.*;
 
 import java.util.*;
 
@@ -38,6 +39,12 @@ import java.util.*;
  * Overflow</a>
  * </p>
  *
+ * <p>
+ * For acyclic graphs, the reduction is computed from a {@link TransitiveClosureIndex} instead: an
+ * edge $(u, w)$ is transitive if and only if $w$ is reachable from another successor of $u$, which
+ * is tested with one bitset union per vertex.
+ * </p>
+ *
  * @author Christophe Thiebaud
  */
 
@@ -136,6 +143,12 @@ public class TransitiveReduction
     {
         GraphTests.requireDirected(directedGraph, "Graph must be directed");
 
+        // a linear time check first, so that cyclic graphs do not pay for the closure index
+        if (!new CycleDetector<>(directedGraph).detectCycles()) {
+            reduceAcyclic(directedGraph, new TransitiveClosureIndex<>(directedGraph));
+            return;
+        }
+
         final List<V> vertices = new ArrayList<>(directedGraph.vertexSet());
 
         final int n = vertices.size();
@@ -181,4 +194,42 @@ public class TransitiveReduction
             }
         }
     }
+
+    /**
+     * Remove the transitive edges of an acyclic graph.
+     *
+     * @param directedGraph the acyclic directed graph that will be reduced transitively
+     * @param closure the transitive closure of the graph
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     */
+    private <V, E> void reduceAcyclic(
+        Graph<V, E> directedGraph, TransitiveClosureIndex<V, E> closure)
+    {
+        long[] reachable = new long[(closure.getNumberOfComponents() + 63) >>> 6];
+        List<V> sources = new ArrayList<>();
+        List<V> targets = new ArrayList<>();
+        for (V v : directedGraph.vertexSet()) {
+            Arrays.fill(reachable, 0L);
+            Set<V> successors = new LinkedHashSet<>();
+            for (E e : directedGraph.outgoingEdgesOf(v)) {
+                V w = directedGraph.getEdgeTarget(e);
+                if (successors.add(w)) {
+                    closure.addReachableComponents(closure.getComponent(w), reachable);
+                }
+            }
+            for (V w : successors) {
+                int c = closure.getComponent(w);
+                if ((reachable[c >>> 6] & (1L << c)) != 0L) {
+                    sources.add(v);
+                    targets.add(w);
+                }
+            }
+        }
+
+        // as above, remove one edge for each transitive pair of vertices
+        for (int i = 0; i < sources.size(); i++) {
+            directedGraph.removeEdge(directedGraph.getEdge(sources.get(i), targets.get(i)));
+        }
+    }
 }
@@ -0,0 +1,464 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.clique;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.color.*;
+import org.jgrapht.alg.interfaces.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Branch and bound algorithm which computes a
+ * <a href = "http://mathworld.wolfram.com/MaximumClique.html">maximum cardinality clique</a> of a
+ * simple graph.
+ *
+ * <p>
+ * The algorithm is a bitset variant of the MCQ/MCS family of algorithms described in:
+ * <ul>
+ * <li>E. Tomita and T. Seki. An efficient branch-and-bound algorithm for finding a maximum clique.
+ * Discrete Mathematics and Theoretical Computer Science, LNCS 2731, 278--289, 2003.</li>
+ * <li>P. San Segundo, D. Rodríguez-Losada and A. Jiménez. An exact bit-parallel algorithm for the
+ * maximum clique problem. Computers &amp; Operations Research, 38(2):571--581, 2011.</li>
+ * </ul>
+ *
+ * <p>
+ * The vertices are first sorted in a degeneracy ordering and the search is split into one
+ * subproblem per vertex, which looks for the largest clique containing the vertex and its later
+ * neighbors only. Each subproblem therefore involves at most $d$ vertices, where $d$ is the
+ * degeneracy of the graph, and its adjacency matrix is stored as bitsets. At each node of the
+ * search tree the candidate vertices are greedily colored using bitset operations; since the
+ * vertices of a color class are pairwise non-adjacent, the number of colors bounds the size of any
+ * clique among the candidates, and branches which cannot improve the best clique found so far are
+ * pruned. The search also stops as soon as the best clique matches the number of colors of a
+ * {@link SmallestDegreeLastColoring} of the whole graph, which is a global upper bound.
+ *
+ * <p>
+ * The subproblems are independent and can optionally be solved in parallel using a
+ * {@link ForkJoinPool}; the parallel tasks share the size of the best clique found so far in order
+ * to prune.
+ *
+ * <p>
+ * A time budget can be given using the constructor parameters. If the budget is exhausted, the
+ * search stops and {@link #getClique()} returns the largest clique found so far, which is not
+ * necessarily maximum. Whether this happened can be checked with {@link #isTimeLimitReached()}.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see ChordalGraphMaxCliqueFinder
+ */
+public class BranchAndBoundMaxCliqueFinder<V, E>
+    implements
+    CliqueAlgorithm<V>
+{
+    /**
+     * The underlying graph
+     */
+    private final Graph<V, E> graph;
+    /**
+     * Timeout in nanoseconds
+     */
+    private final long nanos;
+    /**
+     * The pool used for the parallel search, null for a sequential search
+     */
+    private final ForkJoinPool pool;
+    /**
+     * Whether the last computation terminated due to a time limit.
+     */
+    private boolean timeLimitReached;
+    /**
+     * The computed clique
+     */
+    private Clique<V> maximumClique;
+
+    /**
+     * Constructs a new sequential clique finder.
+     *
+     * @param graph the input graph; must be simple
+     */
+    public BranchAndBoundMaxCliqueFinder(Graph<V, E> graph)
+    {
+        this(graph, null, 0L, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Constructs a new sequential clique finder.
+     *
+     * @param graph the input graph; must be simple
+     * @param timeout the maximum time to spend, if zero no timeout
+     * @param unit the time unit of the timeout argument
+     */
+    public BranchAndBoundMaxCliqueFinder(Graph<V, E> graph, long timeout, TimeUnit unit)
+    {
+        this(graph, null, timeout, unit);
+    }
+
+    /**
+     * Constructs a new clique finder.
+     *
+     * <p>
+     * If a pool is provided, the subproblems are solved in parallel using the pool. It is up to the
+     * user of this algorithm to manage the lifecycle of the pool.
+     *
+     * @param graph the input graph; must be simple
+     * @param pool the pool used for the parallel search, if null the search is sequential
+     * @param timeout the maximum time to spend, if zero no timeout
+     * @param unit the time unit of the timeout argument
+     */
+    public BranchAndBoundMaxCliqueFinder(
+        Graph<V, E> graph, ForkJoinPool pool, long timeout, TimeUnit unit)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        this.pool = pool;
+        if (timeout == 0L) {
+            this.nanos = Long.MAX_VALUE;
+        } else {
+            this.nanos = unit.toNanos(timeout);
+        }
+        if (this.nanos < 1L) {
+            throw new IllegalArgumentException("Invalid timeout, must be positive");
+        }
+        this.timeLimitReached = false;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * If the time limit has been reached, the returned clique is the largest one found within the
+     * time limit.
+     */
+    @Override
+    public Clique<V> getClique()
+    {
+        if (maximumClique == null) {
+            if (!GraphTests.isSimple(graph)) {
+                throw new IllegalArgumentException("Graph must be simple");
+            }
+            Search search = new Search();
+            if (pool == null) {
+                search.solve(0, search.roots.length);
+            } else {
+                pool.invoke(search.new SubproblemsTask(0, search.roots.length));
+            }
+            timeLimitReached = search.timeLimitReached.get();
+            maximumClique = new CliqueImpl<>(search.bestClique);
+        }
+        return maximumClique;
+    }
+
+    /**
+     * Check the computation has stopped due to a time limit.
+     *
+     * @return true if the computation has stopped due to a time limit, false otherwise
+     */
+    public boolean isTimeLimitReached()
+    {
+        return timeLimitReached;
+    }
+
+    /**
+     * State of the search which is shared among the subproblems.
+     */
+    private class Search
+    {
+        private final DegeneracyIndex<V, E> index;
+        private final Integer[] roots;
+        private final int upperBound;
+        private final long nanosTimeLimit;
+        private final AtomicInteger bestSize;
+        private final AtomicBoolean timeLimitReached;
+        private Set<V> bestClique;
+
+        Search()
+        {
+            this.index = new DegeneracyIndex<>(graph);
+            int n = index.size();
+
+            // try the vertices with many later neighbors first
+            this.roots = new Integer[n];
+            for (int i = 0; i < n; i++) {
+                roots[i] = i;
+            }
+            Arrays.sort(roots, Comparator.comparingInt(index::laterDegree).reversed());
+
+            this.upperBound =
+                new SmallestDegreeLastColoring<>(graph).getColoring().getNumberColors();
+
+            long limit;
+            try {
+                limit = Math.addExact(System.nanoTime(), nanos);
+            } catch (ArithmeticException ignore) {
+                limit = Long.MAX_VALUE;
+            }
+            this.nanosTimeLimit = limit;
+            this.bestSize = new AtomicInteger(0);
+            this.timeLimitReached = new AtomicBoolean(false);
+            this.bestClique = Collections.emptySet();
+        }
+
+        /**
+         * Solve a range of subproblems.
+         *
+         * @param from the first subproblem
+         * @param to the last subproblem (exclusive)
+         */
+        void solve(int from, int to)
+        {
+            for (int i = from; i < to && !isDone(); i++) {
+                int root = roots[i];
+                if (index.laterDegree(root) + 1 > bestSize.get()) {
+                    new Subproblem(index.neighborhood(root)).run();
+                }
+            }
+        }
+
+        /**
+         * Check whether the search should stop.
+         *
+         * @return true if the search should stop, false otherwise
+         */
+        boolean isDone()
+        {
+            if (timeLimitReached.get() || bestSize.get() >= upperBound) {
+                return true;
+            }
+            if (nanosTimeLimit - System.nanoTime() < 0) {
+                timeLimitReached.set(true);
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Report a clique.
+         *
+         * @param neighborhood the neighborhood of the subproblem
+         * @param clique the local vertices of the clique
+         * @param size the number of local vertices of the clique
+         */
+        void report(DegeneracyIndex<V, E>.Neighborhood neighborhood, int[] clique, int size)
+        {
+            synchronized (this) {
+                if (size + 1 > bestSize.get()) {
+                    bestClique = neighborhood.toClique(clique, size);
+                    bestSize.set(size + 1);
+                }
+            }
+        }
+
+        /**
+         * Task which recursively splits a range of subproblems.
+         */
+        private class SubproblemsTask
+            extends
+            RecursiveAction
+        {
+            private static final long serialVersionUID = 1L;
+
+            private final int from;
+            private final int to;
+
+            SubproblemsTask(int from, int to)
+            {
+                this.from = from;
+                this.to = to;
+            }
+
+            @Override
+            protected void compute()
+            {
+                if (to - from <= 1) {
+                    solve(from, to);
+                    return;
+                }
+                int mid = (from + to) >>> 1;
+                invokeAll(new SubproblemsTask(from, mid), new SubproblemsTask(mid, to));
+            }
+        }
+
+        /**
+         * The search for the largest clique containing a vertex and its later neighbors.
+         */
+        private class Subproblem
+        {
+            private final DegeneracyIndex<V, E>.Neighborhood neighborhood;
+            private final int k;
+            private final int words;
+            private final long[][] adjacency;
+            private final long[][] candidates;
+            private final int[][] order;
+            private final int[][] bounds;
+            private final int[] clique;
+            private final long[] uncolored;
+            private final long[] colorClass;
+
+            Subproblem(DegeneracyIndex<V, E>.Neighborhood neighborhood)
+            {
+                this.neighborhood = neighborhood;
+                this.k = neighborhood.later;
+                this.words = (k + 63) >>> 6;
+                this.adjacency = new long[k][words];
+                for (int l = 0; l < k; l++) {
+                    for (int u : neighborhood.adjacency[l]) {
+                        if (u >= k) {
+                            break;
+                        }
+                        adjacency[l][u >>> 6] |= 1L << u;
+                    }
+                }
+                this.candidates = new long[k + 1][];
+                this.order = new int[k][];
+                this.bounds = new int[k][];
+                this.clique = new int[k];
+                this.uncolored = new long[words];
+                this.colorClass = new long[words];
+            }
+
+            void run()
+            {
+                if (k == 0) {
+                    report(neighborhood, clique, 0);
+                    return;
+                }
+                long[] p = candidates(0);
+                for (int l = 0; l < k; l++) {
+                    p[l >>> 6] |= 1L << l;
+                }
+                expand(0, k);
+            }
+
+            /**
+             * Expand the current clique.
+             *
+             * @param depth the number of local vertices in the clique
+             * @param pSize the number of candidates
+             */
+            private void expand(int depth, int pSize)
+            {
+                if (isDone()) {
+                    return;
+                }
+                long[] p = candidates[depth];
+                int[] vertexOrder = order(depth, pSize);
+                int[] vertexBounds = bounds[depth];
+                int count = color(depth, p, vertexOrder, vertexBounds);
+
+                long[] newP = null;
+                for (int i = count - 1; i >= 0; i--) {
+                    // the clique contains the root vertex and depth local vertices
+                    if (depth + 1 + vertexBounds[i] <= bestSize.get()) {
+                        return;
+                    }
+                    int v = vertexOrder[i];
+                    clique[depth] = v;
+                    long[] vAdjacency = adjacency[v];
+                    if (newP == null) {
+                        newP = candidates(depth + 1);
+                    }
+                    int newPSize = 0;
+                    for (int w = 0; w < words; w++) {
+                        newP[w] = p[w] & vAdjacency[w];
+                        newPSize += Long.bitCount(newP[w]);
+                    }
+                    if (newPSize == 0) {
+                        if (depth + 2 > bestSize.get()) {
+                            report(neighborhood, clique, depth + 1);
+                        }
+                    } else {
+                        expand(depth + 1, newPSize);
+                        if (timeLimitReached.get()) {
+                            return;
+                        }
+                    }
+                    p[v >>> 6] &= ~(1L << v);
+                }
+            }
+
+            /**
+             * Greedily color the candidates and store them sorted by color. Vertices whose color
+             * is too small to improve the best clique are omitted, since they never need to be
+             * branched on.
+             *
+             * @param depth the number of local vertices in the clique
+             * @param p the candidates
+             * @param vertexOrder array to store the vertices
+             * @param vertexBounds array to store the color of the vertices
+             * @return the number of stored vertices
+             */
+            private int color(int depth, long[] p, int[] vertexOrder, int[] vertexBounds)
+            {
+                int minColor = bestSize.get() - depth;
+                System.arraycopy(p, 0, uncolored, 0, words);
+
+                int count = 0;
+                int color = 0;
+                int first = 0;
+                while (true) {
+                    while (first < words && uncolored[first] == 0L) {
+                        first++;
+                    }
+                    if (first == words) {
+                        break;
+                    }
+                    color++;
+                    System.arraycopy(uncolored, first, colorClass, first, words - first);
+                    for (int w = first; w < words; w++) {
+                        while (colorClass[w] != 0L) {
+                            int v = (w << 6) + Long.numberOfTrailingZeros(colorClass[w]);
+                            uncolored[w] &= ~(1L << v);
+                            long[] vAdjacency = adjacency[v];
+                            for (int x = w; x < words; x++) {
+                                colorClass[x] &= ~vAdjacency[x];
+                            }
+                            colorClass[w] &= ~(1L << v);
+                            if (color >= minColor) {
+                                vertexOrder[count] = v;
+                                vertexBounds[count] = color;
+                                count++;
+                            }
+                        }
+                    }
+                }
+                return count;
+            }
+
+            private long[] candidates(int depth)
+            {
+                if (candidates[depth] == null) {
+                    candidates[depth] = new long[words];
+                }
+                return candidates[depth];
+            }
+
+            private int[] order(int depth, int pSize)
+            {
+                if (order[depth] == null || order[depth].length < pSize) {
+                    order[depth] = new int[pSize];
+                    bounds[depth] = new int[pSize];
+                }
+                return order[depth];
+            }
+        }
+    }
+
+}
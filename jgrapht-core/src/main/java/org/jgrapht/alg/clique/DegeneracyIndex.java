@@ -0,0 +1,321 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.clique;
+
+import org.jgrapht.*;
+import org.jgrapht.traverse.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+
+/**
+ * Integer representation of a simple graph whose vertices are numbered according to a degeneracy
+ * ordering.
+ *
+ * <p>
+ * Vertex $i$ is the $i$-th vertex of the ordering and its neighbors are stored as a sorted array.
+ * The Bron-Kerbosch subproblem of vertex $i$ only involves its neighborhood, which can be extracted
+ * with consecutive local labels using {@link #neighborhood(int)}.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+class DegeneracyIndex<V, E>
+{
+    /**
+     * The vertices in degeneracy ordering
+     */
+    final List<V> ordering;
+    /**
+     * Sorted neighbors of each vertex
+     */
+    final int[][] adjacency;
+
+    /**
+     * Construct the index.
+     *
+     * @param graph the input graph; must be simple
+     */
+    DegeneracyIndex(Graph<V, E> graph)
+    {
+        this.ordering = new ArrayList<>(graph.vertexSet().size());
+        new DegeneracyOrderingIterator<V, E>(graph).forEachRemaining(ordering::add);
+
+        int n = ordering.size();
+        Map<V, Integer> index = new VertexToIntegerMapping<>(ordering).getVertexMap();
+        this.adjacency = new int[n][];
+        for (int i = 0; i < n; i++) {
+            V v = ordering.get(i);
+            int[] neighbors = new int[graph.degreeOf(v)];
+            int k = 0;
+            for (E e : graph.edgesOf(v)) {
+                neighbors[k++] = index.get(Graphs.getOppositeVertex(graph, e, v));
+            }
+            Arrays.sort(neighbors);
+            adjacency[i] = neighbors;
+        }
+    }
+
+    /**
+     * Get the number of vertices.
+     *
+     * @return the number of vertices
+     */
+    int size()
+    {
+        return ordering.size();
+    }
+
+    /**
+     * Get the number of neighbors of a vertex which come later in the ordering.
+     *
+     * @param vertex the vertex
+     * @return the number of later neighbors
+     */
+    int laterDegree(int vertex)
+    {
+        int[] neighbors = adjacency[vertex];
+        int pos = Arrays.binarySearch(neighbors, vertex);
+        return neighbors.length - (-pos - 1);
+    }
+
+    /**
+     * Extract the neighborhood of a vertex with local labels.
+     *
+     * @param vertex the vertex
+     * @return the neighborhood of the vertex
+     */
+    Neighborhood neighborhood(int vertex)
+    {
+        return new Neighborhood(vertex);
+    }
+
+    /**
+     * The subgraph induced by the neighbors of a vertex. The neighbors are relabeled with $0,
+     * \dots, k-1$ so that the neighbors which come later in the ordering (the initial candidates of
+     * the Bron-Kerbosch subproblem) get labels $0, \dots, later - 1$ and the earlier ones (the
+     * initially excluded vertices) get the remaining labels.
+     */
+    class Neighborhood
+    {
+        /**
+         * The vertex whose neighborhood this is
+         */
+        final int vertex;
+        /**
+         * The number of neighbors which come later in the ordering
+         */
+        final int later;
+        /**
+         * The global label of each local vertex
+         */
+        final int[] localToGlobal;
+        /**
+         * Sorted local neighbors of each local vertex
+         */
+        final int[][] adjacency;
+        /**
+         * Sum of the local degrees
+         */
+        final long degreeSum;
+
+        private Neighborhood(int vertex)
+        {
+            this.vertex = vertex;
+
+            int[] neighbors = DegeneracyIndex.this.adjacency[vertex];
+            int k = neighbors.length;
+            int earlier = 0;
+            while (earlier < k && neighbors[earlier] < vertex) {
+                earlier++;
+            }
+            this.later = k - earlier;
+            this.localToGlobal = new int[k];
+            for (int t = 0; t < k; t++) {
+                localToGlobal[toLocal(t, earlier)] = neighbors[t];
+            }
+
+            // merge the sorted global adjacency lists with the neighborhood
+            this.adjacency = new int[k][];
+            long sum = 0;
+            int[] buffer = new int[k];
+            for (int l = 0; l < k; l++) {
+                int[] other = DegeneracyIndex.this.adjacency[localToGlobal[l]];
+                int size = 0;
+                int a = 0, b = 0;
+                while (a < other.length && b < k) {
+                    if (other[a] < neighbors[b]) {
+                        a++;
+                    } else if (other[a] > neighbors[b]) {
+                        b++;
+                    } else {
+                        buffer[size++] = toLocal(b, earlier);
+                        a++;
+                        b++;
+                    }
+                }
+                int[] local = Arrays.copyOf(buffer, size);
+                Arrays.sort(local);
+                adjacency[l] = local;
+                sum += size;
+            }
+            this.degreeSum = sum;
+        }
+
+        private int toLocal(int position, int earlier)
+        {
+            return position >= earlier ? position - earlier : later + position;
+        }
+
+        /**
+         * Get the number of vertices of the neighborhood.
+         *
+         * @return the number of vertices of the neighborhood
+         */
+        int size()
+        {
+            return localToGlobal.length;
+        }
+
+        /**
+         * Create a clique of the original graph which contains the vertex of this neighborhood
+         * together with some local vertices.
+         *
+         * @param clique local vertices
+         * @param size number of local vertices
+         * @return the clique
+         */
+        Set<V> toClique(int[] clique, int size)
+        {
+            Set<V> result = CollectionUtil.newHashSetWithExpectedSize(size + 1);
+            result.add(ordering.get(vertex));
+            for (int t = 0; t < size; t++) {
+                result.add(ordering.get(localToGlobal[clique[t]]));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Count the common elements of two sorted arrays.
+     *
+     * @param a the first array
+     * @param aSize number of elements of the first array
+     * @param b the second array
+     * @return the number of common elements
+     */
+    static int intersectionSize(int[] a, int aSize, int[] b)
+    {
+        int count = 0;
+        int i = 0, j = 0;
+        while (i < aSize && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                count++;
+                i++;
+                j++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Compute the intersection of two sorted arrays.
+     *
+     * @param a the first array
+     * @param aSize number of elements of the first array
+     * @param b the second array
+     * @param result array where the result is stored
+     * @return the number of elements in the result
+     */
+    static int intersect(int[] a, int aSize, int[] b, int[] result)
+    {
+        int size = 0;
+        int i = 0, j = 0;
+        while (i < aSize && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[size++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Compute the elements of a sorted array which do not belong to another sorted array.
+     *
+     * @param a the first array
+     * @param aSize number of elements of the first array
+     * @param b the second array
+     * @param result array where the result is stored
+     * @return the number of elements in the result
+     */
+    static int difference(int[] a, int aSize, int[] b, int[] result)
+    {
+        int size = 0;
+        for (int i = 0, j = 0; i < aSize; i++) {
+            int v = a[i];
+            while (j < b.length && b[j] < v) {
+                j++;
+            }
+            if (j == b.length || b[j] != v) {
+                result[size++] = v;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Remove an element from a sorted array.
+     *
+     * @param a the array
+     * @param aSize number of elements of the array
+     * @param value the element to remove; must be present
+     * @return the new number of elements
+     */
+    static int remove(int[] a, int aSize, int value)
+    {
+        int pos = Arrays.binarySearch(a, 0, aSize, value);
+        System.arraycopy(a, pos + 1, a, pos, aSize - pos - 1);
+        return aSize - 1;
+    }
+
+    /**
+     * Insert an element into a sorted array with enough capacity.
+     *
+     * @param a the array
+     * @param aSize number of elements of the array
+     * @param value the element to insert; must not be present
+     * @return the new number of elements
+     */
+    static int insert(int[] a, int aSize, int value)
+    {
+        int pos = -Arrays.binarySearch(a, 0, aSize, value) - 1;
+        System.arraycopy(a, pos, a, pos + 1, aSize - pos);
+        a[pos] = value;
+        return aSize + 1;
+    }
+}
@@ -0,0 +1,433 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.clique;
+
+import org.jgrapht.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Parallel Bron-Kerbosch maximal clique enumeration algorithm with pivot and degeneracy ordering.
+ *
+ * <p>
+ * The algorithm follows {@link DegeneracyBronKerboschCliqueFinder}: the vertices are processed in
+ * a degeneracy ordering and, for each vertex $v_i$, the maximal cliques which contain $v_i$ but no
+ * earlier vertex of the ordering are enumerated using the pivoting rule of Tomita et al. These
+ * subproblems are independent of each other and are therefore executed as tasks of a
+ * {@link ForkJoinPool}, which balances the (usually very uneven) work among the threads by work
+ * stealing.
+ *
+ * <p>
+ * Each subproblem only involves the neighborhood of $v_i$, whose size is at most the degree of
+ * $v_i$. The neighborhood is relabeled with consecutive integers and the candidate and excluded
+ * sets are represented either as bitsets, when the neighborhood is dense enough for the adjacency
+ * matrix of the neighborhood to be cheaper than adjacency lists, or as sorted integer arrays
+ * otherwise. Both representations avoid hashing and boxing in the recursion.
+ *
+ * <p>
+ * The algorithm first computes all maximal cliques and then returns the result to the user. The
+ * cliques are returned in the same order regardless of the number of threads used. A timeout can
+ * be set using the constructor parameters; if it is reached, the cliques found up to that point
+ * are returned and {@link #isTimeLimitReached()} returns true.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see DegeneracyBronKerboschCliqueFinder
+ * @see PivotBronKerboschCliqueFinder
+ */
+public class ParallelDegeneracyBronKerboschCliqueFinder<V, E>
+    extends
+    BaseBronKerboschCliqueFinder<V, E>
+{
+    /**
+     * The pool which executes the subproblems.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructs a new clique finder which uses the {@link ForkJoinPool#commonPool() common
+     * pool}.
+     *
+     * @param graph the input graph; must be simple
+     */
+    public ParallelDegeneracyBronKerboschCliqueFinder(Graph<V, E> graph)
+    {
+        this(graph, 0L, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Constructs a new clique finder which uses the {@link ForkJoinPool#commonPool() common
+     * pool}.
+     *
+     * @param graph the input graph; must be simple
+     * @param timeout the maximum time to wait, if zero no timeout
+     * @param unit the time unit of the timeout argument
+     */
+    public ParallelDegeneracyBronKerboschCliqueFinder(
+        Graph<V, E> graph, long timeout, TimeUnit unit)
+    {
+        this(graph, ForkJoinPool.commonPool(), timeout, unit);
+    }
+
+    /**
+     * Constructs a new clique finder. It is up to the user of this algorithm to manage the
+     * lifecycle of the {@code pool}.
+     *
+     * @param graph the input graph; must be simple
+     * @param pool the pool which will be used for parallelization
+     * @param timeout the maximum time to wait, if zero no timeout
+     * @param unit the time unit of the timeout argument
+     */
+    public ParallelDegeneracyBronKerboschCliqueFinder(
+        Graph<V, E> graph, ForkJoinPool pool, long timeout, TimeUnit unit)
+    {
+        super(graph, timeout, unit);
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+    }
+
+    /**
+     * Lazily execute the enumeration algorithm.
+     */
+    @Override
+    protected void lazyRun()
+    {
+        if (allMaximalCliques == null) {
+            if (!GraphTests.isSimple(graph)) {
+                throw new IllegalArgumentException("Graph must be simple");
+            }
+
+            long nanosTimeLimit;
+            try {
+                nanosTimeLimit = Math.addExact(System.nanoTime(), nanos);
+            } catch (ArithmeticException ignore) {
+                nanosTimeLimit = Long.MAX_VALUE;
+            }
+
+            Enumeration enumeration =
+                new Enumeration(new DegeneracyIndex<>(graph), nanosTimeLimit);
+            pool.invoke(enumeration.new SubproblemsTask(0, enumeration.index.size()));
+
+            allMaximalCliques = new ArrayList<>();
+            for (List<Set<V>> cliques : enumeration.results) {
+                if (cliques != null) {
+                    for (Set<V> clique : cliques) {
+                        allMaximalCliques.add(clique);
+                        maxSize = Math.max(maxSize, clique.size());
+                    }
+                }
+            }
+            timeLimitReached = enumeration.timeLimitReached.get();
+        }
+    }
+
+    /**
+     * The state of one enumeration shared by all subproblems.
+     */
+    private class Enumeration
+    {
+        private final DegeneracyIndex<V, E> index;
+        private final long nanosTimeLimit;
+        private final AtomicBoolean timeLimitReached;
+        private final List<Set<V>>[] results;
+
+        @SuppressWarnings("unchecked")
+        Enumeration(DegeneracyIndex<V, E> index, long nanosTimeLimit)
+        {
+            this.index = index;
+            this.nanosTimeLimit = nanosTimeLimit;
+            this.timeLimitReached = new AtomicBoolean(false);
+            this.results = (List<Set<V>>[]) new List<?>[index.size()];
+        }
+
+        /**
+         * Check whether the enumeration has to stop.
+         *
+         * @return true if the time limit has been reached
+         */
+        boolean isTimeUp()
+        {
+            if (timeLimitReached.get()) {
+                return true;
+            }
+            if (nanosTimeLimit - System.nanoTime() < 0) {
+                timeLimitReached.set(true);
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Enumerate the maximal cliques whose earliest vertex in the ordering is the vertex with
+         * index {@code i}.
+         *
+         * @param i the index of the vertex
+         */
+        void solve(int i)
+        {
+            if (isTimeUp()) {
+                return;
+            }
+            Subproblem subproblem = new Subproblem(i);
+            subproblem.run();
+            results[i] = subproblem.cliques;
+        }
+
+        /**
+         * A task which recursively splits a range of subproblems.
+         */
+        class SubproblemsTask
+            extends
+            RecursiveAction
+        {
+            private static final long serialVersionUID = 1L;
+
+            private final int from;
+            private final int to;
+
+            SubproblemsTask(int from, int to)
+            {
+                this.from = from;
+                this.to = to;
+            }
+
+            @Override
+            protected void compute()
+            {
+                if (to - from == 1) {
+                    solve(from);
+                } else if (to - from > 1) {
+                    int mid = (from + to) >>> 1;
+                    invokeAll(new SubproblemsTask(from, mid), new SubproblemsTask(mid, to));
+                }
+            }
+        }
+
+        /**
+         * The subproblem of a single vertex.
+         */
+        class Subproblem
+        {
+            private final DegeneracyIndex<V, E>.Neighborhood neighborhood;
+            private final int[][] localAdjacency;
+            private final List<Set<V>> cliques;
+            private final int[] clique;
+
+            // bitset representation
+            private long[][] rows;
+            private int words;
+
+            Subproblem(int vertex)
+            {
+                this.neighborhood = index.neighborhood(vertex);
+                this.localAdjacency = neighborhood.adjacency;
+                this.cliques = new ArrayList<>();
+
+                int k = neighborhood.size();
+                this.clique = new int[k];
+
+                // use bitsets if the adjacency matrix is not larger than the adjacency lists
+                this.words = (k + 63) >>> 6;
+                if ((long) k * words <= neighborhood.degreeSum + k) {
+                    rows = new long[k][words];
+                    for (int l = 0; l < k; l++) {
+                        for (int u : localAdjacency[l]) {
+                            rows[l][u >>> 6] |= 1L << u;
+                        }
+                    }
+                }
+            }
+
+            void run()
+            {
+                int k = neighborhood.size();
+                int laterNeighbors = neighborhood.later;
+                if (rows != null) {
+                    long[] p = new long[words];
+                    long[] x = new long[words];
+                    for (int l = 0; l < laterNeighbors; l++) {
+                        p[l >>> 6] |= 1L << l;
+                    }
+                    for (int l = laterNeighbors; l < k; l++) {
+                        x[l >>> 6] |= 1L << l;
+                    }
+                    expandDense(p, x, 0);
+                } else {
+                    int[] p = new int[laterNeighbors];
+                    int[] x = new int[k - laterNeighbors];
+                    for (int l = 0; l < laterNeighbors; l++) {
+                        p[l] = l;
+                    }
+                    for (int l = laterNeighbors; l < k; l++) {
+                        x[l - laterNeighbors] = l;
+                    }
+                    expandSparse(p, p.length, x, x.length, 0);
+                }
+            }
+
+            private void report(int size)
+            {
+                cliques.add(neighborhood.toClique(clique, size));
+            }
+
+            /**
+             * Recursive Bron-Kerbosch with pivot over bitsets.
+             *
+             * @param p vertices to consider adding to the clique
+             * @param x vertices which must be excluded from the clique
+             * @param size the current size of the clique
+             */
+            private void expandDense(long[] p, long[] x, int size)
+            {
+                boolean pEmpty = isEmpty(p);
+                if (pEmpty && isEmpty(x)) {
+                    report(size);
+                    return;
+                }
+                if (pEmpty || isTimeUp()) {
+                    return;
+                }
+
+                // choose pivot maximizing the number of candidates among its neighbors
+                int pivot = -1;
+                int max = -1;
+                for (int w = 0; w < words; w++) {
+                    long bits = p[w] | x[w];
+                    while (bits != 0) {
+                        int u = (w << 6) + Long.numberOfTrailingZeros(bits);
+                        bits &= bits - 1;
+                        long[] row = rows[u];
+                        int count = 0;
+                        for (int t = 0; t < words; t++) {
+                            count += Long.bitCount(p[t] & row[t]);
+                        }
+                        if (count > max) {
+                            max = count;
+                            pivot = u;
+                        }
+                    }
+                }
+
+                long[] pivotRow = rows[pivot];
+                long[] candidates = new long[words];
+                for (int w = 0; w < words; w++) {
+                    candidates[w] = p[w] & ~pivotRow[w];
+                }
+
+                for (int w = 0; w < words; w++) {
+                    long bits = candidates[w];
+                    while (bits != 0) {
+                        long lowest = bits & -bits;
+                        int v = (w << 6) + Long.numberOfTrailingZeros(bits);
+                        bits ^= lowest;
+
+                        long[] row = rows[v];
+                        long[] newP = new long[words];
+                        long[] newX = new long[words];
+                        for (int t = 0; t < words; t++) {
+                            newP[t] = p[t] & row[t];
+                            newX[t] = x[t] & row[t];
+                        }
+                        clique[size] = v;
+                        expandDense(newP, newX, size + 1);
+                        if (timeLimitReached.get()) {
+                            return;
+                        }
+
+                        p[w] &= ~lowest;
+                        x[w] |= lowest;
+                    }
+                }
+            }
+
+            private boolean isEmpty(long[] set)
+            {
+                for (long word : set) {
+                    if (word != 0) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+
+            /**
+             * Recursive Bron-Kerbosch with pivot over sorted integer arrays.
+             *
+             * @param p vertices to consider adding to the clique
+             * @param pSize number of vertices in {@code p}
+             * @param x vertices which must be excluded from the clique
+             * @param xSize number of vertices in {@code x}
+             * @param size the current size of the clique
+             */
+            private void expandSparse(int[] p, int pSize, int[] x, int xSize, int size)
+            {
+                if (pSize == 0 && xSize == 0) {
+                    report(size);
+                    return;
+                }
+                if (pSize == 0 || isTimeUp()) {
+                    return;
+                }
+
+                // choose pivot maximizing the number of candidates among its neighbors
+                int pivot = -1;
+                int max = -1;
+                for (int t = 0; t < pSize + xSize; t++) {
+                    int u = t < pSize ? p[t] : x[t - pSize];
+                    int count = DegeneracyIndex.intersectionSize(p, pSize, localAdjacency[u]);
+                    if (count > max) {
+                        max = count;
+                        pivot = u;
+                    }
+                }
+
+                int[] pivotNeighbors = localAdjacency[pivot];
+                int[] candidates = new int[pSize];
+                int candidatesSize =
+                    DegeneracyIndex.difference(p, pSize, pivotNeighbors, candidates);
+
+                // work on copies since p and x shrink and grow during the loop
+                int[] curP = Arrays.copyOf(p, pSize);
+                int curPSize = pSize;
+                int[] curX = Arrays.copyOf(x, xSize + candidatesSize);
+                int curXSize = xSize;
+
+                for (int c = 0; c < candidatesSize; c++) {
+                    int v = candidates[c];
+                    int[] vNeighbors = localAdjacency[v];
+                    int[] newP = new int[Math.min(curPSize, vNeighbors.length)];
+                    int newPSize = DegeneracyIndex.intersect(curP, curPSize, vNeighbors, newP);
+                    int[] newX = new int[Math.min(curXSize, vNeighbors.length)];
+                    int newXSize = DegeneracyIndex.intersect(curX, curXSize, vNeighbors, newX);
+
+                    clique[size] = v;
+                    expandSparse(newP, newPSize, newX, newXSize, size + 1);
+                    if (timeLimitReached.get()) {
+                        return;
+                    }
+
+                    curPSize = DegeneracyIndex.remove(curP, curPSize, v);
+                    curXSize = DegeneracyIndex.insert(curX, curXSize, v);
+                }
+            }
+        }
+    }
+
+}
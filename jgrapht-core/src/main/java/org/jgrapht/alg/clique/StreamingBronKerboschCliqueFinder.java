@@ -0,0 +1,386 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.clique;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Streaming Bron-Kerbosch maximal clique enumeration algorithm with pivot and degeneracy ordering.
+ *
+ * <p>
+ * The algorithm explores the same search tree as {@link DegeneracyBronKerboschCliqueFinder}, but
+ * unlike the other Bron-Kerbosch implementations it does not store the maximal cliques. The
+ * recursion is driven by the returned iterator using an explicit stack, and each maximal clique is
+ * returned as soon as it is found. Apart from an integer copy of the graph, the memory used is
+ * bounded by the recursion stack, i.e. by the size of the current subproblem, regardless of the
+ * number of maximal cliques of the graph.
+ *
+ * <p>
+ * The enumeration can be restricted to the maximal cliques with at least {@code minSize} vertices
+ * and to at most {@code maxResults} cliques. The size threshold is also used to prune the search:
+ * branches whose candidate set is too small to extend the current clique to {@code minSize}
+ * vertices are never explored. The iterator stops as soon as {@code maxResults} cliques have been
+ * returned, so the unexplored part of the search tree costs nothing.
+ *
+ * <p>
+ * Each call to {@link #iterator()} starts a new enumeration. A timeout can be set using the
+ * constructor parameters; it applies to each enumeration separately, measured from the creation
+ * of the iterator. If the timeout is reached, the iterator simply ends and
+ * {@link #isTimeLimitReached()} returns true.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see DegeneracyBronKerboschCliqueFinder
+ * @see ParallelDegeneracyBronKerboschCliqueFinder
+ */
+public class StreamingBronKerboschCliqueFinder<V, E>
+    implements
+    MaximalCliqueEnumerationAlgorithm<V, E>
+{
+    /**
+     * The underlying graph
+     */
+    private final Graph<V, E> graph;
+    /**
+     * Timeout in nanoseconds
+     */
+    private final long nanos;
+    /**
+     * Minimum size of a reported clique
+     */
+    private final int minSize;
+    /**
+     * Maximum number of reported cliques
+     */
+    private final long maxResults;
+    /**
+     * Whether the last enumeration terminated due to a time limit.
+     */
+    private boolean timeLimitReached;
+    /**
+     * Integer representation of the graph, computed lazily
+     */
+    private DegeneracyIndex<V, E> index;
+
+    /**
+     * Constructs a new clique finder which reports all maximal cliques.
+     *
+     * @param graph the input graph; must be simple
+     */
+    public StreamingBronKerboschCliqueFinder(Graph<V, E> graph)
+    {
+        this(graph, 0L, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Constructs a new clique finder which reports all maximal cliques.
+     *
+     * @param graph the input graph; must be simple
+     * @param timeout the maximum time to wait, if zero no timeout
+     * @param unit the time unit of the timeout argument
+     */
+    public StreamingBronKerboschCliqueFinder(Graph<V, E> graph, long timeout, TimeUnit unit)
+    {
+        this(graph, 1, Long.MAX_VALUE, timeout, unit);
+    }
+
+    /**
+     * Constructs a new clique finder.
+     *
+     * @param graph the input graph; must be simple
+     * @param minSize the minimum size of a reported maximal clique
+     * @param maxResults the maximum number of reported maximal cliques
+     */
+    public StreamingBronKerboschCliqueFinder(Graph<V, E> graph, int minSize, long maxResults)
+    {
+        this(graph, minSize, maxResults, 0L, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Constructs a new clique finder.
+     *
+     * @param graph the input graph; must be simple
+     * @param minSize the minimum size of a reported maximal clique
+     * @param maxResults the maximum number of reported maximal cliques
+     * @param timeout the maximum time to wait, if zero no timeout
+     * @param unit the time unit of the timeout argument
+     */
+    public StreamingBronKerboschCliqueFinder(
+        Graph<V, E> graph, int minSize, long maxResults, long timeout, TimeUnit unit)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        if (minSize < 0) {
+            throw new IllegalArgumentException("Minimum size must be non-negative");
+        }
+        this.minSize = minSize;
+        if (maxResults < 0) {
+            throw new IllegalArgumentException("Maximum number of results must be non-negative");
+        }
+        this.maxResults = maxResults;
+        if (timeout == 0L) {
+            this.nanos = Long.MAX_VALUE;
+        } else {
+            this.nanos = unit.toNanos(timeout);
+        }
+        if (this.nanos < 1L) {
+            throw new IllegalArgumentException("Invalid timeout, must be positive");
+        }
+        this.timeLimitReached = false;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The returned iterator computes the maximal cliques on demand.
+     */
+    @Override
+    public Iterator<Set<V>> iterator()
+    {
+        if (index == null) {
+            if (!GraphTests.isSimple(graph)) {
+                throw new IllegalArgumentException("Graph must be simple");
+            }
+            index = new DegeneracyIndex<>(graph);
+        }
+        timeLimitReached = false;
+        return new CliqueIterator();
+    }
+
+    /**
+     * Check the last enumeration has stopped due to a time limit.
+     *
+     * @return true if the enumeration has stopped due to a time limit, false otherwise
+     */
+    public boolean isTimeLimitReached()
+    {
+        return timeLimitReached;
+    }
+
+    /**
+     * A node of the search tree.
+     */
+    private static class Frame
+    {
+        /**
+         * Vertices to consider adding to the clique
+         */
+        int[] p;
+        int pSize;
+        /**
+         * Vertices which must be excluded from the clique
+         */
+        int[] x;
+        int xSize;
+        /**
+         * Number of local vertices in the clique
+         */
+        int depth;
+        /**
+         * Candidates which have to be branched on, null if not yet computed
+         */
+        int[] candidates;
+        int candidatesSize;
+        /**
+         * Position of the next candidate
+         */
+        int next;
+
+        Frame(int[] p, int pSize, int[] x, int xSize, int depth)
+        {
+            this.p = p;
+            this.pSize = pSize;
+            this.x = x;
+            this.xSize = xSize;
+            this.depth = depth;
+        }
+    }
+
+    /**
+     * Iterator which drives the search.
+     */
+    private class CliqueIterator
+        implements
+        Iterator<Set<V>>
+    {
+        private final long nanosTimeLimit;
+        private final Deque<Frame> stack;
+        private int nextVertex;
+        private DegeneracyIndex<V, E>.Neighborhood neighborhood;
+        private int[] clique;
+        private long results;
+        private Set<V> nextClique;
+
+        CliqueIterator()
+        {
+            long limit;
+            try {
+                limit = Math.addExact(System.nanoTime(), nanos);
+            } catch (ArithmeticException ignore) {
+                limit = Long.MAX_VALUE;
+            }
+            this.nanosTimeLimit = limit;
+            this.stack = new ArrayDeque<>();
+            this.nextVertex = 0;
+            this.results = 0;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            if (nextClique == null && results < maxResults) {
+                nextClique = advance();
+            }
+            return nextClique != null;
+        }
+
+        @Override
+        public Set<V> next()
+        {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Set<V> result = nextClique;
+            nextClique = null;
+            results++;
+            return result;
+        }
+
+        /**
+         * Continue the search until the next maximal clique is found.
+         *
+         * @return the next maximal clique or null if there are no more
+         */
+        private Set<V> advance()
+        {
+            while (true) {
+                if (stack.isEmpty() && !startSubproblem()) {
+                    return null;
+                }
+
+                Frame frame = stack.peek();
+                if (frame.candidates == null) {
+                    if (frame.pSize == 0 && frame.xSize == 0) {
+                        stack.pop();
+                        if (frame.depth + 1 >= minSize) {
+                            return neighborhood.toClique(clique, frame.depth);
+                        }
+                        continue;
+                    }
+                    if (frame.depth + 1 + frame.pSize < minSize) {
+                        stack.pop();
+                        continue;
+                    }
+                    if (nanosTimeLimit - System.nanoTime() < 0) {
+                        timeLimitReached = true;
+                        stack.clear();
+                        nextVertex = index.size();
+                        return null;
+                    }
+                    choosePivot(frame);
+                }
+
+                if (frame.next > 0) {
+                    // the previous candidate has been fully explored
+                    int previous = frame.candidates[frame.next - 1];
+                    frame.pSize = DegeneracyIndex.remove(frame.p, frame.pSize, previous);
+                    frame.xSize = DegeneracyIndex.insert(frame.x, frame.xSize, previous);
+                }
+                if (frame.next == frame.candidatesSize
+                    || frame.depth + 1 + frame.pSize < minSize)
+                {
+                    stack.pop();
+                    continue;
+                }
+
+                int v = frame.candidates[frame.next++];
+                int[] vNeighbors = neighborhood.adjacency[v];
+                int[] newP = new int[Math.min(frame.pSize, vNeighbors.length)];
+                int newPSize = DegeneracyIndex.intersect(frame.p, frame.pSize, vNeighbors, newP);
+                int[] newX = new int[Math.min(frame.xSize, vNeighbors.length) + newPSize];
+                int newXSize = DegeneracyIndex.intersect(frame.x, frame.xSize, vNeighbors, newX);
+                clique[frame.depth] = v;
+                stack.push(new Frame(newP, newPSize, newX, newXSize, frame.depth + 1));
+            }
+        }
+
+        /**
+         * Start the subproblem of the next vertex which can be part of a large enough clique.
+         *
+         * @return false if there are no more subproblems
+         */
+        private boolean startSubproblem()
+        {
+            int n = index.size();
+            while (nextVertex < n && index.laterDegree(nextVertex) + 1 < minSize) {
+                nextVertex++;
+            }
+            if (nextVertex == n) {
+                neighborhood = null;
+                clique = null;
+                return false;
+            }
+            neighborhood = index.neighborhood(nextVertex++);
+            int k = neighborhood.size();
+            int later = neighborhood.later;
+            clique = new int[k];
+
+            int[] p = new int[later];
+            for (int l = 0; l < later; l++) {
+                p[l] = l;
+            }
+            int[] x = new int[k];
+            for (int l = later; l < k; l++) {
+                x[l - later] = l;
+            }
+            stack.push(new Frame(p, later, x, k - later, 0));
+            return true;
+        }
+
+        /**
+         * Choose a pivot maximizing the number of candidates among its neighbors and compute the
+         * candidates of a frame.
+         *
+         * @param frame the frame
+         */
+        private void choosePivot(Frame frame)
+        {
+            int pivot = -1;
+            int max = -1;
+            for (int t = 0; t < frame.pSize + frame.xSize; t++) {
+                int u = t < frame.pSize ? frame.p[t] : frame.x[t - frame.pSize];
+                int count = DegeneracyIndex
+                    .intersectionSize(frame.p, frame.pSize, neighborhood.adjacency[u]);
+                if (count > max) {
+                    max = count;
+                    pivot = u;
+                }
+            }
+            frame.candidates = new int[frame.pSize];
+            frame.candidatesSize = DegeneracyIndex
+                .difference(frame.p, frame.pSize, neighborhood.adjacency[pivot], frame.candidates);
+            frame.next = 0;
+        }
+    }
+
+}
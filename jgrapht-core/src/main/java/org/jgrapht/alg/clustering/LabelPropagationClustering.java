@@ -20,8 +20,10 @@ package org.jgrapht.alg.clustering;
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
 import org.jgrapht.alg.util.*;
+import org.jgrapht.util.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.stream.*;
 
 /**
@@ -47,6 +49,18 @@ import java.util.stream.*;
  * results. If the user requires deterministic behavior, the random number generator can be provided
  * by the constructor.
  * 
+ * <p>
+ * If a {@link ForkJoinPool} is provided, a parallel asynchronous variant is used instead. The
+ * vertices are partitioned into independent sets using a greedy coloring, and each iteration
+ * updates the independent sets one after the other, the vertices of a set in parallel. Since no
+ * two vertices of a set are adjacent, an iteration is equivalent to a sequential asynchronous
+ * sweep, and the result depends only on the random number generator and not on the scheduling of
+ * the threads. Labels are integers, each thread reuses its own array to count the labels of the
+ * neighbors, and only vertices with a neighbor whose label changed in the previous iteration are
+ * updated, or checked for the stopping criterion. Ties and the stopping criterion are handled as
+ * in the sequential variant, but since the vertices are visited in a different order, the two
+ * variants may compute different clusterings given the same random number generator.
+ * 
  * @author Dimitrios Michail
  *
  * @param <V> the graph vertex type
@@ -59,6 +73,7 @@ public class LabelPropagationClustering<V, E>
     private Graph<V, E> graph;
     private int maxIterations;
     private Random rng;
+    private ForkJoinPool pool;
     private Clustering<V> result;
 
     /**
@@ -101,10 +116,30 @@ public class LabelPropagationClustering<V, E>
      * @param rng random number generator
      */
     public LabelPropagationClustering(Graph<V, E> graph, int maxIterations, Random rng)
+    {
+        this(graph, maxIterations, rng, null);
+    }
+
+    /**
+     * Create a new clustering algorithm.
+     * 
+     * <p>
+     * If a pool is provided, the labels are propagated in parallel using the pool. It is up to the
+     * user of this algorithm to manage the lifecycle of the pool.
+     * 
+     * @param graph the graph (needs to be undirected)
+     * @param maxIterations maximum number of iterations (zero means no limit)
+     * @param rng random number generator
+     * @param pool the pool used for the parallel propagation, if null the propagation is
+     *        sequential
+     */
+    public LabelPropagationClustering(
+        Graph<V, E> graph, int maxIterations, Random rng, ForkJoinPool pool)
     {
         this.graph = GraphTests.requireUndirected(graph);
         this.maxIterations = maxIterations;
         this.rng = Objects.requireNonNull(rng);
+        this.pool = pool;
         if (maxIterations < 0) {
             throw new IllegalArgumentException("Max iterations cannot be negative");
         }
@@ -114,8 +149,13 @@ public class LabelPropagationClustering<V, E>
     public Clustering<V> getClustering()
     {
         if (result == null) {
-            result =
-                new ClusteringImpl<>(new Implementation<>(graph, rng, maxIterations).compute());
+            if (pool == null) {
+                result = new ClusteringImpl<>(
+                    new Implementation<>(graph, rng, maxIterations).compute());
+            } else {
+                result = new ClusteringImpl<>(
+                    new ParallelImplementation<>(graph, rng, maxIterations, pool).compute());
+            }
         }
         return result;
     }
@@ -222,16 +262,13 @@ public class LabelPropagationClustering<V, E>
         private Pair<Map<String, Integer>, Integer> getNeighborLabelCountsAndMaximum(V v)
         {
             Map<String, Integer> counts = new HashMap<>();
+            graph.iterables().forEachNeighbor(v, u -> counts.merge(labels.get(u), 1, Integer::sum));
 
             String vLabel = labels.get(v);
             int maxCount = 0;
-            for (E e : graph.edgesOf(v)) {
-                V u = Graphs.getOppositeVertex(graph, e, v);
-                String uLabel = labels.get(u);
-                int newCount = counts.getOrDefault(uLabel, 0) + 1;
-                counts.put(uLabel, newCount);
-                if (newCount > maxCount && !uLabel.equals(vLabel)) {
-                    maxCount = newCount;
+            for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+                if (entry.getValue() > maxCount && !entry.getKey().equals(vLabel)) {
+                    maxCount = entry.getValue();
                 }
             }
 
@@ -347,4 +384,403 @@ public class LabelPropagationClustering<V, E>
 
     }
 
+    /**
+     * The parallel asynchronous implementation
+     *
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     */
+    private static class ParallelImplementation<V, E>
+    {
+        /**
+         * Independent sets with fewer active vertices are updated by the calling thread
+         */
+        private static final int SEQUENTIAL_THRESHOLD = 256;
+
+        private final ForkJoinPool pool;
+        private final int maxIterations;
+        private final long seed;
+
+        private final List<V> vertices;
+        private final int[] offsets;
+        private final int[] neighbors;
+        private final int[] labels;
+
+        /*
+         * The vertices grouped by color, the vertices of color c are at positions
+         * colorOffsets[c] until colorOffsets[c + 1] of colored.
+         */
+        private final int[] colorOffsets;
+        private final int[] colored;
+
+        private boolean[] active;
+        private boolean[] nextActive;
+        private final int maxDegree;
+
+        /*
+         * The counting space of each thread, allocated once per thread and reset after each
+         * vertex. It is released with this object rather than kept by the threads of the pool.
+         */
+        private final ConcurrentMap<Thread, Scratch> scratch = new ConcurrentHashMap<>();
+
+        /**
+         * Initialize the computation
+         * 
+         * @param graph the graph
+         * @param rng the random number generator
+         * @param maxIterations maximum iterations
+         * @param pool the pool
+         */
+        public ParallelImplementation(
+            Graph<V, E> graph, Random rng, int maxIterations, ForkJoinPool pool)
+        {
+            this.pool = pool;
+            this.maxIterations = maxIterations;
+            this.vertices = new ArrayList<>(graph.vertexSet());
+            int n = vertices.size();
+
+            Map<V, Integer> index = CollectionUtil.newHashMapWithExpectedSize(n);
+            for (int i = 0; i < n; i++) {
+                index.put(vertices.get(i), i);
+            }
+            this.offsets = new int[n + 1];
+            int maxDegree = 0;
+            for (int i = 0; i < n; i++) {
+                int[] degree = { 0 };
+                graph.iterables().forEachNeighbor(vertices.get(i), u -> degree[0]++);
+                offsets[i + 1] = offsets[i] + degree[0];
+                maxDegree = Math.max(maxDegree, degree[0]);
+            }
+            this.neighbors = new int[offsets[n]];
+            for (int i = 0; i < n; i++) {
+                int[] position = { offsets[i] };
+                graph
+                    .iterables()
+                    .forEachNeighbor(vertices.get(i), u -> neighbors[position[0]++] = index.get(u));
+            }
+
+            this.labels = new int[n];
+            for (int i = 0; i < n; i++) {
+                labels[i] = i;
+            }
+
+            // greedy coloring in random order
+            int[] order = new int[n];
+            for (int i = 0; i < n; i++) {
+                order[i] = i;
+            }
+            for (int i = n - 1; i > 0; i--) {
+                int j = rng.nextInt(i + 1);
+                int t = order[i];
+                order[i] = order[j];
+                order[j] = t;
+            }
+            int[] colors = new int[n];
+            Arrays.fill(colors, -1);
+            int[] usedBy = new int[maxDegree + 2];
+            Arrays.fill(usedBy, -1);
+            int numColors = 0;
+            for (int v : order) {
+                for (int p = offsets[v]; p < offsets[v + 1]; p++) {
+                    int c = colors[neighbors[p]];
+                    if (c >= 0) {
+                        usedBy[c] = v;
+                    }
+                }
+                int c = 0;
+                while (usedBy[c] == v) {
+                    c++;
+                }
+                colors[v] = c;
+                numColors = Math.max(numColors, c + 1);
+            }
+            this.colorOffsets = new int[numColors + 1];
+            for (int v = 0; v < n; v++) {
+                colorOffsets[colors[v] + 1]++;
+            }
+            for (int c = 0; c < numColors; c++) {
+                colorOffsets[c + 1] += colorOffsets[c];
+            }
+            this.colored = new int[n];
+            int[] next = Arrays.copyOf(colorOffsets, numColors);
+            for (int v : order) {
+                colored[next[colors[v]]++] = v;
+            }
+
+            this.seed = rng.nextLong();
+            this.maxDegree = maxDegree;
+            this.active = new boolean[n];
+            this.nextActive = new boolean[n];
+            Arrays.fill(active, true);
+        }
+
+        /**
+         * Main loop of the algorithm
+         * 
+         * @return the clusters
+         */
+        public List<Set<V>> compute()
+        {
+            int n = vertices.size();
+            int[] frontier = new int[n];
+            int currentIteration = 0;
+            while (true) {
+                // is there a limit on the number of iterations?
+                if (maxIterations > 0 && currentIteration > maxIterations) {
+                    break;
+                }
+
+                // update the independent sets one after the other
+                boolean anyChange = false;
+                for (int c = 0; c + 1 < colorOffsets.length; c++) {
+                    int size = 0;
+                    for (int p = colorOffsets[c]; p < colorOffsets[c + 1]; p++) {
+                        int v = colored[p];
+                        if (active[v]) {
+                            frontier[size++] = v;
+                        }
+                    }
+                    anyChange |= process(frontier, size, currentIteration, true);
+                }
+
+                // stopping criterion, only vertices with a changed neighbor need to be checked
+                if (!anyChange) {
+                    break;
+                }
+                int size = 0;
+                for (int v = 0; v < n; v++) {
+                    if (nextActive[v]) {
+                        frontier[size++] = v;
+                    }
+                }
+                if (!process(frontier, size, currentIteration, false)) {
+                    break;
+                }
+
+                boolean[] t = active;
+                active = nextActive;
+                nextActive = t;
+                Arrays.fill(nextActive, false);
+                currentIteration++;
+            }
+
+            return computeCommunities();
+        }
+
+        /**
+         * Update or check the labels of mutually non-adjacent vertices, in parallel if there are
+         * enough of them.
+         * 
+         * @param frontier the vertices
+         * @param size the number of vertices
+         * @param iteration the current iteration
+         * @param update whether to update the labels or only check them
+         * @return true if a label changed, or if checking, true if a label can be improved
+         */
+        private boolean process(int[] frontier, int size, int iteration, boolean update)
+        {
+            if (size <= SEQUENTIAL_THRESHOLD) {
+                return process(frontier, 0, size, iteration, update);
+            }
+            int granularity =
+                Math.max(SEQUENTIAL_THRESHOLD / 4, size / (8 * pool.getParallelism()));
+            return pool.invoke(new ProcessTask(frontier, 0, size, granularity, iteration, update));
+        }
+
+        /**
+         * Update or check the labels of a range of mutually non-adjacent vertices.
+         * 
+         * <p>
+         * A label can be improved if it is not one of the most frequent labels of the neighbors.
+         * When updating, the new label is chosen uniformly among the most frequent ones, which may
+         * also change a label which cannot be improved, as in the sequential variant.
+         * 
+         * @param frontier the vertices
+         * @param from the first position of the range
+         * @param to the last position of the range (exclusive)
+         * @param iteration the current iteration
+         * @param update whether to update the labels or only check them
+         * @return true if a label changed, or if checking, true if a label can be improved
+         */
+        private boolean process(int[] frontier, int from, int to, int iteration, boolean update)
+        {
+            Scratch s = scratch.computeIfAbsent(
+                Thread.currentThread(), t -> new Scratch(labels.length, maxDegree));
+            int[] counts = s.counts;
+            int[] touched = s.touched;
+            boolean result = false;
+
+            for (int i = from; i < to && (update || !result); i++) {
+                int v = frontier[i];
+                int start = offsets[v];
+                int end = offsets[v + 1];
+                if (start == end) {
+                    continue;
+                }
+
+                int distinct = 0;
+                int maxCount = 0;
+                for (int p = start; p < end; p++) {
+                    int label = labels[neighbors[p]];
+                    if (counts[label]++ == 0) {
+                        touched[distinct++] = label;
+                    }
+                    maxCount = Math.max(maxCount, counts[label]);
+                }
+
+                int oldLabel = labels[v];
+                if (!update) {
+                    result = counts[oldLabel] < maxCount;
+                } else {
+                    // choose uniformly among the most frequent labels
+                    int candidates = 0;
+                    for (int j = 0; j < distinct; j++) {
+                        if (counts[touched[j]] == maxCount) {
+                            candidates++;
+                        }
+                    }
+                    int chosen = (int) Math.floorMod(random(v, iteration), (long) candidates);
+                    int newLabel = oldLabel;
+                    for (int j = 0; j < distinct; j++) {
+                        if (counts[touched[j]] == maxCount && chosen-- == 0) {
+                            newLabel = touched[j];
+                            break;
+                        }
+                    }
+                    if (newLabel != oldLabel) {
+                        labels[v] = newLabel;
+                        for (int p = start; p < end; p++) {
+                            nextActive[neighbors[p]] = true;
+                        }
+                        result = true;
+                    }
+                }
+
+                for (int j = 0; j < distinct; j++) {
+                    counts[touched[j]] = 0;
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Compute a random number which depends only on the seed, a vertex and an iteration, so
+         * that the result does not depend on the scheduling of the threads.
+         * 
+         * @param v the vertex
+         * @param iteration the iteration
+         * @return the random number
+         */
+        private long random(int v, int iteration)
+        {
+            long z = seed + (((long) iteration << 32) | v) * 0x9E3779B97F4A7C15L;
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return z ^ (z >>> 31);
+        }
+
+        /**
+         * Compute the final communities from the labels, separating the disconnected groups of
+         * vertices with the same label by a breadth-first search.
+         * 
+         * @return the clustering
+         */
+        private List<Set<V>> computeCommunities()
+        {
+            int n = vertices.size();
+            int[] community = new int[n];
+            Arrays.fill(community, -1);
+            int[] queue = new int[n];
+            int numCommunities = 0;
+
+            for (int v = 0; v < n; v++) {
+                if (community[v] >= 0) {
+                    continue;
+                }
+                int head = 0;
+                int tail = 0;
+                community[v] = numCommunities;
+                queue[tail++] = v;
+                while (head < tail) {
+                    int u = queue[head++];
+                    for (int p = offsets[u]; p < offsets[u + 1]; p++) {
+                        int w = neighbors[p];
+                        if (labels[w] == labels[u] && community[w] < 0) {
+                            community[w] = numCommunities;
+                            queue[tail++] = w;
+                        }
+                    }
+                }
+                numCommunities++;
+            }
+
+            List<Set<V>> communities = new ArrayList<>(numCommunities);
+            for (int c = 0; c < numCommunities; c++) {
+                communities.add(new LinkedHashSet<>());
+            }
+            for (int v = 0; v < n; v++) {
+                communities.get(community[v]).add(vertices.get(v));
+            }
+            return communities;
+        }
+
+        /**
+         * The counting space of a thread.
+         */
+        private static class Scratch
+        {
+            private final int[] counts;
+            private final int[] touched;
+
+            Scratch(int numLabels, int maxDegree)
+            {
+                this.counts = new int[numLabels];
+                this.touched = new int[maxDegree];
+            }
+        }
+
+        /**
+         * Task which recursively splits a range of mutually non-adjacent vertices.
+         */
+        private class ProcessTask
+            extends
+            RecursiveTask<Boolean>
+        {
+            private static final long serialVersionUID = 1L;
+
+            private final int[] frontier;
+            private final int from;
+            private final int to;
+            private final int granularity;
+            private final int iteration;
+            private final boolean update;
+
+            ProcessTask(
+                int[] frontier, int from, int to, int granularity, int iteration, boolean update)
+            {
+                this.frontier = frontier;
+                this.from = from;
+                this.to = to;
+                this.granularity = granularity;
+                this.iteration = iteration;
+                this.update = update;
+            }
+
+            @Override
+            protected Boolean compute()
+            {
+                if (to - from <= granularity) {
+                    return process(frontier, from, to, iteration, update);
+                }
+                int mid = (from + to) >>> 1;
+                ProcessTask left =
+                    new ProcessTask(frontier, from, mid, granularity, iteration, update);
+                left.fork();
+                boolean right =
+                    new ProcessTask(frontier, mid, to, granularity, iteration, update).compute();
+                return left.join() | right;
+            }
+        }
+    }
+
 }
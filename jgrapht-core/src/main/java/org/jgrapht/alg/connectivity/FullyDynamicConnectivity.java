@@ -0,0 +1,516 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.connectivity;
+
+import org.jgrapht.*;
+import org.jgrapht.event.*;
+
+import java.util.*;
+
+/**
+ * Fully dynamic connectivity for general graphs.
+ *
+ * <p>
+ * This data structure maintains the connected components of an undirected graph, or the weakly
+ * connected components of a directed graph, under insertions and deletions of vertices and edges.
+ * The implementation follows Jacob Holm, Kristian de Lichtenberg, and Mikkel Thorup.
+ * Poly-logarithmic deterministic fully-dynamic algorithms for connectivity, minimum spanning tree,
+ * 2-edge, and biconnectivity. J. ACM 48, 4 (2001), 723-760.
+ *
+ * <p>
+ * Every edge has a level, which is initially $0$ and only increases. A hierarchy of forests $F_0
+ * \supseteq F_1 \supseteq \dots$ is maintained, where $F_i$ consists of the spanning forest edges
+ * of level at least $i$, and each forest is stored in a {@link TreeDynamicConnectivity}. The forest
+ * $F_0$ is a spanning forest of the graph, so connectivity queries are answered by $F_0$ alone.
+ * When a forest edge of level $l$ is deleted, a replacement edge is searched for at the levels $l,
+ * l-1, \dots, 0$. At level $i$ the forest edges of level $i$ of the smaller of the two resulting
+ * trees are promoted to level $i+1$, and the non-forest edges of level $i$ leaving the vertices of
+ * the smaller tree are examined; those which do not reconnect the trees are promoted as well. Since
+ * the trees of $F_i$ have at most $n/2^i$ vertices, an edge is promoted at most $\log n$ times.
+ *
+ * <p>
+ * Every vertex of $F_i$ is flagged in the Euler tour trees of {@link TreeDynamicConnectivity} if it
+ * has incident forest or non-forest edges of level $i$. The flags are aggregated over the subtrees,
+ * so the search visits only the flagged vertices of the smaller tree, each in $\mathcal{O}(\log n)$
+ * time. Queries run in $\mathcal{O}(\log n)$ time, insertions in $\mathcal{O}(\log n)$ time and
+ * deletions in $\mathcal{O}(\log^2 n)$ amortized time.
+ *
+ * <p>
+ * The data structure is also a {@link GraphListener}. If added as a listener to a
+ * {@link ListenableGraph}, it keeps track of all modifications of the graph. In this case it should
+ * be constructed from the same graph, so that it starts from the current state of the graph.
+ * Self-loops and multiple edges are supported.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see TreeDynamicConnectivity
+ * @see ConnectivityInspector
+ */
+public class FullyDynamicConnectivity<V, E>
+    implements
+    GraphListener<V, E>
+{
+    /**
+     * The forests $F_0, F_1, \dots$
+     */
+    private final List<TreeDynamicConnectivity<V>> forests;
+    /**
+     * Mapping from the vertices to their incident edges
+     */
+    private final Map<V, VertexRecord> vertices;
+    /**
+     * Mapping from the edges to their endpoints and levels
+     */
+    private final Map<E, EdgeRecord> edges;
+    /**
+     * Number of edges in the forest $F_0$
+     */
+    private int forestEdges;
+
+    /**
+     * Flag of a vertex with incident forest edges of the level of the forest
+     */
+    private static final int FOREST_EDGES = 1;
+    /**
+     * Flag of a vertex with incident non-forest edges of the level of the forest
+     */
+    private static final int NON_FOREST_EDGES = 2;
+
+    /**
+     * Constructs a new empty data structure.
+     */
+    public FullyDynamicConnectivity()
+    {
+        this.forests = new ArrayList<>();
+        this.forests.add(new TreeDynamicConnectivity<>());
+        this.vertices = new HashMap<>();
+        this.edges = new HashMap<>();
+    }
+
+    /**
+     * Constructs a new data structure containing the vertices and edges of a graph. The edges of a
+     * directed graph are considered undirected.
+     *
+     * @param graph the graph
+     */
+    public FullyDynamicConnectivity(Graph<V, E> graph)
+    {
+        this();
+        Objects.requireNonNull(graph);
+        for (V v : graph.vertexSet()) {
+            addVertex(v);
+        }
+        for (E e : graph.edgeSet()) {
+            addEdge(graph.getEdgeSource(e), graph.getEdgeTarget(e), e);
+        }
+    }
+
+    /**
+     * Adds a vertex. If the vertex has been added before, this method has no effect.
+     *
+     * @param v the vertex
+     * @return {@code true} if the vertex was added, {@code false} otherwise
+     */
+    public boolean addVertex(V v)
+    {
+        if (vertices.containsKey(v)) {
+            return false;
+        }
+        vertices.put(v, new VertexRecord());
+        forests.get(0).add(v);
+        return true;
+    }
+
+    /**
+     * Removes a vertex together with its incident edges. If the vertex hasn't been added before,
+     * this method has no effect.
+     *
+     * @param v the vertex
+     * @return {@code true} if the vertex was removed, {@code false} otherwise
+     */
+    public boolean removeVertex(V v)
+    {
+        VertexRecord record = vertices.get(v);
+        if (record == null) {
+            return false;
+        }
+        for (E e : record.incidentEdges()) {
+            removeEdge(e);
+        }
+        vertices.remove(v);
+        for (TreeDynamicConnectivity<V> forest : forests) {
+            forest.remove(v);
+        }
+        return true;
+    }
+
+    /**
+     * Checks if a vertex has been added to this data structure.
+     *
+     * @param v the vertex
+     * @return {@code true} if the vertex is present, {@code false} otherwise
+     */
+    public boolean containsVertex(V v)
+    {
+        return vertices.containsKey(v);
+    }
+
+    /**
+     * Adds an edge between two vertices. The vertices are added if they haven't been added before.
+     * If the edge has been added before, this method has no effect.
+     * <p>
+     * This method has $\mathcal{O}(\log n)$ running time complexity
+     *
+     * @param source the first endpoint of the edge
+     * @param target the second endpoint of the edge
+     * @param e the edge
+     * @return {@code true} if the edge was added, {@code false} otherwise
+     */
+    public boolean addEdge(V source, V target, E e)
+    {
+        if (edges.containsKey(e)) {
+            return false;
+        }
+        addVertex(source);
+        addVertex(target);
+
+        EdgeRecord record = new EdgeRecord(source, target);
+        edges.put(e, record);
+        if (source.equals(target)) {
+            vertices.get(source).loops.add(e);
+        } else if (!forests.get(0).connected(source, target)) {
+            record.forest = true;
+            forests.get(0).link(source, target);
+            forestEdges++;
+            vertices.get(source).forestEdges(0).add(e);
+            vertices.get(target).forestEdges(0).add(e);
+        } else {
+            vertices.get(source).nonForestEdges(0).add(e);
+            vertices.get(target).nonForestEdges(0).add(e);
+        }
+        updateFlags(source, 0);
+        updateFlags(target, 0);
+        return true;
+    }
+
+    /**
+     * Removes an edge. If the edge hasn't been added before, this method has no effect.
+     * <p>
+     * This method has $\mathcal{O}(\log^2 n)$ amortized running time complexity
+     *
+     * @param e the edge
+     * @return {@code true} if the edge was removed, {@code false} otherwise
+     */
+    public boolean removeEdge(E e)
+    {
+        EdgeRecord record = edges.remove(e);
+        if (record == null) {
+            return false;
+        }
+        V source = record.source;
+        V target = record.target;
+        if (source.equals(target)) {
+            vertices.get(source).loops.remove(e);
+            return true;
+        }
+        int level = record.level;
+        if (!record.forest) {
+            vertices.get(source).nonForestEdges(level).remove(e);
+            vertices.get(target).nonForestEdges(level).remove(e);
+            updateFlags(source, level);
+            updateFlags(target, level);
+            return true;
+        }
+
+        vertices.get(source).forestEdges(level).remove(e);
+        vertices.get(target).forestEdges(level).remove(e);
+        updateFlags(source, level);
+        updateFlags(target, level);
+        for (int i = 0; i <= level; i++) {
+            forests.get(i).cut(source, target);
+        }
+        forestEdges--;
+        for (int i = level; i >= 0; i--) {
+            if (replace(source, target, i)) {
+                break;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if an edge has been added to this data structure.
+     *
+     * @param e the edge
+     * @return {@code true} if the edge is present, {@code false} otherwise
+     */
+    public boolean containsEdge(E e)
+    {
+        return edges.containsKey(e);
+    }
+
+    /**
+     * Checks if two vertices are connected by a path. The method returns {@code false} if either
+     * of the vertices hasn't been added to this data structure.
+     * <p>
+     * This method has $\mathcal{O}(\log n)$ running time complexity
+     *
+     * @param first a vertex
+     * @param second a vertex
+     * @return {@code true} if the vertices are connected, {@code false} otherwise
+     */
+    public boolean connected(V first, V second)
+    {
+        if (!vertices.containsKey(first) || !vertices.containsKey(second)) {
+            return false;
+        }
+        return first.equals(second) || forests.get(0).connected(first, second);
+    }
+
+    /**
+     * Returns the vertices of the connected component of a vertex.
+     * <p>
+     * This method has $\mathcal{O}(k)$ running time complexity, where $k$ is the size of the
+     * component
+     *
+     * @param v the vertex
+     * @return the vertices connected to the vertex, including the vertex itself
+     * @throws IllegalArgumentException if the vertex hasn't been added to this data structure
+     */
+    public Set<V> connectedSetOf(V v)
+    {
+        if (!vertices.containsKey(v)) {
+            throw new IllegalArgumentException("Unknown vertex " + v);
+        }
+        return Collections.unmodifiableSet(forests.get(0).elements(v));
+    }
+
+    /**
+     * Returns the number of connected components.
+     * <p>
+     * This method has $\mathcal{O}(1)$ running time complexity
+     *
+     * @return the number of connected components
+     */
+    public int getNumberOfConnectedComponents()
+    {
+        return vertices.size() - forestEdges;
+    }
+
+    @Override
+    public void edgeAdded(GraphEdgeChangeEvent<V, E> e)
+    {
+        addEdge(e.getEdgeSource(), e.getEdgeTarget(), e.getEdge());
+    }
+
+    @Override
+    public void edgeRemoved(GraphEdgeChangeEvent<V, E> e)
+    {
+        removeEdge(e.getEdge());
+    }
+
+    @Override
+    public void vertexAdded(GraphVertexChangeEvent<V> e)
+    {
+        addVertex(e.getVertex());
+    }
+
+    @Override
+    public void vertexRemoved(GraphVertexChangeEvent<V> e)
+    {
+        removeVertex(e.getVertex());
+    }
+
+    /**
+     * Search for a replacement edge at a level after the removal of a forest edge between two
+     * vertices, promoting the examined edges of the smaller tree. Only the vertices flagged as
+     * having incident edges of the level are visited.
+     *
+     * @param source an endpoint of the removed edge
+     * @param target the other endpoint of the removed edge
+     * @param level the level
+     * @return {@code true} if a replacement edge was found, {@code false} otherwise
+     */
+    private boolean replace(V source, V target, int level)
+    {
+        TreeDynamicConnectivity<V> forest = forests.get(level);
+        V smaller = forest.size(source) <= forest.size(target) ? source : target;
+
+        // promote the forest edges of this level, so that the tree becomes a tree of the next one
+        if (forests.size() == level + 1) {
+            forests.add(new TreeDynamicConnectivity<>());
+        }
+        TreeDynamicConnectivity<V> next = forests.get(level + 1);
+        V v;
+        while ((v = forest.findFlagged(smaller, FOREST_EDGES)) != null) {
+            Set<E> forestEdges = vertices.get(v).forestEdges(level);
+            for (E e : new ArrayList<>(forestEdges)) {
+                EdgeRecord record = edges.get(e);
+                V u = record.opposite(v);
+                vertices.get(v).forestEdges(level).remove(e);
+                vertices.get(u).forestEdges(level).remove(e);
+                record.level = level + 1;
+                vertices.get(v).forestEdges(level + 1).add(e);
+                vertices.get(u).forestEdges(level + 1).add(e);
+                next.link(v, u);
+                updateFlags(u, level);
+                updateFlags(u, level + 1);
+            }
+            updateFlags(v, level);
+            updateFlags(v, level + 1);
+        }
+
+        // examine the non-forest edges of this level
+        while ((v = forest.findFlagged(smaller, NON_FOREST_EDGES)) != null) {
+            Iterator<E> it = vertices.get(v).nonForestEdges(level).iterator();
+            while (it.hasNext()) {
+                E e = it.next();
+                EdgeRecord record = edges.get(e);
+                V u = record.opposite(v);
+                it.remove();
+                vertices.get(u).nonForestEdges(level).remove(e);
+                if (forest.connected(v, u)) {
+                    record.level = level + 1;
+                    vertices.get(v).nonForestEdges(level + 1).add(e);
+                    vertices.get(u).nonForestEdges(level + 1).add(e);
+                    updateFlags(u, level);
+                    updateFlags(u, level + 1);
+                } else {
+                    record.forest = true;
+                    vertices.get(v).forestEdges(level).add(e);
+                    vertices.get(u).forestEdges(level).add(e);
+                    for (int i = 0; i <= level; i++) {
+                        forests.get(i).link(v, u);
+                    }
+                    forestEdges++;
+                    updateFlags(u, level);
+                    updateFlags(v, level);
+                    updateFlags(v, level + 1);
+                    return true;
+                }
+            }
+            updateFlags(v, level);
+            updateFlags(v, level + 1);
+        }
+        return false;
+    }
+
+    /**
+     * Updates the flags of a vertex in the forest of a level according to its incident edges of
+     * that level.
+     *
+     * @param v the vertex
+     * @param level the level
+     */
+    private void updateFlags(V v, int level)
+    {
+        VertexRecord record = vertices.get(v);
+        int flags = (record.forestEdges(level).isEmpty() ? 0 : FOREST_EDGES)
+            | (record.nonForestEdges(level).isEmpty() ? 0 : NON_FOREST_EDGES);
+        forests.get(level).setFlags(v, flags);
+    }
+
+    /**
+     * The endpoints and the level of an edge.
+     */
+    private class EdgeRecord
+    {
+        final V source;
+        final V target;
+        int level;
+        boolean forest;
+
+        EdgeRecord(V source, V target)
+        {
+            this.source = source;
+            this.target = target;
+        }
+
+        /**
+         * Returns the endpoint of this edge opposite to a vertex.
+         *
+         * @param v an endpoint of this edge
+         * @return the opposite endpoint
+         */
+        V opposite(V v)
+        {
+            return source.equals(v) ? target : source;
+        }
+    }
+
+    /**
+     * The incident edges of a vertex, grouped by level.
+     */
+    private class VertexRecord
+    {
+        final List<Set<E>> forestEdges = new ArrayList<>();
+        final List<Set<E>> nonForestEdges = new ArrayList<>();
+        final Set<E> loops = new LinkedHashSet<>();
+
+        /**
+         * Returns the incident forest edges of a level.
+         *
+         * @param level the level
+         * @return the incident forest edges of the level
+         */
+        Set<E> forestEdges(int level)
+        {
+            return edgesAt(forestEdges, level);
+        }
+
+        /**
+         * Returns the incident non-forest edges of a level.
+         *
+         * @param level the level
+         * @return the incident non-forest edges of the level
+         */
+        Set<E> nonForestEdges(int level)
+        {
+            return edgesAt(nonForestEdges, level);
+        }
+
+        /**
+         * Returns all incident edges.
+         *
+         * @return a copy of the incident edges
+         */
+        List<E> incidentEdges()
+        {
+            List<E> result = new ArrayList<>(loops);
+            forestEdges.forEach(result::addAll);
+            nonForestEdges.forEach(result::addAll);
+            return result;
+        }
+
+        /**
+         * Returns the set of a level, creating the missing levels.
+         *
+         * @param levels the sets of the levels
+         * @param level the level
+         * @return the set of the level
+         */
+        private Set<E> edgesAt(List<Set<E>> levels, int level)
+        {
+            while (levels.size() <= level) {
+                levels.add(new LinkedHashSet<>());
+            }
+            return levels.get(level);
+        }
+    }
+}
@@ -0,0 +1,457 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.connectivity;
+
+import org.jgrapht.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Computes the strongly connected components of a directed graph using the forward-backward
+ * algorithm with trimming, optionally in parallel.
+ *
+ * <p>
+ * See:<br>
+ * L.K. Fleischer, B. Hendrickson and A. Pinar, On identifying strongly connected components in
+ * parallel, IPDPS Workshops, 2000, pp. 505-511.<br>
+ * W. McLendon III, B. Hendrickson, S.J. Plimpton and L. Rauchwerger, Finding strongly connected
+ * components in distributed graphs, J. Parallel Distrib. Comput., 65 (2005), pp. 901-910.
+ *
+ * <p>
+ * The algorithm works on a partition of the vertices, initially consisting of a single set. Each
+ * set is first trimmed: vertices without predecessors or without successors inside the set are
+ * strongly connected components on their own, and are removed repeatedly. Then a pivot vertex is
+ * chosen and the vertices reachable from it (forward) and reaching it (backward) inside the set
+ * are computed. Their intersection is the strongly connected component of the pivot, and every
+ * other component lies entirely within the forward set, the backward set or the remainder, which
+ * are processed independently. If a {@link ForkJoinPool} is provided, these independent sets are
+ * processed in parallel. The largest set is processed in a loop by the same task, so the nesting
+ * of tasks is logarithmic in the number of vertices and the computation never overflows the stack.
+ *
+ * <p>
+ * The state of the vertices is kept in primitive arrays indexed by the position of the vertex in
+ * the vertex set, and the graph is copied into compressed adjacency arrays before the computation.
+ * The expected running time is $O((n + m) \log n)$ on graphs with a bounded number of components
+ * found per pivot, and $O(n(n + m))$ in the worst case.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see GabowStrongConnectivityInspector
+ * @see KosarajuStrongConnectivityInspector
+ */
+public class ParallelStrongConnectivityInspector<V, E>
+    extends
+    AbstractStrongConnectivityInspector<V, E>
+{
+    /*
+     * Minimum size of a set which is processed by a separate task.
+     */
+    private static final int TASK_THRESHOLD = 1024;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Create a new inspector which computes the components sequentially.
+     *
+     * @param graph the graph to inspect
+     * @throws NullPointerException in case the graph is null
+     * @throws IllegalArgumentException in case the graph is not directed
+     */
+    public ParallelStrongConnectivityInspector(Graph<V, E> graph)
+    {
+        this(graph, null);
+    }
+
+    /**
+     * Create a new inspector.
+     *
+     * <p>
+     * If a pool is provided, the components are computed in parallel using the pool. It is up to
+     * the user of this algorithm to manage the lifecycle of the pool.
+     *
+     * @param graph the graph to inspect
+     * @param pool the pool used for the parallel computation, if null the computation is
+     *        sequential
+     * @throws NullPointerException in case the graph is null
+     * @throws IllegalArgumentException in case the graph is not directed
+     */
+    public ParallelStrongConnectivityInspector(Graph<V, E> graph, ForkJoinPool pool)
+    {
+        super(graph);
+        this.pool = pool;
+    }
+
+    @Override
+    public List<Set<V>> stronglyConnectedSets()
+    {
+        if (stronglyConnectedSets == null) {
+            Computation computation = new Computation();
+            int[] component = computation.run();
+
+            // number the components by their first vertex
+            List<V> vertices = computation.vertices;
+            int[] position = new int[vertices.size()];
+            Arrays.fill(position, -1);
+            int[] sizes = new int[vertices.size()];
+            List<Set<V>> result = new ArrayList<>();
+            for (int v = 0; v < vertices.size(); v++) {
+                sizes[component[v]]++;
+            }
+            for (int v = 0; v < vertices.size(); v++) {
+                int c = component[v];
+                if (position[c] == -1) {
+                    position[c] = result.size();
+                    result.add(CollectionUtil.newHashSetWithExpectedSize(sizes[c]));
+                }
+                result.get(position[c]).add(vertices.get(v));
+            }
+            stronglyConnectedSets = result;
+        }
+        return stronglyConnectedSets;
+    }
+
+    /**
+     * A single computation of the components.
+     */
+    private class Computation
+    {
+        // marks the vertices whose component is known
+        private static final int DONE = -1;
+
+        final List<V> vertices;
+        private final int[] outStart;
+        private final int[] outTargets;
+        private final int[] inStart;
+        private final int[] inSources;
+
+        // the set of the partition of each vertex
+        private final int[] set;
+        private final int[] component;
+        private final int[] inDegree;
+        private final int[] outDegree;
+        private final AtomicInteger nextSet;
+        private final AtomicInteger nextComponent;
+
+        Computation()
+        {
+            this.vertices = new ArrayList<>(graph.vertexSet());
+            int n = vertices.size();
+            Map<V, Integer> indices = new VertexToIntegerMapping<>(vertices).getVertexMap();
+            int m = graph.edgeSet().size();
+            int[] source = new int[m];
+            int[] target = new int[m];
+            int count = 0;
+            for (E e : graph.edgeSet()) {
+                source[count] = indices.get(graph.getEdgeSource(e));
+                target[count++] = indices.get(graph.getEdgeTarget(e));
+            }
+            this.outStart = new int[n + 1];
+            this.inStart = new int[n + 1];
+            for (int e = 0; e < m; e++) {
+                outStart[source[e] + 1]++;
+                inStart[target[e] + 1]++;
+            }
+            for (int v = 0; v < n; v++) {
+                outStart[v + 1] += outStart[v];
+                inStart[v + 1] += inStart[v];
+            }
+            this.outTargets = new int[m];
+            this.inSources = new int[m];
+            int[] outFill = Arrays.copyOf(outStart, n);
+            int[] inFill = Arrays.copyOf(inStart, n);
+            for (int e = 0; e < m; e++) {
+                outTargets[outFill[source[e]]++] = target[e];
+                inSources[inFill[target[e]]++] = source[e];
+            }
+
+            this.set = new int[n];
+            this.component = new int[n];
+            this.inDegree = new int[n];
+            this.outDegree = new int[n];
+            this.nextSet = new AtomicInteger(1);
+            this.nextComponent = new AtomicInteger();
+        }
+
+        /**
+         * Compute the components.
+         *
+         * @return the component of each vertex
+         */
+        int[] run()
+        {
+            int n = vertices.size();
+            int[] all = new int[n];
+            for (int v = 0; v < n; v++) {
+                all[v] = v;
+            }
+            if (pool == null) {
+                Deque<int[]> work = new ArrayDeque<>();
+                work.push(all);
+                while (!work.isEmpty()) {
+                    for (int[] part : split(work.pop())) {
+                        work.push(part);
+                    }
+                }
+            } else {
+                pool.invoke(new SetTask(all));
+            }
+            return component;
+        }
+
+        /**
+         * Trim a set of the partition, find the component of a pivot and split the rest.
+         *
+         * @param members the vertices of the set, which all have the same set number
+         * @return the non-empty parts which remain to be processed, possibly none
+         */
+        List<int[]> split(int[] members)
+        {
+            if (members.length == 0) {
+                return Collections.emptyList();
+            }
+            int id = set[members[0]];
+            members = trim(members, id);
+            if (members.length == 0) {
+                return Collections.emptyList();
+            }
+
+            // the pivot maximizes the product of the degrees inside the set
+            int pivot = members[0];
+            long best = -1;
+            for (int v : members) {
+                long product = (long) inDegree[v] * outDegree[v];
+                if (product > best) {
+                    best = product;
+                    pivot = v;
+                }
+            }
+
+            // forward search, moving the reached vertices to a new set
+            int forwardId = nextSet.getAndIncrement();
+            int[] forward = new int[members.length];
+            int forwardSize = 0;
+            set[pivot] = forwardId;
+            forward[forwardSize++] = pivot;
+            for (int head = 0; head < forwardSize; head++) {
+                int v = forward[head];
+                for (int i = outStart[v]; i < outStart[v + 1]; i++) {
+                    int w = outTargets[i];
+                    if (set[w] == id) {
+                        set[w] = forwardId;
+                        forward[forwardSize++] = w;
+                    }
+                }
+            }
+
+            // backward search, separating the component of the pivot from the backward set
+            int backwardId = nextSet.getAndIncrement();
+            int c = nextComponent.getAndIncrement();
+            int[] backward = new int[members.length];
+            int backwardSize = 0;
+            int[] queue = new int[members.length];
+            int tail = 0;
+            set[pivot] = DONE;
+            component[pivot] = c;
+            queue[tail++] = pivot;
+            for (int head = 0; head < tail; head++) {
+                int v = queue[head];
+                for (int i = inStart[v]; i < inStart[v + 1]; i++) {
+                    int w = inSources[i];
+                    if (set[w] == forwardId) {
+                        set[w] = DONE;
+                        component[w] = c;
+                        queue[tail++] = w;
+                    } else if (set[w] == id) {
+                        set[w] = backwardId;
+                        backward[backwardSize++] = w;
+                        queue[tail++] = w;
+                    }
+                }
+            }
+
+            List<int[]> parts = new ArrayList<>(3);
+            addPart(parts, forward, forwardSize, forwardId);
+            addPart(parts, backward, backwardSize, backwardId);
+            addPart(parts, members, members.length, id);
+            return parts;
+        }
+
+        /**
+         * Add the vertices of a buffer which still belong to a set as a new part.
+         *
+         * @param parts the parts
+         * @param buffer the buffer
+         * @param size the size of the buffer
+         * @param id the set
+         */
+        private void addPart(List<int[]> parts, int[] buffer, int size, int id)
+        {
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                if (set[buffer[i]] == id) {
+                    count++;
+                }
+            }
+            if (count == 0) {
+                return;
+            }
+            int[] part = new int[count];
+            count = 0;
+            for (int i = 0; i < size; i++) {
+                if (set[buffer[i]] == id) {
+                    part[count++] = buffer[i];
+                }
+            }
+            parts.add(part);
+        }
+
+        /**
+         * Repeatedly remove the vertices without predecessors or without successors inside a
+         * set, each of which forms a component on its own.
+         *
+         * @param members the vertices of the set
+         * @param id the set
+         * @return the remaining vertices of the set
+         */
+        private int[] trim(int[] members, int id)
+        {
+            int[] queue = new int[members.length];
+            int tail = 0;
+            for (int v : members) {
+                int in = 0;
+                for (int i = inStart[v]; i < inStart[v + 1]; i++) {
+                    if (set[inSources[i]] == id) {
+                        in++;
+                    }
+                }
+                int out = 0;
+                for (int i = outStart[v]; i < outStart[v + 1]; i++) {
+                    if (set[outTargets[i]] == id) {
+                        out++;
+                    }
+                }
+                inDegree[v] = in;
+                outDegree[v] = out;
+            }
+            for (int v : members) {
+                if (inDegree[v] == 0 || outDegree[v] == 0) {
+                    set[v] = DONE;
+                    queue[tail++] = v;
+                }
+            }
+            for (int head = 0; head < tail; head++) {
+                int v = queue[head];
+                component[v] = nextComponent.getAndIncrement();
+                for (int i = outStart[v]; i < outStart[v + 1]; i++) {
+                    int w = outTargets[i];
+                    if (set[w] == id && --inDegree[w] == 0) {
+                        set[w] = DONE;
+                        queue[tail++] = w;
+                    }
+                }
+                for (int i = inStart[v]; i < inStart[v + 1]; i++) {
+                    int w = inSources[i];
+                    if (set[w] == id && --outDegree[w] == 0) {
+                        set[w] = DONE;
+                        queue[tail++] = w;
+                    }
+                }
+            }
+            if (tail == 0) {
+                return members;
+            }
+            int[] remaining = new int[members.length - tail];
+            int count = 0;
+            for (int v : members) {
+                if (set[v] == id) {
+                    remaining[count++] = v;
+                }
+            }
+            return remaining;
+        }
+
+        /**
+         * A task which processes a set of the partition. Small parts are processed by the task
+         * itself, and large parts by new tasks, except for the largest one which is processed in
+         * a loop.
+         */
+        private class SetTask
+            extends
+            RecursiveAction
+        {
+            private static final long serialVersionUID = 1L;
+
+            private final int[] members;
+
+            SetTask(int[] members)
+            {
+                this.members = members;
+            }
+
+            @Override
+            protected void compute()
+            {
+                List<SetTask> forked = new ArrayList<>();
+                Deque<int[]> work = new ArrayDeque<>();
+                int[] current = members;
+                while (current != null) {
+                    List<int[]> parts = split(current);
+                    current = null;
+                    for (int[] part : parts) {
+                        if (current == null || part.length > current.length) {
+                            if (current != null) {
+                                schedule(current, forked, work);
+                            }
+                            current = part;
+                        } else {
+                            schedule(part, forked, work);
+                        }
+                    }
+                    if (current == null && !work.isEmpty()) {
+                        current = work.pop();
+                    }
+                }
+                for (SetTask task : forked) {
+                    task.join();
+                }
+            }
+
+            /**
+             * Schedule a part, either in a new task or in the local work list.
+             *
+             * @param part the part
+             * @param forked the forked tasks
+             * @param work the local work list
+             */
+            private void schedule(int[] part, List<SetTask> forked, Deque<int[]> work)
+            {
+                if (part.length >= TASK_THRESHOLD) {
+                    SetTask task = new SetTask(part);
+                    task.fork();
+                    forked.add(task);
+                } else {
+                    work.push(part);
+                }
+            }
+        }
+    }
+}
@@ -200,6 +200,7 @@ public class TreeDynamicConnectivity<T>
             // newFirstArc becomes the first arc of the first node
             singletonNodes.remove(firstNode);
             firstNode.addArcLast(newFirstArc);
+            firstNode.applyFlags();
         } else {
             /*
              * Since second element will be not the only element adjacent to the first element, we
@@ -231,6 +232,7 @@ public class TreeDynamicConnectivity<T>
             Node lastChildNode = getNode(lastChild);
             Arc arcToLastChild = firstNode.getArcTo(lastChildNode);
             firstNode.addArcAfter(arcToLastChild, newFirstArc);
+            firstNode.applyFlags();
         }
 
         /*
@@ -245,6 +247,7 @@ public class TreeDynamicConnectivity<T>
             // newSecondArc becomes the first arc of the second node
             singletonNodes.remove(secondNode);
             secondNode.addArcLast(newSecondArc);
+            secondNode.applyFlags();
         } else {
             /*
              * Similarly to the first case, we need to find out the last arc of the second node. At
@@ -267,6 +270,7 @@ public class TreeDynamicConnectivity<T>
             Node lastChildNode = getNode(lastChild);
             Arc arcToLastChild = secondNode.getArcTo(lastChildNode);
             secondNode.addArcAfter(arcToLastChild, newSecondArc);
+            secondNode.applyFlags();
         }
 
         /*
@@ -367,6 +371,7 @@ public class TreeDynamicConnectivity<T>
          */
         tree.removeMax();
         firstNode.removeArc(arcToSecond);
+        firstNode.applyFlags();
         if (!firstNode.isSingleton()) {
             minToTreeMap.put(tree.getMin(), tree);
         } else {
@@ -386,6 +391,7 @@ public class TreeDynamicConnectivity<T>
         Arc secondToFirst = secondNode.getArcTo(firstNode);
         right.removeMax();
         secondNode.removeArc(secondToFirst);
+        secondNode.applyFlags();
         if (!secondNode.isSingleton()) {
             minToTreeMap.put(right.getMin(), right);
         } else {
@@ -395,6 +401,98 @@ public class TreeDynamicConnectivity<T>
         return true;
     }
 
+    /**
+     * Returns the number of elements in the tree the {@code element} belongs to. The method
+     * returns $0$ if the {@code element} hasn't been added to this data structure
+     * <p>
+     * This method has $\mathcal{O}(\log n)$ running time complexity
+     *
+     * @param element an element
+     * @return the number of elements in the tree of the {@code element}
+     */
+    int size(T element)
+    {
+        if (!contains(element)) {
+            return 0;
+        }
+        Node node = getNode(element);
+        if (node.isSingleton()) {
+            return 1;
+        }
+        // the Euler tour of a tree with k nodes has 2(k - 1) occurrences
+        return getTree(node).getSize() / 2 + 1;
+    }
+
+    /**
+     * Returns the elements of the tree the {@code element} belongs to, in the order of their first
+     * occurrence in the Euler tour. The method returns an empty set if the {@code element} hasn't
+     * been added to this data structure
+     * <p>
+     * This method has $\mathcal{O}(k)$ running time complexity, where $k$ is the size of the tree
+     *
+     * @param element an element
+     * @return the elements of the tree of the {@code element}
+     */
+    Set<T> elements(T element)
+    {
+        if (!contains(element)) {
+            return Collections.emptySet();
+        }
+        Node node = getNode(element);
+        if (node.isSingleton()) {
+            return Collections.singleton(element);
+        }
+        AVLTree<T> tree = getTree(node);
+        Set<T> result = CollectionUtil.newLinkedHashSetWithExpectedSize(tree.getSize() / 2 + 1);
+        for (T value : tree) {
+            result.add(value);
+        }
+        return result;
+    }
+
+    /**
+     * Sets the flags of the {@code element}. The flags are an arbitrary bit mask, which can be
+     * searched for with {@link #findFlagged(Object, int)}. The {@code element} is added to this
+     * data structure if it hasn't been added before.
+     * <p>
+     * This method has $\mathcal{O}(\log n)$ running time complexity
+     *
+     * @param element an element
+     * @param flags the new flags of the {@code element}
+     */
+    void setFlags(T element, int flags)
+    {
+        addIfAbsent(element);
+        Node node = getNode(element);
+        node.flags = flags;
+        node.applyFlags();
+    }
+
+    /**
+     * Returns an element of the tree the {@code element} belongs to, which has at least one of the
+     * flags in the {@code mask} set. The method returns {@code null} if there is no such element or
+     * if the {@code element} hasn't been added to this data structure
+     * <p>
+     * This method has $\mathcal{O}(\log n)$ running time complexity
+     *
+     * @param element an element
+     * @param mask a bit mask of flags to search for
+     * @return an element of the tree of the {@code element} with some of the flags in the
+     *         {@code mask}, or {@code null} if there is no such element
+     */
+    T findFlagged(T element, int mask)
+    {
+        if (!contains(element)) {
+            return null;
+        }
+        Node node = getNode(element);
+        if (node.isSingleton()) {
+            return (node.flags & mask) != 0 ? element : null;
+        }
+        TreeNode<T> flagged = getTree(node).findFlagged(mask);
+        return flagged == null ? null : flagged.getValue();
+    }
+
     /**
      * Makes the {@code node} the root of the tree. In practice, this means that the value of the
      * {@code node} is the first in the Euler tour
@@ -480,7 +578,8 @@ public class TreeDynamicConnectivity<T>
      * An internal representation of the tree nodes.
      * <p>
      * Keeps track of the node values and outgoing arcs. The outgoing arcs are placed according to
-     * the order they are traversed in the Euler tour
+     * the order they are traversed in the Euler tour. The flags of a node are stored in the tree
+     * node of its first arc, the other occurrences of the node carry no flags.
      */
     private class Node
     {
@@ -496,6 +595,14 @@ public class TreeDynamicConnectivity<T>
          * Target node to arc mapping
          */
         Map<Node, Arc> targetMap;
+        /**
+         * User-defined flags of this node
+         */
+        int flags;
+        /**
+         * The tree node the flags are stored in, or {@code null} if there is none
+         */
+        TreeNode<T> flagsNode;
 
         /**
          * Constructs a new node
@@ -567,6 +674,22 @@ public class TreeDynamicConnectivity<T>
             return arc.listNode.getNext().getValue();
         }
 
+        /**
+         * Stores the flags of this node in the tree node of its first arc and clears them in the
+         * tree node which stored them before. Must be called every time the arc list changes
+         */
+        void applyFlags()
+        {
+            TreeNode<T> target = isSingleton() ? null : arcs.get(0).arcTreeNode;
+            if (flagsNode != null && flagsNode != target) {
+                flagsNode.setFlags(0);
+            }
+            flagsNode = target;
+            if (target != null) {
+                target.setFlags(flags);
+            }
+        }
+
         /**
          * Checks if this node is a zero-degree node
          *
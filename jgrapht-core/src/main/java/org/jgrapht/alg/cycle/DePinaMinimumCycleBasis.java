@@ -0,0 +1,1018 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.cycle;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Compute a minimum weight cycle basis of a graph using de Pina's algorithm with Horton's
+ * candidate cycles.
+ *
+ * <p>
+ * See:<br>
+ * J.C. de Pina, Applications of shortest path methods, PhD thesis, University of Amsterdam, 1995.
+ * <br>
+ * J.D. Horton, A polynomial-time algorithm to find the shortest cycle basis of a graph, SIAM J.
+ * Comput., 16 (1987), pp. 358-366.<br>
+ * T. Kavitha, K. Mehlhorn, D. Michail and K.E. Paluch, An $\tilde{O}(m^2 n)$ algorithm for
+ * minimum cycle basis of graphs, Algorithmica, 52 (2008), pp. 333-349.
+ *
+ * <p>
+ * The cycle space of a graph is the direct sum of the cycle spaces of its biconnected components,
+ * thus the algorithm computes a minimum cycle basis of each component separately and returns
+ * their union. A self-loop forms a cycle on its own and belongs to every cycle basis.
+ *
+ * <p>
+ * For a biconnected component with $n$ vertices and $m$ edges, let $f = m - n + 1$ be the
+ * dimension of its cycle space and fix a spanning tree; every cycle is represented by its
+ * incidence vector over the $f$ edges which are not in the tree. De Pina's algorithm maintains $f$
+ * support vectors $S_1, \dots, S_f$, initially the unit vectors, and in phase $i$ selects a
+ * minimum weight cycle $C_i$ such that $\langle C_i, S_i \rangle = 1$ over GF(2). The remaining
+ * support vectors $S_j$ with $\langle C_i, S_j \rangle = 1$ are then updated to $S_j + S_i$. The
+ * support vectors are stored as packed {@code long} bitsets, so each update is a word-wise
+ * exclusive or.
+ *
+ * <p>
+ * The cycle of each phase is selected from Horton's candidate set, which consists of the cycles
+ * $P(x, u) + \{u, v\} + P(v, x)$ for every vertex $x$ and edge $\{u, v\}$ of the component, where
+ * $P(x, u)$ denotes the path from $x$ to $u$ in a shortest path tree rooted at $x$. The candidates
+ * are sorted by weight once, and a phase selects the first candidate which is not orthogonal to
+ * its support vector. If no candidate qualifies, which can only happen with ties between shortest
+ * paths, the phase falls back to de Pina's exact search for a minimum weight cycle with odd
+ * inner product, using shortest paths in a graph with two copies of each vertex.
+ *
+ * <p>
+ * If a {@link ForkJoinPool} is provided, the shortest path trees of the candidate computation are
+ * computed in parallel, as well as the support vector updates of large components.
+ *
+ * <p>
+ * The algorithm treats directed graphs as undirected and requires the edge weights to be
+ * non-negative. It handles multiple edges and self-loops.
+ *
+ * <p>
+ * The candidate set of a component is materialized before the first phase. It contains $O(nm)$
+ * cycles, each of which stores its edges, so the memory consumption grows as $nm$ times the
+ * average candidate length, and the support vectors need another $f^2$ bits. The algorithm is
+ * therefore practical for biconnected components with up to a few thousand edges. A
+ * $60 \times 60$ grid with 7080 edges needs about 9 seconds and 400 MB of heap, and both grow
+ * faster than quadratically in the number of edges, so components with $10^5$ edges or more are
+ * out of reach.
+ *
+ * @param <V> the vertex type
+ * @param <E> the edge type
+ *
+ * @see PatonCycleBase
+ * @see QueueBFSFundamentalCycleBasis
+ */
+public class DePinaMinimumCycleBasis<V, E>
+    implements
+    CycleBasisAlgorithm<V, E>
+{
+    /*
+     * Minimum number of support vector words which are updated in parallel.
+     */
+    private static final long PARALLEL_UPDATE_THRESHOLD = 1L << 14;
+
+    /*
+     * Number of support vectors updated by a single task.
+     */
+    private static final int UPDATE_TASK_SIZE = 256;
+
+    private final Graph<V, E> graph;
+    private final ForkJoinPool pool;
+    private final boolean useCandidates;
+
+    /**
+     * Create a new minimum cycle basis algorithm which runs sequentially.
+     *
+     * @param graph the input graph
+     * @throws IllegalArgumentException if the graph is not directed or undirected
+     */
+    public DePinaMinimumCycleBasis(Graph<V, E> graph)
+    {
+        this(graph, null);
+    }
+
+    /**
+     * Create a new minimum cycle basis algorithm.
+     *
+     * <p>
+     * If a pool is provided, the shortest path computations and the support vector updates are
+     * executed in parallel using the pool. It is up to the user of this algorithm to manage the
+     * lifecycle of the pool.
+     *
+     * @param graph the input graph
+     * @param pool the pool used for the parallel computations, if null the computation is
+     *        sequential
+     * @throws IllegalArgumentException if the graph is not directed or undirected
+     */
+    public DePinaMinimumCycleBasis(Graph<V, E> graph, ForkJoinPool pool)
+    {
+        this(graph, pool, true);
+    }
+
+    /**
+     * Create a new minimum cycle basis algorithm.
+     *
+     * @param graph the input graph
+     * @param pool the pool used for the parallel computations, if null the computation is
+     *        sequential
+     * @param useCandidates whether to use Horton's candidate cycles, if false every phase
+     *        performs de Pina's exact search
+     * @throws IllegalArgumentException if the graph is not directed or undirected
+     */
+    DePinaMinimumCycleBasis(Graph<V, E> graph, ForkJoinPool pool, boolean useCandidates)
+    {
+        this.graph = GraphTests.requireDirectedOrUndirected(graph);
+        this.pool = pool;
+        this.useCandidates = useCandidates;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the graph contains an edge with negative weight
+     */
+    @Override
+    public CycleBasis<V, E> getCycleBasis()
+    {
+        List<E> edges = new ArrayList<>(graph.edgeSet());
+        Map<V, Integer> indices =
+            new VertexToIntegerMapping<>(graph.vertexSet()).getVertexMap();
+        int n = indices.size();
+        int m = edges.size();
+        int[] source = new int[m];
+        int[] target = new int[m];
+        double[] weights = new double[m];
+        for (int e = 0; e < m; e++) {
+            E edge = edges.get(e);
+            source[e] = indices.get(graph.getEdgeSource(edge));
+            target[e] = indices.get(graph.getEdgeTarget(edge));
+            weights[e] = graph.getEdgeWeight(edge);
+            if (!(weights[e] >= 0d)) {
+                throw new IllegalArgumentException("Edge weights must be non-negative");
+            }
+        }
+
+        Set<List<E>> cycles = new LinkedHashSet<>();
+        int length = 0;
+        double weight = 0d;
+
+        // self-loops
+        for (int e = 0; e < m; e++) {
+            if (source[e] == target[e]) {
+                cycles.add(Collections.singletonList(edges.get(e)));
+                length++;
+                weight += weights[e];
+            }
+        }
+
+        // biconnected components
+        int[] localIndex = new int[n];
+        Arrays.fill(localIndex, -1);
+        for (int[] blockEdges : biconnectedComponents(n, source, target)) {
+            if (blockEdges.length < 2) {
+                continue;
+            }
+            Block block = new Block(blockEdges, source, target, weights, localIndex);
+            for (Cycle c : block.minimumCycleBasis()) {
+                List<E> cycle = new ArrayList<>(c.edges.length);
+                for (int e : c.edges) {
+                    cycle.add(edges.get(blockEdges[e]));
+                }
+                cycles.add(cycle);
+                length += c.edges.length;
+                weight += c.weight;
+            }
+        }
+
+        return new CycleBasisImpl<>(graph, cycles, length, weight);
+    }
+
+    /**
+     * Compute the biconnected components of the graph, ignoring self-loops, with an iterative
+     * version of the algorithm of Hopcroft and Tarjan.
+     *
+     * @param n the number of vertices
+     * @param source the first endpoint of each edge
+     * @param target the second endpoint of each edge
+     * @return the edges of each biconnected component
+     */
+    private static List<int[]> biconnectedComponents(int n, int[] source, int[] target)
+    {
+        int m = source.length;
+        int[] start = new int[n + 1];
+        for (int e = 0; e < m; e++) {
+            if (source[e] != target[e]) {
+                start[source[e] + 1]++;
+                start[target[e] + 1]++;
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            start[v + 1] += start[v];
+        }
+        int[] incident = new int[start[n]];
+        int[] fill = Arrays.copyOf(start, n);
+        for (int e = 0; e < m; e++) {
+            if (source[e] != target[e]) {
+                incident[fill[source[e]]++] = e;
+                incident[fill[target[e]]++] = e;
+            }
+        }
+
+        List<int[]> result = new ArrayList<>();
+        int[] discovery = new int[n];
+        Arrays.fill(discovery, -1);
+        int[] low = new int[n];
+        int[] position = new int[n];
+        int[] parentEdge = new int[n];
+        int[] callStack = new int[n];
+        int[] edgeStack = new int[m];
+        int edgeStackSize = 0;
+        int time = 0;
+
+        for (int root = 0; root < n; root++) {
+            if (discovery[root] != -1) {
+                continue;
+            }
+            discovery[root] = low[root] = time++;
+            position[root] = start[root];
+            parentEdge[root] = -1;
+            callStack[0] = root;
+            int depth = 1;
+            while (depth > 0) {
+                int v = callStack[depth - 1];
+                if (position[v] < start[v + 1]) {
+                    int e = incident[position[v]++];
+                    if (e == parentEdge[v]) {
+                        continue;
+                    }
+                    int w = source[e] == v ? target[e] : source[e];
+                    if (discovery[w] == -1) {
+                        edgeStack[edgeStackSize++] = e;
+                        discovery[w] = low[w] = time++;
+                        position[w] = start[w];
+                        parentEdge[w] = e;
+                        callStack[depth++] = w;
+                    } else if (discovery[w] < discovery[v]) {
+                        // back edge, seen for the first time
+                        edgeStack[edgeStackSize++] = e;
+                        low[v] = Math.min(low[v], discovery[w]);
+                    }
+                } else {
+                    depth--;
+                    if (depth > 0) {
+                        int u = callStack[depth - 1];
+                        low[u] = Math.min(low[u], low[v]);
+                        if (low[v] >= discovery[u]) {
+                            int size = 0;
+                            while (edgeStack[edgeStackSize - 1 - size] != parentEdge[v]) {
+                                size++;
+                            }
+                            size++;
+                            edgeStackSize -= size;
+                            result
+                                .add(
+                                    Arrays
+                                        .copyOfRange(
+                                            edgeStack, edgeStackSize, edgeStackSize + size));
+                        }
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * A cycle of a biconnected component.
+     */
+    private static class Cycle
+    {
+        // the local edges in traversal order
+        final int[] edges;
+        // the sorted local edges
+        final int[] sorted;
+        // the non-tree coordinates
+        final int[] coordinates;
+        final double weight;
+        final int hash;
+
+        /**
+         * Create a cycle.
+         *
+         * @param edges the local edges in traversal order
+         * @param coordinate the non-tree coordinate of each edge, or -1
+         * @param weights the edge weights
+         */
+        Cycle(int[] edges, int[] coordinate, double[] weights)
+        {
+            this.edges = edges;
+            this.sorted = edges.clone();
+            Arrays.sort(sorted);
+            int count = 0;
+            double w = 0d;
+            for (int e : sorted) {
+                if (coordinate[e] != -1) {
+                    count++;
+                }
+                w += weights[e];
+            }
+            this.coordinates = new int[count];
+            count = 0;
+            for (int e : sorted) {
+                if (coordinate[e] != -1) {
+                    coordinates[count++] = coordinate[e];
+                }
+            }
+            this.weight = w;
+            this.hash = Arrays.hashCode(sorted);
+        }
+
+        /**
+         * Compute the inner product of the cycle with a support vector.
+         *
+         * @param support the support vector
+         * @return whether the inner product is one
+         */
+        boolean isOdd(long[] support)
+        {
+            long parity = 0L;
+            for (int c : coordinates) {
+                parity ^= support[c >>> 6] >>> c;
+            }
+            return (parity & 1L) != 0L;
+        }
+
+        /**
+         * Compare two cycles by weight, length and edges.
+         *
+         * @param other the other cycle
+         * @return a negative integer, zero, or a positive integer as this cycle is less than, equal
+         *         to, or greater than the other cycle
+         */
+        int compareTo(Cycle other)
+        {
+            int c = Double.compare(weight, other.weight);
+            if (c != 0) {
+                return c;
+            }
+            c = Integer.compare(edges.length, other.edges.length);
+            if (c != 0) {
+                return c;
+            }
+            return Arrays.compare(sorted, other.sorted);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Cycle)) {
+                return false;
+            }
+            return Arrays.equals(sorted, ((Cycle) obj).sorted);
+        }
+    }
+
+    /**
+     * A biconnected component with its own vertex and edge numbering.
+     */
+    private class Block
+    {
+        private final int n;
+        private final int m;
+        private final int[] source;
+        private final int[] target;
+        private final double[] weights;
+        private final int[] start;
+        private final int[] incident;
+        // the non-tree coordinate of each edge, or -1 for the spanning tree edges
+        private final int[] coordinate;
+        private final int f;
+
+        /**
+         * Create a biconnected component.
+         *
+         * @param blockEdges the edges of the component
+         * @param globalSource the first endpoint of each edge of the graph
+         * @param globalTarget the second endpoint of each edge of the graph
+         * @param globalWeights the weight of each edge of the graph
+         * @param localIndex a vertex array filled with -1, which is restored before returning
+         */
+        Block(
+            int[] blockEdges, int[] globalSource, int[] globalTarget, double[] globalWeights,
+            int[] localIndex)
+        {
+            this.m = blockEdges.length;
+            this.source = new int[m];
+            this.target = new int[m];
+            this.weights = new double[m];
+            int[] vertices = new int[m + 1];
+            int count = 0;
+            for (int e = 0; e < m; e++) {
+                int ge = blockEdges[e];
+                for (int v : new int[] { globalSource[ge], globalTarget[ge] }) {
+                    if (localIndex[v] == -1) {
+                        localIndex[v] = count;
+                        vertices[count++] = v;
+                    }
+                }
+                source[e] = localIndex[globalSource[ge]];
+                target[e] = localIndex[globalTarget[ge]];
+                weights[e] = globalWeights[ge];
+            }
+            for (int i = 0; i < count; i++) {
+                localIndex[vertices[i]] = -1;
+            }
+            this.n = count;
+
+            this.start = new int[n + 1];
+            for (int e = 0; e < m; e++) {
+                start[source[e] + 1]++;
+                start[target[e] + 1]++;
+            }
+            for (int v = 0; v < n; v++) {
+                start[v + 1] += start[v];
+            }
+            this.incident = new int[2 * m];
+            int[] fill = Arrays.copyOf(start, n);
+            for (int e = 0; e < m; e++) {
+                incident[fill[source[e]]++] = e;
+                incident[fill[target[e]]++] = e;
+            }
+
+            // spanning tree by breadth-first search
+            this.coordinate = new int[m];
+            Arrays.fill(coordinate, -2);
+            boolean[] visited = new boolean[n];
+            int[] queue = new int[n];
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = 0;
+            visited[0] = true;
+            while (head < tail) {
+                int v = queue[head++];
+                for (int i = start[v]; i < start[v + 1]; i++) {
+                    int e = incident[i];
+                    int w = opposite(e, v);
+                    if (!visited[w]) {
+                        visited[w] = true;
+                        coordinate[e] = -1;
+                        queue[tail++] = w;
+                    }
+                }
+            }
+            int next = 0;
+            for (int e = 0; e < m; e++) {
+                if (coordinate[e] == -2) {
+                    coordinate[e] = next++;
+                }
+            }
+            this.f = next;
+        }
+
+        /**
+         * Compute a minimum cycle basis of the component.
+         *
+         * @return the cycles of the basis
+         */
+        List<Cycle> minimumCycleBasis()
+        {
+            List<Cycle> result = new ArrayList<>(f);
+            Cycle[] candidates = useCandidates ? candidates() : new Cycle[0];
+            int words = (f + 63) >>> 6;
+            long[][] support = new long[f][words];
+            for (int i = 0; i < f; i++) {
+                support[i][i >>> 6] = 1L << i;
+            }
+
+            int first = 0;
+            for (int i = 0; i < f; i++) {
+                long[] s = support[i];
+                Cycle selected = null;
+                for (int k = first; k < candidates.length; k++) {
+                    Cycle c = candidates[k];
+                    if (c != null && c.isOdd(s)) {
+                        selected = c;
+                        candidates[k] = null;
+                        break;
+                    }
+                }
+                while (first < candidates.length && candidates[first] == null) {
+                    first++;
+                }
+                if (selected == null) {
+                    selected = minimumOddCycle(s);
+                }
+                result.add(selected);
+
+                if (pool != null && (long) (f - i - 1) * words >= PARALLEL_UPDATE_THRESHOLD) {
+                    pool.invoke(new UpdateTask(support, s, selected, i + 1, f));
+                } else {
+                    update(support, s, selected, i + 1, f);
+                }
+                support[i] = null;
+            }
+            return result;
+        }
+
+        /**
+         * Update a range of support vectors after the selection of the cycle of a phase.
+         *
+         * @param support the support vectors
+         * @param s the support vector of the phase
+         * @param selected the selected cycle of the phase
+         * @param from the first support vector, inclusive
+         * @param to the last support vector, exclusive
+         */
+        private void update(long[][] support, long[] s, Cycle selected, int from, int to)
+        {
+            for (int j = from; j < to; j++) {
+                long[] t = support[j];
+                if (selected.isOdd(t)) {
+                    for (int w = 0; w < t.length; w++) {
+                        t[w] ^= s[w];
+                    }
+                }
+            }
+        }
+
+        /**
+         * Compute Horton's candidate cycles, sorted by weight.
+         *
+         * @return the candidate cycles
+         */
+        private Cycle[] candidates()
+        {
+            Set<Cycle> candidates;
+            if (pool == null) {
+                candidates = new HashSet<>();
+                new ShortestPaths().addCandidates(0, n, candidates);
+            } else {
+                candidates = ConcurrentHashMap.newKeySet();
+                pool.invoke(new CandidatesTask(candidates, 0, n));
+            }
+            Cycle[] result = candidates.toArray(new Cycle[0]);
+            Arrays.sort(result, Cycle::compareTo);
+            return result;
+        }
+
+        /**
+         * Find a minimum weight cycle with odd inner product with a support vector using de Pina's
+         * construction. A shortest path from $(x, 0)$ to $(x, 1)$ in the graph with two copies of
+         * each vertex, where the edges with a one in the support vector cross between the copies,
+         * is a minimum weight closed walk with odd inner product.
+         *
+         * @param support the support vector
+         * @return a minimum weight cycle with odd inner product
+         */
+        private Cycle minimumOddCycle(long[] support)
+        {
+            boolean[] odd = new boolean[m];
+            for (int e = 0; e < m; e++) {
+                int c = coordinate[e];
+                odd[e] = c != -1 && ((support[c >>> 6] >>> c) & 1L) != 0L;
+            }
+
+            double[] distance = new double[2 * n];
+            int[] predecessor = new int[2 * n];
+            Heap heap = new Heap(distance);
+            double best = Double.POSITIVE_INFINITY;
+            boolean[] parity = new boolean[m];
+            for (int x = 0; x < n; x++) {
+                Arrays.fill(distance, Double.POSITIVE_INFINITY);
+                heap.clear();
+                distance[2 * x] = 0d;
+                predecessor[2 * x] = -1;
+                heap.decrease(2 * x);
+                while (!heap.isEmpty()) {
+                    int state = heap.poll();
+                    if (state == 2 * x + 1 || distance[state] >= best) {
+                        break;
+                    }
+                    int v = state >>> 1;
+                    for (int i = start[v]; i < start[v + 1]; i++) {
+                        int e = incident[i];
+                        int next = 2 * opposite(e, v) + ((state & 1) ^ (odd[e] ? 1 : 0));
+                        double d = distance[state] + weights[e];
+                        if (d < distance[next]) {
+                            distance[next] = d;
+                            predecessor[next] = e;
+                            heap.decrease(next);
+                        }
+                    }
+                }
+                if (distance[2 * x + 1] < best) {
+                    best = distance[2 * x + 1];
+                    // the edges with odd multiplicity in the walk
+                    Arrays.fill(parity, false);
+                    int state = 2 * x + 1;
+                    while (state != 2 * x) {
+                        int e = predecessor[state];
+                        parity[e] = !parity[e];
+                        int v = state >>> 1;
+                        state = 2 * opposite(e, v) + ((state & 1) ^ (odd[e] ? 1 : 0));
+                    }
+                }
+            }
+
+            /*
+             * The edges with odd multiplicity form an even subgraph with odd inner product, and
+             * one of the cycles of any decomposition into edge-disjoint cycles has odd inner
+             * product. Since weights are non-negative, such a cycle is a minimum one.
+             */
+            Cycle result = null;
+            for (Cycle c : decompose(parity)) {
+                if (c.isOdd(support) && (result == null || c.compareTo(result) < 0)) {
+                    result = c;
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Decompose an even subgraph into edge-disjoint simple cycles.
+         *
+         * @param member whether each edge belongs to the subgraph
+         * @return the cycles
+         */
+        private List<Cycle> decompose(boolean[] member)
+        {
+            List<Cycle> result = new ArrayList<>();
+            boolean[] used = new boolean[m];
+            int[] position = Arrays.copyOf(start, n);
+            int[] onWalk = new int[n];
+            Arrays.fill(onWalk, -1);
+            int[] walk = new int[n + 1];
+            int[] walkEdges = new int[n];
+
+            for (int e0 = 0; e0 < m; e0++) {
+                if (!member[e0] || used[e0]) {
+                    continue;
+                }
+                int k = 0;
+                walk[0] = source[e0];
+                onWalk[walk[0]] = 0;
+                while (true) {
+                    int v = walk[k];
+                    int e = -1;
+                    while (position[v] < start[v + 1]) {
+                        int candidate = incident[position[v]++];
+                        if (member[candidate] && !used[candidate]) {
+                            e = candidate;
+                            break;
+                        }
+                    }
+                    if (e == -1) {
+                        // only possible at the start of the walk
+                        for (int i = 0; i <= k; i++) {
+                            onWalk[walk[i]] = -1;
+                        }
+                        break;
+                    }
+                    used[e] = true;
+                    int w = opposite(e, v);
+                    int j = onWalk[w];
+                    if (j >= 0) {
+                        int[] cycle = new int[k - j + 1];
+                        System.arraycopy(walkEdges, j, cycle, 0, k - j);
+                        cycle[k - j] = e;
+                        result.add(new Cycle(cycle, coordinate, weights));
+                        for (int i = j + 1; i <= k; i++) {
+                            onWalk[walk[i]] = -1;
+                        }
+                        k = j;
+                    } else {
+                        walkEdges[k] = e;
+                        walk[++k] = w;
+                        onWalk[w] = k;
+                    }
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Get the opposite endpoint of an edge.
+         *
+         * @param e the edge
+         * @param v one endpoint of the edge
+         * @return the other endpoint
+         */
+        private int opposite(int e, int v)
+        {
+            return source[e] == v ? target[e] : source[e];
+        }
+
+        /**
+         * Shortest path trees and the candidate cycles they induce.
+         */
+        private class ShortestPaths
+        {
+            private final double[] distance;
+            private final int[] predecessor;
+            private final int[] branch;
+            private final Heap heap;
+
+            ShortestPaths()
+            {
+                this.distance = new double[n];
+                this.predecessor = new int[n];
+                this.branch = new int[n];
+                this.heap = new Heap(distance);
+            }
+
+            /**
+             * Compute the candidate cycles of a range of root vertices.
+             *
+             * @param from the first root, inclusive
+             * @param to the last root, exclusive
+             * @param candidates the set to add the candidates to
+             */
+            void addCandidates(int from, int to, Set<Cycle> candidates)
+            {
+                for (int x = from; x < to; x++) {
+                    shortestPathTree(x);
+                    for (int e = 0; e < m; e++) {
+                        int u = source[e];
+                        int v = target[e];
+                        if (predecessor[u] == e || predecessor[v] == e || branch[u] == branch[v]) {
+                            // the paths to the endpoints are not disjoint
+                            continue;
+                        }
+                        candidates.add(new Cycle(cycle(x, e), coordinate, weights));
+                    }
+                }
+            }
+
+            /**
+             * Compute a shortest path tree with Dijkstra's algorithm.
+             *
+             * @param x the root
+             */
+            private void shortestPathTree(int x)
+            {
+                Arrays.fill(distance, Double.POSITIVE_INFINITY);
+                heap.clear();
+                distance[x] = 0d;
+                predecessor[x] = -1;
+                branch[x] = x;
+                heap.decrease(x);
+                while (!heap.isEmpty()) {
+                    int v = heap.poll();
+                    for (int i = start[v]; i < start[v + 1]; i++) {
+                        int e = incident[i];
+                        int w = opposite(e, v);
+                        double d = distance[v] + weights[e];
+                        if (d < distance[w]) {
+                            distance[w] = d;
+                            predecessor[w] = e;
+                            branch[w] = v == x ? w : branch[v];
+                            heap.decrease(w);
+                        }
+                    }
+                }
+            }
+
+            /**
+             * Build the cycle formed by an edge and the tree paths to its endpoints.
+             *
+             * @param x the root
+             * @param e the edge
+             * @return the edges of the cycle in traversal order
+             */
+            private int[] cycle(int x, int e)
+            {
+                int u = source[e];
+                int v = target[e];
+                int length = 1;
+                for (int w = u; w != x; w = opposite(predecessor[w], w)) {
+                    length++;
+                }
+                int uLength = length - 1;
+                for (int w = v; w != x; w = opposite(predecessor[w], w)) {
+                    length++;
+                }
+                int[] result = new int[length];
+                int i = uLength;
+                for (int w = u; w != x; w = opposite(predecessor[w], w)) {
+                    result[--i] = predecessor[w];
+                }
+                i = uLength;
+                result[i++] = e;
+                for (int w = v; w != x; w = opposite(predecessor[w], w)) {
+                    result[i++] = predecessor[w];
+                }
+                return result;
+            }
+        }
+
+        /**
+         * A task which computes the candidate cycles of a range of root vertices.
+         */
+        private class CandidatesTask
+            extends
+            RecursiveAction
+        {
+            private static final long serialVersionUID = 1L;
+
+            private final Set<Cycle> candidates;
+            private final int from;
+            private final int to;
+
+            CandidatesTask(Set<Cycle> candidates, int from, int to)
+            {
+                this.candidates = candidates;
+                this.from = from;
+                this.to = to;
+            }
+
+            @Override
+            protected void compute()
+            {
+                int size = Math.max(1, n / (4 * pool.getParallelism()));
+                if (to - from <= size) {
+                    new ShortestPaths().addCandidates(from, to, candidates);
+                    return;
+                }
+                int mid = (from + to) >>> 1;
+                CandidatesTask left = new CandidatesTask(candidates, from, mid);
+                left.fork();
+                new CandidatesTask(candidates, mid, to).compute();
+                left.join();
+            }
+        }
+
+        /**
+         * A task which updates a range of support vectors.
+         */
+        private class UpdateTask
+            extends
+            RecursiveAction
+        {
+            private static final long serialVersionUID = 1L;
+
+            private final long[][] support;
+            private final long[] s;
+            private final Cycle selected;
+            private final int from;
+            private final int to;
+
+            UpdateTask(long[][] support, long[] s, Cycle selected, int from, int to)
+            {
+                this.support = support;
+                this.s = s;
+                this.selected = selected;
+                this.from = from;
+                this.to = to;
+            }
+
+            @Override
+            protected void compute()
+            {
+                if (to - from <= UPDATE_TASK_SIZE) {
+                    update(support, s, selected, from, to);
+                    return;
+                }
+                int mid = (from + to) >>> 1;
+                UpdateTask left = new UpdateTask(support, s, selected, from, mid);
+                left.fork();
+                new UpdateTask(support, s, selected, mid, to).compute();
+                left.join();
+            }
+        }
+    }
+
+    /**
+     * A binary heap of integers ordered by an array of keys, supporting decrease-key.
+     */
+    private static class Heap
+    {
+        private final double[] key;
+        private final int[] heap;
+        private final int[] position;
+        private int size;
+
+        /**
+         * Create a heap.
+         *
+         * @param key the keys of the elements
+         */
+        Heap(double[] key)
+        {
+            this.key = key;
+            this.heap = new int[key.length];
+            this.position = new int[key.length];
+            Arrays.fill(position, -1);
+        }
+
+        /**
+         * Remove all elements.
+         */
+        void clear()
+        {
+            for (int i = 0; i < size; i++) {
+                position[heap[i]] = -1;
+            }
+            size = 0;
+        }
+
+        /**
+         * Check whether the heap is empty.
+         *
+         * @return whether the heap is empty
+         */
+        boolean isEmpty()
+        {
+            return size == 0;
+        }
+
+        /**
+         * Insert an element, or restore the heap order after its key decreased.
+         *
+         * @param v the element
+         */
+        void decrease(int v)
+        {
+            int i = position[v];
+            if (i == -1) {
+                i = size++;
+            }
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                int p = heap[parent];
+                if (key[p] <= key[v]) {
+                    break;
+                }
+                heap[i] = p;
+                position[p] = i;
+                i = parent;
+            }
+            heap[i] = v;
+            position[v] = i;
+        }
+
+        /**
+         * Remove an element with minimum key.
+         *
+         * @return the element
+         */
+        int poll()
+        {
+            int result = heap[0];
+            position[result] = -1;
+            int v = heap[--size];
+            if (size > 0) {
+                int i = 0;
+                while (true) {
+                    int child = 2 * i + 1;
+                    if (child >= size) {
+                        break;
+                    }
+                    if (child + 1 < size && key[heap[child + 1]] < key[heap[child]]) {
+                        child++;
+                    }
+                    int c = heap[child];
+                    if (key[v] <= key[c]) {
+                        break;
+                    }
+                    heap[i] = c;
+                    position[c] = i;
+                    i = child;
+                }
+                heap[i] = v;
+                position[v] = i;
+            }
+            return result;
+        }
+    }
+}
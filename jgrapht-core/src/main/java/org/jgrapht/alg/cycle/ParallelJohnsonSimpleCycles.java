@@ -0,0 +1,627 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.cycle;
+
+import org.jgrapht.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+/**
+ * Find the simple cycles of a directed graph using Johnson's algorithm, optionally in parallel.
+ *
+ * <p>
+ * See:<br>
+ * D.B.Johnson, Finding all the elementary circuits of a directed graph, SIAM J. Comput., 4 (1975),
+ * pp. 77-84.
+ *
+ * <p>
+ * Johnson's algorithm numbers the vertices and, for each vertex $s$, enumerates the cycles whose
+ * least vertex is $s$ within the strongly connected component of $s$ in the subgraph induced by
+ * $s$ and the larger vertices. These subproblems are independent. This implementation first
+ * computes the strongly connected components of the graph, and then solves the subproblem of each
+ * vertex which belongs to a cycle separately, restricted to its component. If a
+ * {@link ForkJoinPool} is provided, the subproblems are distributed over the pool. The vertices
+ * are numbered in the iteration order of the vertex set, and each cycle is reported starting from
+ * its least vertex, as in {@link JohnsonSimpleCycles}.
+ *
+ * <p>
+ * The enumeration can be restricted to the cycles with at most {@code maxLength} vertices and
+ * stopped after {@code maxCycles} cycles. Johnson's blocking technique is not valid when the
+ * length of the cycles is bounded, so in that case each subproblem is solved by a depth-first
+ * search which is pruned using the distances to the start vertex.
+ *
+ * <p>
+ * The cycles are reported as vertex lists, thus parallel edges do not produce additional cycles.
+ * A self-loop is a cycle of length one.
+ *
+ * @param <V> the vertex type
+ * @param <E> the edge type
+ *
+ * @see JohnsonSimpleCycles
+ */
+public class ParallelJohnsonSimpleCycles<V, E>
+    implements
+    DirectedSimpleCycles<V, E>
+{
+    private final Graph<V, E> graph;
+    private final ForkJoinPool pool;
+    private final int maxLength;
+    private final long maxCycles;
+
+    /**
+     * Create a simple cycle finder which finds all cycles of the graph sequentially.
+     *
+     * @param graph the graph; must be directed
+     * @throws IllegalArgumentException if the graph is not directed
+     */
+    public ParallelJohnsonSimpleCycles(Graph<V, E> graph)
+    {
+        this(graph, null);
+    }
+
+    /**
+     * Create a simple cycle finder which finds all cycles of the graph.
+     *
+     * <p>
+     * If a pool is provided, the cycles are enumerated in parallel using the pool. It is up to the
+     * user of this algorithm to manage the lifecycle of the pool.
+     *
+     * @param graph the graph; must be directed
+     * @param pool the pool used for the parallel enumeration, if null the enumeration is
+     *        sequential
+     * @throws IllegalArgumentException if the graph is not directed
+     */
+    public ParallelJohnsonSimpleCycles(Graph<V, E> graph, ForkJoinPool pool)
+    {
+        this(graph, pool, Integer.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Create a simple cycle finder.
+     *
+     * <p>
+     * If a pool is provided, the cycles are enumerated in parallel using the pool. It is up to the
+     * user of this algorithm to manage the lifecycle of the pool.
+     *
+     * @param graph the graph; must be directed
+     * @param pool the pool used for the parallel enumeration, if null the enumeration is
+     *        sequential
+     * @param maxLength the maximum number of vertices of a reported cycle
+     * @param maxCycles the maximum number of reported cycles
+     * @throws IllegalArgumentException if the graph is not directed, if {@code maxLength} is not
+     *         positive or if {@code maxCycles} is negative
+     */
+    public ParallelJohnsonSimpleCycles(
+        Graph<V, E> graph, ForkJoinPool pool, int maxLength, long maxCycles)
+    {
+        this.graph = GraphTests.requireDirected(graph, "Graph must be directed");
+        this.pool = pool;
+        if (maxLength < 1) {
+            throw new IllegalArgumentException("Maximum length must be positive");
+        }
+        this.maxLength = maxLength;
+        if (maxCycles < 0) {
+            throw new IllegalArgumentException("Maximum number of cycles must be non-negative");
+        }
+        this.maxCycles = maxCycles;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The consumer is invoked from the threads of the pool, but never concurrently, so it does not
+     * need to be thread-safe. In parallel mode the order of the cycles is not deterministic.
+     */
+    @Override
+    public void findSimpleCycles(Consumer<List<V>> consumer)
+    {
+        Objects.requireNonNull(consumer, "Consumer cannot be null");
+        if (maxCycles == 0) {
+            return;
+        }
+        new Search(consumer).run();
+    }
+
+    /**
+     * A single enumeration.
+     */
+    private class Search
+    {
+        private final Consumer<List<V>> consumer;
+        private final List<V> vertices;
+        private final int[][] out;
+        private final int[][] in;
+        private final int[] component;
+        private final ConcurrentLinkedQueue<Workspace> workspaces;
+        private final Object lock;
+        private volatile boolean stopped;
+        private long count;
+
+        Search(Consumer<List<V>> consumer)
+        {
+            this.consumer = consumer;
+            this.vertices = new ArrayList<>(graph.vertexSet());
+            int n = vertices.size();
+            Map<V, Integer> indices = new VertexToIntegerMapping<>(vertices).getVertexMap();
+            this.out = new int[n][];
+            this.in = new int[n][];
+            for (int v = 0; v < n; v++) {
+                V vertex = vertices.get(v);
+                out[v] = neighbors(graph.outgoingEdgesOf(vertex), indices, true);
+                in[v] = neighbors(graph.incomingEdgesOf(vertex), indices, false);
+            }
+            this.component = stronglyConnectedComponents();
+            this.workspaces = new ConcurrentLinkedQueue<>();
+            this.lock = new Object();
+        }
+
+        void run()
+        {
+            // the vertices which belong to a cycle
+            int n = vertices.size();
+            int[] size = new int[n];
+            for (int v = 0; v < n; v++) {
+                size[component[v]]++;
+            }
+            int[] starts = new int[n];
+            int numberOfStarts = 0;
+            for (int v = 0; v < n; v++) {
+                if (size[component[v]] > 1 || contains(out[v], v)) {
+                    starts[numberOfStarts++] = v;
+                }
+            }
+
+            if (pool == null) {
+                solve(starts, 0, numberOfStarts);
+            } else {
+                pool.invoke(new SubproblemsTask(starts, 0, numberOfStarts));
+            }
+        }
+
+        /**
+         * Solve the subproblems of a range of start vertices.
+         *
+         * @param starts the start vertices
+         * @param from the first start vertex, inclusive
+         * @param to the last start vertex, exclusive
+         */
+        void solve(int[] starts, int from, int to)
+        {
+            Workspace ws = workspaces.poll();
+            if (ws == null) {
+                ws = new Workspace(vertices.size());
+            }
+            for (int i = from; i < to && !stopped; i++) {
+                ws.solve(starts[i]);
+            }
+            workspaces.offer(ws);
+        }
+
+        /**
+         * Report a cycle.
+         *
+         * @param path the vertices of the cycle
+         * @param length the number of vertices of the cycle
+         */
+        void report(int[] path, int length)
+        {
+            List<V> cycle = new ArrayList<>(length);
+            for (int i = 0; i < length; i++) {
+                cycle.add(vertices.get(path[i]));
+            }
+            synchronized (lock) {
+                if (count < maxCycles) {
+                    count++;
+                    if (count == maxCycles) {
+                        stopped = true;
+                    }
+                    consumer.accept(cycle);
+                }
+            }
+        }
+
+        /**
+         * Compute the strongly connected components with an iterative version of Tarjan's
+         * algorithm.
+         *
+         * @return the component of each vertex
+         */
+        private int[] stronglyConnectedComponents()
+        {
+            int n = vertices.size();
+            int[] result = new int[n];
+            int[] index = new int[n];
+            int[] lowlink = new int[n];
+            Arrays.fill(index, -1);
+            boolean[] onStack = new boolean[n];
+            int[] stack = new int[n];
+            int stackSize = 0;
+            int[] callStack = new int[n];
+            int[] position = new int[n];
+            int nextIndex = 0;
+            int components = 0;
+
+            for (int root = 0; root < n; root++) {
+                if (index[root] != -1) {
+                    continue;
+                }
+                int depth = 0;
+                callStack[0] = root;
+                position[0] = 0;
+                index[root] = lowlink[root] = nextIndex++;
+                stack[stackSize++] = root;
+                onStack[root] = true;
+
+                while (depth >= 0) {
+                    int v = callStack[depth];
+                    if (position[depth] < out[v].length) {
+                        int w = out[v][position[depth]++];
+                        if (index[w] == -1) {
+                            index[w] = lowlink[w] = nextIndex++;
+                            stack[stackSize++] = w;
+                            onStack[w] = true;
+                            callStack[++depth] = w;
+                            position[depth] = 0;
+                        } else if (onStack[w]) {
+                            lowlink[v] = Math.min(lowlink[v], index[w]);
+                        }
+                        continue;
+                    }
+                    if (lowlink[v] == index[v]) {
+                        int w;
+                        do {
+                            w = stack[--stackSize];
+                            onStack[w] = false;
+                            result[w] = components;
+                        } while (w != v);
+                        components++;
+                    }
+                    depth--;
+                    if (depth >= 0) {
+                        int u = callStack[depth];
+                        lowlink[u] = Math.min(lowlink[u], lowlink[v]);
+                    }
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Per-thread state of the subproblems. The markers use a stamp which is incremented for
+         * every subproblem, so that they never need to be cleared.
+         */
+        private class Workspace
+        {
+            private int stamp;
+            /**
+             * Vertices of the current subproblem, i.e. marker equal to the stamp
+             */
+            private final int[] inSubproblem;
+            /**
+             * Vertices reachable from the start vertex
+             */
+            private final int[] reached;
+            /**
+             * Blocked vertices, or vertices on the current path in the bounded search
+             */
+            private final int[] blocked;
+            /**
+             * The B-lists of Johnson's algorithm
+             */
+            private final int[][] bLists;
+            private final int[] bSizes;
+            /**
+             * Distance to the start vertex, used by the bounded search
+             */
+            private final int[] distance;
+            /**
+             * The vertices of the subproblem, also used as a queue
+             */
+            private final int[] members;
+            /**
+             * Stack of the depth-first search
+             */
+            private final int[] path;
+            private final int[] position;
+            private final boolean[] found;
+
+            Workspace(int n)
+            {
+                this.inSubproblem = new int[n];
+                this.reached = new int[n];
+                this.blocked = new int[n];
+                this.bLists = new int[n][];
+                this.bSizes = new int[n];
+                this.distance = maxLength == Integer.MAX_VALUE ? null : new int[n];
+                this.members = new int[n];
+                this.path = new int[n];
+                this.position = new int[n];
+                this.found = new boolean[n];
+            }
+
+            /**
+             * Enumerate the cycles whose least vertex is {@code s}.
+             *
+             * @param s the start vertex
+             */
+            void solve(int s)
+            {
+                stamp++;
+                int c = component[s];
+
+                // the component of s in the subgraph induced by s and the larger vertices
+                reached[s] = stamp;
+                members[0] = s;
+                int size = 1;
+                for (int head = 0; head < size; head++) {
+                    for (int w : out[members[head]]) {
+                        if (w > s && component[w] == c && reached[w] != stamp) {
+                            reached[w] = stamp;
+                            members[size++] = w;
+                        }
+                    }
+                }
+                inSubproblem[s] = stamp;
+                if (distance != null) {
+                    distance[s] = 0;
+                }
+                members[0] = s;
+                size = 1;
+                for (int head = 0; head < size; head++) {
+                    int v = members[head];
+                    for (int w : in[v]) {
+                        if (w > s && reached[w] == stamp && inSubproblem[w] != stamp) {
+                            inSubproblem[w] = stamp;
+                            if (distance != null) {
+                                distance[w] = distance[v] + 1;
+                            }
+                            members[size++] = w;
+                        }
+                    }
+                }
+                for (int i = 0; i < size; i++) {
+                    bSizes[members[i]] = 0;
+                }
+
+                if (distance == null) {
+                    circuits(s);
+                } else {
+                    boundedCircuits(s);
+                }
+            }
+
+            /**
+             * Johnson's circuit search, using an explicit stack.
+             *
+             * @param s the start vertex
+             */
+            private void circuits(int s)
+            {
+                int depth = 0;
+                path[0] = s;
+                position[0] = 0;
+                found[0] = false;
+                blocked[s] = stamp;
+
+                while (depth >= 0) {
+                    if (stopped) {
+                        return;
+                    }
+                    int v = path[depth];
+                    int[] successors = out[v];
+                    if (position[depth] < successors.length) {
+                        int w = successors[position[depth]++];
+                        if (inSubproblem[w] != stamp) {
+                            continue;
+                        }
+                        if (w == s) {
+                            report(path, depth + 1);
+                            found[depth] = true;
+                        } else if (blocked[w] != stamp) {
+                            path[++depth] = w;
+                            position[depth] = 0;
+                            found[depth] = false;
+                            blocked[w] = stamp;
+                        }
+                        continue;
+                    }
+
+                    if (found[depth]) {
+                        unblock(v);
+                    } else {
+                        for (int w : successors) {
+                            if (inSubproblem[w] == stamp) {
+                                addToBList(w, v);
+                            }
+                        }
+                    }
+                    depth--;
+                    if (depth >= 0 && found[depth + 1]) {
+                        found[depth] = true;
+                    }
+                }
+            }
+
+            /**
+             * Unblock a vertex and, transitively, the vertices of its B-list.
+             *
+             * @param u the vertex
+             */
+            private void unblock(int u)
+            {
+                // the members array is free once the subproblem has been set up
+                int[] queue = members;
+                int size = 0;
+                blocked[u] = 0;
+                queue[size++] = u;
+                while (size > 0) {
+                    int x = queue[--size];
+                    int[] list = bLists[x];
+                    for (int i = 0; i < bSizes[x]; i++) {
+                        int w = list[i];
+                        if (blocked[w] == stamp) {
+                            blocked[w] = 0;
+                            queue[size++] = w;
+                        }
+                    }
+                    bSizes[x] = 0;
+                }
+            }
+
+            /**
+             * Add a vertex to the B-list of another vertex, unless it is already present.
+             *
+             * @param w the owner of the B-list
+             * @param v the vertex to add
+             */
+            private void addToBList(int w, int v)
+            {
+                int[] list = bLists[w];
+                int size = bSizes[w];
+                for (int i = 0; i < size; i++) {
+                    if (list[i] == v) {
+                        return;
+                    }
+                }
+                if (list == null) {
+                    list = bLists[w] = new int[Math.min(4, in[w].length)];
+                } else if (size == list.length) {
+                    list = bLists[w] = Arrays.copyOf(list, Math.min(2 * size, in[w].length));
+                }
+                list[size] = v;
+                bSizes[w] = size + 1;
+            }
+
+            /**
+             * Depth-first search for the cycles of bounded length, using an explicit stack.
+             * Vertices on the current path are marked as blocked.
+             *
+             * @param s the start vertex
+             */
+            private void boundedCircuits(int s)
+            {
+                int depth = 0;
+                path[0] = s;
+                position[0] = 0;
+                blocked[s] = stamp;
+
+                while (depth >= 0) {
+                    if (stopped) {
+                        return;
+                    }
+                    int v = path[depth];
+                    int[] successors = out[v];
+                    if (position[depth] < successors.length) {
+                        int w = successors[position[depth]++];
+                        if (inSubproblem[w] != stamp) {
+                            continue;
+                        }
+                        if (w == s) {
+                            report(path, depth + 1);
+                        } else if (blocked[w] != stamp && depth + 1 + distance[w] <= maxLength) {
+                            path[++depth] = w;
+                            position[depth] = 0;
+                            blocked[w] = stamp;
+                        }
+                        continue;
+                    }
+                    blocked[v] = 0;
+                    depth--;
+                }
+            }
+        }
+
+        /**
+         * Task which solves the subproblems of a range of start vertices.
+         */
+        private class SubproblemsTask
+            extends
+            RecursiveAction
+        {
+            private static final long serialVersionUID = 1L;
+
+            private final int[] starts;
+            private final int from;
+            private final int to;
+
+            SubproblemsTask(int[] starts, int from, int to)
+            {
+                this.starts = starts;
+                this.from = from;
+                this.to = to;
+            }
+
+            @Override
+            protected void compute()
+            {
+                if (to - from <= 1 || stopped) {
+                    solve(starts, from, to);
+                    return;
+                }
+                int mid = (from + to) >>> 1;
+                SubproblemsTask left = new SubproblemsTask(starts, from, mid);
+                left.fork();
+                new SubproblemsTask(starts, mid, to).compute();
+                left.join();
+            }
+        }
+    }
+
+    /**
+     * Compute the sorted distinct indices of the opposite endpoints of some edges.
+     *
+     * @param edges the edges
+     * @param indices the vertex indices
+     * @param outgoing whether the edges are outgoing
+     * @return the sorted indices
+     */
+    private int[] neighbors(Set<E> edges, Map<V, Integer> indices, boolean outgoing)
+    {
+        int[] result = new int[edges.size()];
+        int size = 0;
+        for (E e : edges) {
+            result[size++] =
+                indices.get(outgoing ? graph.getEdgeTarget(e) : graph.getEdgeSource(e));
+        }
+        Arrays.sort(result);
+        int distinct = 0;
+        for (int i = 0; i < size; i++) {
+            if (distinct == 0 || result[distinct - 1] != result[i]) {
+                result[distinct++] = result[i];
+            }
+        }
+        return distinct == result.length ? result : Arrays.copyOf(result, distinct);
+    }
+
+    /**
+     * Check whether a sorted array contains a value.
+     *
+     * @param array the sorted array
+     * @param value the value
+     * @return true if the array contains the value
+     */
+    private static boolean contains(int[] array, int value)
+    {
+        return Arrays.binarySearch(array, value) >= 0;
+    }
+
+}
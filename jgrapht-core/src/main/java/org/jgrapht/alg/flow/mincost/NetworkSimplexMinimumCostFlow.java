@@ -0,0 +1,729 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.flow.mincost;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+
+/**
+ * This class computes a solution to a
+ * <a href="https://en.wikipedia.org/wiki/Minimum-cost_flow_problem"> minimum cost flow problem</a>
+ * using the primal <a href="https://en.wikipedia.org/wiki/Network_simplex_algorithm">network
+ * simplex algorithm</a>. More precisely, this class computes a <i>b-flow</i> of minimum cost, i.e.
+ * for each node $v$ in the network the sum of all outgoing flows minus the sum of all incoming
+ * flows should be equal to the node supply $b_v$.
+ * <p>
+ * The problem definition and the meaning of the parameters is the same as in
+ * {@link CapacityScalingMinimumCostFlow}: supplies, arc capacity bounds and arc costs are taken from
+ * the specified {@link MinimumCostFlowProblem}. An arc with upper capacity greater than or equal to
+ * {@link CapacityScalingMinimumCostFlow#CAP_INF} is considered to be an infinite capacity arc.
+ * Unlike {@link CapacityScalingMinimumCostFlow}, this implementation supports self-loops and
+ * infinite capacity arcs with negative cost. In the latter case the problem is reported as
+ * unbounded if the network contains a negative cost cycle of infinite capacity.
+ * <p>
+ * The algorithm maintains a strongly feasible spanning tree structure. Initially, an artificial
+ * root node is added to the network together with an artificial arc between every node and the
+ * root; these arcs form the initial spanning tree and have a large cost, so that they carry no
+ * flow in an optimal solution of a feasible problem. At each iteration an arc violating the
+ * reduced cost optimality conditions enters the tree, the flow is augmented along the cycle it
+ * closes, and a blocking arc of this cycle leaves the tree. The tree is stored using the
+ * parent-thread representation in primitive arrays, so that each pivot only updates the part of
+ * the tree which is actually moved.
+ * <p>
+ * Entering arcs are selected using the <i>block search</i> pivot rule: the arcs are scanned in
+ * blocks of size about $\sqrt{m}$ starting from the position where the previous search stopped,
+ * and the arc with the most negative reduced cost in the first block that contains an eligible arc
+ * is chosen. This rule is known to perform the best in practice on a wide range of instances.
+ * <p>
+ * The running time of the network simplex algorithm is not polynomially bounded in the worst
+ * case, but it is usually considerably faster than the
+ * {@link CapacityScalingMinimumCostFlow capacity scaling algorithm} in practice, especially on
+ * transportation-like instances such as the ones produced by the NETGEN generator.
+ * <p>
+ * For more information about the network simplex algorithm see: <i>K. Ahuja, Ravindra &amp; L.
+ * Magnanti, Thomas &amp; Orlin, James. (1993). Network Flows.</i> and <i>Kovács, P. (2015).
+ * Minimum-cost flow algorithms: an experimental evaluation. Optimization Methods and Software,
+ * 30(1), 94-127.</i> This implementation follows the description given in the latter paper.
+ * <p>
+ * Currently the algorithm doesn't support undirected flow networks.
+ *
+ * @param <V> graph vertex type
+ * @param <E> graph edge type
+ * @see MinimumCostFlowProblem
+ * @see MinimumCostFlowAlgorithm
+ * @see CapacityScalingMinimumCostFlow
+ */
+public class NetworkSimplexMinimumCostFlow<V, E>
+    implements
+    MinimumCostFlowAlgorithm<V, E>
+{
+    /**
+     * Default block size factor. The size of a block used by the block search pivot rule is equal
+     * to the block size factor times the square root of the number of arcs.
+     */
+    public static final double DEFAULT_BLOCK_SIZE_FACTOR = 1.0;
+    /**
+     * Minimum size of a block used by the block search pivot rule
+     */
+    private static final int MIN_BLOCK_SIZE = 10;
+    /**
+     * Capacity of the infinite capacity arcs
+     */
+    private static final long INF = Long.MAX_VALUE;
+    /**
+     * Tolerance used to decide whether the reduced cost of an arc is negative
+     */
+    private static final double EPS = 1e-9;
+
+    /**
+     * The arc is a tree arc
+     */
+    private static final int STATE_TREE = 0;
+    /**
+     * The arc is a non-tree arc with flow equal to its lower bound
+     */
+    private static final int STATE_LOWER = 1;
+    /**
+     * The arc is a non-tree arc with flow equal to its upper bound
+     */
+    private static final int STATE_UPPER = -1;
+
+    /**
+     * The predecessor arc of a node is directed from the node to its parent
+     */
+    private static final int DIR_UP = 1;
+    /**
+     * The predecessor arc of a node is directed from its parent to the node
+     */
+    private static final int DIR_DOWN = -1;
+
+    /**
+     * Block size factor of this algorithm
+     */
+    private final double blockSizeFactor;
+
+    /**
+     * Specified minimum cost flow problem
+     */
+    private MinimumCostFlowProblem<V, E> problem;
+    /**
+     * Computed minimum cost flow
+     */
+    private MinimumCostFlow<E> minimumCostFlow;
+    /**
+     * List of vertices of the flow network.
+     */
+    private List<V> graphVertices;
+    /**
+     * List of edges of the flow network.
+     */
+    private List<E> graphEdges;
+
+    /**
+     * Number of vertices in the network
+     */
+    private int n;
+    /**
+     * Number of edges in the network
+     */
+    private int m;
+    /**
+     * Index of the artificial root node
+     */
+    private int root;
+
+    // arc data
+    private int[] source;
+    private int[] target;
+    private long[] cap;
+    private double[] cost;
+    private long[] flow;
+    private int[] state;
+
+    // node data
+    private long[] supply;
+    private double[] pi;
+    private int[] parent;
+    private int[] pred;
+    private int[] predDir;
+    private int[] thread;
+    private int[] revThread;
+    private int[] succNum;
+    private int[] lastSucc;
+    private int[] dirtyRevs;
+
+    // pivot data
+    private int blockSize;
+    private int nextArc;
+    private int inArc;
+    private int join;
+    private int uIn;
+    private int vIn;
+    private int uOut;
+    private long delta;
+
+    /**
+     * Constructs a new instance of the algorithm which uses the default block size factor.
+     */
+    public NetworkSimplexMinimumCostFlow()
+    {
+        this(DEFAULT_BLOCK_SIZE_FACTOR);
+    }
+
+    /**
+     * Constructs a new instance of the algorithm with custom {@code blockSizeFactor}. The size of
+     * a block scanned by the block search pivot rule is equal to the {@code blockSizeFactor}
+     * times the square root of the number of arcs in the network.
+     *
+     * @param blockSizeFactor custom block size factor
+     */
+    public NetworkSimplexMinimumCostFlow(double blockSizeFactor)
+    {
+        if (blockSizeFactor <= 0) {
+            throw new IllegalArgumentException("Block size factor must be positive");
+        }
+        this.blockSizeFactor = blockSizeFactor;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<E, Double> getFlowMap()
+    {
+        return minimumCostFlow == null ? null : this.minimumCostFlow.getFlowMap();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V getFlowDirection(E edge)
+    {
+        return problem.getGraph().getEdgeTarget(edge);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MinimumCostFlow<E> getMinimumCostFlow(
+        final MinimumCostFlowProblem<V, E> minimumCostFlowProblem)
+    {
+        this.problem = Objects.requireNonNull(minimumCostFlowProblem);
+        if (problem.getGraph().getType().isUndirected()) {
+            throw new IllegalArgumentException(
+                "The algorithm doesn't support undirected flow networks");
+        }
+        n = problem.getGraph().vertexSet().size();
+        m = problem.getGraph().edgeSet().size();
+
+        init();
+        run();
+        minimumCostFlow = finish();
+
+        return minimumCostFlow;
+    }
+
+    /**
+     * Returns solution to the dual linear program formulated on the network. Serves as a
+     * certificate of optimality.
+     * <p>
+     * It is represented as a mapping from graph nodes to their potentials (dual variables). The
+     * same convention as in {@link CapacityScalingMinimumCostFlow#getDualSolution()} is used:
+     * reduced cost of an arc $(a, b)$ is defined as $cost((a, b)) + potential(b) - potential(a)$.
+     * In an optimal solution every arc with flow below its upper bound has non-negative reduced
+     * cost and every arc with flow above its lower bound has non-positive reduced cost.
+     *
+     * @return solution to the dual linear program formulated on the network, or null if a
+     *         MinimumCostFlowProblem has not yet been solved.
+     */
+    public Map<V, Double> getDualSolution()
+    {
+        if (minimumCostFlow == null) {
+            return null;
+        }
+
+        Map<V, Double> dualVariables = CollectionUtil.newHashMapWithExpectedSize(n);
+        for (int i = 0; i < n; i++) {
+            dualVariables.put(graphVertices.get(i), pi[root] - pi[i]);
+        }
+        return dualVariables;
+    }
+
+    /**
+     * Converts the flow network into the internal array representation, validates the arc
+     * capacities and builds the initial spanning tree consisting of the artificial arcs.
+     * <p>
+     * Non-zero lower capacities are removed by shifting the node supplies. Every node with
+     * non-negative supply is connected to the artificial root by an arc of zero cost directed
+     * towards the root, every other node is connected by an arc of large cost directed away from
+     * the root. Since the cost of the artificial arcs exceeds the cost of any simple path in the
+     * network, no flow is left on them if the problem is feasible.
+     */
+    private void init()
+    {
+        Graph<V, E> graph = problem.getGraph();
+        int allArcNum = m + n;
+        root = n;
+
+        source = new int[allArcNum];
+        target = new int[allArcNum];
+        cap = new long[allArcNum];
+        cost = new double[allArcNum];
+        flow = new long[allArcNum];
+        state = new int[allArcNum];
+
+        supply = new long[n + 1];
+        pi = new double[n + 1];
+        parent = new int[n + 1];
+        pred = new int[n + 1];
+        predDir = new int[n + 1];
+        thread = new int[n + 1];
+        revThread = new int[n + 1];
+        succNum = new int[n + 1];
+        lastSucc = new int[n + 1];
+        dirtyRevs = new int[n + 1];
+
+        graphVertices = new ArrayList<>(n);
+        graphEdges = new ArrayList<>(m);
+        Map<V, Integer> indexMap = CollectionUtil.newHashMapWithExpectedSize(n);
+
+        // convert vertices
+        long supplySum = 0;
+        for (V vertex : graph.vertexSet()) {
+            int supplyValue = problem.getNodeSupply().apply(vertex);
+            supply[graphVertices.size()] = supplyValue;
+            supplySum += supplyValue;
+            indexMap.put(vertex, graphVertices.size());
+            graphVertices.add(vertex);
+        }
+        if (supplySum != 0) {
+            throw new IllegalArgumentException("Total node supply isn't equal to 0");
+        }
+
+        // convert edges
+        double maxCost = 0;
+        int i = 0;
+        for (E edge : graph.edgeSet()) {
+            graphEdges.add(edge);
+            int upperCap = problem.getArcCapacityUpperBounds().apply(edge);
+            int lowerCap = problem.getArcCapacityLowerBounds().apply(edge);
+            double arcCost = problem.getArcCosts().apply(edge);
+
+            if (upperCap < 0) {
+                throw new IllegalArgumentException("Negative edge capacities are not allowed");
+            } else if (lowerCap > upperCap) {
+                throw new IllegalArgumentException(
+                    "Lower edge capacity must not exceed upper edge capacity");
+            } else if (lowerCap >= CapacityScalingMinimumCostFlow.CAP_INF) {
+                throw new IllegalArgumentException(
+                    "The problem is unbounded due to the infinite lower capacity");
+            }
+
+            int u = indexMap.get(graph.getEdgeSource(edge));
+            int v = indexMap.get(graph.getEdgeTarget(edge));
+            source[i] = u;
+            target[i] = v;
+            cost[i] = arcCost;
+            cap[i] = upperCap >= CapacityScalingMinimumCostFlow.CAP_INF ? INF
+                : upperCap - lowerCap;
+            state[i] = STATE_LOWER;
+            // remove non-zero lower capacity
+            supply[u] -= lowerCap;
+            supply[v] += lowerCap;
+            maxCost = Math.max(maxCost, Math.abs(arcCost));
+            ++i;
+        }
+
+        blockSize = Math.max((int) (blockSizeFactor * Math.sqrt(m)), MIN_BLOCK_SIZE);
+        nextArc = 0;
+
+        // initialize the artificial root
+        double artificialCost = (maxCost + 1) * (n + 1);
+        parent[root] = -1;
+        pred[root] = -1;
+        thread[root] = 0;
+        revThread[0] = root;
+        succNum[root] = n + 1;
+        lastSucc[root] = root - 1;
+        supply[root] = 0;
+        pi[root] = 0;
+
+        // build the initial spanning tree of artificial arcs
+        for (int u = 0, e = m; u < n; ++u, ++e) {
+            parent[u] = root;
+            pred[u] = e;
+            thread[u] = u + 1;
+            revThread[u + 1] = u;
+            succNum[u] = 1;
+            lastSucc[u] = u;
+            cap[e] = INF;
+            state[e] = STATE_TREE;
+            if (supply[u] >= 0) {
+                predDir[u] = DIR_UP;
+                pi[u] = 0;
+                source[e] = u;
+                target[e] = root;
+                flow[e] = supply[u];
+                cost[e] = 0;
+            } else {
+                predDir[u] = DIR_DOWN;
+                pi[u] = artificialCost;
+                source[e] = root;
+                target[e] = u;
+                flow[e] = -supply[u];
+                cost[e] = artificialCost;
+            }
+        }
+    }
+
+    /**
+     * Performs pivots until no arc violates the optimality conditions.
+     */
+    private void run()
+    {
+        while (findEnteringArc()) {
+            findJoinNode();
+            boolean change = findLeavingArc();
+            if (delta == INF) {
+                throw new IllegalArgumentException(
+                    "The problem is unbounded due to a negative cost cycle of infinite capacity");
+            }
+            changeFlow(change);
+            if (change) {
+                updateTreeStructure();
+                updatePotential();
+            }
+        }
+    }
+
+    /**
+     * Finds an entering arc using the block search pivot rule. Scans the arcs in blocks starting
+     * from the position where the previous search stopped and selects the arc with the most
+     * negative reduced cost among the scanned ones as soon as a block contains an eligible arc.
+     *
+     * @return true if an entering arc has been found, false if the current solution is optimal
+     */
+    private boolean findEnteringArc()
+    {
+        double min = -EPS;
+        int cnt = blockSize;
+        int e;
+        for (e = nextArc; e < m; ++e) {
+            double c = state[e] * (cost[e] + pi[source[e]] - pi[target[e]]);
+            if (c < min) {
+                min = c;
+                inArc = e;
+            }
+            if (--cnt == 0) {
+                if (min < -EPS) {
+                    nextArc = e;
+                    return true;
+                }
+                cnt = blockSize;
+            }
+        }
+        for (e = 0; e < nextArc; ++e) {
+            double c = state[e] * (cost[e] + pi[source[e]] - pi[target[e]]);
+            if (c < min) {
+                min = c;
+                inArc = e;
+            }
+            if (--cnt == 0) {
+                if (min < -EPS) {
+                    nextArc = e;
+                    return true;
+                }
+                cnt = blockSize;
+            }
+        }
+        if (min < -EPS) {
+            nextArc = e;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Finds the join node, i.e. the apex of the cycle closed by the entering arc in the tree.
+     */
+    private void findJoinNode()
+    {
+        int u = source[inArc];
+        int v = target[inArc];
+        while (u != v) {
+            if (succNum[u] < succNum[v]) {
+                u = parent[u];
+            } else {
+                v = parent[v];
+            }
+        }
+        join = u;
+    }
+
+    /**
+     * Finds the leaving arc of the cycle closed by the entering arc and computes the amount of
+     * flow to augment. The last blocking arc in the direction of the cycle orientation is chosen,
+     * which keeps the spanning tree strongly feasible.
+     *
+     * @return true if the leaving arc is different from the entering arc
+     */
+    private boolean findLeavingArc()
+    {
+        int first, second;
+        if (state[inArc] == STATE_LOWER) {
+            first = source[inArc];
+            second = target[inArc];
+        } else {
+            first = target[inArc];
+            second = source[inArc];
+        }
+        delta = cap[inArc];
+        int result = 0;
+
+        // search the cycle from the first node to the join node
+        for (int u = first; u != join; u = parent[u]) {
+            int e = pred[u];
+            long d = flow[e];
+            if (predDir[u] == DIR_DOWN) {
+                d = cap[e] == INF ? INF : cap[e] - d;
+            }
+            if (d < delta) {
+                delta = d;
+                uOut = u;
+                result = 1;
+            }
+        }
+
+        // search the cycle from the second node to the join node
+        for (int u = second; u != join; u = parent[u]) {
+            int e = pred[u];
+            long d = flow[e];
+            if (predDir[u] == DIR_UP) {
+                d = cap[e] == INF ? INF : cap[e] - d;
+            }
+            if (d <= delta) {
+                delta = d;
+                uOut = u;
+                result = 2;
+            }
+        }
+
+        if (result == 1) {
+            uIn = first;
+            vIn = second;
+        } else {
+            uIn = second;
+            vIn = first;
+        }
+        return result != 0;
+    }
+
+    /**
+     * Augments the flow along the cycle and updates the states of the entering and leaving arcs.
+     *
+     * @param change true if the leaving arc is different from the entering arc
+     */
+    private void changeFlow(boolean change)
+    {
+        if (delta > 0) {
+            long value = state[inArc] * delta;
+            flow[inArc] += value;
+            for (int u = source[inArc]; u != join; u = parent[u]) {
+                flow[pred[u]] -= predDir[u] * value;
+            }
+            for (int u = target[inArc]; u != join; u = parent[u]) {
+                flow[pred[u]] += predDir[u] * value;
+            }
+        }
+        if (change) {
+            state[inArc] = STATE_TREE;
+            state[pred[uOut]] = flow[pred[uOut]] == 0 ? STATE_LOWER : STATE_UPPER;
+        } else {
+            state[inArc] = -state[inArc];
+        }
+    }
+
+    /**
+     * Updates the parent-thread representation of the spanning tree after the entering arc has
+     * replaced the leaving arc. Only the nodes of the subtree which is moved and the nodes on the
+     * paths to the join node are touched.
+     */
+    private void updateTreeStructure()
+    {
+        int oldRevThread = revThread[uOut];
+        int oldSuccNum = succNum[uOut];
+        int oldLastSucc = lastSucc[uOut];
+        int vOut = parent[uOut];
+
+        if (uIn == uOut) {
+            // update parent, pred and predDir
+            parent[uIn] = vIn;
+            pred[uIn] = inArc;
+            predDir[uIn] = uIn == source[inArc] ? DIR_UP : DIR_DOWN;
+
+            // update thread and revThread
+            if (thread[vIn] != uOut) {
+                int after = thread[oldLastSucc];
+                thread[oldRevThread] = after;
+                revThread[after] = oldRevThread;
+                after = thread[vIn];
+                thread[vIn] = uOut;
+                revThread[uOut] = vIn;
+                thread[oldLastSucc] = after;
+                revThread[after] = oldLastSucc;
+            }
+        } else {
+            // handle the case when oldRevThread equals to vIn (it also means that join and vOut
+            // coincide)
+            int threadContinue = oldRevThread == vIn ? thread[oldLastSucc] : thread[vIn];
+
+            // update thread and parent along the stem nodes, i.e. the nodes between uIn and
+            // uOut whose parent has to be changed
+            int stem = uIn;
+            int parStem = vIn;
+            int nextStem;
+            int last = lastSucc[uIn];
+            int before, after = thread[last];
+            thread[vIn] = uIn;
+            int dirtyRevsSize = 0;
+            dirtyRevs[dirtyRevsSize++] = vIn;
+            while (stem != uOut) {
+                // insert the next stem node into the thread list
+                nextStem = parent[stem];
+                thread[last] = nextStem;
+                dirtyRevs[dirtyRevsSize++] = last;
+
+                // remove the subtree of stem from the thread list
+                before = revThread[stem];
+                thread[before] = after;
+                revThread[after] = before;
+
+                // change the parent node and shift stem nodes
+                parent[stem] = parStem;
+                parStem = stem;
+                stem = nextStem;
+
+                // update last and after
+                last = lastSucc[stem] == lastSucc[parStem] ? revThread[parStem] : lastSucc[stem];
+                after = thread[last];
+            }
+            parent[uOut] = parStem;
+            thread[last] = threadContinue;
+            revThread[threadContinue] = last;
+            lastSucc[uOut] = last;
+
+            // remove the subtree of uOut from the thread list except for the case when
+            // oldRevThread equals to vIn
+            if (oldRevThread != vIn) {
+                thread[oldRevThread] = after;
+                revThread[after] = oldRevThread;
+            }
+
+            // update revThread using the new thread values
+            for (int i = 0; i < dirtyRevsSize; ++i) {
+                int u = dirtyRevs[i];
+                revThread[thread[u]] = u;
+            }
+
+            // update pred, predDir, lastSucc and succNum for the stem nodes from uOut to uIn
+            int tmpSc = 0, tmpLs = lastSucc[uOut];
+            for (int u = uOut, p = parent[u]; u != uIn; u = p, p = parent[u]) {
+                pred[u] = pred[p];
+                predDir[u] = -predDir[p];
+                tmpSc += succNum[u] - succNum[p];
+                succNum[u] = tmpSc;
+                lastSucc[p] = tmpLs;
+            }
+            pred[uIn] = inArc;
+            predDir[uIn] = uIn == source[inArc] ? DIR_UP : DIR_DOWN;
+            succNum[uIn] = oldSuccNum;
+        }
+
+        // update lastSucc from vIn towards the root
+        int upLimitOut = lastSucc[join] == vIn ? join : -1;
+        int lastSuccOut = lastSucc[uOut];
+        for (int u = vIn; u != -1 && lastSucc[u] == vIn; u = parent[u]) {
+            lastSucc[u] = lastSuccOut;
+        }
+
+        // update lastSucc from vOut towards the root
+        if (join != oldRevThread && vIn != oldRevThread) {
+            for (int u = vOut; u != upLimitOut && lastSucc[u] == oldLastSucc; u = parent[u]) {
+                lastSucc[u] = oldRevThread;
+            }
+        } else if (lastSuccOut != oldLastSucc) {
+            for (int u = vOut; u != upLimitOut && lastSucc[u] == oldLastSucc; u = parent[u]) {
+                lastSucc[u] = lastSuccOut;
+            }
+        }
+
+        // update succNum from vIn to join
+        for (int u = vIn; u != join; u = parent[u]) {
+            succNum[u] += oldSuccNum;
+        }
+        // update succNum from vOut to join
+        for (int u = vOut; u != join; u = parent[u]) {
+            succNum[u] -= oldSuccNum;
+        }
+    }
+
+    /**
+     * Updates the potentials of the nodes in the subtree which has been moved, so that the
+     * reduced cost of the entering arc becomes equal to $0$.
+     */
+    private void updatePotential()
+    {
+        double sigma = pi[vIn] - pi[uIn] - predDir[uIn] * cost[inArc];
+        int end = thread[lastSucc[uIn]];
+        for (int u = uIn; u != end; u = thread[u]) {
+            pi[u] += sigma;
+        }
+    }
+
+    /**
+     * Finishes the computation by checking the flow feasibility, computing arc flows, and creating
+     * an instance of {@link MinimumCostFlow}. The resulting flow mapping contains all edges of the
+     * specified minimum cost flow problem.
+     *
+     * @return the solution to the minimum cost flow problem
+     */
+    private MinimumCostFlow<E> finish()
+    {
+        // check feasibility
+        for (int e = m; e < m + n; e++) {
+            if (flow[e] != 0) {
+                throw new IllegalArgumentException(
+                    "Specified flow network problem has no feasible solution");
+            }
+        }
+        Map<E, Double> flowMap = CollectionUtil.newHashMapWithExpectedSize(m);
+        double totalCost = 0;
+        for (int i = 0; i < m; i++) {
+            E graphEdge = graphEdges.get(i);
+            double flowOnArc = flow[i] + problem.getArcCapacityLowerBounds().apply(graphEdge);
+            flowMap.put(graphEdge, flowOnArc);
+            totalCost += flowOnArc * cost[i];
+        }
+        return new MinimumCostFlowImpl<>(totalCost, flowMap);
+    }
+}
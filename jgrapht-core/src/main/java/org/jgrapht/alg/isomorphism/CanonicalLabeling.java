@@ -0,0 +1,611 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.isomorphism;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.color.*;
+import org.jgrapht.alg.interfaces.VertexColoringAlgorithm.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+
+/**
+ * Canonical labeling of a graph using individualization-refinement.
+ *
+ * <p>
+ * A canonical labeling assigns the labels $0, \dots, n-1$ to the vertices of a graph such that two
+ * graphs are isomorphic if and only if relabeling them yields the same graph. The relabeled graph,
+ * called the certificate, can therefore be compared, hashed and used as a key in a
+ * {@link HashMap}, so that a collection of graphs can be partitioned into isomorphism classes in a
+ * single pass instead of testing every pair of graphs for isomorphism.
+ *
+ * <p>
+ * The implementation follows the individualization-refinement scheme of nauty, as described in
+ * <i>B. D. McKay and A. Piperno. Practical graph isomorphism, II. Journal of Symbolic Computation,
+ * 60:94--112, 2014.</i> The coloring of the vertices is refined with the canonical
+ * {@link ColorRefinementAlgorithm}. As long as the refined coloring is not discrete, a vertex of
+ * the first non-singleton color class is individualized by giving it a new color, and the coloring
+ * is refined again. Every discrete coloring reached this way gives a labeling of the graph, and the
+ * labeling whose certificate is the smallest is canonical. The search tree is pruned using
+ * invariants of its nodes and using the automorphisms discovered when two leaves have the same
+ * certificate.
+ *
+ * <p>
+ * The worst-case running time is exponential, but the algorithm is fast on the small graphs found
+ * in practice, such as molecular graphs. Vertex labels, for example atom types, can be taken into
+ * account by providing an initial coloring; the color of each vertex is then part of the
+ * certificate. Edge weights are ignored. Directed graphs, self-loops and multiple edges are
+ * supported.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see ColorRefinementIsomorphismInspector
+ * @see VF2GraphIsomorphismInspector
+ */
+public class CanonicalLabeling<V, E>
+{
+    /**
+     * The input graph
+     */
+    private final Graph<V, E> graph;
+
+    /**
+     * The initial coloring
+     */
+    private final Coloring<V> alpha;
+
+    /**
+     * The vertices in canonical order, computed lazily
+     */
+    private List<V> canonicalOrdering;
+
+    /**
+     * The certificate, computed lazily
+     */
+    private Certificate certificate;
+
+    /**
+     * Construct a new canonical labeling algorithm where all vertices initially have the same
+     * color.
+     *
+     * @param graph the input graph
+     */
+    public CanonicalLabeling(Graph<V, E> graph)
+    {
+        this(graph, null);
+    }
+
+    /**
+     * Construct a new canonical labeling algorithm.
+     *
+     * <p>
+     * The initial coloring must use the colors $0, \dots, k-1$. Only isomorphisms which preserve
+     * the colors are taken into account, that is, two graphs get the same certificate if and only
+     * if there is an isomorphism which maps each vertex to a vertex with the same color.
+     *
+     * @param graph the input graph
+     * @param alpha the initial coloring of the vertices, if null all vertices have the same color
+     */
+    public CanonicalLabeling(Graph<V, E> graph, Coloring<V> alpha)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        if (alpha == null) {
+            Map<V, Integer> colors = CollectionUtil.newHashMapWithExpectedSize(
+                graph.vertexSet().size());
+            for (V v : graph.vertexSet()) {
+                colors.put(v, 0);
+            }
+            alpha = new ColoringImpl<>(colors, graph.vertexSet().isEmpty() ? 0 : 1);
+        }
+        this.alpha = alpha;
+    }
+
+    /**
+     * Get the vertices in canonical order. The canonical label of a vertex is its position in this
+     * list.
+     *
+     * @return the vertices in canonical order
+     */
+    public List<V> getCanonicalOrdering()
+    {
+        lazyCompute();
+        return Collections.unmodifiableList(canonicalOrdering);
+    }
+
+    /**
+     * Get the certificate of the graph. Two graphs have equal certificates if and only if they are
+     * isomorphic.
+     *
+     * @return the certificate
+     */
+    public Certificate getCertificate()
+    {
+        lazyCompute();
+        return certificate;
+    }
+
+    /**
+     * Get a 64-bit hash of the certificate of the graph. Isomorphic graphs have the same hash.
+     *
+     * @return the hash of the certificate
+     */
+    public long getCertificateHash()
+    {
+        return getCertificate().getHash64();
+    }
+
+    private void lazyCompute()
+    {
+        if (certificate != null) {
+            return;
+        }
+        new Search().run();
+    }
+
+    /**
+     * The certificate of a graph, that is, the graph relabeled by its canonical labeling.
+     */
+    public static final class Certificate
+    {
+        private static final long SEED1 = 0x9e3779b97f4a7c15L;
+        private static final long SEED2 = 0xc2b2ae3d27d4eb4fL;
+
+        private final boolean directed;
+        private final int n;
+        private final int[] colors;
+        private final long[] edges;
+        private final long hash1;
+        private final long hash2;
+
+        private Certificate(boolean directed, int n, int[] colors, long[] edges)
+        {
+            this.directed = directed;
+            this.n = n;
+            this.colors = colors;
+            this.edges = edges;
+
+            long h1 = mix(SEED1 ^ (directed ? 1 : 0));
+            long h2 = mix(SEED2 ^ (directed ? 1 : 0));
+            h1 = mix(h1 + n);
+            h2 = mix(h2 ^ n);
+            for (int c : colors) {
+                h1 = mix(h1 + c);
+                h2 = mix(h2 ^ c);
+            }
+            h1 = mix(h1 + edges.length);
+            h2 = mix(h2 ^ edges.length);
+            for (long e : edges) {
+                h1 = mix(h1 + e);
+                h2 = mix(h2 ^ e);
+            }
+            this.hash1 = h1;
+            this.hash2 = h2;
+        }
+
+        /**
+         * Get the number of vertices of the graph.
+         *
+         * @return the number of vertices
+         */
+        public int getNumberOfVertices()
+        {
+            return n;
+        }
+
+        /**
+         * Get the number of edges of the graph.
+         *
+         * @return the number of edges
+         */
+        public int getNumberOfEdges()
+        {
+            return edges.length;
+        }
+
+        /**
+         * Get a 64-bit hash of the certificate.
+         *
+         * @return a 64-bit hash
+         */
+        public long getHash64()
+        {
+            return hash1;
+        }
+
+        /**
+         * Get a 128-bit hash of the certificate, as an array of two longs.
+         *
+         * @return a 128-bit hash
+         */
+        public long[] getHash128()
+        {
+            return new long[] { hash1, hash2 };
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Certificate)) {
+                return false;
+            }
+            Certificate other = (Certificate) o;
+            return hash1 == other.hash1 && hash2 == other.hash2 && directed == other.directed
+                && n == other.n && Arrays.equals(colors, other.colors)
+                && Arrays.equals(edges, other.edges);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Long.hashCode(hash1);
+        }
+
+        @Override
+        public String toString()
+        {
+            StringBuilder sb = new StringBuilder();
+            sb.append(directed ? "directed" : "undirected").append(" n=").append(n);
+            sb.append(" colors=").append(Arrays.toString(colors)).append(" edges=[");
+            for (int i = 0; i < edges.length; i++) {
+                if (i > 0) {
+                    sb.append(", ");
+                }
+                sb.append('(').append(edges[i] / Math.max(n, 1)).append(',');
+                sb.append(edges[i] % Math.max(n, 1)).append(')');
+            }
+            return sb.append(']').toString();
+        }
+
+        /**
+         * Compare the edges of two certificates of the same graph.
+         */
+        private int compareEdges(Certificate other)
+        {
+            for (int i = 0; i < edges.length; i++) {
+                if (edges[i] != other.edges[i]) {
+                    return Long.compare(edges[i], other.edges[i]);
+                }
+            }
+            return 0;
+        }
+
+        private static long mix(long z)
+        {
+            z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+            z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+            return z ^ (z >>> 31);
+        }
+    }
+
+    /**
+     * A leaf of the search tree.
+     */
+    private static class Leaf
+    {
+        final int[] path;
+        final long[] invariants;
+        final int[] labels;
+        final Certificate certificate;
+
+        Leaf(int[] path, long[] invariants, int[] labels, Certificate certificate)
+        {
+            this.path = path;
+            this.invariants = invariants;
+            this.labels = labels;
+            this.certificate = certificate;
+        }
+    }
+
+    /**
+     * The individualization-refinement search.
+     */
+    private class Search
+    {
+        private final int n;
+        private final List<V> vertices;
+        private final Map<V, Integer> index;
+        private final int[] sources;
+        private final int[] targets;
+        private final int[] path;
+        private final long[] invariants;
+        private final List<int[]> automorphisms;
+
+        private Leaf first;
+        private Leaf best;
+
+        Search()
+        {
+            this.vertices = new ArrayList<>(graph.vertexSet());
+            this.n = vertices.size();
+            this.index = new VertexToIntegerMapping<>(vertices).getVertexMap();
+            int m = graph.edgeSet().size();
+            this.sources = new int[m];
+            this.targets = new int[m];
+            int i = 0;
+            for (E e : graph.edgeSet()) {
+                sources[i] = index.get(graph.getEdgeSource(e));
+                targets[i] = index.get(graph.getEdgeTarget(e));
+                i++;
+            }
+            this.path = new int[n];
+            this.invariants = new long[n + 1];
+            this.automorphisms = new ArrayList<>();
+        }
+
+        void run()
+        {
+            Coloring<V> coloring = new ColorRefinementAlgorithm<>(graph, alpha).getColoring();
+            search(0, coloring);
+
+            int[] labels = best.labels;
+            List<V> ordering = new ArrayList<>(Collections.nCopies(n, null));
+            for (int v = 0; v < n; v++) {
+                ordering.set(labels[v], vertices.get(v));
+            }
+            canonicalOrdering = ordering;
+            certificate = best.certificate;
+        }
+
+        /**
+         * Explore a node of the search tree.
+         *
+         * @param depth the depth of the node
+         * @param coloring the equitable coloring of the node
+         * @return the depth to which the search should return, or the depth of the node
+         */
+        private int search(int depth, Coloring<V> coloring)
+        {
+            // the colors are 0, ..., k-1 but the refinement reports n colors
+            int numberColors = 0;
+            for (Integer color : coloring.getColors().values()) {
+                numberColors = Math.max(numberColors, color + 1);
+            }
+            int[] sizes = new int[numberColors];
+            for (Integer color : coloring.getColors().values()) {
+                sizes[color]++;
+            }
+            invariants[depth] = invariant(sizes);
+            if (best != null && compareInvariants(depth, best) > 0) {
+                // no leaf of this subtree can be better than the best leaf
+                return depth;
+            }
+
+            if (numberColors == n) {
+                return leaf(depth, coloring);
+            }
+
+            // individualize each vertex of the first non-singleton color class
+            int targetColor = 0;
+            while (sizes[targetColor] == 1) {
+                targetColor++;
+            }
+            List<V> target = new ArrayList<>(sizes[targetColor]);
+            for (V v : vertices) {
+                if (coloring.getColors().get(v) == targetColor) {
+                    target.add(v);
+                }
+            }
+            int newColor = numberColors;
+            List<Integer> explored = new ArrayList<>();
+            for (V v : target) {
+                int vIndex = index.get(v);
+                if (!explored.isEmpty() && isEquivalent(depth, vIndex, explored)) {
+                    continue;
+                }
+                explored.add(vIndex);
+
+                Map<V, Integer> colors = new HashMap<>(coloring.getColors());
+                colors.put(v, newColor);
+                Coloring<V> refined = new ColorRefinementAlgorithm<>(
+                    graph, new ColoringImpl<>(colors, newColor + 1)).getColoring();
+                path[depth] = vIndex;
+                int jump = search(depth + 1, refined);
+                if (jump < depth) {
+                    return jump;
+                }
+            }
+            return depth;
+        }
+
+        /**
+         * Process a leaf of the search tree.
+         *
+         * @param depth the depth of the leaf
+         * @param coloring the discrete coloring of the leaf
+         * @return the depth to which the search should return, or the depth of the leaf
+         */
+        private int leaf(int depth, Coloring<V> coloring)
+        {
+            int[] labels = new int[n];
+            for (Map.Entry<V, Integer> entry : coloring.getColors().entrySet()) {
+                labels[index.get(entry.getKey())] = entry.getValue();
+            }
+            Leaf leaf = new Leaf(
+                Arrays.copyOf(path, depth), Arrays.copyOf(invariants, depth + 1), labels,
+                certificate(labels));
+
+            if (first == null) {
+                first = leaf;
+                best = leaf;
+                return depth;
+            }
+
+            for (Leaf other : first == best ? List.of(first) : List.of(first, best)) {
+                if (compareLeaves(leaf, other) == 0) {
+                    // found an automorphism mapping the other leaf to this one
+                    int[] inverse = new int[n];
+                    for (int v = 0; v < n; v++) {
+                        inverse[other.labels[v]] = v;
+                    }
+                    int[] automorphism = new int[n];
+                    for (int v = 0; v < n; v++) {
+                        automorphism[v] = inverse[labels[v]];
+                    }
+                    automorphisms.add(automorphism);
+
+                    int common = 0;
+                    while (common < depth && common < other.path.length
+                        && other.path[common] == leaf.path[common])
+                    {
+                        common++;
+                    }
+                    return common;
+                }
+            }
+
+            if (compareLeaves(leaf, best) < 0) {
+                best = leaf;
+            }
+            return depth;
+        }
+
+        /**
+         * Check whether a vertex is equivalent to an already explored vertex under the
+         * automorphisms which fix the current path.
+         */
+        private boolean isEquivalent(int depth, int v, List<Integer> explored)
+        {
+            UnionFind orbits = null;
+            for (int[] automorphism : automorphisms) {
+                boolean fixes = true;
+                for (int i = 0; i < depth && fixes; i++) {
+                    fixes = automorphism[path[i]] == path[i];
+                }
+                if (!fixes) {
+                    continue;
+                }
+                if (orbits == null) {
+                    orbits = new UnionFind(n);
+                }
+                for (int u = 0; u < n; u++) {
+                    orbits.union(u, automorphism[u]);
+                }
+            }
+            if (orbits == null) {
+                return false;
+            }
+            int root = orbits.find(v);
+            for (int u : explored) {
+                if (orbits.find(u) == root) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Compute an invariant of a coloring, which only depends on the sizes of the color
+         * classes. Since the colors are canonical, isomorphic nodes have the same invariant.
+         */
+        private long invariant(int[] sizes)
+        {
+            long h = sizes.length;
+            for (int size : sizes) {
+                h = Certificate.mix(h + size);
+            }
+            return h;
+        }
+
+        private int compareInvariants(int depth, Leaf leaf)
+        {
+            for (int i = 0; i <= depth && i < leaf.invariants.length; i++) {
+                if (invariants[i] != leaf.invariants[i]) {
+                    return Long.compare(invariants[i], leaf.invariants[i]);
+                }
+            }
+            return 0;
+        }
+
+        private int compareLeaves(Leaf a, Leaf b)
+        {
+            int length = Math.min(a.invariants.length, b.invariants.length);
+            for (int i = 0; i < length; i++) {
+                if (a.invariants[i] != b.invariants[i]) {
+                    return Long.compare(a.invariants[i], b.invariants[i]);
+                }
+            }
+            if (a.invariants.length != b.invariants.length) {
+                return Integer.compare(a.invariants.length, b.invariants.length);
+            }
+            return a.certificate.compareEdges(b.certificate);
+        }
+
+        private Certificate certificate(int[] labels)
+        {
+            boolean directed = graph.getType().isDirected();
+            long[] edges = new long[sources.length];
+            for (int i = 0; i < sources.length; i++) {
+                long s = labels[sources[i]];
+                long t = labels[targets[i]];
+                if (!directed && s > t) {
+                    long tmp = s;
+                    s = t;
+                    t = tmp;
+                }
+                edges[i] = s * n + t;
+            }
+            Arrays.sort(edges);
+
+            int[] colors = new int[n];
+            Map<V, Integer> alphaColors = alpha.getColors();
+            for (int v = 0; v < n; v++) {
+                colors[labels[v]] = alphaColors.get(vertices.get(v));
+            }
+            return new Certificate(directed, n, colors, edges);
+        }
+    }
+
+    /**
+     * A minimal union-find structure over integers.
+     */
+    private static class UnionFind
+    {
+        private final int[] parent;
+
+        UnionFind(int n)
+        {
+            this.parent = new int[n];
+            for (int i = 0; i < n; i++) {
+                parent[i] = i;
+            }
+        }
+
+        int find(int x)
+        {
+            while (parent[x] != x) {
+                parent[x] = parent[parent[x]];
+                x = parent[x];
+            }
+            return x;
+        }
+
+        void union(int x, int y)
+        {
+            int rx = find(x);
+            int ry = find(y);
+            if (rx != ry) {
+                parent[rx] = ry;
+            }
+        }
+    }
+
+}
@@ -41,16 +41,12 @@ final class GraphOrdering<V, E>
 
     private final int[][] outgoingEdges;
     private final int[][] incomingEdges;
-    private final E[] edgeCache;
     /**
-     * if caching is enabled, adjMatrix contains cached information on existing edges, valid values:
-     * <ul>
-     * <li>0 - no cached value</li>
-     * <li>1 - edge exists</li>
-     * <li>-1 - no edge exists</li>
-     * </ul>
+     * if caching is enabled, outgoingEdgeObjects[v] contains the edges leading to the vertices of
+     * outgoingEdges[v], which is then sorted. Edges are looked up by binary search, so the cache
+     * needs space linear in the size of the graph.
      */
-    private final byte[] adjMatrix;
+    private final E[][] outgoingEdgeObjects;
 
     private final boolean cacheEdges;
 
@@ -58,8 +54,8 @@ final class GraphOrdering<V, E>
      * @param graph the graph to be ordered
      * @param orderByDegree should the vertices be ordered by their degree. This speeds up the VF2
      *        algorithm.
-     * @param cacheEdges if true, the class creates a adjacency matrix and two arrays for incoming
-     *        and outgoing edges for fast access.
+     * @param cacheEdges if true, the class caches the sorted incoming and outgoing neighbors of
+     *        each vertex for fast access.
      */
     @SuppressWarnings("unchecked")
     public GraphOrdering(Graph<V, E> graph, boolean orderByDegree, boolean cacheEdges)
@@ -79,13 +75,11 @@ final class GraphOrdering<V, E>
         if (cacheEdges) {
             outgoingEdges = new int[vertexCount][];
             incomingEdges = new int[vertexCount][];
-            edgeCache = (E[]) new Object[vertexCount * vertexCount];
-            adjMatrix = new byte[vertexCount * vertexCount];
+            outgoingEdgeObjects = (E[][]) new Object[vertexCount][];
         } else {
             outgoingEdges = null;
             incomingEdges = null;
-            edgeCache = null;
-            adjMatrix = null;
+            outgoingEdgeObjects = null;
         }
     }
 
@@ -129,12 +123,42 @@ final class GraphOrdering<V, E>
         }
 
         if (cacheEdges) {
-            outgoingEdges[vertexNumber] = vertexArray;
+            cacheOutgoingEdges(vertexNumber, vertexArray, edgeSet);
         }
 
         return vertexArray;
     }
 
+    /**
+     * Sort the outgoing neighbors of a vertex and cache them together with the corresponding
+     * edges.
+     *
+     * @param vertexNumber the number which identifies the vertex $v$ in this order.
+     * @param vertexArray the outgoing neighbors of $v$, in the iteration order of the edges
+     * @param edgeSet the outgoing edges of $v$
+     */
+    @SuppressWarnings("unchecked")
+    private void cacheOutgoingEdges(int vertexNumber, int[] vertexArray, Set<E> edgeSet)
+    {
+        E[] edges = (E[]) edgeSet.toArray();
+
+        // sort the neighbors and edges together by packing the position with the neighbor
+        long[] keys = new long[vertexArray.length];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = ((long) vertexArray[i] << 32) | i;
+        }
+        Arrays.sort(keys);
+
+        E[] sortedEdges = (E[]) new Object[edges.length];
+        for (int i = 0; i < keys.length; i++) {
+            vertexArray[i] = (int) (keys[i] >>> 32);
+            sortedEdges[i] = edges[(int) keys[i]];
+        }
+
+        outgoingEdges[vertexNumber] = vertexArray;
+        outgoingEdgeObjects[vertexNumber] = sortedEdges;
+    }
+
     /**
      * @param vertexNumber the number which identifies the vertex $v$ in this order.
      *
@@ -173,29 +197,8 @@ final class GraphOrdering<V, E>
      */
     public boolean hasEdge(int v1Number, int v2Number)
     {
-
-        int cacheIndex = 0;
         if (cacheEdges) {
-            cacheIndex = v1Number * vertexCount + v2Number;
-            final byte cache = adjMatrix[cacheIndex];
-            if (cache != 0) {
-                return cache > 0;
-            } else {
-                // initialize both the adjacency matrix as well as the edge cache
-                final V v1 = getVertex(v1Number);
-                final V v2 = getVertex(v2Number);
-                final E edge = graph.getEdge(v1, v2);
-                if (edge == null) {
-                    adjMatrix[cacheIndex] = (byte) -1;
-
-                    return false;
-                } else {
-                    adjMatrix[cacheIndex] = (byte) 1;
-                    edgeCache[cacheIndex] = edge;
-
-                    return true;
-                }
-            }
+            return Arrays.binarySearch(getOutEdges(v1Number), v2Number) >= 0;
         }
 
         V v1 = getVertex(v1Number);
@@ -225,17 +228,10 @@ final class GraphOrdering<V, E>
      */
     public E getEdge(int v1Number, int v2Number)
     {
-
         if (cacheEdges) {
-            final int cacheIndex = v1Number * vertexCount + v2Number;
-            final byte containsEdge = adjMatrix[cacheIndex];
-            if (containsEdge == 0) {
-                // edge cache has not been initialized yet for this element
-                hasEdge(v1Number, v2Number);
-            }
-            final E edge = edgeCache[cacheIndex];
-
-            return edge;
+            final int index = Arrays.binarySearch(getOutEdges(v1Number), v2Number);
+
+            return index >= 0 ? outgoingEdgeObjects[v1Number][index] : null;
         }
 
         V v1 = getVertex(v1Number), v2 = getVertex(v2Number);
@@ -0,0 +1,740 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.isomorphism;
+
+import org.jgrapht.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+/**
+ * Parallel induced subgraph isomorphism search.
+ *
+ * <p>
+ * The inspector finds the same mappings as {@link VF2SubgraphIsomorphismInspector}, that is, all
+ * mappings of the second graph (the pattern) onto induced subgraphs of the first graph (the
+ * target), but it is designed for small patterns and large targets. Instead of the VF2 candidate
+ * pair generation, the pattern vertices are matched in a fixed order computed in advance as in
+ * <i>V. Carletti, P. Foggia, A. Saggese and M. Vento. Challenging the time complexity of exact
+ * subgraph isomorphism for huge and dense graphs with VF3. IEEE Transactions on Pattern Analysis
+ * and Machine Intelligence, 40(4):804--818, 2018.</i>
+ *
+ * <p>
+ * The vertices of both graphs are partitioned into classes of semantically equivalent vertices
+ * using the vertex comparator. Target vertices which are not equivalent to any pattern vertex are
+ * discarded up front. For each pattern vertex the number of target vertices of its class with
+ * large enough in- and out-degrees is an estimate of the probability of finding a match for it.
+ * The matching order starts with the least probable pattern vertex and then repeatedly picks the
+ * vertex with the most neighbors among the already ordered ones, breaking ties by probability
+ * and degree. Every pattern vertex except the first ones of each connected component is thus
+ * matched among the neighbors of an already matched vertex, and candidates are checked against
+ * the classes, the degrees and the edges to all matched vertices.
+ *
+ * <p>
+ * If a {@link ForkJoinPool} is provided, the search tree is split at the shallow levels into
+ * fork-join tasks which are balanced by work stealing, while the deeper levels are explored
+ * sequentially by each task. The mappings are streamed to a consumer as soon as they are found,
+ * and the search stops once a given number of mappings has been reported.
+ *
+ * <p>
+ * The vertex comparator must be consistent, i.e. it must define an equivalence relation on the
+ * vertices of both graphs. As with {@link VF2SubgraphIsomorphismInspector}, graphs with multiple
+ * edges are not supported.
+ *
+ * @param <V> the type of the vertices
+ * @param <E> the type of the edges
+ *
+ * @see VF2SubgraphIsomorphismInspector
+ */
+public class ParallelSubgraphIsomorphismInspector<V, E>
+    implements
+    IsomorphismInspector<V, E>
+{
+    /**
+     * The search tree is split into tasks at the levels below this depth.
+     */
+    private static final int SPLIT_DEPTH = 2;
+
+    /**
+     * Number of tasks per thread at each split level
+     */
+    private static final int TASKS_PER_THREAD = 16;
+
+    private final Graph<V, E> graph1;
+    private final Graph<V, E> graph2;
+    private final Comparator<V> vertexComparator;
+    private final Comparator<E> edgeComparator;
+    private final ForkJoinPool pool;
+    private final long maxMappings;
+
+    /**
+     * Integer representation of both graphs, computed lazily
+     */
+    private Index index;
+
+    /**
+     * Construct a new sequential inspector which reports all mappings.
+     *
+     * @param graph1 the first graph
+     * @param graph2 the second graph (possible induced subgraph of graph1)
+     */
+    public ParallelSubgraphIsomorphismInspector(Graph<V, E> graph1, Graph<V, E> graph2)
+    {
+        this(graph1, graph2, null, null);
+    }
+
+    /**
+     * Construct a new sequential inspector which reports all mappings.
+     *
+     * @param graph1 the first graph
+     * @param graph2 the second graph (possible induced subgraph of graph1)
+     * @param vertexComparator comparator for semantic equivalence of vertices
+     * @param edgeComparator comparator for semantic equivalence of edges
+     */
+    public ParallelSubgraphIsomorphismInspector(
+        Graph<V, E> graph1, Graph<V, E> graph2, Comparator<V> vertexComparator,
+        Comparator<E> edgeComparator)
+    {
+        this(graph1, graph2, vertexComparator, edgeComparator, null, Long.MAX_VALUE);
+    }
+
+    /**
+     * Construct a new inspector.
+     *
+     * <p>
+     * If a pool is provided, the search is performed in parallel using the pool. It is up to the
+     * user of this algorithm to manage the lifecycle of the pool.
+     *
+     * @param graph1 the first graph
+     * @param graph2 the second graph (possible induced subgraph of graph1)
+     * @param vertexComparator comparator for semantic equivalence of vertices
+     * @param edgeComparator comparator for semantic equivalence of edges
+     * @param pool the pool used for the parallel search, if null the search is sequential
+     * @param maxMappings the maximum number of reported mappings
+     */
+    public ParallelSubgraphIsomorphismInspector(
+        Graph<V, E> graph1, Graph<V, E> graph2, Comparator<V> vertexComparator,
+        Comparator<E> edgeComparator, ForkJoinPool pool, long maxMappings)
+    {
+        GraphType type1 = graph1.getType();
+        GraphType type2 = graph2.getType();
+        if (type1.isAllowingMultipleEdges() || type2.isAllowingMultipleEdges()) {
+            throw new IllegalArgumentException(
+                "graphs with multiple (parallel) edges are not supported");
+        }
+        if (type1.isMixed() || type2.isMixed()) {
+            throw new IllegalArgumentException("mixed graphs not supported");
+        }
+        if (type1.isUndirected() && type2.isDirected()
+            || type1.isDirected() && type2.isUndirected())
+        {
+            throw new IllegalArgumentException("can not match directed with undirected graphs");
+        }
+        if (maxMappings < 0) {
+            throw new IllegalArgumentException("Maximum number of mappings must be non-negative");
+        }
+
+        this.graph1 = graph1;
+        this.graph2 = graph2;
+        this.vertexComparator = vertexComparator;
+        this.edgeComparator = edgeComparator;
+        this.pool = pool;
+        this.maxMappings = maxMappings;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The mappings are computed eagerly, up to the maximum number of mappings, before the iterator
+     * is returned. Use {@link #findMappings(Consumer)} to process them as they are found.
+     */
+    @Override
+    public Iterator<GraphMapping<V, E>> getMappings()
+    {
+        List<GraphMapping<V, E>> mappings = new ArrayList<>();
+        findMappings(mappings::add, maxMappings);
+        return mappings.iterator();
+    }
+
+    @Override
+    public boolean isomorphismExists()
+    {
+        return findMappings(m -> {
+        }, Math.min(1, maxMappings)) > 0;
+    }
+
+    /**
+     * Find the mappings and report them to a consumer as soon as they are found.
+     *
+     * <p>
+     * The consumer is invoked from the threads of the pool, but never concurrently, so it does not
+     * need to be thread-safe. Exceptions thrown by the consumer abort the search and are rethrown
+     * by this method.
+     *
+     * @param consumer the consumer of the mappings
+     * @return the number of reported mappings
+     */
+    public long findMappings(Consumer<? super GraphMapping<V, E>> consumer)
+    {
+        return findMappings(consumer, maxMappings);
+    }
+
+    private long findMappings(Consumer<? super GraphMapping<V, E>> consumer, long limit)
+    {
+        Objects.requireNonNull(consumer, "Consumer cannot be null");
+        if (index == null) {
+            index = new Index();
+        }
+        Search search = new Search(consumer, limit);
+        search.run();
+        return search.count;
+    }
+
+    /**
+     * Integer representation of the pattern and the relevant part of the target, together with
+     * the matching order.
+     */
+    private class Index
+    {
+        /**
+         * Whether the graphs are directed
+         */
+        final boolean directed;
+        /**
+         * Whether a mapping may exist at all
+         */
+        final boolean feasible;
+
+        /**
+         * Pattern vertices, by position in the matching order
+         */
+        final List<V> patternVertices;
+        /**
+         * Number of pattern vertices
+         */
+        final int n2;
+        /**
+         * Pattern edges between positions, row-major
+         */
+        final boolean[] patternEdges;
+        /**
+         * Class of each pattern position
+         */
+        final int[] patternClass;
+        /**
+         * Out-degree and in-degree of each pattern position
+         */
+        final int[] patternOutDegree, patternInDegree;
+        /**
+         * The position of an earlier neighbor of each pattern position, or -1 if there is none
+         */
+        final int[] parent;
+        /**
+         * Whether the edge goes from the parent to the position
+         */
+        final boolean[] parentOutgoing;
+        /**
+         * Candidates of the positions without parent
+         */
+        final int[][] roots;
+
+        /**
+         * Relevant target vertices
+         */
+        final List<V> targetVertices;
+        /**
+         * Class of each relevant target vertex
+         */
+        final int[] targetClass;
+        /**
+         * Sorted relevant out-neighbors and in-neighbors of each relevant target vertex
+         */
+        final int[][] targetOut, targetIn;
+
+        Index()
+        {
+            this.directed = graph1.getType().isDirected();
+
+            // classes of the pattern vertices
+            List<V> representatives = new ArrayList<>();
+            Map<V, Integer> classOf =
+                CollectionUtil.newHashMapWithExpectedSize(graph2.vertexSet().size());
+            for (V u : graph2.vertexSet()) {
+                int c = 0;
+                if (vertexComparator != null) {
+                    while (c < representatives.size()
+                        && vertexComparator.compare(representatives.get(c), u) != 0)
+                    {
+                        c++;
+                    }
+                }
+                if (c == representatives.size()) {
+                    representatives.add(u);
+                }
+                classOf.put(u, c);
+            }
+
+            // relevant target vertices
+            List<V> relevant = new ArrayList<>();
+            List<Integer> relevantClass = new ArrayList<>();
+            for (V v : graph1.vertexSet()) {
+                int c = 0;
+                if (vertexComparator != null) {
+                    while (c < representatives.size()
+                        && vertexComparator.compare(v, representatives.get(c)) != 0)
+                    {
+                        c++;
+                    }
+                }
+                if (c < representatives.size()) {
+                    relevant.add(v);
+                    relevantClass.add(c);
+                }
+            }
+            this.targetVertices = relevant;
+            int n1 = relevant.size();
+            this.targetClass = new int[n1];
+            for (int i = 0; i < n1; i++) {
+                targetClass[i] = relevantClass.get(i);
+            }
+            Map<V, Integer> targetIndex = new VertexToIntegerMapping<>(relevant).getVertexMap();
+            this.targetOut = new int[n1][];
+            for (int i = 0; i < n1; i++) {
+                targetOut[i] = neighbors(
+                    graph1, relevant.get(i), targetIndex, graph1.outgoingEdgesOf(relevant.get(i)));
+            }
+            if (directed) {
+                this.targetIn = new int[n1][];
+                for (int i = 0; i < n1; i++) {
+                    targetIn[i] = neighbors(
+                        graph1, relevant.get(i), targetIndex,
+                        graph1.incomingEdgesOf(relevant.get(i)));
+                }
+            } else {
+                this.targetIn = targetOut;
+            }
+
+            // pattern adjacency in an arbitrary order
+            List<V> vertices = new ArrayList<>(graph2.vertexSet());
+            Map<V, Integer> patternIndex = new VertexToIntegerMapping<>(vertices).getVertexMap();
+            int n2 = vertices.size();
+            this.n2 = n2;
+            int[][] out = new int[n2][];
+            int[][] in = new int[n2][];
+            for (int u = 0; u < n2; u++) {
+                V vertex = vertices.get(u);
+                out[u] = neighbors(graph2, vertex, patternIndex, graph2.outgoingEdgesOf(vertex));
+                in[u] = directed
+                    ? neighbors(graph2, vertex, patternIndex, graph2.incomingEdgesOf(vertex))
+                    : out[u];
+            }
+
+            // estimated probabilities, i.e. number of compatible target vertices
+            List<List<Integer>> patternByClass = new ArrayList<>();
+            for (int c = 0; c < representatives.size(); c++) {
+                patternByClass.add(new ArrayList<>());
+            }
+            for (int u = 0; u < n2; u++) {
+                patternByClass.get(classOf.get(vertices.get(u))).add(u);
+            }
+            long[] compatible = new long[n2];
+            for (int v = 0; v < n1; v++) {
+                for (int u : patternByClass.get(targetClass[v])) {
+                    if (targetOut[v].length >= out[u].length
+                        && targetIn[v].length >= in[u].length)
+                    {
+                        compatible[u]++;
+                    }
+                }
+            }
+            boolean possible = n1 >= n2;
+            for (int u = 0; u < n2; u++) {
+                if (compatible[u] == 0) {
+                    possible = false;
+                }
+            }
+            this.feasible = possible;
+
+            // matching order
+            int[] order = new int[n2];
+            int[] position = new int[n2];
+            Arrays.fill(position, -1);
+            int[] connections = new int[n2];
+            for (int p = 0; p < n2; p++) {
+                int best = -1;
+                for (int u = 0; u < n2; u++) {
+                    if (position[u] != -1) {
+                        continue;
+                    }
+                    if (best == -1 || connections[u] > connections[best]
+                        || connections[u] == connections[best]
+                            && (compatible[u] < compatible[best]
+                                || compatible[u] == compatible[best] && out[u].length
+                                    + in[u].length > out[best].length + in[best].length))
+                    {
+                        best = u;
+                    }
+                }
+                order[p] = best;
+                position[best] = p;
+                for (int w : out[best]) {
+                    connections[w]++;
+                }
+                if (directed) {
+                    for (int w : in[best]) {
+                        connections[w]++;
+                    }
+                }
+            }
+
+            this.patternVertices = new ArrayList<>(n2);
+            this.patternEdges = new boolean[n2 * n2];
+            this.patternClass = new int[n2];
+            this.patternOutDegree = new int[n2];
+            this.patternInDegree = new int[n2];
+            this.parent = new int[n2];
+            this.parentOutgoing = new boolean[n2];
+            this.roots = new int[n2][];
+            for (int p = 0; p < n2; p++) {
+                int u = order[p];
+                patternVertices.add(vertices.get(u));
+                patternClass[p] = classOf.get(vertices.get(u));
+                patternOutDegree[p] = out[u].length;
+                patternInDegree[p] = in[u].length;
+                for (int w : out[u]) {
+                    patternEdges[p * n2 + position[w]] = true;
+                }
+            }
+            for (int p = 0; p < n2; p++) {
+                parent[p] = -1;
+                for (int q = 0; q < p; q++) {
+                    if (patternEdges[q * n2 + p]) {
+                        parent[p] = q;
+                        parentOutgoing[p] = true;
+                        break;
+                    }
+                    if (patternEdges[p * n2 + q]) {
+                        parent[p] = q;
+                        parentOutgoing[p] = false;
+                        break;
+                    }
+                }
+                if (parent[p] == -1 && feasible) {
+                    int[] candidates = new int[(int) compatible[order[p]]];
+                    int size = 0;
+                    for (int v = 0; v < n1; v++) {
+                        if (isCompatible(p, v)) {
+                            candidates[size++] = v;
+                        }
+                    }
+                    roots[p] = candidates;
+                }
+            }
+        }
+
+        /**
+         * Check whether a target vertex has the class and large enough degrees for a pattern
+         * position.
+         *
+         * @param p the pattern position
+         * @param v the target vertex
+         * @return true if the vertex is compatible
+         */
+        boolean isCompatible(int p, int v)
+        {
+            return targetClass[v] == patternClass[p] && targetOut[v].length >= patternOutDegree[p]
+                && targetIn[v].length >= patternInDegree[p];
+        }
+
+        /**
+         * Compute the sorted distinct indices of the opposite endpoints of some edges. Vertices
+         * without an index are skipped.
+         *
+         * @param graph the graph
+         * @param v the vertex
+         * @param indices the vertex indices
+         * @param edges the edges
+         * @return the sorted indices of the neighbors
+         */
+        private int[] neighbors(Graph<V, E> graph, V v, Map<V, Integer> indices, Set<E> edges)
+        {
+            int[] result = new int[edges.size()];
+            int size = 0;
+            for (E e : edges) {
+                Integer w = indices.get(Graphs.getOppositeVertex(graph, e, v));
+                if (w != null) {
+                    result[size++] = w;
+                }
+            }
+            Arrays.sort(result, 0, size);
+            int distinct = 0;
+            for (int i = 0; i < size; i++) {
+                if (distinct == 0 || result[distinct - 1] != result[i]) {
+                    result[distinct++] = result[i];
+                }
+            }
+            return distinct == result.length ? result : Arrays.copyOf(result, distinct);
+        }
+    }
+
+    /**
+     * A single search for mappings.
+     */
+    private class Search
+    {
+        private final Index index;
+        private final Consumer<? super GraphMapping<V, E>> consumer;
+        private final long limit;
+        private final Object lock;
+        private volatile boolean stopped;
+        private long count;
+
+        Search(Consumer<? super GraphMapping<V, E>> consumer, long limit)
+        {
+            this.index = ParallelSubgraphIsomorphismInspector.this.index;
+            this.consumer = consumer;
+            this.limit = limit;
+            this.lock = new Object();
+            this.stopped = limit == 0;
+            this.count = 0;
+        }
+
+        void run()
+        {
+            if (stopped || !index.feasible) {
+                return;
+            }
+            int[] core = new int[index.n2];
+            if (index.n2 == 0) {
+                report(core);
+            } else if (pool == null) {
+                extend(0, core);
+            } else {
+                int[] candidates = candidates(0, core);
+                pool.invoke(new MatchTask(0, core, candidates, 0, candidates.length));
+            }
+        }
+
+        /**
+         * Get the candidates of a pattern position. The candidates are not necessarily
+         * compatible.
+         *
+         * @param p the pattern position
+         * @param core the target vertices matched to the earlier positions
+         * @return the candidates
+         */
+        int[] candidates(int p, int[] core)
+        {
+            int q = index.parent[p];
+            if (q == -1) {
+                return index.roots[p];
+            }
+            return index.parentOutgoing[p] ? index.targetOut[core[q]] : index.targetIn[core[q]];
+        }
+
+        /**
+         * Check whether a target vertex can be matched to a pattern position.
+         *
+         * @param p the pattern position
+         * @param v the target vertex
+         * @param core the target vertices matched to the earlier positions
+         * @return true if the vertex can be matched
+         */
+        boolean isFeasible(int p, int v, int[] core)
+        {
+            if (!index.isCompatible(p, v)) {
+                return false;
+            }
+            int n2 = index.n2;
+            int[] vOut = index.targetOut[v];
+            if (index.patternEdges[p * n2 + p] != contains(vOut, v)) {
+                return false;
+            }
+            for (int q = 0; q < p; q++) {
+                int x = core[q];
+                if (x == v) {
+                    return false;
+                }
+                boolean edge = index.patternEdges[p * n2 + q];
+                if (edge != contains(vOut, x)) {
+                    return false;
+                }
+                if (edge && !areCompatibleEdges(p, q, v, x)) {
+                    return false;
+                }
+                if (index.directed) {
+                    boolean reverse = index.patternEdges[q * n2 + p];
+                    if (reverse != contains(index.targetIn[v], x)) {
+                        return false;
+                    }
+                    if (reverse && !areCompatibleEdges(q, p, x, v)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Check the edge from pattern position $p$ to $q$ and the edge from target vertex $v$ to
+         * $x$ for semantic equivalence.
+         *
+         * @param p the source pattern position
+         * @param q the target pattern position
+         * @param v the source target vertex
+         * @param x the target target vertex
+         * @return true if the edges are equivalent
+         */
+        private boolean areCompatibleEdges(int p, int q, int v, int x)
+        {
+            if (edgeComparator == null) {
+                return true;
+            }
+            E e1 = graph1.getEdge(index.targetVertices.get(v), index.targetVertices.get(x));
+            E e2 = graph2.getEdge(index.patternVertices.get(p), index.patternVertices.get(q));
+            return edgeComparator.compare(e1, e2) == 0;
+        }
+
+        /**
+         * Sequentially explore the subtree of a partial mapping.
+         *
+         * @param p the next pattern position
+         * @param core the target vertices matched to the earlier positions
+         */
+        void extend(int p, int[] core)
+        {
+            if (p == index.n2) {
+                report(core);
+                return;
+            }
+            for (int v : candidates(p, core)) {
+                if (stopped) {
+                    return;
+                }
+                if (isFeasible(p, v, core)) {
+                    core[p] = v;
+                    extend(p + 1, core);
+                }
+            }
+        }
+
+        /**
+         * Report a complete mapping.
+         *
+         * @param core the target vertices matched to the pattern positions
+         */
+        void report(int[] core)
+        {
+            if (stopped) {
+                return;
+            }
+            int n2 = index.n2;
+            Map<V, V> forward = CollectionUtil.newHashMapWithExpectedSize(n2);
+            Map<V, V> backward = CollectionUtil.newHashMapWithExpectedSize(n2);
+            for (int p = 0; p < n2; p++) {
+                V u = index.patternVertices.get(p);
+                V v = index.targetVertices.get(core[p]);
+                forward.put(v, u);
+                backward.put(u, v);
+            }
+            GraphMapping<V, E> mapping =
+                new IsomorphicGraphMapping<>(forward, backward, graph1, graph2);
+            synchronized (lock) {
+                if (count < limit) {
+                    count++;
+                    if (count == limit) {
+                        stopped = true;
+                    }
+                    consumer.accept(mapping);
+                }
+            }
+        }
+
+        /**
+         * Task which explores the subtrees of a range of candidates of a pattern position.
+         */
+        private class MatchTask
+            extends
+            RecursiveAction
+        {
+            private static final long serialVersionUID = 1L;
+
+            private final int p;
+            private final int[] core;
+            private final int[] candidates;
+            private final int from;
+            private final int to;
+
+            MatchTask(int p, int[] core, int[] candidates, int from, int to)
+            {
+                this.p = p;
+                this.core = core;
+                this.candidates = candidates;
+                this.from = from;
+                this.to = to;
+            }
+
+            @Override
+            protected void compute()
+            {
+                int granularity = Math
+                    .max(1, candidates.length / (TASKS_PER_THREAD * pool.getParallelism()));
+                if (to - from > granularity) {
+                    int mid = (from + to) >>> 1;
+                    MatchTask left = new MatchTask(p, core, candidates, from, mid);
+                    left.fork();
+                    new MatchTask(p, core, candidates, mid, to).compute();
+                    left.join();
+                    return;
+                }
+
+                for (int i = from; i < to && !stopped; i++) {
+                    int v = candidates[i];
+                    if (!isFeasible(p, v, core)) {
+                        continue;
+                    }
+                    int[] next = core.clone();
+                    next[p] = v;
+                    if (p + 1 < SPLIT_DEPTH && p + 1 < index.n2) {
+                        int[] nextCandidates = candidates(p + 1, next);
+                        new MatchTask(p + 1, next, nextCandidates, 0, nextCandidates.length)
+                            .compute();
+                    } else {
+                        extend(p + 1, next);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Check whether a sorted array contains a value.
+     *
+     * @param array the sorted array
+     * @param value the value
+     * @return true if the array contains the value
+     */
+    private static boolean contains(int[] array, int value)
+    {
+        return Arrays.binarySearch(array, value) >= 0;
+    }
+
+}
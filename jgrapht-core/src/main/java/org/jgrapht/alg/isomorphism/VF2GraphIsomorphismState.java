@@ -30,11 +30,6 @@ class VF2GraphIsomorphismState<V, E>
         super(g1, g2, vertexComparator, edgeComparator);
     }
 
-    public VF2GraphIsomorphismState(VF2State<V, E> s)
-    {
-        super(s);
-    }
-
     /**
      * @return true, if the already matched vertices of graph1 plus the first vertex of nextPair are
      *         graph isomorphic to the already matched vertices of graph2 and the second one vertex
@@ -33,7 +33,10 @@ abstract class VF2MappingIterator<V, E>
 
     protected GraphOrdering<V, E> ordering1, ordering2;
 
-    protected ArrayDeque<VF2State<V, E>> stateStack;
+    /**
+     * the single state of the search, which is modified in place and restored on backtracking
+     */
+    protected VF2State<V, E> state;
 
     public VF2MappingIterator(
         GraphOrdering<V, E> ordering1, GraphOrdering<V, E> ordering2,
@@ -43,7 +46,6 @@ abstract class VF2MappingIterator<V, E>
         this.ordering2 = ordering2;
         this.vertexComparator = vertexComparator;
         this.edgeComparator = edgeComparator;
-        this.stateStack = new ArrayDeque<>();
     }
 
     /**
@@ -33,6 +33,11 @@ abstract class VF2State<V, E>
 
     protected static final boolean DEBUG = false;
 
+    /**
+     * number of values saved on the trail for each pair in the matching
+     */
+    private static final int TRAIL_FRAME_SIZE = 9;
+
     protected final int[] core1, core2, in1, in2, out1, out2;
 
     protected final int n1, n2;
@@ -42,6 +47,12 @@ abstract class VF2State<V, E>
 
     protected final GraphOrdering<V, E> g1, g2;
 
+    /**
+     * the scalar values of the state saved before adding each pair of the matching, so that the
+     * state can be restored by {@link #backtrack()}
+     */
+    private final int[] trail;
+
     protected final Comparator<V> vertexComparator;
     protected final Comparator<E> edgeComparator;
 
@@ -76,43 +87,8 @@ abstract class VF2State<V, E>
         addedVertex1 = addVertex1 = addVertex2 = NULL_NODE;
 
         t1BothLen = t2BothLen = t1InLen = t2InLen = t1OutLen = t2OutLen = 0;
-    }
 
-    /**
-     * copy constructor
-     *
-     * @param s
-     */
-    public VF2State(VF2State<V, E> s)
-    {
-        g1 = s.g1;
-        g2 = s.g2;
-
-        core1 = s.core1;
-        core2 = s.core2;
-        in1 = s.in1;
-        in2 = s.in2;
-        out1 = s.out1;
-        out2 = s.out2;
-
-        coreLen = s.coreLen;
-
-        n1 = s.n1;
-        n2 = s.n2;
-
-        t1BothLen = s.t1BothLen;
-        t2BothLen = s.t2BothLen;
-        t1InLen = s.t1InLen;
-        t2InLen = s.t2InLen;
-        t1OutLen = s.t1OutLen;
-        t2OutLen = s.t2OutLen;
-
-        vertexComparator = s.vertexComparator;
-        edgeComparator = s.edgeComparator;
-
-        addVertex1 = s.addVertex1;
-        addVertex2 = s.addVertex2;
-        addedVertex1 = s.addedVertex1;
+        trail = new int[Math.min(n1, n2) * TRAIL_FRAME_SIZE];
     }
 
     /**
@@ -221,6 +197,17 @@ abstract class VF2State<V, E>
                 "addPair",
                 "(" + g1.getVertex(addVertex1) + ", " + g2.getVertex(addVertex2) + ") added");
 
+        int frame = coreLen * TRAIL_FRAME_SIZE;
+        trail[frame] = t1BothLen;
+        trail[frame + 1] = t2BothLen;
+        trail[frame + 2] = t1InLen;
+        trail[frame + 3] = t2InLen;
+        trail[frame + 4] = t1OutLen;
+        trail[frame + 5] = t2OutLen;
+        trail[frame + 6] = addedVertex1;
+        trail[frame + 7] = addVertex1;
+        trail[frame + 8] = addVertex2;
+
         coreLen++;
         addedVertex1 = addVertex1;
 
@@ -316,7 +303,16 @@ abstract class VF2State<V, E>
     public abstract boolean isFeasiblePair();
 
     /**
-     * removes the last added pair from the matching
+     * @return true, if the matching is not empty
+     */
+    public boolean canBacktrack()
+    {
+        return coreLen > 0;
+    }
+
+    /**
+     * removes the last added pair from the matching. The state is restored to the one before the
+     * pair was added, and the enumeration of candidate pairs continues after the removed pair.
      */
     public void backtrack()
     {
@@ -369,7 +365,17 @@ abstract class VF2State<V, E>
 
         core1[addedVertex1] = core2[addedVertex2] = NULL_NODE;
         coreLen--;
-        addedVertex1 = NULL_NODE;
+
+        int frame = coreLen * TRAIL_FRAME_SIZE;
+        t1BothLen = trail[frame];
+        t2BothLen = trail[frame + 1];
+        t1InLen = trail[frame + 2];
+        t2InLen = trail[frame + 3];
+        t1OutLen = trail[frame + 4];
+        t2OutLen = trail[frame + 5];
+        addedVertex1 = trail[frame + 6];
+        addVertex1 = trail[frame + 7];
+        addVertex2 = trail[frame + 8];
     }
 
     /**
@@ -42,9 +42,7 @@ class VF2SubgraphMappingIterator<V, E>
     @Override
     protected IsomorphicGraphMapping<V, E> match()
     {
-        VF2State<V, E> s;
-
-        if (stateStack.isEmpty()) {
+        if (state == null) {
             Graph<V, E> g1 = ordering1.getGraph(), g2 = ordering2.getGraph();
 
             if ((g1.vertexSet().size() < g2.vertexSet().size())
@@ -53,39 +51,38 @@ class VF2SubgraphMappingIterator<V, E>
                 return null;
             }
 
-            s = new VF2SubgraphIsomorphismState<>(
+            state = new VF2SubgraphIsomorphismState<>(
                 ordering1, ordering2, vertexComparator, edgeComparator);
 
             if (g2.vertexSet().isEmpty()) {
-                return (hadOneMapping != null) ? null : s.getCurrentMapping();
+                return (hadOneMapping != null) ? null : state.getCurrentMapping();
             }
+        } else if (state.isGoal() && state.canBacktrack()) {
+            // continue after the last returned mapping
+            state.backtrack();
         } else {
-            stateStack.pop().backtrack();
-            s = stateStack.pop();
+            // the search is complete
+            return null;
         }
 
         while (true) {
-            while (s.nextPair()) {
-                if (s.isFeasiblePair()) {
-                    stateStack.push(s);
-                    s = new VF2SubgraphIsomorphismState<>(s);
-                    s.addPair();
+            while (state.nextPair()) {
+                if (state.isFeasiblePair()) {
+                    state.addPair();
 
-                    if (s.isGoal()) {
-                        stateStack.push(s);
-                        return s.getCurrentMapping();
+                    if (state.isGoal()) {
+                        return state.getCurrentMapping();
                     }
 
-                    s.resetAddVertexes();
+                    state.resetAddVertexes();
                 }
             }
 
-            if (stateStack.isEmpty()) {
+            if (!state.canBacktrack()) {
                 return null;
             }
 
-            s.backtrack();
-            s = stateStack.pop();
+            state.backtrack();
         }
     }
 }
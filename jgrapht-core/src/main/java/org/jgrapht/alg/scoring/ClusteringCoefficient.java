@@ -22,6 +22,7 @@ import org.jgrapht.alg.interfaces.*;
 import org.jgrapht.alg.util.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * Clustering coefficient. This implementation computes the global, the local and the average
@@ -54,6 +55,12 @@ import java.util.*;
  * The running time is $O(|V| + \Delta(G)^2)$ where $|V|$ is the number of vertices and $\Delta(G)$
  * is the maximum degree of a vertex. The space complexity is $O(|V|)$.
  *
+ * <p>
+ * For simple undirected graphs the global coefficient and the map of all local coefficients are
+ * computed from the triangles counted by {@link TriangleCounting} in $O(|E|^{3/2})$ time, optionally
+ * in parallel. For graphs too big for an exact count, an approximate mode estimates all
+ * coefficients by wedge sampling instead, see {@link #ClusteringCoefficient(Graph, int, Random)}.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  *
@@ -76,6 +83,26 @@ public class ClusteringCoefficient<V, E>
 
     private boolean fullyComputedMap = false;
 
+    /**
+     * The pool used to count the triangles in parallel, null for a sequential count
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * The number of sampled wedges in approximate mode, zero for the exact computation
+     */
+    private final int samples;
+
+    /**
+     * The random number generator used in approximate mode
+     */
+    private final Random rng;
+
+    /**
+     * Triangle counting, used for simple undirected graphs
+     */
+    private TriangleCounting<V, E> triangleCounting;
+
     /**
      * Global Clustering Coefficient
      */
@@ -95,9 +122,52 @@ public class ClusteringCoefficient<V, E>
      * @throws NullPointerException if {@code graph} is {@code null}
      */
     public ClusteringCoefficient(Graph<V, E> graph)
+    {
+        this(graph, null);
+    }
+
+    /**
+     * Construct a new instance which counts the triangles of a simple undirected graph in parallel.
+     * It is up to the user of this algorithm to manage the lifecycle of the pool.
+     *
+     * @param graph the input graph
+     * @param pool the pool used to count the triangles, if null the count is sequential
+     * @throws NullPointerException if {@code graph} is {@code null}
+     */
+    public ClusteringCoefficient(Graph<V, E> graph, ForkJoinPool pool)
     {
         this.graph = Objects.requireNonNull(graph);
         this.scores = new HashMap<>();
+        this.pool = pool;
+        this.samples = 0;
+        this.rng = null;
+    }
+
+    /**
+     * Construct a new instance which estimates the coefficients using wedge sampling. A wedge is a
+     * path of length two and a coefficient is the fraction of closed wedges, either among all
+     * wedges of the graph (global coefficient) or among the wedges centered at a vertex (local
+     * coefficient). Each coefficient is estimated by sampling the given number of wedges uniformly
+     * at random; if there are no more wedges than samples, the coefficient is computed exactly.
+     * Self-loops and multiple edges are ignored.
+     *
+     * @param graph the input graph; must be undirected
+     * @param samples the number of sampled wedges for each estimated coefficient
+     * @param rng the random number generator
+     * @throws NullPointerException if {@code graph} or {@code rng} is {@code null}
+     * @throws IllegalArgumentException if {@code graph} is not undirected or {@code samples} is not
+     *         positive
+     */
+    public ClusteringCoefficient(Graph<V, E> graph, int samples, Random rng)
+    {
+        this.graph = GraphTests.requireUndirected(graph);
+        this.scores = new HashMap<>();
+        this.pool = null;
+        if (samples < 1) {
+            throw new IllegalArgumentException("Number of samples must be positive");
+        }
+        this.samples = samples;
+        this.rng = Objects.requireNonNull(rng, "Random number generator cannot be null");
     }
 
     /**
@@ -149,8 +219,21 @@ public class ClusteringCoefficient<V, E>
 
     private void computeGlobalClusteringCoefficient()
     {
-        NeighborCache<V, E> neighborCache = new NeighborCache<>(graph);
         computed = true;
+
+        if (samples > 0) {
+            globalClusteringCoefficient =
+                getTriangleCounting().estimateClosedWedgeFraction(samples, rng);
+            return;
+        }
+        if (isSimpleUndirected()) {
+            TriangleCounting<V, E> tc = getTriangleCounting();
+            globalClusteringCoefficient =
+                3.0 * tc.getNumberOfTriangles() / tc.getNumberOfWedges();
+            return;
+        }
+
+        NeighborCache<V, E> neighborCache = new NeighborCache<>(graph);
         double numberTriplets = 0;
 
         for (V v : graph.vertexSet()) {
@@ -171,6 +254,13 @@ public class ClusteringCoefficient<V, E>
             return scores.get(v);
         }
 
+        if (samples > 0) {
+            double estimate = getTriangleCounting().estimateClosedWedgeFraction(v, samples, rng);
+            double score = Double.isNaN(estimate) ? 0.0 : estimate;
+            scores.put(v, score);
+            return score;
+        }
+
         NeighborCache<V, E> neighborCache = new NeighborCache<>(graph);
         Set<V> neighbourhood = neighborCache.neighborsOf(v);
 
@@ -196,6 +286,19 @@ public class ClusteringCoefficient<V, E>
 
         fullyComputedMap = true;
 
+        if (samples == 0 && isSimpleUndirected()) {
+            Map<V, Long> triangles = getTriangleCounting().getScores();
+            for (V v : graph.vertexSet()) {
+                final double k = graph.degreeOf(v);
+                if (k <= 1) {
+                    scores.put(v, 0.0);
+                } else {
+                    scores.put(v, 2.0 * triangles.get(v) / (k * (k - 1)));
+                }
+            }
+            return;
+        }
+
         for (V v : graph.vertexSet()) {
             if (scores.containsKey(v)) {
                 continue;
@@ -205,6 +308,19 @@ public class ClusteringCoefficient<V, E>
         }
     }
 
+    private boolean isSimpleUndirected()
+    {
+        return graph.getType().isUndirected() && GraphTests.isSimple(graph);
+    }
+
+    private TriangleCounting<V, E> getTriangleCounting()
+    {
+        if (triangleCounting == null) {
+            triangleCounting = new TriangleCounting<>(graph, pool);
+        }
+        return triangleCounting;
+    }
+
     /**
      * Get a map with the local clustering coefficients of all vertices
      *
@@ -23,7 +23,6 @@ import java.util.Map;
 
 import org.jgrapht.Graph;
 import org.jgrapht.GraphIterables;
-import org.jgrapht.Graphs;
 import org.jgrapht.alg.interfaces.VertexScoringAlgorithm;
 
 /**
@@ -160,17 +159,13 @@ public final class EigenvectorCentrality<V, E>
         // run the power method
         Map<V, Double> nextScores = new HashMap<>();
         double l2Norm = tolerance;
+        final IncomingScoreSum<V, E> incomingScoreSum = new IncomingScoreSum<>(g, 1d);
 
         while (maxIterations > 0 && l2Norm >= tolerance) {
             // compute next iteration scores
             double sumOfSquares = 0d;
             for (final V v : iterables.vertices()) {
-                double vNewValue = 0d;
-
-                for (final E e : iterables.incomingEdgesOf(v)) {
-                    final V w = Graphs.getOppositeVertex(g, e, v);
-                    vNewValue += scores.get(w) * g.getEdgeWeight(e);
-                }
+                double vNewValue = incomingScoreSum.of(v, scores);
 
                 sumOfSquares += vNewValue * vNewValue;
                 nextScores.put(v, vNewValue);
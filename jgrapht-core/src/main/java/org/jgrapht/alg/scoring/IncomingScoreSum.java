@@ -0,0 +1,77 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.scoring;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.jgrapht.Graph;
+import org.jgrapht.Graphs;
+
+/**
+ * Sums the scaled and weighted scores of the sources of the edges incoming into a vertex. A single
+ * instance is reused for all vertices so that the traversal does not allocate.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+class IncomingScoreSum<V, E>
+    implements
+    Consumer<E>
+{
+    private final Graph<V, E> g;
+    private final double factor;
+    private Map<V, Double> scores;
+    private V target;
+    private double sum;
+
+    /**
+     * Create a new instance.
+     *
+     * @param g the graph
+     * @param factor the factor applied to every incoming score
+     */
+    IncomingScoreSum(Graph<V, E> g, double factor)
+    {
+        this.g = g;
+        this.factor = factor;
+    }
+
+    /**
+     * Compute the sum for a vertex.
+     *
+     * @param v the vertex
+     * @param scores the current scores
+     * @return the sum of the scores of its in-neighbors
+     */
+    double of(V v, Map<V, Double> scores)
+    {
+        this.scores = scores;
+        target = v;
+        sum = 0d;
+        g.iterables().forEachIncomingEdge(v, this);
+        return sum;
+    }
+
+    @Override
+    public void accept(E e)
+    {
+        final V w = Graphs.getOppositeVertex(g, e, target);
+        sum += factor * scores.get(w) * g.getEdgeWeight(e);
+    }
+}
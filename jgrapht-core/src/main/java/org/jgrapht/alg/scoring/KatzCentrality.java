@@ -23,7 +23,6 @@ import java.util.Map;
 import java.util.function.ToDoubleFunction;
 
 import org.jgrapht.Graph;
-import org.jgrapht.Graphs;
 import org.jgrapht.alg.interfaces.VertexScoringAlgorithm;
 
 /**
@@ -253,17 +252,13 @@ public final class KatzCentrality<V, E>
         // run KatzCentrality
         Map<V, Double> nextScores = new HashMap<>();
         double maxChange = tolerance;
+        final IncomingScoreSum<V, E> incomingScoreSum = new IncomingScoreSum<>(g, dampingFactor);
 
         while (maxIterations > 0 && maxChange >= tolerance) {
             // compute next iteration scores
             maxChange = 0d;
             for (final V v : g.vertexSet()) {
-                double contribution = 0d;
-
-                for (final E e : g.incomingEdgesOf(v)) {
-                    final V w = Graphs.getOppositeVertex(g, e, v);
-                    contribution += dampingFactor * scores.get(w) * g.getEdgeWeight(e);
-                }
+                double contribution = incomingScoreSum.of(v, scores);
 
                 final double vOldValue = scores.get(v);
                 final double vNewValue = contribution + exofactorFunction.applyAsDouble(v);
@@ -0,0 +1,564 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.scoring;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Triangle counting in an undirected graph. The score of a vertex is the number of triangles which
+ * contain the vertex.
+ *
+ * <p>
+ * The exact count uses the forward algorithm described in <i>T. Schank and D. Wagner. Finding,
+ * counting and listing all triangles in large graphs, an experimental study. WEA 2005, LNCS 3503,
+ * 606--609.</i> The vertices are ranked by degree and every edge is oriented from its lower ranked
+ * endpoint to its higher ranked one. Each triangle is then found exactly once by intersecting the
+ * out-neighbors of the endpoints of its lowest edge. The neighbors of each vertex are stored as a
+ * sorted integer array and the intersections are computed by merging, or by galloping when one
+ * array is much longer than the other. The running time is $O(|E|^{3/2})$. The vertices can
+ * optionally be processed in parallel using a {@link ForkJoinPool}.
+ *
+ * <p>
+ * For graphs too big for the exact count, {@link #estimateNumberOfTriangles(int, Random)} uses
+ * wedge sampling as described in <i>C. Seshadhri, A. Pinar and T. G. Kolda. Wedge sampling for
+ * computing clustering coefficients and triangle counts on large graphs. Statistical Analysis and
+ * Data Mining, 7(4):294--307, 2014.</i> A wedge is a path of length two; the fraction of closed
+ * wedges among uniformly sampled wedges is an unbiased estimator of the global clustering
+ * coefficient, from which the number of triangles follows.
+ *
+ * <p>
+ * Self-loops and multiple edges are ignored, that is, the triangles of the underlying simple graph
+ * are counted.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see ClusteringCoefficient
+ * @see GraphMetrics#getNumberOfTriangles(Graph)
+ */
+public class TriangleCounting<V, E>
+    implements
+    VertexScoringAlgorithm<V, Long>
+{
+    /**
+     * Galloping is used when an array is at least this many times longer than the other one.
+     */
+    private static final int GALLOPING_RATIO = 32;
+
+    /**
+     * Underlying graph
+     */
+    private final Graph<V, E> graph;
+
+    /**
+     * The pool used for the parallel count, null for a sequential count
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * The vertices sorted by degree
+     */
+    private List<V> vertices;
+
+    /**
+     * The rank of each vertex
+     */
+    private Map<V, Integer> ranks;
+
+    /**
+     * The sorted neighbors of each vertex
+     */
+    private int[][] neighbors;
+
+    /**
+     * The position of the first neighbor with a higher rank
+     */
+    private int[] firstLater;
+
+    /**
+     * The number of triangles, negative if not yet computed
+     */
+    private long numberOfTriangles = -1;
+
+    /**
+     * The actual scores
+     */
+    private Map<V, Long> scores;
+
+    /**
+     * Construct a new instance which counts the triangles sequentially.
+     *
+     * @param graph the input graph; must be undirected
+     * @throws NullPointerException if {@code graph} is {@code null}
+     * @throws IllegalArgumentException if {@code graph} is not undirected
+     */
+    public TriangleCounting(Graph<V, E> graph)
+    {
+        this(graph, null);
+    }
+
+    /**
+     * Construct a new instance.
+     *
+     * <p>
+     * If a pool is provided, the triangles are counted in parallel using the pool. It is up to the
+     * user of this algorithm to manage the lifecycle of the pool.
+     *
+     * @param graph the input graph; must be undirected
+     * @param pool the pool used for the parallel count, if null the count is sequential
+     * @throws NullPointerException if {@code graph} is {@code null}
+     * @throws IllegalArgumentException if {@code graph} is not undirected
+     */
+    public TriangleCounting(Graph<V, E> graph, ForkJoinPool pool)
+    {
+        this.graph = GraphTests.requireUndirected(graph);
+        this.pool = pool;
+    }
+
+    /**
+     * Get the number of triangles of the graph.
+     *
+     * @return the number of triangles
+     */
+    public long getNumberOfTriangles()
+    {
+        lazyCount();
+        return numberOfTriangles;
+    }
+
+    /**
+     * Get the number of wedges of the graph, that is, the number of paths of length two. Each
+     * triangle contains three wedges.
+     *
+     * @return the number of wedges
+     */
+    public long getNumberOfWedges()
+    {
+        lazyInit();
+        long total = 0;
+        for (int[] a : neighbors) {
+            total += wedges(a.length);
+        }
+        return total;
+    }
+
+    /**
+     * Get a map with the number of triangles which contain each vertex.
+     *
+     * @return a map with the number of triangles of each vertex
+     */
+    @Override
+    public Map<V, Long> getScores()
+    {
+        lazyCount();
+        return Collections.unmodifiableMap(scores);
+    }
+
+    /**
+     * Get the number of triangles which contain a vertex.
+     *
+     * @param v the vertex
+     * @return the number of triangles of the vertex
+     */
+    @Override
+    public Long getVertexScore(V v)
+    {
+        if (!graph.containsVertex(v)) {
+            throw new IllegalArgumentException("Cannot return score of unknown vertex");
+        }
+        lazyCount();
+        return scores.get(v);
+    }
+
+    /**
+     * Estimate the number of triangles of the graph using wedge sampling.
+     *
+     * <p>
+     * If the graph has at most {@code samples} wedges, all of them are inspected and the result is
+     * exact.
+     *
+     * @param samples the number of sampled wedges
+     * @param rng the random number generator
+     * @return an estimate of the number of triangles
+     * @throws IllegalArgumentException if {@code samples} is not positive
+     */
+    public double estimateNumberOfTriangles(int samples, Random rng)
+    {
+        long wedges = getNumberOfWedges();
+        if (wedges == 0) {
+            return 0d;
+        }
+        return estimateClosedWedgeFraction(samples, rng) * wedges / 3d;
+    }
+
+    /**
+     * Estimate the fraction of closed wedges of the graph, which is equal to the global clustering
+     * coefficient, using wedge sampling.
+     *
+     * @param samples the number of sampled wedges
+     * @param rng the random number generator
+     * @return an estimate of the fraction of closed wedges, or NaN if the graph has no wedges
+     */
+    double estimateClosedWedgeFraction(int samples, Random rng)
+    {
+        if (samples < 1) {
+            throw new IllegalArgumentException("Number of samples must be positive");
+        }
+        Objects.requireNonNull(rng, "Random number generator cannot be null");
+        lazyInit();
+
+        int n = neighbors.length;
+        long[] cumulative = new long[n];
+        long total = 0;
+        for (int v = 0; v < n; v++) {
+            total += wedges(neighbors[v].length);
+            cumulative[v] = total;
+        }
+        if (total == 0) {
+            return Double.NaN;
+        }
+        if (total <= samples) {
+            long closed = 0;
+            for (int v = 0; v < n; v++) {
+                closed += closedWedges(v);
+            }
+            return (double) closed / total;
+        }
+
+        long closed = 0;
+        for (int s = 0; s < samples; s++) {
+            long r = Math.min((long) (rng.nextDouble() * total), total - 1);
+            int pos = Arrays.binarySearch(cumulative, r);
+            // first vertex whose cumulative count exceeds r
+            int v = pos >= 0 ? pos + 1 : -pos - 1;
+            while (cumulative[v] <= r) {
+                v++;
+            }
+            if (sampleWedge(v, rng)) {
+                closed++;
+            }
+        }
+        return (double) closed / samples;
+    }
+
+    /**
+     * Estimate the fraction of closed wedges centered at a vertex, which is equal to its local
+     * clustering coefficient, using wedge sampling.
+     *
+     * @param v the vertex
+     * @param samples the number of sampled wedges
+     * @param rng the random number generator
+     * @return an estimate of the fraction of closed wedges, or NaN if the vertex has no wedges
+     */
+    double estimateClosedWedgeFraction(V v, int samples, Random rng)
+    {
+        lazyInit();
+        int u = ranks.get(v);
+        long total = wedges(neighbors[u].length);
+        if (total == 0) {
+            return Double.NaN;
+        }
+        if (total <= samples) {
+            return (double) closedWedges(u) / total;
+        }
+        long closed = 0;
+        for (int s = 0; s < samples; s++) {
+            if (sampleWedge(u, rng)) {
+                closed++;
+            }
+        }
+        return (double) closed / samples;
+    }
+
+    /**
+     * Sample a wedge centered at a vertex uniformly at random.
+     *
+     * @param v the vertex; must have at least two neighbors
+     * @param rng the random number generator
+     * @return true if the wedge is closed, false otherwise
+     */
+    private boolean sampleWedge(int v, Random rng)
+    {
+        int[] a = neighbors[v];
+        int i = rng.nextInt(a.length);
+        int j = rng.nextInt(a.length - 1);
+        if (j >= i) {
+            j++;
+        }
+        return isAdjacent(a[i], a[j]);
+    }
+
+    /**
+     * Count the closed wedges centered at a vertex.
+     *
+     * @param v the vertex
+     * @return the number of closed wedges
+     */
+    private long closedWedges(int v)
+    {
+        int[] a = neighbors[v];
+        long closed = 0;
+        for (int i = 0; i < a.length; i++) {
+            for (int j = i + 1; j < a.length; j++) {
+                if (isAdjacent(a[i], a[j])) {
+                    closed++;
+                }
+            }
+        }
+        return closed;
+    }
+
+    private boolean isAdjacent(int u, int v)
+    {
+        if (neighbors[u].length > neighbors[v].length) {
+            return Arrays.binarySearch(neighbors[v], u) >= 0;
+        }
+        return Arrays.binarySearch(neighbors[u], v) >= 0;
+    }
+
+    private static long wedges(int degree)
+    {
+        return (long) degree * (degree - 1) / 2;
+    }
+
+    /**
+     * Compute the sorted integer representation of the graph.
+     */
+    private void lazyInit()
+    {
+        if (neighbors != null) {
+            return;
+        }
+
+        List<V> original = new ArrayList<>(graph.vertexSet());
+        Map<V, Integer> index = new VertexToIntegerMapping<>(original).getVertexMap();
+        int n = original.size();
+
+        // rank the vertices by degree using a counting sort
+        int maxDegree = 0;
+        int[] degree = new int[n];
+        for (int i = 0; i < n; i++) {
+            degree[i] = graph.degreeOf(original.get(i));
+            maxDegree = Math.max(maxDegree, degree[i]);
+        }
+        int[] start = new int[maxDegree + 2];
+        for (int i = 0; i < n; i++) {
+            start[degree[i] + 1]++;
+        }
+        for (int d = 1; d < start.length; d++) {
+            start[d] += start[d - 1];
+        }
+        int[] rank = new int[n];
+        this.vertices = new ArrayList<>(Collections.nCopies(n, null));
+        for (int i = 0; i < n; i++) {
+            rank[i] = start[degree[i]]++;
+            vertices.set(rank[i], original.get(i));
+        }
+
+        // distinct sorted neighbors in terms of ranks
+        this.neighbors = new int[n][];
+        this.firstLater = new int[n];
+        for (int i = 0; i < n; i++) {
+            V v = original.get(i);
+            int r = rank[i];
+            int[] a = new int[degree[i]];
+            int k = 0;
+            for (E e : graph.edgesOf(v)) {
+                int u = rank[index.get(Graphs.getOppositeVertex(graph, e, v))];
+                if (u != r) {
+                    a[k++] = u;
+                }
+            }
+            Arrays.sort(a, 0, k);
+            int distinct = 0;
+            for (int t = 0; t < k; t++) {
+                if (distinct == 0 || a[distinct - 1] != a[t]) {
+                    a[distinct++] = a[t];
+                }
+            }
+            neighbors[r] = distinct == a.length ? a : Arrays.copyOf(a, distinct);
+            firstLater[r] = -Arrays.binarySearch(neighbors[r], r) - 1;
+        }
+
+        index.replaceAll((v, i) -> rank[i]);
+        this.ranks = index;
+    }
+
+    /**
+     * Count the triangles.
+     */
+    private void lazyCount()
+    {
+        if (numberOfTriangles >= 0) {
+            return;
+        }
+        lazyInit();
+
+        int n = neighbors.length;
+        AtomicLongArray counts = new AtomicLongArray(n);
+        if (pool == null) {
+            numberOfTriangles = count(0, n, counts);
+        } else {
+            int granularity = Math.max(1, n / (16 * pool.getParallelism()));
+            numberOfTriangles = pool.invoke(new CountTask(0, n, granularity, counts));
+        }
+
+        scores = CollectionUtil.newHashMapWithExpectedSize(n);
+        for (int r = 0; r < n; r++) {
+            scores.put(vertices.get(r), counts.get(r));
+        }
+    }
+
+    /**
+     * Count the triangles whose lowest ranked vertex belongs to a range.
+     *
+     * @param from the first vertex of the range
+     * @param to the last vertex of the range (exclusive)
+     * @param counts the number of triangles of each vertex, updated by this method
+     * @return the number of triangles found
+     */
+    private long count(int from, int to, AtomicLongArray counts)
+    {
+        long total = 0;
+        for (int u = from; u < to; u++) {
+            int[] a = neighbors[u];
+            long uCount = 0;
+            for (int i = firstLater[u]; i < a.length; i++) {
+                int v = a[i];
+                int[] b = neighbors[v];
+                long vCount = intersect(a, i + 1, a.length, b, firstLater[v], b.length, counts);
+                if (vCount > 0) {
+                    counts.addAndGet(v, vCount);
+                    uCount += vCount;
+                }
+            }
+            if (uCount > 0) {
+                counts.addAndGet(u, uCount);
+                total += uCount;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Intersect two sorted array ranges and increment the count of each common element.
+     *
+     * @param a the first array
+     * @param aFrom start of the first range
+     * @param aTo end of the first range (exclusive)
+     * @param b the second array
+     * @param bFrom start of the second range
+     * @param bTo end of the second range (exclusive)
+     * @param counts the counts to increment
+     * @return the number of common elements
+     */
+    private static long intersect(
+        int[] a, int aFrom, int aTo, int[] b, int bFrom, int bTo, AtomicLongArray counts)
+    {
+        int aSize = aTo - aFrom;
+        int bSize = bTo - bFrom;
+        if (aSize == 0 || bSize == 0) {
+            return 0;
+        }
+        if (aSize > bSize) {
+            return intersect(b, bFrom, bTo, a, aFrom, aTo, counts);
+        }
+
+        long common = 0;
+        if ((long) aSize * GALLOPING_RATIO < bSize) {
+            // galloping search of each element of the short range in the long one
+            int j = bFrom;
+            for (int i = aFrom; i < aTo && j < bTo; i++) {
+                int x = a[i];
+                int step = 1;
+                int hi = j;
+                while (hi < bTo && b[hi] < x) {
+                    j = hi + 1;
+                    hi += step;
+                    step <<= 1;
+                }
+                int pos = Arrays.binarySearch(b, j, Math.min(hi + 1, bTo), x);
+                if (pos >= 0) {
+                    counts.incrementAndGet(x);
+                    common++;
+                    j = pos + 1;
+                } else {
+                    j = -pos - 1;
+                }
+            }
+        } else {
+            int i = aFrom, j = bFrom;
+            while (i < aTo && j < bTo) {
+                if (a[i] < b[j]) {
+                    i++;
+                } else if (a[i] > b[j]) {
+                    j++;
+                } else {
+                    counts.incrementAndGet(a[i]);
+                    common++;
+                    i++;
+                    j++;
+                }
+            }
+        }
+        return common;
+    }
+
+    /**
+     * Task which recursively splits a range of vertices.
+     */
+    private class CountTask
+        extends
+        RecursiveTask<Long>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final int granularity;
+        private final AtomicLongArray counts;
+
+        CountTask(int from, int to, int granularity, AtomicLongArray counts)
+        {
+            this.from = from;
+            this.to = to;
+            this.granularity = granularity;
+            this.counts = counts;
+        }
+
+        @Override
+        protected Long compute()
+        {
+            if (to - from <= granularity) {
+                return count(from, to, counts);
+            }
+            int mid = (from + to) >>> 1;
+            CountTask left = new CountTask(from, mid, granularity, counts);
+            left.fork();
+            long right = new CountTask(mid, to, granularity, counts).compute();
+            return right + left.join();
+        }
+    }
+
+}
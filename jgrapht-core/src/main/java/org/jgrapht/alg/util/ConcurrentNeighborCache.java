@@ -0,0 +1,458 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.util;
+
+import org.jgrapht.*;
+import org.jgrapht.event.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.concurrent.locks.*;
+import java.util.function.*;
+
+/**
+ * A thread-safe cache of each vertex's neighbors, which can be shared by the worker threads of a
+ * parallel algorithm.
+ *
+ * <p>
+ * Contrary to {@link NeighborCache}, which maintains live views of the neighbors, this cache
+ * returns immutable snapshots backed by arrays. The neighbors of a vertex are computed lazily the
+ * first time they are requested, and lookups of cached vertices never block. Several threads may
+ * compute the neighbors of the same vertex concurrently, in which case only one result is kept.
+ *
+ * <p>
+ * When registered as a listener of a {@link ListenableGraph}, the cache invalidates the entries of
+ * the endpoints of every added or removed edge, so that the next lookup recomputes them. Snapshots
+ * obtained before a change are not updated. Note that the cache does not make the graph itself
+ * thread-safe: modifications of the graph must not happen concurrently with lookups, unless the
+ * graph supports concurrent access, see for example
+ * {@link org.jgrapht.graph.concurrent.AsSynchronizedGraph}.
+ *
+ * <p>
+ * The memory used by the cache can be bounded by a maximum total number of cached neighbors. Once
+ * this bound is exceeded, entries are evicted using the CLOCK approximation of the least recently
+ * used policy: each entry carries a reference bit which is set on every lookup, and a clock hand
+ * sweeping the entries clears the bit of referenced entries and evicts the others. The eviction is
+ * performed by one thread at a time, and the bound may be exceeded temporarily while another thread
+ * evicts.
+ *
+ * @param <V> the vertex type
+ * @param <E> the edge type
+ */
+public class ConcurrentNeighborCache<V, E>
+    implements
+    GraphListener<V, E>
+{
+    /*
+     * Sets with more elements are indexed by a hash table, smaller ones are scanned.
+     */
+    private static final int INDEX_THRESHOLD = 8;
+
+    private final Graph<V, E> graph;
+    private final long maximumSize;
+
+    private final ConcurrentMap<V, Neighbors<V>> successors = new ConcurrentHashMap<>();
+    private final ConcurrentMap<V, Neighbors<V>> predecessors = new ConcurrentHashMap<>();
+    private final ConcurrentMap<V, Neighbors<V>> neighbors = new ConcurrentHashMap<>();
+
+    /*
+     * Incremented before any invalidation, so that a thread installing a computed entry can detect
+     * that it may be stale.
+     */
+    private final AtomicLong modCount = new AtomicLong();
+    private final AtomicLong size = new AtomicLong();
+
+    private final Lock evictionLock = new ReentrantLock();
+    private final List<ConcurrentMap<V, Neighbors<V>>> clockMaps;
+    private int clockMap;
+    private Iterator<Map.Entry<V, Neighbors<V>>> clockHand;
+
+    /**
+     * Create a new cache without any bound on its size.
+     *
+     * @param graph the input graph
+     * @throws NullPointerException if the input graph is null
+     */
+    public ConcurrentNeighborCache(Graph<V, E> graph)
+    {
+        this(graph, Long.MAX_VALUE);
+    }
+
+    /**
+     * Create a new cache.
+     *
+     * @param graph the input graph
+     * @param maximumSize the maximum total number of neighbors held by the cache, counting
+     *        multiple occurrences in multigraphs
+     * @throws NullPointerException if the input graph is null
+     * @throws IllegalArgumentException if the maximum size is not positive
+     */
+    public ConcurrentNeighborCache(Graph<V, E> graph, long maximumSize)
+    {
+        this.graph = Objects.requireNonNull(graph);
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive");
+        }
+        this.maximumSize = maximumSize;
+        this.clockMaps = List.of(successors, predecessors, neighbors);
+    }
+
+    /**
+     * Returns the unique predecessors of the given vertex.
+     *
+     * @param v the given vertex
+     * @return an immutable set of the unique predecessors of the given vertex
+     * @throws IllegalArgumentException if the vertex is not in the graph
+     */
+    public Set<V> predecessorsOf(V v)
+    {
+        return lookup(v, predecessors, Graphs::predecessorListOf);
+    }
+
+    /**
+     * Returns the unique successors of the given vertex.
+     *
+     * @param v the given vertex
+     * @return an immutable set of the unique successors of the given vertex
+     * @throws IllegalArgumentException if the vertex is not in the graph
+     */
+    public Set<V> successorsOf(V v)
+    {
+        return lookup(v, successors, Graphs::successorListOf);
+    }
+
+    /**
+     * Returns the unique neighbors of the given vertex.
+     *
+     * @param v the given vertex
+     * @return an immutable set of the unique neighbors of the given vertex
+     * @throws IllegalArgumentException if the vertex is not in the graph
+     */
+    public Set<V> neighborsOf(V v)
+    {
+        return lookup(v, neighbors, Graphs::neighborListOf);
+    }
+
+    /**
+     * Returns a list of vertices which are adjacent to a specified vertex. If the graph is a
+     * multigraph, vertices may appear more than once in the returned list.
+     *
+     * @param v the vertex whose neighbors are desired
+     * @return an immutable list of all neighbors of the specified vertex
+     * @throws IllegalArgumentException if the vertex is not in the graph
+     */
+    public List<V> neighborListOf(V v)
+    {
+        return lookup(v, neighbors, Graphs::neighborListOf).list;
+    }
+
+    /**
+     * Remove all entries from the cache.
+     */
+    public void clear()
+    {
+        modCount.incrementAndGet();
+        for (ConcurrentMap<V, Neighbors<V>> map : clockMaps) {
+            for (V v : map.keySet()) {
+                invalidate(map, v);
+            }
+        }
+    }
+
+    /**
+     * Returns the total number of neighbors currently held by the cache.
+     *
+     * @return the total number of neighbors currently held by the cache
+     */
+    long size()
+    {
+        return size.get();
+    }
+
+    @Override
+    public void edgeAdded(GraphEdgeChangeEvent<V, E> e)
+    {
+        invalidateEndpoints(e);
+    }
+
+    @Override
+    public void edgeRemoved(GraphEdgeChangeEvent<V, E> e)
+    {
+        invalidateEndpoints(e);
+    }
+
+    @Override
+    public void vertexAdded(GraphVertexChangeEvent<V> e)
+    {
+        // Nothing to cache until there are edges
+    }
+
+    @Override
+    public void vertexRemoved(GraphVertexChangeEvent<V> e)
+    {
+        assert e.getSource() == this.graph : "Listening to a graph other than the cached one";
+
+        // the incident edges have been removed before, each with its own event
+        V v = e.getVertex();
+        modCount.incrementAndGet();
+        invalidate(successors, v);
+        invalidate(predecessors, v);
+        invalidate(neighbors, v);
+    }
+
+    /**
+     * Invalidate the entries of the endpoints of a changed edge. In undirected graphs the
+     * successors and predecessors of both endpoints change, so all entries are invalidated.
+     *
+     * @param e the edge event
+     */
+    private void invalidateEndpoints(GraphEdgeChangeEvent<V, E> e)
+    {
+        assert e.getSource() == this.graph : "Listening to a graph other than the cached one";
+
+        V source = e.getEdgeSource();
+        V target = e.getEdgeTarget();
+        modCount.incrementAndGet();
+        for (ConcurrentMap<V, Neighbors<V>> map : clockMaps) {
+            invalidate(map, source);
+            invalidate(map, target);
+        }
+    }
+
+    /**
+     * Remove an entry from a map.
+     *
+     * @param map the map
+     * @param v the vertex
+     */
+    private void invalidate(ConcurrentMap<V, Neighbors<V>> map, V v)
+    {
+        Neighbors<V> removed = map.remove(v);
+        if (removed != null) {
+            size.addAndGet(-removed.weight());
+        }
+    }
+
+    /**
+     * Returns the cached neighbors of a vertex, computing them if absent.
+     *
+     * @param v the vertex
+     * @param map the map of cached entries
+     * @param compute the function computing the neighbors from the graph
+     * @return the neighbors
+     */
+    private Neighbors<V> lookup(
+        V v, ConcurrentMap<V, Neighbors<V>> map, BiFunction<Graph<V, E>, V, List<V>> compute)
+    {
+        Neighbors<V> cached = map.get(v);
+        if (cached != null) {
+            cached.referenced = true;
+            return cached;
+        }
+
+        /*
+         * The neighbors are computed outside of the map, since computeIfAbsent would block other
+         * threads accessing the same bin while walking the graph.
+         */
+        long expectedModCount = modCount.get();
+        Neighbors<V> computed = new Neighbors<>(compute.apply(graph, v));
+        cached = map.putIfAbsent(v, computed);
+        if (cached != null) {
+            cached.referenced = true;
+            return cached;
+        }
+        size.addAndGet(computed.weight());
+        if (modCount.get() != expectedModCount && map.remove(v, computed)) {
+            // the graph changed while computing, the entry may be stale
+            size.addAndGet(-computed.weight());
+        } else if (size.get() > maximumSize) {
+            evict();
+        }
+        return computed;
+    }
+
+    /**
+     * Evict entries until the size of the cache is within its bound, unless another thread is
+     * already evicting.
+     */
+    private void evict()
+    {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            // every entry is visited at most twice, once to clear its reference bit
+            long budget = 2 * (successors.size() + predecessors.size() + neighbors.size()) + 3;
+            while (size.get() > maximumSize && budget-- > 0) {
+                if (clockHand == null || !clockHand.hasNext()) {
+                    clockMap = (clockMap + 1) % clockMaps.size();
+                    clockHand = clockMaps.get(clockMap).entrySet().iterator();
+                    continue;
+                }
+                Map.Entry<V, Neighbors<V>> entry = clockHand.next();
+                Neighbors<V> value = entry.getValue();
+                if (value.referenced) {
+                    value.referenced = false;
+                } else if (clockMaps.get(clockMap).remove(entry.getKey(), value)) {
+                    size.addAndGet(-value.weight());
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Immutable neighbors of a single vertex, stored in arrays.
+     *
+     * @param <V> the vertex type
+     */
+    static final class Neighbors<V>
+        extends
+        AbstractSet<V>
+    {
+        /*
+         * The unique neighbors, and all neighbors with repetitions. Both arrays are the same when
+         * there are no repetitions.
+         */
+        private final V[] elements;
+        private final V[] all;
+        private final int[] table;
+        final List<V> list;
+
+        /*
+         * Reference bit of the clock. Races between threads setting and clearing it are benign.
+         */
+        boolean referenced;
+
+        /**
+         * Create the neighbors from a list which may contain repetitions.
+         *
+         * @param neighbors the neighbors
+         */
+        @SuppressWarnings("unchecked")
+        Neighbors(List<V> neighbors)
+        {
+            this.all = (V[]) neighbors.toArray();
+            Set<V> unique = new LinkedHashSet<>(neighbors);
+            this.elements = unique.size() == all.length ? all : (V[]) unique.toArray();
+            this.list = Collections.unmodifiableList(Arrays.asList(all));
+            if (elements.length > INDEX_THRESHOLD) {
+                table = new int[Integer.highestOneBit(elements.length) << 2];
+                int mask = table.length - 1;
+                for (int i = 0; i < elements.length; i++) {
+                    int slot = hash(elements[i]) & mask;
+                    while (table[slot] != 0) {
+                        slot = (slot + 1) & mask;
+                    }
+                    table[slot] = i + 1;
+                }
+            } else {
+                table = null;
+            }
+            this.referenced = true;
+        }
+
+        /**
+         * Returns the number of neighbors accounted for the size of the cache.
+         *
+         * @return the number of neighbors, at least one
+         */
+        long weight()
+        {
+            return Math.max(1, all == elements ? all.length : all.length + elements.length);
+        }
+
+        /**
+         * Compute the hash of an element.
+         *
+         * @param o the element
+         * @return the hash
+         */
+        private static int hash(Object o)
+        {
+            int h = o.hashCode();
+            return h ^ (h >>> 16);
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            if (o == null) {
+                return false;
+            }
+            if (table == null) {
+                for (V v : elements) {
+                    if (o.equals(v)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            int mask = table.length - 1;
+            for (int slot = hash(o) & mask;; slot = (slot + 1) & mask) {
+                int p = table[slot];
+                if (p == 0) {
+                    return false;
+                }
+                if (o.equals(elements[p - 1])) {
+                    return true;
+                }
+            }
+        }
+
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new Iterator<V>()
+            {
+                private int next;
+
+                @Override
+                public boolean hasNext()
+                {
+                    return next < elements.length;
+                }
+
+                @Override
+                public V next()
+                {
+                    if (next >= elements.length) {
+                        throw new NoSuchElementException();
+                    }
+                    return elements[next++];
+                }
+            };
+        }
+
+        @Override
+        public void forEach(Consumer<? super V> action)
+        {
+            for (V v : elements) {
+                action.accept(v);
+            }
+        }
+
+        @Override
+        public int size()
+        {
+            return elements.length;
+        }
+    }
+}
@@ -34,6 +34,10 @@ import java.util.function.*;
  * result of the union of calling predecessorsOf(v) and successorsOf(v) is equal to the result of
  * calling neighborsOf(v) for a given vertex v.
  * 
+ * <p>
+ * This class is not thread-safe. See {@link ConcurrentNeighborCache} for a cache which can be
+ * shared by multiple threads.
+ * 
  * @param <V> the vertex type
  * @param <E> the edge type
  * 
@@ -0,0 +1,46 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.event;
+
+import java.util.*;
+
+/**
+ * A listener that is notified once per batch of changes of a graph.
+ *
+ * <p>
+ * Compared to a {@link GraphListener}, which receives an event object for every single change, a
+ * batch listener receives all the changes of a batch at once, as a compact
+ * {@link GraphChangeBatch}. Graphs may deliver the batches on a different thread than the one
+ * which modified the graph.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see GraphChangeBatch
+ */
+public interface GraphBatchListener<V, E>
+    extends
+    EventListener
+{
+    /**
+     * Notifies that a batch of changes has been committed to the graph.
+     *
+     * @param batch the changes of the batch, in the order in which they occurred
+     */
+    void batchCommitted(GraphChangeBatch<V, E> batch);
+}
@@ -0,0 +1,430 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.event;
+
+import java.util.*;
+
+/**
+ * A compact log of the changes performed on a graph during a batch of modifications.
+ *
+ * <p>
+ * The changes are stored in parallel arrays in the order in which they occurred, so that no event
+ * object is created per change. Each change has one of the types of {@link GraphVertexChangeEvent}
+ * or {@link GraphEdgeChangeEvent}. An event object for a single change can still be obtained with
+ * {@link #getEvent(int)}.
+ *
+ * <p>
+ * A batch is filled by the graph while the batch is in progress and must not be modified after it
+ * has been delivered to the {@link GraphBatchListener}s.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see GraphBatchListener
+ */
+public class GraphChangeBatch<V, E>
+{
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Object source;
+    private final boolean singleChange;
+    private byte[] types;
+    private Object[] elements;
+    private Object[] edgeSources;
+    private Object[] edgeTargets;
+    private double[] edgeWeights;
+    private int size;
+
+    /**
+     * Creates a new empty batch.
+     *
+     * @param source the graph whose changes are logged
+     */
+    public GraphChangeBatch(Object source)
+    {
+        this(source, false);
+    }
+
+    /**
+     * Creates a new empty batch.
+     *
+     * @param source the graph whose changes are logged
+     * @param singleChange whether the batch holds a single change performed outside of a batch
+     */
+    public GraphChangeBatch(Object source, boolean singleChange)
+    {
+        this.source = Objects.requireNonNull(source);
+        this.singleChange = singleChange;
+        this.types = new byte[INITIAL_CAPACITY];
+        this.elements = new Object[INITIAL_CAPACITY];
+        this.edgeSources = new Object[INITIAL_CAPACITY];
+        this.edgeTargets = new Object[INITIAL_CAPACITY];
+        this.edgeWeights = new double[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Returns the graph whose changes are logged.
+     *
+     * @return the graph whose changes are logged
+     */
+    public Object getSource()
+    {
+        return source;
+    }
+
+    /**
+     * Returns whether the batch holds a single change which was performed outside of a batch.
+     * Such batches are delivered for every change which is not part of a batch started by the
+     * graph, so listeners may prefer to group them instead of handling each one as a unit.
+     *
+     * @return true if the batch holds a single change performed outside of a batch, false
+     *         otherwise
+     */
+    public boolean isSingleChange()
+    {
+        return singleChange;
+    }
+
+    /**
+     * Returns the number of changes in the batch.
+     *
+     * @return the number of changes
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Returns whether the batch contains no changes.
+     *
+     * @return true if the batch contains no changes, false otherwise
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Appends a vertex change to the batch.
+     *
+     * @param type the type of the change, one of {@link GraphVertexChangeEvent#VERTEX_ADDED} or
+     *        {@link GraphVertexChangeEvent#VERTEX_REMOVED}
+     * @param vertex the vertex
+     * @throws IllegalArgumentException if the type is not a vertex change type
+     */
+    public void addVertexChange(int type, V vertex)
+    {
+        if (!isVertexType(type)) {
+            throw new IllegalArgumentException("Not a vertex change type: " + type);
+        }
+        append(type, vertex, null, null, 0d);
+    }
+
+    /**
+     * Appends an edge change to the batch.
+     *
+     * @param type the type of the change, one of {@link GraphEdgeChangeEvent#EDGE_ADDED},
+     *        {@link GraphEdgeChangeEvent#EDGE_REMOVED} or
+     *        {@link GraphEdgeChangeEvent#EDGE_WEIGHT_UPDATED}
+     * @param edge the edge
+     * @param edgeSource the source vertex of the edge
+     * @param edgeTarget the target vertex of the edge
+     * @param edgeWeight the weight of the edge
+     * @throws IllegalArgumentException if the type is not an edge change type
+     */
+    public void addEdgeChange(int type, E edge, V edgeSource, V edgeTarget, double edgeWeight)
+    {
+        if (!isEdgeType(type)) {
+            throw new IllegalArgumentException("Not an edge change type: " + type);
+        }
+        append(type, edge, edgeSource, edgeTarget, edgeWeight);
+    }
+
+    /**
+     * Returns the type of a change.
+     *
+     * @param index the index of the change
+     * @return the type of the change, as defined by {@link GraphVertexChangeEvent} or
+     *         {@link GraphEdgeChangeEvent}
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int getType(int index)
+    {
+        return types[Objects.checkIndex(index, size)];
+    }
+
+    /**
+     * Returns whether a change is a vertex change.
+     *
+     * @param index the index of the change
+     * @return true if the change is a vertex change, false if it is an edge change
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public boolean isVertexChange(int index)
+    {
+        return isVertexType(getType(index));
+    }
+
+    /**
+     * Returns the vertex of a vertex change.
+     *
+     * @param index the index of the change
+     * @return the vertex
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws IllegalArgumentException if the change is not a vertex change
+     */
+    @SuppressWarnings("unchecked")
+    public V getVertex(int index)
+    {
+        if (!isVertexChange(index)) {
+            throw new IllegalArgumentException("Not a vertex change");
+        }
+        return (V) elements[index];
+    }
+
+    /**
+     * Returns the edge of an edge change.
+     *
+     * @param index the index of the change
+     * @return the edge
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws IllegalArgumentException if the change is not an edge change
+     */
+    @SuppressWarnings("unchecked")
+    public E getEdge(int index)
+    {
+        assertEdgeChange(index);
+        return (E) elements[index];
+    }
+
+    /**
+     * Returns the source vertex of the edge of an edge change.
+     *
+     * @param index the index of the change
+     * @return the source vertex of the edge
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws IllegalArgumentException if the change is not an edge change
+     */
+    @SuppressWarnings("unchecked")
+    public V getEdgeSource(int index)
+    {
+        assertEdgeChange(index);
+        return (V) edgeSources[index];
+    }
+
+    /**
+     * Returns the target vertex of the edge of an edge change.
+     *
+     * @param index the index of the change
+     * @return the target vertex of the edge
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws IllegalArgumentException if the change is not an edge change
+     */
+    @SuppressWarnings("unchecked")
+    public V getEdgeTarget(int index)
+    {
+        assertEdgeChange(index);
+        return (V) edgeTargets[index];
+    }
+
+    /**
+     * Returns the weight of the edge of an edge change.
+     *
+     * @param index the index of the change
+     * @return the weight of the edge
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws IllegalArgumentException if the change is not an edge change
+     */
+    public double getEdgeWeight(int index)
+    {
+        assertEdgeChange(index);
+        return edgeWeights[index];
+    }
+
+    /**
+     * Removes the changes which have no net effect on the graph. The changes of a vertex or an
+     * edge which is added and later removed within the batch are removed, together with the weight
+     * updates of an edge which is removed later in the batch. Every remaining addition and weight
+     * update therefore refers to an element which is still contained in the graph when the batch
+     * ends. The order of the remaining changes is preserved.
+     */
+    public void removeTransientChanges()
+    {
+        boolean removals = false;
+        for (int i = 0; i < size && !removals; i++) {
+            removals = isRemovedType(types[i]);
+        }
+        if (!removals) {
+            return;
+        }
+
+        /*
+         * Open addressing table from an element to the index of its latest change plus one. The
+         * earlier changes of an element are chained through previous, back to its addition or its
+         * last removal.
+         */
+        int mask = Integer.highestOneBit(Math.max(2 * size - 1, 1)) * 2 - 1;
+        int[] latest = new int[mask + 1];
+        int[] previous = new int[size];
+        boolean[] transientChange = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            int h = elements[i].hashCode();
+            int slot = (h ^ (h >>> 16)) & mask;
+            while (latest[slot] != 0 && !sameElement(latest[slot] - 1, i)) {
+                slot = (slot + 1) & mask;
+            }
+            int last = latest[slot] - 1;
+            latest[slot] = i + 1;
+
+            int type = types[i];
+            if (type == GraphVertexChangeEvent.VERTEX_ADDED
+                || type == GraphEdgeChangeEvent.EDGE_ADDED)
+            {
+                previous[i] = -1;
+            } else if (type == GraphEdgeChangeEvent.EDGE_WEIGHT_UPDATED) {
+                previous[i] = last;
+            } else {
+                previous[i] = -1;
+                boolean added = false;
+                for (int j = last; j >= 0 && !isRemovedType(types[j]); j = previous[j]) {
+                    transientChange[j] = true;
+                    added |= types[j] != GraphEdgeChangeEvent.EDGE_WEIGHT_UPDATED;
+                }
+                transientChange[i] = added;
+            }
+        }
+
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (!transientChange[i]) {
+                types[kept] = types[i];
+                elements[kept] = elements[i];
+                edgeSources[kept] = edgeSources[i];
+                edgeTargets[kept] = edgeTargets[i];
+                edgeWeights[kept] = edgeWeights[i];
+                kept++;
+            }
+        }
+        Arrays.fill(elements, kept, size, null);
+        Arrays.fill(edgeSources, kept, size, null);
+        Arrays.fill(edgeTargets, kept, size, null);
+        size = kept;
+    }
+
+    /**
+     * Creates an event object for a change.
+     *
+     * @param index the index of the change
+     * @return a {@link GraphVertexChangeEvent} or a {@link GraphEdgeChangeEvent} for the change
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @SuppressWarnings("unchecked")
+    public GraphChangeEvent getEvent(int index)
+    {
+        int type = getType(index);
+        if (isVertexType(type)) {
+            return new GraphVertexChangeEvent<>(source, type, (V) elements[index]);
+        }
+        return new GraphEdgeChangeEvent<>(
+            source, type, (E) elements[index], (V) edgeSources[index], (V) edgeTargets[index],
+            edgeWeights[index]);
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(types[i]).append(':').append(elements[i]);
+        }
+        return sb.append(']').toString();
+    }
+
+    /**
+     * Append a change, growing the arrays if needed.
+     *
+     * @param type the type of the change
+     * @param element the vertex or edge
+     * @param edgeSource the source of the edge, or null
+     * @param edgeTarget the target of the edge, or null
+     * @param edgeWeight the weight of the edge
+     */
+    private void append(int type, Object element, V edgeSource, V edgeTarget, double edgeWeight)
+    {
+        if (size == types.length) {
+            int capacity = 2 * size;
+            types = Arrays.copyOf(types, capacity);
+            elements = Arrays.copyOf(elements, capacity);
+            edgeSources = Arrays.copyOf(edgeSources, capacity);
+            edgeTargets = Arrays.copyOf(edgeTargets, capacity);
+            edgeWeights = Arrays.copyOf(edgeWeights, capacity);
+        }
+        types[size] = (byte) type;
+        elements[size] = element;
+        edgeSources[size] = edgeSource;
+        edgeTargets[size] = edgeTarget;
+        edgeWeights[size] = edgeWeight;
+        size++;
+    }
+
+    /**
+     * Check that a change is an edge change.
+     *
+     * @param index the index of the change
+     */
+    private void assertEdgeChange(int index)
+    {
+        if (!isEdgeType(getType(index))) {
+            throw new IllegalArgumentException("Not an edge change");
+        }
+    }
+
+    /**
+     * Check whether two changes concern the same vertex or the same edge.
+     *
+     * @param i the index of the first change
+     * @param j the index of the second change
+     * @return true if the changes concern the same element, false otherwise
+     */
+    private boolean sameElement(int i, int j)
+    {
+        return isVertexType(types[i]) == isVertexType(types[j]) && elements[i].equals(elements[j]);
+    }
+
+    private static boolean isRemovedType(int type)
+    {
+        return type == GraphVertexChangeEvent.VERTEX_REMOVED
+            || type == GraphEdgeChangeEvent.EDGE_REMOVED;
+    }
+
+    private static boolean isVertexType(int type)
+    {
+        return type == GraphVertexChangeEvent.VERTEX_ADDED
+            || type == GraphVertexChangeEvent.VERTEX_REMOVED;
+    }
+
+    private static boolean isEdgeType(int type)
+    {
+        return type == GraphEdgeChangeEvent.EDGE_ADDED || type == GraphEdgeChangeEvent.EDGE_REMOVED
+            || type == GraphEdgeChangeEvent.EDGE_WEIGHT_UPDATED;
+    }
+}
@@ -80,6 +80,25 @@ public abstract class AbstractBaseGraph<V, E>
     private static final String THE_GRAPH_CONTAINS_NO_EDGE_SUPPLIER =
         "The graph contains no edge supplier";
 
+    /**
+     * Whether a class of graphs inherits {@link #addEdge(Object, Object)} from this class, so that
+     * {@link #addTrustedEdge(Object, Object)} does not bypass any check of a subclass
+     */
+    private static final ClassValue<Boolean> INHERITS_ADD_EDGE = new ClassValue<>()
+    {
+        @Override
+        protected Boolean computeValue(Class<?> type)
+        {
+            try {
+                return type
+                    .getMethod("addEdge", Object.class, Object.class)
+                    .getDeclaringClass() == AbstractBaseGraph.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
     private transient Set<V> unmodifiableVertexSet = null;
 
     private Supplier<V> vertexSupplier;
@@ -307,6 +326,71 @@ public abstract class AbstractBaseGraph<V, E>
         }
     }
 
+    /**
+     * Adds an edge from trusted input to a graph. If the graph is an {@link AbstractBaseGraph}
+     * whose class does not override {@link #addEdge(Object, Object)}, the edge is added by
+     * {@link #addTrustedEdge(Object, Object)}, skipping the lookup of an existing edge. Otherwise
+     * the edge is added by {@link Graph#addEdge(Object, Object)}, so that the checks of the graph,
+     * such as the cycle check of {@link DirectedAcyclicGraph}, are still performed. This method is
+     * intended for bulk loading, see
+     * {@link org.jgrapht.graph.builder.AbstractGraphBuilder#trustedInput(boolean)}.
+     *
+     * <p>
+     * The caller must guarantee that both vertices are contained in the graph and, if the graph
+     * does not allow multiple edges, that no edge already connects the two vertices. The graph is
+     * left in an inconsistent state otherwise.
+     *
+     * @param graph the graph
+     * @param sourceVertex source vertex of the edge
+     * @param targetVertex target vertex of the edge
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @return the newly created edge, or null if the edge was not added
+     * @throws IllegalArgumentException if the edge is a self-loop and self-loops are not allowed
+     * @throws UnsupportedOperationException if the graph was not initialized with an edge supplier
+     */
+    public static <V, E> E addTrustedEdge(Graph<V, E> graph, V sourceVertex, V targetVertex)
+    {
+        if (graph instanceof AbstractBaseGraph && INHERITS_ADD_EDGE.get(graph.getClass())) {
+            return ((AbstractBaseGraph<V, E>) graph).addTrustedEdge(sourceVertex, targetVertex);
+        }
+        return graph.addEdge(sourceVertex, targetVertex);
+    }
+
+    /**
+     * Creates a new edge using the edge supplier and adds it to this graph, skipping the checks
+     * which are redundant for trusted input. This method bypasses any override of
+     * {@link #addEdge(Object, Object)}, use {@link #addTrustedEdge(Graph, Object, Object)} which
+     * only calls it for graphs that inherit {@link #addEdge(Object, Object)} from this class.
+     *
+     * <p>
+     * The caller must guarantee that both vertices are contained in this graph and, if this graph
+     * does not allow multiple edges, that no edge already connects the two vertices. The graph is
+     * left in an inconsistent state otherwise. Self-loops are still rejected if not allowed.
+     *
+     * @param sourceVertex source vertex of the edge
+     * @param targetVertex target vertex of the edge
+     * @return the newly created edge
+     * @throws IllegalArgumentException if the edge is a self-loop and self-loops are not allowed
+     * @throws UnsupportedOperationException if the graph was not initialized with an edge supplier
+     */
+    protected E addTrustedEdge(V sourceVertex, V targetVertex)
+    {
+        if (!type.isAllowingSelfLoops() && sourceVertex.equals(targetVertex)) {
+            throw new IllegalArgumentException(LOOPS_NOT_ALLOWED);
+        }
+        if (edgeSupplier == null) {
+            throw new UnsupportedOperationException(THE_GRAPH_CONTAINS_NO_EDGE_SUPPLIER);
+        }
+
+        E e = edgeSupplier.get();
+        if (intrusiveEdgesSpecifics.add(e, sourceVertex, targetVertex)) {
+            specifics.addEdgeToTouchingVertices(sourceVertex, targetVertex, e);
+            return e;
+        }
+        return null;
+    }
+
     @Override
     public V addVertex()
     {
@@ -594,8 +678,87 @@ public abstract class AbstractBaseGraph<V, E>
     {
         // override interface to avoid instantiating frequently
         if (graphIterables == null) {
-            graphIterables = new DefaultGraphIterables<>(this);
+            graphIterables = new BaseGraphIterables();
         }
         return graphIterables;
     }
+
+    /**
+     * Returns the vertex opposite to a vertex of an edge.
+     *
+     * @param e the edge
+     * @param vertex one endpoint of the edge
+     * @return the other endpoint of the edge
+     */
+    private V oppositeVertex(E e, V vertex)
+    {
+        V source = intrusiveEdgesSpecifics.getEdgeSource(e);
+        return vertex.equals(source) ? intrusiveEdgesSpecifics.getEdgeTarget(e) : source;
+    }
+
+    /**
+     * Graph iterables which traverse the edge containers of the graph specifics directly, without
+     * creating the unmodifiable views returned by the graph.
+     */
+    private class BaseGraphIterables
+        extends
+        DefaultGraphIterables<V, E>
+    {
+        BaseGraphIterables()
+        {
+            super(AbstractBaseGraph.this);
+        }
+
+        @Override
+        public void forEachEdgeOf(V vertex, Consumer<? super E> action)
+        {
+            assertVertexExist(vertex);
+            specifics.forEachEdgeOf(vertex, action);
+        }
+
+        @Override
+        public void forEachIncomingEdge(V vertex, Consumer<? super E> action)
+        {
+            assertVertexExist(vertex);
+            specifics.forEachIncomingEdge(vertex, action);
+        }
+
+        @Override
+        public void forEachOutgoingEdge(V vertex, Consumer<? super E> action)
+        {
+            assertVertexExist(vertex);
+            specifics.forEachOutgoingEdge(vertex, action);
+        }
+
+        @Override
+        public void forEachNeighbor(V vertex, Consumer<? super V> action)
+        {
+            assertVertexExist(vertex);
+            specifics.forEachEdgeOf(vertex, e -> action.accept(oppositeVertex(e, vertex)));
+        }
+
+        @Override
+        public void forEachPredecessor(V vertex, Consumer<? super V> action)
+        {
+            assertVertexExist(vertex);
+            if (type.isDirected()) {
+                specifics.forEachIncomingEdge(
+                    vertex, e -> action.accept(intrusiveEdgesSpecifics.getEdgeSource(e)));
+            } else {
+                specifics.forEachEdgeOf(vertex, e -> action.accept(oppositeVertex(e, vertex)));
+            }
+        }
+
+        @Override
+        public void forEachSuccessor(V vertex, Consumer<? super V> action)
+        {
+            assertVertexExist(vertex);
+            if (type.isDirected()) {
+                specifics.forEachOutgoingEdge(
+                    vertex, e -> action.accept(intrusiveEdgesSpecifics.getEdgeTarget(e)));
+            } else {
+                specifics.forEachEdgeOf(vertex, e -> action.accept(oppositeVertex(e, vertex)));
+            }
+        }
+    }
 }
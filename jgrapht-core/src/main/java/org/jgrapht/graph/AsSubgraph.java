@@ -111,6 +111,8 @@ public class AsSubgraph<V, E>
     private transient Set<E> unmodifiableEdgeSet = null;
     private transient Set<V> unmodifiableVertexSet = null;
 
+    private final SubgraphAdjacencyCache<V, E> adjacencyCache;
+
     /**
      * Creates a new subgraph.
      *
@@ -121,12 +123,37 @@ public class AsSubgraph<V, E>
      *        edges whose vertices found in the graph are included.
      */
     public AsSubgraph(Graph<V, E> base, Set<? extends V> vertexSubset, Set<? extends E> edgeSubset)
+    {
+        this(base, vertexSubset, edgeSubset, false);
+    }
+
+    /**
+     * Creates a new subgraph, optionally caching the adjacency of its vertices.
+     *
+     * <p>
+     * Without the cache, every degree query and every query for the edges of a vertex filters the
+     * edges of the vertex in the base graph. With the cache, the filtered edges of a vertex are
+     * materialized into an array on first access, so that degree queries run in constant time. The
+     * cache of a vertex is invalidated whenever an edge touching it is added to or removed from the
+     * subgraph, including the changes propagated from a listenable base graph.
+     *
+     * @param base the base (backing) graph on which the subgraph will be based.
+     * @param vertexSubset vertices to include in the subgraph. If <code>null</code> then all
+     *        vertices are included.
+     * @param edgeSubset edges to in include in the subgraph. If <code>null</code> then all the
+     *        edges whose vertices found in the graph are included.
+     * @param cacheAdjacency whether to cache the adjacency of the vertices
+     */
+    public AsSubgraph(
+        Graph<V, E> base, Set<? extends V> vertexSubset, Set<? extends E> edgeSubset,
+        boolean cacheAdjacency)
     {
         super();
 
         this.base = GraphTests.requireDirectedOrUndirected(base);
         this.baseType = base.getType();
         this.isInduced = edgeSubset == null;
+        this.adjacencyCache = cacheAdjacency ? new SubgraphAdjacencyCache<>(base, this) : null;
 
         if (base instanceof ListenableGraph<?, ?>) {
             ((ListenableGraph<V, E>) base).addGraphListener(new BaseGraphListener());
@@ -239,6 +266,7 @@ public class AsSubgraph<V, E>
         for (E e : edges) {
             if (!containsEdge(e)) {
                 edgeSet.add(e);
+                invalidateAdjacency(sourceVertex, targetVertex);
                 return e;
             }
         }
@@ -266,7 +294,11 @@ public class AsSubgraph<V, E>
         assert (base.getEdgeSource(e) == sourceVertex);
         assert (base.getEdgeTarget(e) == targetVertex);
 
-        return edgeSet.add(e);
+        if (edgeSet.add(e)) {
+            invalidateAdjacency(sourceVertex, targetVertex);
+            return true;
+        }
+        return false;
     }
 
     @Override
@@ -339,6 +371,9 @@ public class AsSubgraph<V, E>
     {
         assertVertexExist(vertex);
 
+        if (adjacencyCache != null) {
+            return adjacencyCache.edgesOf(vertex);
+        }
         return base
             .edgesOf(vertex).stream().filter(edgeSet::contains)
             .collect(Collectors.toCollection(LinkedHashSet::new));
@@ -356,6 +391,9 @@ public class AsSubgraph<V, E>
     {
         assertVertexExist(vertex);
 
+        if (adjacencyCache != null) {
+            return adjacencyCache.degreeOf(vertex);
+        }
         if (baseType.isUndirected()) {
             int degree = 0;
             Iterator<E> it = base.edgesOf(vertex).stream().filter(edgeSet::contains).iterator();
@@ -380,6 +418,9 @@ public class AsSubgraph<V, E>
     {
         assertVertexExist(vertex);
 
+        if (adjacencyCache != null) {
+            return adjacencyCache.incomingEdgesOf(vertex);
+        }
         return base
             .incomingEdgesOf(vertex).stream().filter(edgeSet::contains)
             .collect(Collectors.toCollection(LinkedHashSet::new));
@@ -391,6 +432,10 @@ public class AsSubgraph<V, E>
     @Override
     public int inDegreeOf(V vertex)
     {
+        if (adjacencyCache != null) {
+            assertVertexExist(vertex);
+            return adjacencyCache.inDegreeOf(vertex);
+        }
         if (baseType.isUndirected()) {
             return degreeOf(vertex);
         } else {
@@ -406,6 +451,9 @@ public class AsSubgraph<V, E>
     {
         assertVertexExist(vertex);
 
+        if (adjacencyCache != null) {
+            return adjacencyCache.outgoingEdgesOf(vertex);
+        }
         return base
             .outgoingEdgesOf(vertex).stream().filter(edgeSet::contains)
             .collect(Collectors.toCollection(LinkedHashSet::new));
@@ -417,6 +465,10 @@ public class AsSubgraph<V, E>
     @Override
     public int outDegreeOf(V vertex)
     {
+        if (adjacencyCache != null) {
+            assertVertexExist(vertex);
+            return adjacencyCache.outDegreeOf(vertex);
+        }
         if (baseType.isUndirected()) {
             return degreeOf(vertex);
         } else {
@@ -430,6 +482,9 @@ public class AsSubgraph<V, E>
     @Override
     public boolean removeEdge(E e)
     {
+        if (adjacencyCache != null && edgeSet.contains(e) && base.containsEdge(e)) {
+            invalidateAdjacency(base.getEdgeSource(e), base.getEdgeTarget(e));
+        }
         return edgeSet.remove(e);
     }
 
@@ -441,7 +496,11 @@ public class AsSubgraph<V, E>
     {
         E e = getEdge(sourceVertex, targetVertex);
 
-        return edgeSet.remove(e) ? e : null;
+        if (edgeSet.remove(e)) {
+            invalidateAdjacency(sourceVertex, targetVertex);
+            return e;
+        }
+        return null;
     }
 
     /**
@@ -456,6 +515,9 @@ public class AsSubgraph<V, E>
         if (containsVertex(v) && base.containsVertex(v)) {
             removeAllEdges(edgesOf(v));
         }
+        if (adjacencyCache != null) {
+            adjacencyCache.invalidate(v);
+        }
 
         return vertexSet.remove(v);
     }
@@ -518,6 +580,20 @@ public class AsSubgraph<V, E>
         base.setEdgeWeight(e, weight);
     }
 
+    /**
+     * Invalidate the cached adjacency of the endpoints of an edge, if the adjacency is cached.
+     *
+     * @param source the source vertex
+     * @param target the target vertex
+     */
+    private void invalidateAdjacency(V source, V target)
+    {
+        if (adjacencyCache != null) {
+            adjacencyCache.invalidate(source);
+            adjacencyCache.invalidate(target);
+        }
+    }
+
     private void initialize(Set<? extends V> vertexFilter, Set<? extends E> edgeFilter)
     {
         if (vertexFilter == null && edgeFilter == null) {
@@ -603,6 +679,11 @@ public class AsSubgraph<V, E>
         {
             E edge = e.getEdge();
 
+            // the edge is no longer in the base graph, so its endpoints come from the event
+            if (containsEdge(edge)) {
+                invalidateAdjacency(e.getEdgeSource(), e.getEdgeTarget());
+            }
+
             removeEdge(edge);
         }
 
@@ -0,0 +1,485 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph;
+
+import org.jgrapht.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+
+/**
+ * An unmodifiable subgraph whose vertex and edge subsets are compressed bitmaps over a dense index
+ * of the base graph.
+ *
+ * <p>
+ * An {@link Index} numbers the vertices and edges of the base graph once, and can be shared by any
+ * number of subgraphs. Each subgraph then only stores a {@link RoaringBitmap} of the indices of its
+ * vertices and, unless it is induced, of its edges. Compared to {@link AsSubgraph}, which copies
+ * its subsets into hash sets and registers a listener on the base graph, construction is cheap and
+ * the footprint of a subgraph is often a few bits per member. An edge belongs to the subgraph if it
+ * is in the edge subset, or the subgraph is induced, and both its endpoints are in the vertex
+ * subset.
+ *
+ * <p>
+ * Subgraphs over the same index support set algebra. The {@link #union(BitmapSubgraph) union} and
+ * {@link #intersection(BitmapSubgraph) intersection} combine both the vertex and the edge subsets,
+ * while the {@link #difference(BitmapSubgraph) difference} removes the vertices of the other
+ * subgraph, together with their edges.
+ *
+ * <p>
+ * The index is a snapshot of the base graph, which must not be modified while its subgraphs are
+ * in use. The bitmaps passed to a subgraph must not be modified afterwards either.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class BitmapSubgraph<V, E>
+    extends
+    MaskSubgraph<V, E>
+{
+    private static final long serialVersionUID = -3319624567834096112L;
+
+    private static final String NO_SUCH_VERTEX_IN_BASE = "no such vertex in base graph";
+    private static final String NO_SUCH_EDGE_IN_BASE = "no such edge in base graph";
+
+    private final Index<V, E> index;
+    private final RoaringBitmap vertexBitmap;
+    private final RoaringBitmap edgeBitmap;
+
+    private transient RoaringBitmap effectiveEdgeBitmap;
+    private transient Set<V> vertexView;
+    private transient Set<E> edgeView;
+
+    /**
+     * Create a new subgraph.
+     *
+     * @param index the index of the base graph
+     * @param vertexBitmap the indices of the vertices of the subgraph
+     * @param edgeBitmap the indices of the edges of the subgraph, or null for the subgraph induced
+     *        by its vertices
+     */
+    public BitmapSubgraph(Index<V, E> index, RoaringBitmap vertexBitmap, RoaringBitmap edgeBitmap)
+    {
+        this(new Membership<>(index, vertexBitmap, edgeBitmap));
+    }
+
+    /**
+     * Create a new subgraph.
+     *
+     * @param membership the membership of the subgraph
+     */
+    private BitmapSubgraph(Membership<V, E> membership)
+    {
+        super(membership.index.graph, membership::isVertexMasked, membership::isEdgeMasked);
+        this.index = membership.index;
+        this.vertexBitmap = membership.vertices;
+        this.edgeBitmap = membership.edges;
+    }
+
+    /**
+     * Create the subgraph induced by a set of vertices.
+     *
+     * @param index the index of the base graph
+     * @param vertices the vertices
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @return the subgraph
+     * @throws IllegalArgumentException if a vertex is not in the base graph
+     */
+    public static <V, E> BitmapSubgraph<V, E> induced(
+        Index<V, E> index, Collection<? extends V> vertices)
+    {
+        return new BitmapSubgraph<>(index, index.vertexBitmap(vertices), null);
+    }
+
+    /**
+     * Create a subgraph from a set of vertices and a set of edges. Edges with an endpoint which is
+     * not in the set of vertices are ignored.
+     *
+     * @param index the index of the base graph
+     * @param vertices the vertices
+     * @param edges the edges
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @return the subgraph
+     * @throws IllegalArgumentException if a vertex or an edge is not in the base graph
+     */
+    public static <V, E> BitmapSubgraph<V, E> of(
+        Index<V, E> index, Collection<? extends V> vertices, Collection<? extends E> edges)
+    {
+        return new BitmapSubgraph<>(index, index.vertexBitmap(vertices), index.edgeBitmap(edges));
+    }
+
+    /**
+     * Returns the index of the base graph.
+     *
+     * @return the index of the base graph
+     */
+    public Index<V, E> getIndex()
+    {
+        return index;
+    }
+
+    /**
+     * Check whether this subgraph is induced by its vertices.
+     *
+     * @return true if the subgraph is induced, false otherwise
+     */
+    public boolean isInduced()
+    {
+        return edgeBitmap == null;
+    }
+
+    /**
+     * Returns a copy of the bitmap of the indices of the vertices of this subgraph.
+     *
+     * @return the vertex bitmap
+     */
+    public RoaringBitmap getVertexBitmap()
+    {
+        return vertexBitmap.copy();
+    }
+
+    /**
+     * Returns a copy of the bitmap of the indices of the edges of this subgraph.
+     *
+     * @return the edge bitmap
+     */
+    public RoaringBitmap getEdgeBitmap()
+    {
+        return effectiveEdgeBitmap().copy();
+    }
+
+    /**
+     * Returns the union of this subgraph and another subgraph over the same index.
+     *
+     * @param other the other subgraph
+     * @return a subgraph with the vertices and edges of both subgraphs
+     * @throws IllegalArgumentException if the subgraphs have different indices
+     */
+    public BitmapSubgraph<V, E> union(BitmapSubgraph<V, E> other)
+    {
+        assertSameIndex(other);
+        return new BitmapSubgraph<>(
+            index, vertexBitmap.or(other.vertexBitmap),
+            effectiveEdgeBitmap().or(other.effectiveEdgeBitmap()));
+    }
+
+    /**
+     * Returns the intersection of this subgraph and another subgraph over the same index. The
+     * intersection of two induced subgraphs is induced.
+     *
+     * @param other the other subgraph
+     * @return a subgraph with the vertices and edges present in both subgraphs
+     * @throws IllegalArgumentException if the subgraphs have different indices
+     */
+    public BitmapSubgraph<V, E> intersection(BitmapSubgraph<V, E> other)
+    {
+        assertSameIndex(other);
+        // an edge of an induced subgraph is any edge whose endpoints are in the result
+        RoaringBitmap edges;
+        if (edgeBitmap == null) {
+            edges = other.edgeBitmap;
+        } else if (other.edgeBitmap == null) {
+            edges = edgeBitmap;
+        } else {
+            edges = edgeBitmap.and(other.edgeBitmap);
+        }
+        return new BitmapSubgraph<>(index, vertexBitmap.and(other.vertexBitmap), edges);
+    }
+
+    /**
+     * Returns this subgraph without the vertices of another subgraph over the same index, and
+     * without the edges touching them. The difference of an induced subgraph is induced.
+     *
+     * @param other the other subgraph
+     * @return a subgraph with the vertices of this subgraph which are not in the other subgraph
+     * @throws IllegalArgumentException if the subgraphs have different indices
+     */
+    public BitmapSubgraph<V, E> difference(BitmapSubgraph<V, E> other)
+    {
+        assertSameIndex(other);
+        return new BitmapSubgraph<>(index, vertexBitmap.andNot(other.vertexBitmap), edgeBitmap);
+    }
+
+    @Override
+    public Set<V> vertexSet()
+    {
+        if (vertexView == null) {
+            vertexView = new BitmapSet<>(index.vertices.getIndexList(), vertexBitmap)
+            {
+                @Override
+                public boolean contains(Object o)
+                {
+                    Integer i = index.vertices.getVertexMap().get(o);
+                    return i != null && vertexBitmap.contains(i);
+                }
+            };
+        }
+        return vertexView;
+    }
+
+    @Override
+    public Set<E> edgeSet()
+    {
+        if (edgeView == null) {
+            edgeView = new BitmapSet<>(index.edges.getIndexList(), effectiveEdgeBitmap())
+            {
+                @Override
+                public boolean contains(Object o)
+                {
+                    Integer i = index.edges.getVertexMap().get(o);
+                    return i != null && containsEdgeIndex(i);
+                }
+            };
+        }
+        return edgeView;
+    }
+
+    /**
+     * Check whether an edge of the base graph belongs to this subgraph.
+     *
+     * @param i the index of the edge
+     * @return true if the edge belongs to this subgraph, false otherwise
+     */
+    private boolean containsEdgeIndex(int i)
+    {
+        if (edgeBitmap != null && !edgeBitmap.contains(i)) {
+            return false;
+        }
+        E e = index.edges.getIndexList().get(i);
+        Map<V, Integer> vertexMap = index.vertices.getVertexMap();
+        return vertexBitmap.contains(vertexMap.get(base.getEdgeSource(e)))
+            && vertexBitmap.contains(vertexMap.get(base.getEdgeTarget(e)));
+    }
+
+    /**
+     * Returns the bitmap of the edges which belong to this subgraph, computing it if needed.
+     *
+     * @return the bitmap
+     */
+    private RoaringBitmap effectiveEdgeBitmap()
+    {
+        if (effectiveEdgeBitmap != null) {
+            return effectiveEdgeBitmap;
+        }
+        RoaringBitmap result = new RoaringBitmap();
+        if (edgeBitmap != null) {
+            edgeBitmap.forEach(i -> {
+                if (containsEdgeIndex(i)) {
+                    result.add(i);
+                }
+            });
+        } else {
+            Map<E, Integer> edgeMap = index.edges.getVertexMap();
+            List<V> vertices = index.vertices.getIndexList();
+            vertexBitmap.forEach(i -> {
+                V v = vertices.get(i);
+                Set<E> edges = baseType.isDirected() ? base.outgoingEdgesOf(v) : base.edgesOf(v);
+                for (E e : edges) {
+                    if (vertexSet().contains(Graphs.getOppositeVertex(base, e, v))) {
+                        result.add(edgeMap.get(e));
+                    }
+                }
+            });
+        }
+        effectiveEdgeBitmap = result;
+        return result;
+    }
+
+    /**
+     * Ensures that another subgraph has the same index.
+     *
+     * @param other the other subgraph
+     */
+    private void assertSameIndex(BitmapSubgraph<V, E> other)
+    {
+        if (other.index != index) {
+            throw new IllegalArgumentException("Subgraphs must share the same index");
+        }
+    }
+
+    /**
+     * A dense numbering of the vertices and edges of a graph.
+     *
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     */
+    public static class Index<V, E>
+    {
+        private final Graph<V, E> graph;
+        private final VertexToIntegerMapping<V> vertices;
+        private final VertexToIntegerMapping<E> edges;
+
+        /**
+         * Create a new index, numbering the vertices and edges in the iteration order of the
+         * vertex and edge sets of the graph.
+         *
+         * @param graph the graph
+         */
+        public Index(Graph<V, E> graph)
+        {
+            this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+            this.vertices = new VertexToIntegerMapping<>(graph.vertexSet());
+            this.edges = new VertexToIntegerMapping<>(graph.edgeSet());
+        }
+
+        /**
+         * Returns the graph.
+         *
+         * @return the graph
+         */
+        public Graph<V, E> getGraph()
+        {
+            return graph;
+        }
+
+        /**
+         * Returns the numbering of the vertices.
+         *
+         * @return the numbering of the vertices
+         */
+        public VertexToIntegerMapping<V> getVertexMapping()
+        {
+            return vertices;
+        }
+
+        /**
+         * Returns the numbering of the edges.
+         *
+         * @return the numbering of the edges
+         */
+        public VertexToIntegerMapping<E> getEdgeMapping()
+        {
+            return edges;
+        }
+
+        /**
+         * Returns the bitmap of the indices of some vertices.
+         *
+         * @param subset the vertices
+         * @return the bitmap
+         * @throws IllegalArgumentException if a vertex is not in the graph
+         */
+        public RoaringBitmap vertexBitmap(Collection<? extends V> subset)
+        {
+            return bitmap(vertices.getVertexMap(), subset, NO_SUCH_VERTEX_IN_BASE);
+        }
+
+        /**
+         * Returns the bitmap of the indices of some edges.
+         *
+         * @param subset the edges
+         * @return the bitmap
+         * @throws IllegalArgumentException if an edge is not in the graph
+         */
+        public RoaringBitmap edgeBitmap(Collection<? extends E> subset)
+        {
+            return bitmap(edges.getVertexMap(), subset, NO_SUCH_EDGE_IN_BASE);
+        }
+
+        private static <T> RoaringBitmap bitmap(
+            Map<T, Integer> mapping, Collection<? extends T> subset, String message)
+        {
+            RoaringBitmap bitmap = new RoaringBitmap();
+            for (T t : subset) {
+                Integer i = mapping.get(t);
+                if (i == null) {
+                    throw new IllegalArgumentException(message);
+                }
+                bitmap.add(i);
+            }
+            return bitmap;
+        }
+    }
+
+    /**
+     * The membership of a subgraph, from which the masks are derived.
+     */
+    private static class Membership<V, E>
+    {
+        final Index<V, E> index;
+        final RoaringBitmap vertices;
+        final RoaringBitmap edges;
+
+        Membership(Index<V, E> index, RoaringBitmap vertices, RoaringBitmap edges)
+        {
+            this.index = Objects.requireNonNull(index, "Index cannot be null");
+            this.vertices = Objects.requireNonNull(vertices, "Vertex bitmap cannot be null");
+            this.edges = edges;
+        }
+
+        boolean isVertexMasked(V v)
+        {
+            Integer i = index.vertices.getVertexMap().get(v);
+            return i == null || !vertices.contains(i);
+        }
+
+        boolean isEdgeMasked(E e)
+        {
+            if (edges == null) {
+                return false;
+            }
+            Integer i = index.edges.getVertexMap().get(e);
+            return i == null || !edges.contains(i);
+        }
+    }
+
+    /**
+     * An unmodifiable set view of the elements whose indices are in a bitmap.
+     */
+    private abstract static class BitmapSet<T>
+        extends
+        AbstractSet<T>
+    {
+        private final List<T> elements;
+        private final RoaringBitmap bitmap;
+
+        BitmapSet(List<T> elements, RoaringBitmap bitmap)
+        {
+            this.elements = elements;
+            this.bitmap = bitmap;
+        }
+
+        @Override
+        public int size()
+        {
+            return bitmap.cardinality();
+        }
+
+        @Override
+        public Iterator<T> iterator()
+        {
+            PrimitiveIterator.OfInt it = bitmap.iterator();
+            return new Iterator<T>()
+            {
+                @Override
+                public boolean hasNext()
+                {
+                    return it.hasNext();
+                }
+
+                @Override
+                public T next()
+                {
+                    return elements.get(it.nextInt());
+                }
+            };
+        }
+    }
+}
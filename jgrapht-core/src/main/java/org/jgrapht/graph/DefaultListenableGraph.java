@@ -22,6 +22,7 @@ import org.jgrapht.event.*;
 import org.jgrapht.util.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * A graph backed by the the graph specified at the constructor, which can be listened by
@@ -34,12 +35,34 @@ import java.util.*;
  * but relies on <code>Object</code>'s <code>equals</code> and <code>hashCode</code> methods.
  * </p>
  *
+ * <p>
+ * Modifications can be grouped in a batch, started with {@link #beginBatch()} and ended with
+ * {@link #commit()}. While a batch is in progress no event object is created, the changes are
+ * only appended to a compact {@link GraphChangeBatch}. When the batch is committed, the graph and
+ * vertex set listeners are notified of each change, and each {@link GraphBatchListener} receives
+ * the whole batch at once, optionally on an {@link Executor}. Batch listeners also receive every
+ * modification performed outside a batch, as a batch of its own. Batching saves the event objects
+ * of the batch listeners only; graph and vertex set listeners are still notified once per change.
+ * No change is recorded while no listener is registered, so a listener registered while a batch
+ * is in progress is only notified of the changes made after its registration.
+ * </p>
+ *
+ * <p>
+ * Since the listeners are not notified before the commit, views and other structures maintained
+ * by listeners, such as an {@link AsSubgraph} of this graph, are stale while a batch is in
+ * progress and reflect the state of the graph before the batch until it is committed. At commit
+ * the changes of the elements which were added and removed again within the batch are dropped, see
+ * {@link GraphChangeBatch#removeTransientChanges()}, so that the listeners are not notified of
+ * elements which are no longer contained in the graph.
+ * </p>
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  *
  * @author Barak Naveh
  * @see GraphListener
  * @see VertexSetListener
+ * @see GraphBatchListener
  */
 public class DefaultListenableGraph<V, E>
     extends
@@ -55,6 +78,10 @@ public class DefaultListenableGraph<V, E>
     private FlyweightEdgeEvent<V, E> reuseableEdgeEvent;
     private FlyweightVertexEvent<V> reuseableVertexEvent;
     private boolean reuseEvents;
+    private List<GraphBatchListener<V, E>> batchListeners = new ArrayList<>();
+    private transient Executor batchExecutor;
+    private transient GraphChangeBatch<V, E> batch;
+    private transient int batchDepth;
 
     /**
      * Creates a new listenable graph.
@@ -117,6 +144,116 @@ public class DefaultListenableGraph<V, E>
         return reuseEvents;
     }
 
+    /**
+     * Sets the executor on which batches are delivered to the batch listeners. If the executor is
+     * <code>null</code>, which is the default, batches are delivered synchronously by the thread
+     * which committed them. Graph and vertex set listeners are always notified synchronously.
+     *
+     * <p>
+     * Each batch is submitted to the executor as a single task, which notifies all the batch
+     * listeners. Batches are therefore delivered in commit order only if the executor runs its
+     * tasks in submission order, such as a single threaded executor. It is up to the user to
+     * manage the lifecycle of the executor.
+     *
+     * @param batchExecutor the executor, or null to deliver the batches synchronously
+     */
+    public void setBatchExecutor(Executor batchExecutor)
+    {
+        this.batchExecutor = batchExecutor;
+    }
+
+    /**
+     * Returns the executor on which batches are delivered to the batch listeners.
+     *
+     * @return the executor, or null if batches are delivered synchronously
+     */
+    public Executor getBatchExecutor()
+    {
+        return batchExecutor;
+    }
+
+    /**
+     * Adds a listener which is notified once per batch of changes.
+     *
+     * @param l the listener
+     */
+    public void addBatchListener(GraphBatchListener<V, E> l)
+    {
+        addToListenerList(batchListeners, l);
+    }
+
+    /**
+     * Removes a batch listener.
+     *
+     * @param l the listener
+     */
+    public void removeBatchListener(GraphBatchListener<V, E> l)
+    {
+        batchListeners.remove(l);
+    }
+
+    /**
+     * Starts a batch of modifications. Until the batch is committed, the changes of the graph are
+     * recorded in a compact log and no listener is notified, so views maintained by listeners are
+     * stale until then. Batches may be nested, in which case the changes are delivered when the
+     * outermost batch is committed.
+     */
+    public void beginBatch()
+    {
+        if (batchDepth++ == 0) {
+            batch = new GraphChangeBatch<>(this);
+        }
+    }
+
+    /**
+     * Commits a batch of modifications. When the outermost batch is committed, the changes of the
+     * elements which were added and removed again within the batch are dropped. The graph and
+     * vertex set listeners are then notified of each remaining change in order, and the batch is
+     * delivered to the batch listeners, even if a graph or vertex set listener throws an exception.
+     * Nothing is delivered if the batch contains no remaining changes.
+     *
+     * @throws IllegalStateException if no batch is in progress
+     */
+    public void commit()
+    {
+        if (batchDepth == 0) {
+            throw new IllegalStateException("No batch in progress");
+        }
+        if (--batchDepth > 0) {
+            return;
+        }
+        GraphChangeBatch<V, E> committed = batch;
+        batch = null;
+        if (!hasListeners()) {
+            return;
+        }
+        committed.removeTransientChanges();
+
+        try {
+            for (int i = 0; i < committed.size(); i++) {
+                if (committed.isVertexChange(i)) {
+                    notifyVertexChange(committed.getType(i), committed.getVertex(i));
+                } else {
+                    notifyEdgeChange(
+                        committed.getType(i), committed.getEdge(i), committed.getEdgeSource(i),
+                        committed.getEdgeTarget(i), committed.getEdgeWeight(i));
+                }
+            }
+        } finally {
+            deliver(committed);
+        }
+    }
+
+    /**
+     * Tests whether a batch of modifications is in progress.
+     *
+     * @return true if a batch is in progress, false otherwise
+     */
+    public boolean isBatchInProgress()
+    {
+        return batchDepth > 0;
+    }
+
     @Override
     public E addEdge(V sourceVertex, V targetVertex)
     {
@@ -182,6 +319,9 @@ public class DefaultListenableGraph<V, E>
             DefaultListenableGraph<V, E> g = TypeUtil.uncheckedCast(super.clone());
             g.graphListeners = new ArrayList<>();
             g.vertexSetListeners = new ArrayList<>();
+            g.batchListeners = new ArrayList<>();
+            g.batch = null;
+            g.batchDepth = 0;
 
             return g;
         } catch (CloneNotSupportedException e) {
@@ -272,12 +412,7 @@ public class DefaultListenableGraph<V, E>
      */
     protected void fireEdgeAdded(E edge, V source, V target, double weight)
     {
-        GraphEdgeChangeEvent<V, E> e = createGraphEdgeChangeEvent(
-            GraphEdgeChangeEvent.EDGE_ADDED, edge, source, target, weight);
-
-        for (GraphListener<V, E> l : graphListeners) {
-            l.edgeAdded(e);
-        }
+        fireEdgeChange(GraphEdgeChangeEvent.EDGE_ADDED, edge, source, target, weight);
     }
 
     /**
@@ -290,12 +425,7 @@ public class DefaultListenableGraph<V, E>
      */
     protected void fireEdgeRemoved(E edge, V source, V target, double weight)
     {
-        GraphEdgeChangeEvent<V, E> e = createGraphEdgeChangeEvent(
-            GraphEdgeChangeEvent.EDGE_REMOVED, edge, source, target, weight);
-
-        for (GraphListener<V, E> l : graphListeners) {
-            l.edgeRemoved(e);
-        }
+        fireEdgeChange(GraphEdgeChangeEvent.EDGE_REMOVED, edge, source, target, weight);
     }
 
     /**
@@ -308,12 +438,7 @@ public class DefaultListenableGraph<V, E>
      */
     protected void fireEdgeWeightUpdated(E edge, V source, V target, double weight)
     {
-        GraphEdgeChangeEvent<V, E> e = createGraphEdgeChangeEvent(
-            GraphEdgeChangeEvent.EDGE_WEIGHT_UPDATED, edge, source, target, weight);
-
-        for (GraphListener<V, E> l : graphListeners) {
-            l.edgeWeightUpdated(e);
-        }
+        fireEdgeChange(GraphEdgeChangeEvent.EDGE_WEIGHT_UPDATED, edge, source, target, weight);
     }
 
     /**
@@ -323,34 +448,166 @@ public class DefaultListenableGraph<V, E>
      */
     protected void fireVertexAdded(V vertex)
     {
-        GraphVertexChangeEvent<V> e =
-            createGraphVertexChangeEvent(GraphVertexChangeEvent.VERTEX_ADDED, vertex);
+        fireVertexChange(GraphVertexChangeEvent.VERTEX_ADDED, vertex);
+    }
 
-        for (VertexSetListener<V> l : vertexSetListeners) {
-            l.vertexAdded(e);
+    /**
+     * Notify listeners that the specified vertex was removed.
+     *
+     * @param vertex the vertex that was removed.
+     */
+    protected void fireVertexRemoved(V vertex)
+    {
+        fireVertexChange(GraphVertexChangeEvent.VERTEX_REMOVED, vertex);
+    }
+
+    /**
+     * Record an edge change in the current batch, or notify all listeners if no batch is in
+     * progress.
+     *
+     * @param type the type of the change
+     * @param edge the edge
+     * @param source edge source
+     * @param target edge target
+     * @param weight edge weight
+     */
+    private void fireEdgeChange(int type, E edge, V source, V target, double weight)
+    {
+        if (batch != null) {
+            if (hasListeners()) {
+                batch.addEdgeChange(type, edge, source, target, weight);
+            }
+            return;
+        }
+        try {
+            notifyEdgeChange(type, edge, source, target, weight);
+        } finally {
+            if (!batchListeners.isEmpty()) {
+                GraphChangeBatch<V, E> single = new GraphChangeBatch<>(this, true);
+                single.addEdgeChange(type, edge, source, target, weight);
+                deliver(single);
+            }
+        }
+    }
+
+    /**
+     * Record a vertex change in the current batch, or notify all listeners if no batch is in
+     * progress.
+     *
+     * @param type the type of the change
+     * @param vertex the vertex
+     */
+    private void fireVertexChange(int type, V vertex)
+    {
+        if (batch != null) {
+            if (hasListeners()) {
+                batch.addVertexChange(type, vertex);
+            }
+            return;
         }
+        try {
+            notifyVertexChange(type, vertex);
+        } finally {
+            if (!batchListeners.isEmpty()) {
+                GraphChangeBatch<V, E> single = new GraphChangeBatch<>(this, true);
+                single.addVertexChange(type, vertex);
+                deliver(single);
+            }
+        }
+    }
+
+    /**
+     * Notify the graph listeners of an edge change.
+     *
+     * @param type the type of the change
+     * @param edge the edge
+     * @param source edge source
+     * @param target edge target
+     * @param weight edge weight
+     */
+    private void notifyEdgeChange(int type, E edge, V source, V target, double weight)
+    {
+        if (graphListeners.isEmpty()) {
+            return;
+        }
+        GraphEdgeChangeEvent<V, E> e =
+            createGraphEdgeChangeEvent(type, edge, source, target, weight);
 
         for (GraphListener<V, E> l : graphListeners) {
-            l.vertexAdded(e);
+            if (type == GraphEdgeChangeEvent.EDGE_ADDED) {
+                l.edgeAdded(e);
+            } else if (type == GraphEdgeChangeEvent.EDGE_REMOVED) {
+                l.edgeRemoved(e);
+            } else {
+                l.edgeWeightUpdated(e);
+            }
         }
     }
 
     /**
-     * Notify listeners that the specified vertex was removed.
+     * Notify the vertex set and graph listeners of a vertex change.
      *
-     * @param vertex the vertex that was removed.
+     * @param type the type of the change
+     * @param vertex the vertex
      */
-    protected void fireVertexRemoved(V vertex)
+    private void notifyVertexChange(int type, V vertex)
     {
-        GraphVertexChangeEvent<V> e =
-            createGraphVertexChangeEvent(GraphVertexChangeEvent.VERTEX_REMOVED, vertex);
+        if (vertexSetListeners.isEmpty() && graphListeners.isEmpty()) {
+            return;
+        }
+        GraphVertexChangeEvent<V> e = createGraphVertexChangeEvent(type, vertex);
+        boolean added = type == GraphVertexChangeEvent.VERTEX_ADDED;
 
         for (VertexSetListener<V> l : vertexSetListeners) {
-            l.vertexRemoved(e);
+            if (added) {
+                l.vertexAdded(e);
+            } else {
+                l.vertexRemoved(e);
+            }
         }
 
         for (GraphListener<V, E> l : graphListeners) {
-            l.vertexRemoved(e);
+            if (added) {
+                l.vertexAdded(e);
+            } else {
+                l.vertexRemoved(e);
+            }
+        }
+    }
+
+    /**
+     * Tests whether any graph, vertex set or batch listener is registered.
+     *
+     * @return true if a listener is registered, false otherwise
+     */
+    private boolean hasListeners()
+    {
+        return !graphListeners.isEmpty() || !vertexSetListeners.isEmpty()
+            || !batchListeners.isEmpty();
+    }
+
+    /**
+     * Deliver a batch to the batch listeners, either synchronously or on the batch executor.
+     *
+     * @param committed the batch
+     */
+    private void deliver(GraphChangeBatch<V, E> committed)
+    {
+        if (committed.isEmpty() || batchListeners.isEmpty()) {
+            return;
+        }
+        if (batchExecutor == null) {
+            for (GraphBatchListener<V, E> l : batchListeners) {
+                l.batchCommitted(committed);
+            }
+        } else {
+            // listeners may change before the task runs
+            List<GraphBatchListener<V, E>> listeners = new ArrayList<>(batchListeners);
+            batchExecutor.execute(() -> {
+                for (GraphBatchListener<V, E> l : listeners) {
+                    l.batchCommitted(committed);
+                }
+            });
         }
     }
 
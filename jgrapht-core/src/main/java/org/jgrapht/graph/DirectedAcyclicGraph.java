@@ -51,6 +51,21 @@ import org.jgrapht.util.*;
  * previously mentioned paper.
  *
  * <p>
+ * When loading many edges at once, {@link #addEdges(List, List)} checks the acyclicity of the
+ * whole batch with a single topological sort, instead of updating the topological order after
+ * each edge.
+ *
+ * <p>
+ * Reachability queries, as well as {@link #getAncestors(Object)} and
+ * {@link #getDescendants(Object)}, traverse the graph by default. After calling
+ * {@link #setReachabilityIndexEnabled(boolean)} they are answered from a cached transitive closure
+ * instead, stored as two bitsets per vertex, one of its descendants and one of its ancestors. The
+ * cache is built lazily by a pass over the vertices in each direction of the topological order, is
+ * updated incrementally when edges are added and is discarded when vertices are added or when
+ * edges or vertices are removed. It requires $n^2 / 4$ bytes of memory for a graph with $n$
+ * vertices.
+ *
+ * <p>
  * This class makes no claims to thread safety, and concurrent usage from multiple threads will
  * produce undefined results.
  *
@@ -67,6 +82,12 @@ public class DirectedAcyclicGraph<V, E>
 {
     private static final long serialVersionUID = 4522128427004938150L;
 
+    /*
+     * Minimum ratio between the size of the graph and the size of a batch of edges, for which the
+     * edges of the batch are inserted one at a time.
+     */
+    private static final int INCREMENTAL_BATCH_RATIO = 16;
+
     private final Comparator<V> topoComparator;
     private final TopoOrderMap<V> topoOrderMap;
     private int maxTopoIndex = 0;
@@ -80,6 +101,11 @@ public class DirectedAcyclicGraph<V, E>
      */
     private final VisitedStrategyFactory visitedStrategyFactory;
 
+    private boolean reachabilityIndexEnabled = false;
+
+    // the cached transitive closure, or null if it needs to be rebuilt
+    private transient ReachabilityIndex reachabilityIndex;
+
     /**
      * Construct a directed acyclic graph.
      *
@@ -101,7 +127,7 @@ public class DirectedAcyclicGraph<V, E>
         Supplier<V> vertexSupplier, Supplier<E> edgeSupplier, boolean weighted)
     {
         this(
-            vertexSupplier, edgeSupplier, new VisitedBitSetImpl(), new TopoVertexBiMap<>(),
+            vertexSupplier, edgeSupplier, new VisitedBitSetImpl(), new TopoVertexIntMap<>(),
             weighted, false);
     }
 
@@ -118,7 +144,7 @@ public class DirectedAcyclicGraph<V, E>
         boolean allowMultipleEdges)
     {
         this(
-            vertexSupplier, edgeSupplier, new VisitedBitSetImpl(), new TopoVertexBiMap<>(),
+            vertexSupplier, edgeSupplier, new VisitedBitSetImpl(), new TopoVertexIntMap<>(),
             weighted, allowMultipleEdges);
     }
 
@@ -136,7 +162,7 @@ public class DirectedAcyclicGraph<V, E>
         boolean allowMultipleEdges, GraphSpecificsStrategy<V, E> graphSpecificsStrategy)
     {
         this(
-            vertexSupplier, edgeSupplier, new VisitedBitSetImpl(), new TopoVertexBiMap<>(),
+            vertexSupplier, edgeSupplier, new VisitedBitSetImpl(), new TopoVertexIntMap<>(),
             weighted, allowMultipleEdges, graphSpecificsStrategy);
     }
 
@@ -251,6 +277,7 @@ public class DirectedAcyclicGraph<V, E>
             ++maxTopoIndex;
             topoOrderMap.putVertex(maxTopoIndex, v);
             ++topoModCount;
+            reachabilityIndex = null;
         }
 
         return v;
@@ -266,6 +293,7 @@ public class DirectedAcyclicGraph<V, E>
             ++maxTopoIndex;
             topoOrderMap.putVertex(maxTopoIndex, v);
             ++topoModCount;
+            reachabilityIndex = null;
         }
 
         return added;
@@ -298,6 +326,7 @@ public class DirectedAcyclicGraph<V, E>
             }
 
             ++topoModCount;
+            reachabilityIndex = null;
         }
 
         return removed;
@@ -320,12 +349,17 @@ public class DirectedAcyclicGraph<V, E>
         assertVertexExist(sourceVertex);
         assertVertexExist(targetVertex);
 
+        E e;
         try {
             updateDag(sourceVertex, targetVertex);
-            return super.addEdge(sourceVertex, targetVertex);
-        } catch (CycleFoundException e) {
+            e = super.addEdge(sourceVertex, targetVertex);
+        } catch (CycleFoundException ex) {
             throw new GraphCycleProhibitedException();
         }
+        if (e != null && reachabilityIndex != null) {
+            reachabilityIndex.addEdge(sourceVertex, targetVertex);
+        }
+        return e;
     }
 
     /**
@@ -351,12 +385,210 @@ public class DirectedAcyclicGraph<V, E>
         assertVertexExist(sourceVertex);
         assertVertexExist(targetVertex);
 
+        boolean added;
         try {
             updateDag(sourceVertex, targetVertex);
-            return super.addEdge(sourceVertex, targetVertex, e);
+            added = super.addEdge(sourceVertex, targetVertex, e);
         } catch (CycleFoundException ex) {
             throw new GraphCycleProhibitedException();
         }
+        if (added && reachabilityIndex != null) {
+            reachabilityIndex.addEdge(sourceVertex, targetVertex);
+        }
+        return added;
+    }
+
+    /**
+     * Add a batch of edges to the graph. The batch is added atomically: if one of its edges would
+     * induce a cycle, no edge is added.
+     *
+     * <p>
+     * Small batches are inserted one edge at a time, maintaining the topological order
+     * incrementally. Otherwise the acyclicity of the whole batch is checked with a single
+     * topological sort of the graph with the new edges, which runs in linear time, and the
+     * topological order is replaced by the result of the sort.
+     *
+     * @param sourceVertices the source vertices of the edges
+     * @param targetVertices the target vertices of the edges, in the same order
+     * @return the added edges, in the order of the batch, containing null for each edge which was
+     *         not added because the graph does not allow multiple edges and already contains it
+     * @throws IllegalArgumentException if the lists have different sizes, if a vertex is not in
+     *         the graph or if the batch contains a self-loop
+     * @throws GraphCycleProhibitedException if the batch would induce a cycle in the graph
+     */
+    public List<E> addEdges(List<V> sourceVertices, List<V> targetVertices)
+    {
+        int k = sourceVertices.size();
+        if (targetVertices.size() != k) {
+            throw new IllegalArgumentException("Source and target lists must have the same size");
+        }
+        for (int i = 0; i < k; i++) {
+            assertVertexExist(sourceVertices.get(i));
+            assertVertexExist(targetVertices.get(i));
+            if (sourceVertices.get(i).equals(targetVertices.get(i))) {
+                throw new IllegalArgumentException("loops not allowed");
+            }
+        }
+
+        List<E> result = new ArrayList<>(k);
+        if ((long) k * INCREMENTAL_BATCH_RATIO < vertexSet().size() + edgeSet().size()) {
+            try {
+                for (int i = 0; i < k; i++) {
+                    result.add(addEdge(sourceVertices.get(i), targetVertices.get(i)));
+                }
+            } catch (GraphCycleProhibitedException ex) {
+                // removing edges keeps the topological order valid
+                for (E e : result) {
+                    if (e != null) {
+                        removeEdge(e);
+                    }
+                }
+                throw ex;
+            }
+            return result;
+        }
+
+        /*
+         * Number the vertices by compacting the topological order to the indices 1 to n, so that
+         * the primitive topological index of a vertex minus one is its number.
+         */
+        int n = vertexSet().size();
+        List<V> vertices = new ArrayList<>(n);
+        for (V v : this) {
+            vertices.add(v);
+        }
+        topoOrderMap.putAllVertices(vertices, 1);
+        minTopoIndex = 0;
+        maxTopoIndex = n;
+        ++topoModCount;
+
+        int m = edgeSet().size();
+        int[] source = new int[m + k];
+        int[] target = new int[m + k];
+        int count = 0;
+        for (E e : edgeSet()) {
+            source[count] = topoOrderMap.getTopologicalIndexAsInt(getEdgeSource(e)) - 1;
+            target[count++] = topoOrderMap.getTopologicalIndexAsInt(getEdgeTarget(e)) - 1;
+        }
+        for (int i = 0; i < k; i++) {
+            source[count] = topoOrderMap.getTopologicalIndexAsInt(sourceVertices.get(i)) - 1;
+            target[count++] = topoOrderMap.getTopologicalIndexAsInt(targetVertices.get(i)) - 1;
+        }
+
+        int[] order = topologicalOrder(n, source, target);
+        if (order == null) {
+            throw new GraphCycleProhibitedException();
+        }
+
+        for (int i = 0; i < k; i++) {
+            result.add(super.addEdge(sourceVertices.get(i), targetVertices.get(i)));
+        }
+        List<V> sorted = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            sorted.add(vertices.get(order[i]));
+        }
+        topoOrderMap.putAllVertices(sorted, 1);
+        ++topoModCount;
+        reachabilityIndex = null;
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E removeEdge(V sourceVertex, V targetVertex)
+    {
+        E e = super.removeEdge(sourceVertex, targetVertex);
+        if (e != null) {
+            reachabilityIndex = null;
+        }
+        return e;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeEdge(E e)
+    {
+        boolean removed = super.removeEdge(e);
+        if (removed) {
+            reachabilityIndex = null;
+        }
+        return removed;
+    }
+
+    /**
+     * Enable or disable the reachability index. If enabled, reachability queries, ancestors and
+     * descendants are computed from a cached transitive closure of the graph and its transpose,
+     * which require $n^2 / 4$ bytes of memory for a graph with $n$ vertices.
+     *
+     * @param enabled whether to enable the reachability index
+     */
+    public void setReachabilityIndexEnabled(boolean enabled)
+    {
+        this.reachabilityIndexEnabled = enabled;
+        if (!enabled) {
+            reachabilityIndex = null;
+        }
+    }
+
+    /**
+     * Check whether the reachability index is enabled.
+     *
+     * @return whether the reachability index is enabled
+     */
+    public boolean isReachabilityIndexEnabled()
+    {
+        return reachabilityIndexEnabled;
+    }
+
+    /**
+     * Check whether there is a directed path from one vertex to another. A vertex is always
+     * reachable from itself.
+     *
+     * <p>
+     * Without the reachability index, the search only visits vertices which precede the target
+     * vertex in the topological order.
+     *
+     * @param sourceVertex the source vertex
+     * @param targetVertex the target vertex
+     * @return whether the target vertex is reachable from the source vertex
+     * @throws IllegalArgumentException if a vertex is not in the graph
+     */
+    public boolean isReachable(V sourceVertex, V targetVertex)
+    {
+        assertVertexExist(sourceVertex);
+        assertVertexExist(targetVertex);
+        if (sourceVertex.equals(targetVertex)) {
+            return true;
+        }
+        if (reachabilityIndexEnabled) {
+            return getReachabilityIndex().isReachable(sourceVertex, targetVertex);
+        }
+
+        int targetTopoIndex = topoOrderMap.getTopologicalIndexAsInt(targetVertex);
+        if (topoOrderMap.getTopologicalIndexAsInt(sourceVertex) > targetTopoIndex) {
+            return false;
+        }
+        Set<V> visited = new HashSet<>();
+        Deque<V> stack = new ArrayDeque<>();
+        stack.push(sourceVertex);
+        visited.add(sourceVertex);
+        while (!stack.isEmpty()) {
+            V v = stack.pop();
+            for (E e : outgoingEdgesOf(v)) {
+                V w = getEdgeTarget(e);
+                if (w.equals(targetVertex)) {
+                    return true;
+                }
+                if (topoOrderMap.getTopologicalIndexAsInt(w) < targetTopoIndex && visited.add(w)) {
+                    stack.push(w);
+                }
+            }
+        }
+        return false;
     }
 
     /**
@@ -367,6 +599,10 @@ public class DirectedAcyclicGraph<V, E>
      */
     public Set<V> getAncestors(V vertex)
     {
+        if (reachabilityIndexEnabled) {
+            assertVertexExist(vertex);
+            return getReachabilityIndex().getAncestors(vertex);
+        }
         EdgeReversedGraph<V, E> reversedGraph = new EdgeReversedGraph<>(this);
         Iterator<V> iterator = new DepthFirstIterator<>(reversedGraph, vertex);
         Set<V> ancestors = new HashSet<>();
@@ -389,6 +625,10 @@ public class DirectedAcyclicGraph<V, E>
      */
     public Set<V> getDescendants(V vertex)
     {
+        if (reachabilityIndexEnabled) {
+            assertVertexExist(vertex);
+            return getReachabilityIndex().getDescendants(vertex);
+        }
         Iterator<V> iterator = new DepthFirstIterator<>(this, vertex);
         Set<V> descendants = new HashSet<>();
 
@@ -413,6 +653,63 @@ public class DirectedAcyclicGraph<V, E>
         return new TopoIterator();
     }
 
+    /**
+     * Get the reachability index, building it if needed.
+     *
+     * @return the reachability index
+     */
+    private ReachabilityIndex getReachabilityIndex()
+    {
+        if (reachabilityIndex == null) {
+            reachabilityIndex = new ReachabilityIndex();
+        }
+        return reachabilityIndex;
+    }
+
+    /**
+     * Compute a topological order with Kahn's algorithm.
+     *
+     * @param n the number of vertices
+     * @param source the source of each edge
+     * @param target the target of each edge
+     * @return the vertices in topological order, or null if the graph contains a cycle
+     */
+    private static int[] topologicalOrder(int n, int[] source, int[] target)
+    {
+        int[] start = new int[n + 1];
+        int[] inDegree = new int[n];
+        for (int e = 0; e < source.length; e++) {
+            start[source[e] + 1]++;
+            inDegree[target[e]]++;
+        }
+        for (int v = 0; v < n; v++) {
+            start[v + 1] += start[v];
+        }
+        int[] successors = new int[source.length];
+        int[] fill = Arrays.copyOf(start, n);
+        for (int e = 0; e < source.length; e++) {
+            successors[fill[source[e]]++] = target[e];
+        }
+
+        // the queue doubles as the result
+        int[] order = new int[n];
+        int tail = 0;
+        for (int v = 0; v < n; v++) {
+            if (inDegree[v] == 0) {
+                order[tail++] = v;
+            }
+        }
+        for (int head = 0; head < tail; head++) {
+            int v = order[head];
+            for (int i = start[v]; i < start[v + 1]; i++) {
+                if (--inDegree[successors[i]] == 0) {
+                    order[tail++] = successors[i];
+                }
+            }
+        }
+        return tail == n ? order : null;
+    }
+
     /**
      * Update as if a new edge is added.
      *
@@ -422,8 +719,8 @@ public class DirectedAcyclicGraph<V, E>
     private void updateDag(V sourceVertex, V targetVertex)
         throws CycleFoundException
     {
-        Integer lb = topoOrderMap.getTopologicalIndex(targetVertex);
-        Integer ub = topoOrderMap.getTopologicalIndex(sourceVertex);
+        int lb = topoOrderMap.getTopologicalIndexAsInt(targetVertex);
+        int ub = topoOrderMap.getTopologicalIndexAsInt(sourceVertex);
 
         if (lb < ub) {
             Set<V> df = new HashSet<>();
@@ -464,7 +761,7 @@ public class DirectedAcyclicGraph<V, E>
 
         while (!vertices.isEmpty()) {
             V vertex = vertices.pop();
-            int topoIndex = topoOrderMap.getTopologicalIndex(vertex);
+            int topoIndex = topoOrderMap.getTopologicalIndexAsInt(vertex);
 
             if (visited.getVisited(topoIndex)) {
                 continue;
@@ -477,13 +774,15 @@ public class DirectedAcyclicGraph<V, E>
 
             for (E outEdge : outgoingEdgesOf(vertex)) {
                 V nextVertex = getEdgeTarget(outEdge);
-                Integer nextVertexTopoIndex = topoOrderMap.getTopologicalIndex(nextVertex);
+                int nextVertexTopoIndex = topoOrderMap.getTopologicalIndexAsInt(nextVertex);
 
                 if (nextVertexTopoIndex == affectedRegion.finish) {
                     // reset visited
                     try {
                         for (V visitedVertex : df) {
-                            visited.clearVisited(topoOrderMap.getTopologicalIndex(visitedVertex));
+                            visited
+                                .clearVisited(
+                                    topoOrderMap.getTopologicalIndexAsInt(visitedVertex));
                         }
                     } catch (UnsupportedOperationException e) {
                         // okay, fine, some implementations (ones that automatically
@@ -523,7 +822,7 @@ public class DirectedAcyclicGraph<V, E>
             V vertex = vertices.pop();
             // Assumption: vertex is in the AR and so we will get a topoIndex from
             // the map
-            int topoIndex = topoOrderMap.getTopologicalIndex(vertex);
+            int topoIndex = topoOrderMap.getTopologicalIndexAsInt(vertex);
 
             if (visited.getVisited(topoIndex)) {
                 continue;
@@ -535,7 +834,8 @@ public class DirectedAcyclicGraph<V, E>
 
             for (E inEdge : incomingEdgesOf(vertex)) {
                 V previousVertex = getEdgeSource(inEdge);
-                Integer previousVertexTopoIndex = topoOrderMap.getTopologicalIndex(previousVertex);
+                int previousVertexTopoIndex =
+                    topoOrderMap.getTopologicalIndexAsInt(previousVertex);
 
                 /*
                  * Note, order of checks is important as we need to make sure the vertex is in the
@@ -576,7 +876,7 @@ public class DirectedAcyclicGraph<V, E>
         boolean clearVisited = true;
 
         for (V vertex : topoDb) {
-            Integer topoIndex = topoOrderMap.getTopologicalIndex(vertex);
+            int topoIndex = topoOrderMap.getTopologicalIndexAsInt(vertex);
 
             // add the available indices to the set
             availableTopoIndices.add(topoIndex);
@@ -593,7 +893,7 @@ public class DirectedAcyclicGraph<V, E>
         }
 
         for (V vertex : topoDf) {
-            Integer topoIndex = topoOrderMap.getTopologicalIndex(vertex);
+            int topoIndex = topoOrderMap.getTopologicalIndexAsInt(vertex);
 
             // add the available indices to the set
             availableTopoIndices.add(topoIndex);
@@ -665,6 +965,33 @@ public class DirectedAcyclicGraph<V, E>
          * Remove all vertices from the topological ordering.
          */
         void removeAllVertices();
+
+        /**
+         * Get the topological index of the given vertex, which must be in the topological ordering.
+         * Implementations storing primitive indices should override this method to avoid boxing.
+         *
+         * @param vertex the vertex
+         * @return the index that the vertex is at
+         */
+        default int getTopologicalIndexAsInt(V vertex)
+        {
+            return getTopologicalIndex(vertex);
+        }
+
+        /**
+         * Replace the topological ordering by the given vertices at consecutive topological
+         * indices.
+         *
+         * @param vertices the vertices in topological order
+         * @param firstIndex the topological index of the first vertex
+         */
+        default void putAllVertices(List<V> vertices, int firstIndex)
+        {
+            removeAllVertices();
+            for (int i = 0; i < vertices.size(); i++) {
+                putVertex(firstIndex + i, vertices.get(i));
+            }
+        }
     }
 
     /**
@@ -782,6 +1109,249 @@ public class DirectedAcyclicGraph<V, E>
         }
     }
 
+    /**
+     * An implementation of the topological order map which stores primitive topological indices.
+     * The topological index of each vertex is kept in an open addressing hash table with parallel
+     * arrays of vertices and indices, and the vertex of each topological index in an array.
+     *
+     * @param <V> the graph vertex type
+     */
+    protected static class TopoVertexIntMap<V>
+        implements
+        TopoOrderMap<V>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private static final int MIN_CAPACITY = 16;
+
+        /*
+         * The vertex at each topological index, translated to a non-negative array index.
+         */
+        private Object[] topoToVertex;
+
+        /*
+         * Open addressing table with linear probing, rebuilt after deserialization since hash codes
+         * may be identity based.
+         */
+        private transient Object[] keys;
+        private transient int[] indices;
+        private transient int size;
+
+        /**
+         * Constructor
+         */
+        public TopoVertexIntMap()
+        {
+            this.topoToVertex = new Object[MIN_CAPACITY];
+            allocate(MIN_CAPACITY);
+        }
+
+        @Override
+        public void putVertex(Integer index, V vertex)
+        {
+            putVertex(index.intValue(), vertex);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V getVertex(Integer index)
+        {
+            int t = translateIndex(index);
+            return t < topoToVertex.length ? (V) topoToVertex[t] : null;
+        }
+
+        @Override
+        public Integer getTopologicalIndex(V vertex)
+        {
+            int slot = find(vertex);
+            return keys[slot] == null ? null : indices[slot];
+        }
+
+        @Override
+        public int getTopologicalIndexAsInt(V vertex)
+        {
+            int slot = find(vertex);
+            if (keys[slot] == null) {
+                throw new IllegalArgumentException("Vertex not in topological order");
+            }
+            return indices[slot];
+        }
+
+        @Override
+        public Integer removeVertex(V vertex)
+        {
+            int slot = find(vertex);
+            if (keys[slot] == null) {
+                return null;
+            }
+            int index = indices[slot];
+            removeSlot(slot);
+            topoToVertex[translateIndex(index)] = null;
+            return index;
+        }
+
+        @Override
+        public void removeAllVertices()
+        {
+            topoToVertex = new Object[MIN_CAPACITY];
+            allocate(MIN_CAPACITY);
+        }
+
+        @Override
+        public void putAllVertices(List<V> vertices, int firstIndex)
+        {
+            int n = vertices.size();
+            int maxTranslated = Math.max(
+                translateIndex(firstIndex), translateIndex(firstIndex + Math.max(0, n - 1)));
+            topoToVertex = new Object[Math.max(MIN_CAPACITY, maxTranslated + 1)];
+            allocate(Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(1, n)) << 2));
+            for (int i = 0; i < n; i++) {
+                putVertex(firstIndex + i, vertices.get(i));
+            }
+        }
+
+        /**
+         * Add a vertex at the given topological index.
+         *
+         * @param index the topological index
+         * @param vertex the vertex
+         */
+        private void putVertex(int index, V vertex)
+        {
+            int t = translateIndex(index);
+            if (t >= topoToVertex.length) {
+                topoToVertex =
+                    Arrays.copyOf(topoToVertex, Math.max(t + 1, 2 * topoToVertex.length));
+            }
+            topoToVertex[t] = vertex;
+
+            int slot = find(vertex);
+            if (keys[slot] == null) {
+                keys[slot] = vertex;
+                if (++size > keys.length / 2) {
+                    indices[slot] = index;
+                    rehash(keys.length * 2);
+                    return;
+                }
+            }
+            indices[slot] = index;
+        }
+
+        /**
+         * Find the slot of a vertex, or the empty slot where it would be inserted.
+         *
+         * @param vertex the vertex
+         * @return the slot
+         */
+        private int find(Object vertex)
+        {
+            int mask = keys.length - 1;
+            for (int slot = hash(vertex) & mask;; slot = (slot + 1) & mask) {
+                Object key = keys[slot];
+                if (key == null || key.equals(vertex)) {
+                    return slot;
+                }
+            }
+        }
+
+        /**
+         * Remove the vertex in a slot, shifting back the following slots of the probe sequence.
+         *
+         * @param slot the slot
+         */
+        private void removeSlot(int slot)
+        {
+            int mask = keys.length - 1;
+            int hole = slot;
+            for (int next = (hole + 1) & mask; keys[next] != null; next = (next + 1) & mask) {
+                int home = hash(keys[next]) & mask;
+                boolean stays = hole <= next ? (hole < home && home <= next)
+                    : (hole < home || home <= next);
+                if (!stays) {
+                    keys[hole] = keys[next];
+                    indices[hole] = indices[next];
+                    hole = next;
+                }
+            }
+            keys[hole] = null;
+            size--;
+        }
+
+        /**
+         * Compute the hash of a vertex.
+         *
+         * @param vertex the vertex
+         * @return the hash
+         */
+        private static int hash(Object vertex)
+        {
+            int h = vertex.hashCode() * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+
+        /**
+         * Allocate an empty table.
+         *
+         * @param capacity the capacity, a power of two
+         */
+        private void allocate(int capacity)
+        {
+            keys = new Object[capacity];
+            indices = new int[capacity];
+            size = 0;
+        }
+
+        /**
+         * Rehash the vertices into a larger table.
+         *
+         * @param capacity the new capacity, a power of two
+         */
+        private void rehash(int capacity)
+        {
+            Object[] oldKeys = keys;
+            int[] oldIndices = indices;
+            int oldSize = size;
+            allocate(capacity);
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != null) {
+                    int slot = find(oldKeys[i]);
+                    keys[slot] = oldKeys[i];
+                    indices[slot] = oldIndices[i];
+                }
+            }
+            size = oldSize;
+        }
+
+        /**
+         * Translate a topological index, which can be negative, to an array index.
+         *
+         * @param index the topological index
+         * @return the array index
+         */
+        private static int translateIndex(int index)
+        {
+            return index >= 0 ? 2 * index : -2 * index - 1;
+        }
+
+        private void readObject(ObjectInputStream in)
+            throws IOException, ClassNotFoundException
+        {
+            in.defaultReadObject();
+            allocate(MIN_CAPACITY);
+            for (int t = 0; t < topoToVertex.length; t++) {
+                if (topoToVertex[t] != null) {
+                    int index = (t & 1) == 0 ? t / 2 : -(t + 1) / 2;
+                    int slot = find(topoToVertex[t]);
+                    keys[slot] = topoToVertex[t];
+                    indices[slot] = index;
+                    if (++size > keys.length / 2) {
+                        rehash(keys.length * 2);
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * An implementation of the topological order map which for performance and flexibility uses an
      * ArrayList for topological index to vertex mapping, and a HashMap for vertex to topological
@@ -1200,6 +1770,169 @@ public class DirectedAcyclicGraph<V, E>
         }
     }
 
+    /**
+     * A transitive closure of the graph, stored as the bitset of the descendants of each vertex.
+     */
+    private class ReachabilityIndex
+    {
+        private final Map<V, Integer> index;
+        private final List<V> vertices;
+        private final long[][] descendants;
+        private final long[][] ancestors;
+
+        /**
+         * Build the transitive closure of the graph and its transpose. The vertices are numbered
+         * in topological order, so the descendants of a vertex have larger numbers. Each
+         * descendant bitset is the union of the bitsets of the successors of the vertex, computed
+         * in reverse topological order, and each ancestor bitset is the union of the bitsets of
+         * the predecessors of the vertex, computed in topological order.
+         */
+        ReachabilityIndex()
+        {
+            int n = vertexSet().size();
+            this.index = new HashMap<>(Math.max(16, 2 * n));
+            this.vertices = new ArrayList<>(n);
+            for (V v : DirectedAcyclicGraph.this) {
+                index.put(v, vertices.size());
+                vertices.add(v);
+            }
+            int words = (n + 63) >>> 6;
+            this.descendants = new long[n][words];
+            for (int v = n - 1; v >= 0; v--) {
+                long[] row = descendants[v];
+                for (E e : outgoingEdgesOf(vertices.get(v))) {
+                    int w = index.get(getEdgeTarget(e));
+                    long[] other = descendants[w];
+                    for (int i = w >>> 6; i < words; i++) {
+                        row[i] |= other[i];
+                    }
+                    row[w >>> 6] |= 1L << w;
+                }
+            }
+            this.ancestors = new long[n][words];
+            for (int v = 0; v < n; v++) {
+                long[] row = ancestors[v];
+                for (E e : incomingEdgesOf(vertices.get(v))) {
+                    int u = index.get(getEdgeSource(e));
+                    long[] other = ancestors[u];
+                    for (int i = 0; i <= u >>> 6; i++) {
+                        row[i] |= other[i];
+                    }
+                    row[u >>> 6] |= 1L << u;
+                }
+            }
+        }
+
+        /**
+         * Check whether a vertex is a descendant of another.
+         *
+         * @param sourceVertex the source vertex
+         * @param targetVertex the target vertex
+         * @return whether the target vertex is a descendant of the source vertex
+         */
+        boolean isReachable(V sourceVertex, V targetVertex)
+        {
+            return contains(descendants[index.get(sourceVertex)], index.get(targetVertex));
+        }
+
+        /**
+         * Get the descendants of a vertex.
+         *
+         * @param vertex the vertex
+         * @return the descendants
+         */
+        Set<V> getDescendants(V vertex)
+        {
+            return decode(descendants[index.get(vertex)]);
+        }
+
+        /**
+         * Get the ancestors of a vertex.
+         *
+         * @param vertex the vertex
+         * @return the ancestors
+         */
+        Set<V> getAncestors(V vertex)
+        {
+            return decode(ancestors[index.get(vertex)]);
+        }
+
+        /**
+         * Update the transitive closure after the addition of an edge. The descendants of the
+         * target vertex and the target vertex itself become descendants of the source vertex and
+         * of all its ancestors, and symmetrically for the ancestors of the source vertex.
+         *
+         * @param sourceVertex the source vertex
+         * @param targetVertex the target vertex
+         */
+        void addEdge(V sourceVertex, V targetVertex)
+        {
+            int u = index.get(sourceVertex);
+            int w = index.get(targetVertex);
+            if (contains(descendants[u], w)) {
+                return;
+            }
+            long[] addedDescendants = descendants[w].clone();
+            addedDescendants[w >>> 6] |= 1L << w;
+            long[] addedAncestors = ancestors[u].clone();
+            addedAncestors[u >>> 6] |= 1L << u;
+            union(descendants, addedAncestors, addedDescendants);
+            union(ancestors, addedDescendants, addedAncestors);
+        }
+
+        /**
+         * Add a bitset to a set of rows.
+         *
+         * @param rows the bitsets of all vertices
+         * @param selected the vertices whose bitsets are updated
+         * @param added the bitset to add
+         */
+        private void union(long[][] rows, long[] selected, long[] added)
+        {
+            for (int i = 0; i < selected.length; i++) {
+                long word = selected[i];
+                while (word != 0L) {
+                    long[] row = rows[(i << 6) + Long.numberOfTrailingZeros(word)];
+                    for (int j = 0; j < row.length; j++) {
+                        row[j] |= added[j];
+                    }
+                    word &= word - 1;
+                }
+            }
+        }
+
+        /**
+         * Get the vertices of a bitset.
+         *
+         * @param row the bitset
+         * @return the vertices
+         */
+        private Set<V> decode(long[] row)
+        {
+            Set<V> result = new HashSet<>();
+            for (int i = 0; i < row.length; i++) {
+                long word = row[i];
+                while (word != 0L) {
+                    result.add(vertices.get((i << 6) + Long.numberOfTrailingZeros(word)));
+                    word &= word - 1;
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Test a bit of a bitset.
+         *
+         * @param row the bitset
+         * @param v the bit
+         * @return whether the bit is set
+         */
+        private boolean contains(long[] row, int v)
+        {
+            return (row[v >>> 6] & (1L << v)) != 0L;
+        }
+    }
+
     /**
      * Exception used in dfsF when a cycle is found
      *
@@ -1227,8 +1960,10 @@ public class DirectedAcyclicGraph<V, E>
         @Override
         public int compare(V o1, V o2)
         {
-            return topoOrderMap
-                .getTopologicalIndex(o1).compareTo(topoOrderMap.getTopologicalIndex(o2));
+            return Integer
+                .compare(
+                    topoOrderMap.getTopologicalIndexAsInt(o1),
+                    topoOrderMap.getTopologicalIndexAsInt(o2));
         }
 
     }
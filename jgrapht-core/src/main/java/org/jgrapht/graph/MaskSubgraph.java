@@ -51,6 +51,8 @@ public class MaskSubgraph<V, E>
     protected final Predicate<V> vertexMask;
     protected final Predicate<E> edgeMask;
 
+    private final SubgraphAdjacencyCache<V, E> adjacencyCache;
+
     /**
      * Creates a new induced subgraph. Running-time = O(1).
      *
@@ -61,6 +63,31 @@ public class MaskSubgraph<V, E>
      *        in the subgraph.
      */
     public MaskSubgraph(Graph<V, E> base, Predicate<V> vertexMask, Predicate<E> edgeMask)
+    {
+        this(base, vertexMask, edgeMask, false);
+    }
+
+    /**
+     * Creates a new induced subgraph, optionally caching the adjacency of its vertices.
+     *
+     * <p>
+     * Without the cache, every degree query and every iteration over the edges of a vertex filters
+     * the edges of the vertex in the base graph through the masks. With the cache, the filtered
+     * edges of a vertex are materialized into an array on first access, so that degree queries run
+     * in constant time and the edge sets of a vertex are unmodifiable snapshots. If the base graph
+     * is a {@link ListenableGraph}, the cache of the endpoints of every added or removed edge is
+     * invalidated automatically. Otherwise, and whenever the result of the masks changes, the
+     * cache must be invalidated with {@link #invalidateAdjacencyCache()}.
+     *
+     * @param base the base (backing) graph on which the subgraph will be based.
+     * @param vertexMask vertices to exclude in the subgraph. If a vertex is masked, it is as if it
+     *        is not in the subgraph. Edges incident to the masked vertex are also masked.
+     * @param edgeMask edges to exclude in the subgraph. If an edge is masked, it is as if it is not
+     *        in the subgraph.
+     * @param cacheAdjacency whether to cache the adjacency of the vertices
+     */
+    public MaskSubgraph(
+        Graph<V, E> base, Predicate<V> vertexMask, Predicate<E> edgeMask, boolean cacheAdjacency)
     {
         super();
         this.base = Objects.requireNonNull(base, "Invalid graph provided");
@@ -69,6 +96,26 @@ public class MaskSubgraph<V, E>
         this.edgeMask = Objects.requireNonNull(edgeMask, "Invalid edge mask provided");
         this.vertices = new MaskVertexSet<>(base.vertexSet(), vertexMask);
         this.edges = new MaskEdgeSet<>(base, base.edgeSet(), vertexMask, edgeMask);
+        if (cacheAdjacency) {
+            this.adjacencyCache = new SubgraphAdjacencyCache<>(base, this);
+            if (base instanceof ListenableGraph<?, ?>) {
+                ((ListenableGraph<V, E>) base).addGraphListener(adjacencyCache);
+            }
+        } else {
+            this.adjacencyCache = null;
+        }
+    }
+
+    /**
+     * Invalidate the cached adjacency of all vertices. This method must be called whenever the
+     * result of the masks changes, or the base graph, if it is not listenable, is modified. It has
+     * no effect if the subgraph does not cache its adjacency.
+     */
+    public void invalidateAdjacencyCache()
+    {
+        if (adjacencyCache != null) {
+            adjacencyCache.invalidateAll();
+        }
     }
 
     /**
@@ -142,6 +189,9 @@ public class MaskSubgraph<V, E>
     {
         assertVertexExist(vertex);
 
+        if (adjacencyCache != null) {
+            return adjacencyCache.edgesOf(vertex);
+        }
         return new MaskEdgeSet<>(base, base.edgesOf(vertex), vertexMask, edgeMask);
     }
 
@@ -155,6 +205,10 @@ public class MaskSubgraph<V, E>
     @Override
     public int degreeOf(V vertex)
     {
+        if (adjacencyCache != null) {
+            assertVertexExist(vertex);
+            return adjacencyCache.degreeOf(vertex);
+        }
         if (baseType.isDirected()) {
             return inDegreeOf(vertex) + outDegreeOf(vertex);
         } else {
@@ -179,6 +233,9 @@ public class MaskSubgraph<V, E>
     {
         assertVertexExist(vertex);
 
+        if (adjacencyCache != null) {
+            return adjacencyCache.incomingEdgesOf(vertex);
+        }
         return new MaskEdgeSet<>(base, base.incomingEdgesOf(vertex), vertexMask, edgeMask);
     }
 
@@ -188,6 +245,10 @@ public class MaskSubgraph<V, E>
     @Override
     public int inDegreeOf(V vertex)
     {
+        if (adjacencyCache != null) {
+            assertVertexExist(vertex);
+            return adjacencyCache.inDegreeOf(vertex);
+        }
         if (baseType.isUndirected()) {
             return degreeOf(vertex);
         } else {
@@ -203,6 +264,9 @@ public class MaskSubgraph<V, E>
     {
         assertVertexExist(vertex);
 
+        if (adjacencyCache != null) {
+            return adjacencyCache.outgoingEdgesOf(vertex);
+        }
         return new MaskEdgeSet<>(base, base.outgoingEdgesOf(vertex), vertexMask, edgeMask);
     }
 
@@ -212,6 +276,10 @@ public class MaskSubgraph<V, E>
     @Override
     public int outDegreeOf(V vertex)
     {
+        if (adjacencyCache != null) {
+            assertVertexExist(vertex);
+            return adjacencyCache.outDegreeOf(vertex);
+        }
         if (baseType.isUndirected()) {
             return degreeOf(vertex);
         } else {
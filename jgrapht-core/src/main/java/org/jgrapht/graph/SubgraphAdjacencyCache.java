@@ -0,0 +1,358 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph;
+
+import org.jgrapht.*;
+import org.jgrapht.event.*;
+import org.jgrapht.util.*;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * A cache of the filtered adjacency of the vertices of a subgraph view.
+ *
+ * <p>
+ * For every vertex which is queried, the edges of the base graph that belong to the subgraph are
+ * materialized once into arrays, together with the number of self-loops. Degree queries are then
+ * answered in constant time and edge iteration runs over plain arrays, instead of filtering the
+ * edges of the base graph on every call. Entries are invalidated per vertex: the owning subgraph
+ * invalidates the endpoints of every edge that enters or leaves it, either from its own
+ * modification methods or, as a {@link GraphListener} on a listenable base graph, from the events
+ * of the base graph.
+ *
+ * <p>
+ * The edge sets returned by this cache are unmodifiable snapshots of the adjacency at the time of
+ * the call.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+class SubgraphAdjacencyCache<V, E>
+    implements
+    GraphListener<V, E>,
+    Serializable
+{
+    private static final long serialVersionUID = 5128743203519464092L;
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private static final int TOUCHING = 0;
+    private static final int OUTGOING = 1;
+    private static final int INCOMING = 2;
+
+    private final Graph<V, E> base;
+    private final Graph<V, E> subgraph;
+    private final boolean directed;
+    private transient Map<V, Entry> entries;
+
+    /**
+     * Create a new cache.
+     *
+     * @param base the base graph
+     * @param subgraph the subgraph, which decides which edges of the base graph belong to it
+     */
+    SubgraphAdjacencyCache(Graph<V, E> base, Graph<V, E> subgraph)
+    {
+        this.base = base;
+        this.subgraph = subgraph;
+        this.directed = base.getType().isDirected();
+    }
+
+    /**
+     * Returns the degree of a vertex, counting self-loops twice.
+     *
+     * @param v the vertex
+     * @return the degree
+     */
+    int degreeOf(V v)
+    {
+        Entry entry = entryOf(v);
+        return directed ? entry.outgoing.length + entry.incoming.length
+            : entry.outgoing.length + entry.loops;
+    }
+
+    /**
+     * Returns the in-degree of a vertex.
+     *
+     * @param v the vertex
+     * @return the in-degree
+     */
+    int inDegreeOf(V v)
+    {
+        return directed ? entryOf(v).incoming.length : degreeOf(v);
+    }
+
+    /**
+     * Returns the out-degree of a vertex.
+     *
+     * @param v the vertex
+     * @return the out-degree
+     */
+    int outDegreeOf(V v)
+    {
+        return directed ? entryOf(v).outgoing.length : degreeOf(v);
+    }
+
+    /**
+     * Returns the edges touching a vertex.
+     *
+     * @param v the vertex
+     * @return the edges
+     */
+    Set<E> edgesOf(V v)
+    {
+        Entry entry = entryOf(v);
+        if (!directed) {
+            return new EdgeArraySet(v, TOUCHING, entry.outgoing, EMPTY, entry.outgoing.length);
+        }
+        return new EdgeArraySet(
+            v, TOUCHING, entry.outgoing, entry.incoming,
+            entry.outgoing.length + entry.incoming.length - entry.loops);
+    }
+
+    /**
+     * Returns the incoming edges of a vertex.
+     *
+     * @param v the vertex
+     * @return the edges
+     */
+    Set<E> incomingEdgesOf(V v)
+    {
+        if (!directed) {
+            return edgesOf(v);
+        }
+        Object[] incoming = entryOf(v).incoming;
+        return new EdgeArraySet(v, INCOMING, incoming, EMPTY, incoming.length);
+    }
+
+    /**
+     * Returns the outgoing edges of a vertex.
+     *
+     * @param v the vertex
+     * @return the edges
+     */
+    Set<E> outgoingEdgesOf(V v)
+    {
+        if (!directed) {
+            return edgesOf(v);
+        }
+        Object[] outgoing = entryOf(v).outgoing;
+        return new EdgeArraySet(v, OUTGOING, outgoing, EMPTY, outgoing.length);
+    }
+
+    /**
+     * Invalidate the cached adjacency of a vertex.
+     *
+     * @param v the vertex
+     */
+    void invalidate(V v)
+    {
+        if (entries != null) {
+            entries.remove(v);
+        }
+    }
+
+    /**
+     * Invalidate the cached adjacency of all vertices.
+     */
+    void invalidateAll()
+    {
+        entries = null;
+    }
+
+    @Override
+    public void edgeAdded(GraphEdgeChangeEvent<V, E> e)
+    {
+        invalidate(e.getEdgeSource());
+        invalidate(e.getEdgeTarget());
+    }
+
+    @Override
+    public void edgeRemoved(GraphEdgeChangeEvent<V, E> e)
+    {
+        invalidate(e.getEdgeSource());
+        invalidate(e.getEdgeTarget());
+    }
+
+    @Override
+    public void vertexAdded(GraphVertexChangeEvent<V> e)
+    {
+        // a new vertex has no cached adjacency
+    }
+
+    @Override
+    public void vertexRemoved(GraphVertexChangeEvent<V> e)
+    {
+        invalidate(e.getVertex());
+    }
+
+    /**
+     * Returns the cached adjacency of a vertex, computing it if needed.
+     *
+     * @param v the vertex
+     * @return the adjacency
+     */
+    private Entry entryOf(V v)
+    {
+        if (entries == null) {
+            entries = new HashMap<>();
+        }
+        Entry entry = entries.get(v);
+        if (entry == null) {
+            entry = directed
+                ? new Entry(v, base.outgoingEdgesOf(v), base.incomingEdgesOf(v))
+                : new Entry(v, base.edgesOf(v), null);
+            entries.put(v, entry);
+        }
+        return entry;
+    }
+
+    /**
+     * Returns the edges of a set which belong to the subgraph.
+     *
+     * @param edges the edges of the base graph
+     * @return the edges of the subgraph
+     */
+    private Object[] filter(Set<E> edges)
+    {
+        Object[] result = new Object[edges.size()];
+        int size = 0;
+        for (E e : edges) {
+            if (subgraph.containsEdge(e)) {
+                result[size++] = e;
+            }
+        }
+        return size == 0 ? EMPTY : size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    /**
+     * The adjacency of a vertex. For undirected graphs all edges are outgoing.
+     */
+    private class Entry
+    {
+        final Object[] outgoing;
+        final Object[] incoming;
+        final int loops;
+
+        Entry(V v, Set<E> outgoingEdges, Set<E> incomingEdges)
+        {
+            this.outgoing = filter(outgoingEdges);
+            this.incoming = incomingEdges == null ? EMPTY : filter(incomingEdges);
+            int count = 0;
+            for (Object o : outgoing) {
+                E e = TypeUtil.uncheckedCast(o);
+                if (base.getEdgeSource(e).equals(base.getEdgeTarget(e))) {
+                    count++;
+                }
+            }
+            this.loops = count;
+        }
+    }
+
+    /**
+     * An unmodifiable set over two arrays of edges touching a vertex. Self-loops are skipped in the
+     * second array, since they also appear in the first one. Membership is decided by the
+     * subgraph and the role of the vertex, instead of scanning the arrays.
+     */
+    private class EdgeArraySet
+        extends
+        AbstractSet<E>
+    {
+        private final V vertex;
+        private final int role;
+        private final Object[] first;
+        private final Object[] second;
+        private final int size;
+
+        EdgeArraySet(V vertex, int role, Object[] first, Object[] second, int size)
+        {
+            this.vertex = vertex;
+            this.role = role;
+            this.first = first;
+            this.second = second;
+            this.size = size;
+        }
+
+        @Override
+        public int size()
+        {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            E e = TypeUtil.uncheckedCast(o);
+            if (o == null || !subgraph.containsEdge(e)) {
+                return false;
+            }
+            boolean isSource = base.getEdgeSource(e).equals(vertex);
+            boolean isTarget = base.getEdgeTarget(e).equals(vertex);
+            return role == OUTGOING ? isSource
+                : role == INCOMING ? isTarget : isSource || isTarget;
+        }
+
+        @Override
+        public Iterator<E> iterator()
+        {
+            return new Iterator<E>()
+            {
+                private int next;
+
+                {
+                    skipLoops();
+                }
+
+                private void skipLoops()
+                {
+                    while (next >= first.length && next < first.length + second.length
+                        && isLoop(second[next - first.length]))
+                    {
+                        next++;
+                    }
+                }
+
+                private boolean isLoop(Object o)
+                {
+                    E e = TypeUtil.uncheckedCast(o);
+                    return base.getEdgeSource(e).equals(vertex)
+                        && base.getEdgeTarget(e).equals(vertex);
+                }
+
+                @Override
+                public boolean hasNext()
+                {
+                    return next < first.length + second.length;
+                }
+
+                @Override
+                public E next()
+                {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    Object o = next < first.length ? first[next] : second[next - first.length];
+                    next++;
+                    skipLoops();
+                    return TypeUtil.uncheckedCast(o);
+                }
+            };
+        }
+    }
+}
@@ -18,8 +18,12 @@
 package org.jgrapht.graph.builder;
 
 import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
 import org.jgrapht.graph.*;
 
+import java.util.*;
+import java.util.stream.*;
+
 /**
  * Base class for builders of {@link Graph}
  *
@@ -34,6 +38,7 @@ public abstract class AbstractGraphBuilder<V, E, G extends Graph<V, E>,
     B extends AbstractGraphBuilder<V, E, G, B>>
 {
     protected final G graph;
+    private boolean trustedInput;
 
     /**
      * Creates a builder based on {@code baseGraph}. {@code baseGraph} must be mutable.
@@ -142,6 +147,123 @@ public abstract class AbstractGraphBuilder<V, E, G extends Graph<V, E>,
         return this.self();
     }
 
+    /**
+     * Sets whether the edges passed to the bulk methods {@link #addEdges(Iterator)},
+     * {@link #addEdges(Stream)} and {@link #addEdges(Object[], Object[], double[])} are trusted.
+     * Trusted input must not contain an edge between two vertices which are already connected by
+     * an edge, unless the graph allows multiple edges. For graphs extending
+     * {@link AbstractBaseGraph} this allows skipping the lookup of an existing edge for every added
+     * edge. The result of adding untrusted input as trusted is undefined. By default the input is
+     * not trusted.
+     *
+     * @param trustedInput whether the input of the bulk methods is trusted
+     * @return this builder object
+     *
+     * @see AbstractBaseGraph#addTrustedEdge(Graph, Object, Object)
+     */
+    public B trustedInput(boolean trustedInput)
+    {
+        this.trustedInput = trustedInput;
+        return this.self();
+    }
+
+    /**
+     * Adds the edges of a stream of vertex pairs to the graph being built. The source and target
+     * vertices are added to the graph, if not already included.
+     *
+     * @param edges the edges, as pairs of source and target vertices
+     * @return this builder object
+     *
+     * @see #addEdges(Iterator)
+     */
+    public B addEdges(Stream<? extends Pair<? extends V, ? extends V>> edges)
+    {
+        return this.addEdges(edges.iterator());
+    }
+
+    /**
+     * Adds the edges of an iterator of vertex pairs to the graph being built. The source and
+     * target vertices are added to the graph, if not already included. The edges are created using
+     * the edge supplier of the graph.
+     *
+     * @param edges the edges, as pairs of source and target vertices
+     * @return this builder object
+     *
+     * @see #trustedInput(boolean)
+     */
+    public B addEdges(Iterator<? extends Pair<? extends V, ? extends V>> edges)
+    {
+        while (edges.hasNext()) {
+            Pair<? extends V, ? extends V> edge = edges.next();
+            addBulkEdge(edge.getFirst(), edge.getSecond());
+        }
+        return this.self();
+    }
+
+    /**
+     * Adds the edges given by columnar arrays to the graph being built. The $i$-th edge goes from
+     * {@code sources[i]} to {@code targets[i]}. The source and target vertices are added to the
+     * graph, if not already included. The edges are created using the edge supplier of the graph.
+     *
+     * @param sources the source vertices of the edges
+     * @param targets the target vertices of the edges
+     * @return this builder object
+     * @throws IllegalArgumentException if the arrays have different lengths
+     *
+     * @see #trustedInput(boolean)
+     */
+    public B addEdges(V[] sources, V[] targets)
+    {
+        return this.addEdges(sources, targets, null);
+    }
+
+    /**
+     * Adds the weighted edges given by columnar arrays to the graph being built. The $i$-th edge
+     * goes from {@code sources[i]} to {@code targets[i]} and has weight {@code weights[i]}. The
+     * source and target vertices are added to the graph, if not already included. The edges are
+     * created using the edge supplier of the graph.
+     *
+     * @param sources the source vertices of the edges
+     * @param targets the target vertices of the edges
+     * @param weights the weights of the edges, or null to keep the default weights
+     * @return this builder object
+     * @throws IllegalArgumentException if the arrays have different lengths
+     *
+     * @see #trustedInput(boolean)
+     */
+    public B addEdges(V[] sources, V[] targets, double[] weights)
+    {
+        if (sources.length != targets.length
+            || (weights != null && weights.length != sources.length))
+        {
+            throw new IllegalArgumentException("Arrays must have the same length");
+        }
+        for (int i = 0; i < sources.length; i++) {
+            E e = addBulkEdge(sources[i], targets[i]);
+            if (weights != null && e != null) {
+                this.graph.setEdgeWeight(e, weights[i]);
+            }
+        }
+        return this.self();
+    }
+
+    /**
+     * Adds an edge of a bulk operation, together with its vertices.
+     *
+     * @param source source vertex of the edge
+     * @param target target vertex of the edge
+     * @return the new edge, or null if the edge was not added
+     */
+    private E addBulkEdge(V source, V target)
+    {
+        this.graph.addVertex(source);
+        this.graph.addVertex(target);
+        if (trustedInput) {
+            return AbstractBaseGraph.addTrustedEdge(this.graph, source, target);
+        }
+        return this.graph.addEdge(source, target);
+    }
+
     /**
      * Adds all the vertices and all the edges of the {@code sourceGraph} to the graph being built.
      *
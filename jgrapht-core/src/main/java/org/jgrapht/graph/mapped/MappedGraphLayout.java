@@ -0,0 +1,74 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph.mapped;
+
+/**
+ * The layout of a memory mapped graph file.
+ *
+ * <p>
+ * The file starts with a header of {@link #HEADER_SIZE} bytes holding the magic number, the format
+ * version, the flags, the number of vertices and the number of edges. The header is followed by
+ * the sections below, all in little-endian byte order and aligned at eight bytes:
+ * <ul>
+ * <li>the offsets of the outgoing edges of every vertex, $n+1$ longs,</li>
+ * <li>the offsets of the incoming edges of every vertex, $n+1$ longs,</li>
+ * <li>the source of every edge, $m$ ints,</li>
+ * <li>the target of every edge, $m$ ints,</li>
+ * <li>the incoming edges of every vertex, $m$ longs,</li>
+ * <li>the weight of every edge, $m$ doubles, if the graph is weighted.</li>
+ * </ul>
+ * Edges are numbered by source and, for the same source, by target, so that the outgoing edges of
+ * a vertex form a contiguous range of edge ids with sorted targets.
+ */
+final class MappedGraphLayout
+{
+    static final int MAGIC = 0x474D474A;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 32;
+
+    static final int DIRECTED_FLAG = 1;
+    static final int WEIGHTED_FLAG = 2;
+
+    final long outOffsets;
+    final long inOffsets;
+    final long sources;
+    final long targets;
+    final long inEdges;
+    final long weights;
+    final long length;
+
+    /**
+     * Compute the layout of a file.
+     *
+     * @param n the number of vertices
+     * @param m the number of edges
+     * @param weighted whether the graph is weighted
+     */
+    MappedGraphLayout(int n, long m, boolean weighted)
+    {
+        long offsetsSize = 8L * (n + 1L);
+        long endpointsSize = (4L * m + 7) & ~7L;
+        this.outOffsets = HEADER_SIZE;
+        this.inOffsets = outOffsets + offsetsSize;
+        this.sources = inOffsets + offsetsSize;
+        this.targets = sources + endpointsSize;
+        this.inEdges = targets + endpointsSize;
+        this.weights = inEdges + 8L * m;
+        this.length = weighted ? weights + 8L * m : weights;
+    }
+}
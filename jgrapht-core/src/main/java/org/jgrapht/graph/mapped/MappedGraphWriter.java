@@ -0,0 +1,330 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph.mapped;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+
+/**
+ * Writes memory mapped graph files.
+ *
+ * <p>
+ * The edges are processed out of core, using the mapped sections of the file as working storage.
+ * A first pass over the edge list counts the degrees of the vertices, a second pass places every
+ * edge in the range of its source, and the ranges are then sorted by target. Finally the incoming
+ * edges are bucketed by target in a sequential scan of the edges. Besides the mapped file only a
+ * constant amount of memory is used.
+ */
+final class MappedGraphWriter
+{
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private final int n;
+    private final boolean weighted;
+    private final int chunkBits;
+
+    private MappedRegion outOffsets;
+    private MappedRegion inOffsets;
+    private MappedRegion sources;
+    private MappedRegion targets;
+    private MappedRegion inEdges;
+    private MappedRegion weights;
+    private long m;
+
+    /**
+     * Create a new writer.
+     *
+     * @param n the number of vertices
+     * @param weighted whether the edge weights are stored
+     * @param chunkBits the number of bits of the mapped chunks
+     */
+    private MappedGraphWriter(int n, boolean weighted, int chunkBits)
+    {
+        this.n = n;
+        this.weighted = weighted;
+        this.chunkBits = chunkBits;
+    }
+
+    /**
+     * Write a graph file.
+     *
+     * @param file the file, which is replaced if it exists
+     * @param directed whether the graph is directed
+     * @param weighted whether the edge weights are stored
+     * @param n the number of vertices
+     * @param edges the edge list
+     * @param chunkBits the number of bits of the mapped chunks
+     * @throws IOException in case of an I/O error
+     */
+    static void write(
+        Path file, boolean directed, boolean weighted, int n, MemoryMappedGraph.EdgeList edges,
+        int chunkBits)
+        throws IOException
+    {
+        if (n < 0) {
+            throw new IllegalArgumentException("Number of vertices must be non-negative");
+        }
+        try (FileChannel channel = FileChannel
+            .open(
+                file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE))
+        {
+            MappedGraphWriter writer = new MappedGraphWriter(n, weighted, chunkBits);
+            writer.countDegrees(channel, edges);
+            writer.placeEdges(channel, edges);
+            writer.sortEdges();
+            writer.indexIncomingEdges();
+
+            ByteBuffer header = ByteBuffer
+                .allocate(MappedGraphLayout.HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MappedGraphLayout.MAGIC);
+            header.putInt(MappedGraphLayout.VERSION);
+            header
+                .putInt(
+                    (directed ? MappedGraphLayout.DIRECTED_FLAG : 0)
+                        | (weighted ? MappedGraphLayout.WEIGHTED_FLAG : 0));
+            header.putInt(n);
+            header.putLong(writer.m);
+            header.flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            writer.force();
+        }
+    }
+
+    /**
+     * Count the outgoing and incoming edges of every vertex and turn the counts into offsets.
+     *
+     * @param channel the file channel
+     * @param edges the edge list
+     * @throws IOException in case of an I/O error
+     */
+    private void countDegrees(FileChannel channel, MemoryMappedGraph.EdgeList edges)
+        throws IOException
+    {
+        MappedGraphLayout layout = new MappedGraphLayout(n, 0, false);
+        outOffsets = map(channel, layout.outOffsets, 8L * (n + 1L));
+        inOffsets = map(channel, layout.inOffsets, 8L * (n + 1L));
+
+        edges.forEachEdge((source, target, weight) -> {
+            if (source < 0 || source >= n || target < 0 || target >= n) {
+                throw new IllegalArgumentException(
+                    "Edge (" + source + "," + target + ") has an endpoint out of range");
+            }
+            outOffsets.putLong(source + 1L, outOffsets.getLong(source + 1L) + 1);
+            inOffsets.putLong(target + 1L, inOffsets.getLong(target + 1L) + 1);
+            m++;
+        });
+        for (long v = 1; v <= n; v++) {
+            outOffsets.putLong(v, outOffsets.getLong(v) + outOffsets.getLong(v - 1));
+            inOffsets.putLong(v, inOffsets.getLong(v) + inOffsets.getLong(v - 1));
+        }
+    }
+
+    /**
+     * Place every edge in the range of its source. The offsets are used as cursors and shifted
+     * back afterwards.
+     *
+     * @param channel the file channel
+     * @param edges the edge list
+     * @throws IOException in case of an I/O error
+     */
+    private void placeEdges(FileChannel channel, MemoryMappedGraph.EdgeList edges)
+        throws IOException
+    {
+        MappedGraphLayout layout = new MappedGraphLayout(n, m, weighted);
+        sources = map(channel, layout.sources, 4L * m);
+        targets = map(channel, layout.targets, 4L * m);
+        inEdges = map(channel, layout.inEdges, 8L * m);
+        if (weighted) {
+            weights = map(channel, layout.weights, 8L * m);
+        }
+
+        long[] placed = new long[1];
+        edges.forEachEdge((source, target, weight) -> {
+            long position = outOffsets.getLong(source);
+            if (position >= m) {
+                throw new IllegalArgumentException("Edge list changed between passes");
+            }
+            outOffsets.putLong(source, position + 1);
+            sources.putInt(position, source);
+            targets.putInt(position, target);
+            if (weighted) {
+                weights.putDouble(position, weight);
+            }
+            placed[0]++;
+        });
+        if (placed[0] != m) {
+            throw new IllegalArgumentException("Edge list changed between passes");
+        }
+        shiftBack(outOffsets);
+    }
+
+    /**
+     * Sort the outgoing edges of every vertex by target.
+     */
+    private void sortEdges()
+    {
+        for (int v = 0; v < n; v++) {
+            long from = outOffsets.getLong(v);
+            long to = outOffsets.getLong(v + 1L);
+            for (long p = from; p < to; p++) {
+                if (sources.getInt(p) != v) {
+                    throw new IllegalArgumentException("Edge list changed between passes");
+                }
+            }
+            sort(from, to);
+        }
+    }
+
+    /**
+     * Bucket the edges by target. Since the edges are scanned in increasing order, the incoming
+     * edges of every vertex are sorted by source.
+     */
+    private void indexIncomingEdges()
+    {
+        for (long e = 0; e < m; e++) {
+            int target = targets.getInt(e);
+            long position = inOffsets.getLong(target);
+            inOffsets.putLong(target, position + 1);
+            inEdges.putLong(position, e);
+        }
+        shiftBack(inOffsets);
+    }
+
+    /**
+     * Restore offsets which have been advanced as cursors to the start of the next range.
+     *
+     * @param offsets the offsets
+     */
+    private void shiftBack(MappedRegion offsets)
+    {
+        for (long v = n - 1; v > 0; v--) {
+            offsets.putLong(v, offsets.getLong(v - 1));
+        }
+        if (n > 0) {
+            offsets.putLong(0, 0);
+        }
+    }
+
+    /**
+     * Sort a range of edges by target, moving the weights along.
+     *
+     * @param from the first position, inclusive
+     * @param to the last position, exclusive
+     */
+    private void sort(long from, long to)
+    {
+        while (to - from > INSERTION_SORT_THRESHOLD) {
+            long mid = from + (to - from) / 2;
+            int pivot = median(
+                targets.getInt(from), targets.getInt(mid), targets.getInt(to - 1));
+            long i = from - 1;
+            long j = to;
+            while (true) {
+                do {
+                    i++;
+                } while (targets.getInt(i) < pivot);
+                do {
+                    j--;
+                } while (targets.getInt(j) > pivot);
+                if (i >= j) {
+                    break;
+                }
+                swap(i, j);
+            }
+            // recurse into the smaller part to bound the stack depth
+            if (j + 1 - from < to - j - 1) {
+                sort(from, j + 1);
+                from = j + 1;
+            } else {
+                sort(j + 1, to);
+                to = j + 1;
+            }
+        }
+        for (long i = from + 1; i < to; i++) {
+            for (long j = i; j > from && targets.getInt(j - 1) > targets.getInt(j); j--) {
+                swap(j - 1, j);
+            }
+        }
+    }
+
+    /**
+     * Returns the median of three values.
+     *
+     * @param a the first value
+     * @param b the second value
+     * @param c the third value
+     * @return the median
+     */
+    private static int median(int a, int b, int c)
+    {
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+
+    /**
+     * Swap the targets and weights of two positions.
+     *
+     * @param i the first position
+     * @param j the second position
+     */
+    private void swap(long i, long j)
+    {
+        int target = targets.getInt(i);
+        targets.putInt(i, targets.getInt(j));
+        targets.putInt(j, target);
+        if (weighted) {
+            double weight = weights.getDouble(i);
+            weights.putDouble(i, weights.getDouble(j));
+            weights.putDouble(j, weight);
+        }
+    }
+
+    /**
+     * Map a section of the file for writing.
+     *
+     * @param channel the file channel
+     * @param position the position of the section
+     * @param size the size of the section
+     * @return the mapped section
+     * @throws IOException in case of an I/O error
+     */
+    private MappedRegion map(FileChannel channel, long position, long size)
+        throws IOException
+    {
+        return new MappedRegion(channel, FileChannel.MapMode.READ_WRITE, position, size, chunkBits);
+    }
+
+    /**
+     * Write the mapped sections to the storage device.
+     */
+    private void force()
+    {
+        outOffsets.force();
+        inOffsets.force();
+        sources.force();
+        targets.force();
+        inEdges.force();
+        if (weighted) {
+            weights.force();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph.mapped;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+
+/**
+ * A region of a file mapped into memory and accessed as an array of primitive values.
+ *
+ * <p>
+ * A single {@link MappedByteBuffer} cannot exceed two gigabytes, so the region is mapped in chunks
+ * whose size is a power of two. The chunk size is a multiple of the size of every element type,
+ * therefore no element straddles two chunks. Values are stored in little-endian byte order.
+ */
+final class MappedRegion
+{
+    /**
+     * The default number of bits of the chunk size, that is, one gigabyte chunks.
+     */
+    static final int DEFAULT_CHUNK_BITS = 30;
+
+    private final MappedByteBuffer[] chunks;
+    private final int chunkBits;
+    private final long chunkMask;
+
+    /**
+     * Map a region of a file.
+     *
+     * @param channel the file channel
+     * @param mode the mapping mode
+     * @param position the position of the region in the file
+     * @param size the size of the region in bytes
+     * @param chunkBits the number of bits of the chunk size, at least three
+     * @throws IOException in case of an I/O error
+     */
+    MappedRegion(
+        FileChannel channel, FileChannel.MapMode mode, long position, long size, int chunkBits)
+        throws IOException
+    {
+        this.chunkBits = chunkBits;
+        this.chunkMask = (1L << chunkBits) - 1;
+        int count = (int) ((size + chunkMask) >>> chunkBits);
+        this.chunks = new MappedByteBuffer[count];
+        for (int i = 0; i < count; i++) {
+            long offset = (long) i << chunkBits;
+            long length = Math.min(chunkMask + 1, size - offset);
+            chunks[i] = channel.map(mode, position + offset, length);
+            chunks[i].order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    /**
+     * Returns an int value.
+     *
+     * @param index the index of the value
+     * @return the value
+     */
+    int getInt(long index)
+    {
+        long offset = index << 2;
+        return chunks[(int) (offset >>> chunkBits)].getInt((int) (offset & chunkMask));
+    }
+
+    /**
+     * Sets an int value.
+     *
+     * @param index the index of the value
+     * @param value the value
+     */
+    void putInt(long index, int value)
+    {
+        long offset = index << 2;
+        chunks[(int) (offset >>> chunkBits)].putInt((int) (offset & chunkMask), value);
+    }
+
+    /**
+     * Returns a long value.
+     *
+     * @param index the index of the value
+     * @return the value
+     */
+    long getLong(long index)
+    {
+        long offset = index << 3;
+        return chunks[(int) (offset >>> chunkBits)].getLong((int) (offset & chunkMask));
+    }
+
+    /**
+     * Sets a long value.
+     *
+     * @param index the index of the value
+     * @param value the value
+     */
+    void putLong(long index, long value)
+    {
+        long offset = index << 3;
+        chunks[(int) (offset >>> chunkBits)].putLong((int) (offset & chunkMask), value);
+    }
+
+    /**
+     * Returns a double value.
+     *
+     * @param index the index of the value
+     * @return the value
+     */
+    double getDouble(long index)
+    {
+        long offset = index << 3;
+        return chunks[(int) (offset >>> chunkBits)].getDouble((int) (offset & chunkMask));
+    }
+
+    /**
+     * Sets a double value.
+     *
+     * @param index the index of the value
+     * @param value the value
+     */
+    void putDouble(long index, double value)
+    {
+        long offset = index << 3;
+        chunks[(int) (offset >>> chunkBits)].putDouble((int) (offset & chunkMask), value);
+    }
+
+    /**
+     * Write any modifications of the region to the storage device.
+     */
+    void force()
+    {
+        for (MappedByteBuffer chunk : chunks) {
+            chunk.force();
+        }
+    }
+}
@@ -0,0 +1,891 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph.mapped;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * A read-mostly graph whose structure lives outside the Java heap, in a memory mapped file.
+ *
+ * <p>
+ * The graph is stored in compressed sparse row form: the outgoing edges of every vertex form a
+ * contiguous range of edge ids whose targets are sorted, and a second index lists the incoming
+ * edges of every vertex. The file is mapped with {@link FileChannel#map}, so the operating system
+ * pages the adjacency in and out on demand and graphs much larger than the heap, and even larger
+ * than the physical memory, can be traversed without any garbage collection overhead.
+ *
+ * <p>
+ * The vertices are the integers $0, \dots, n-1$ and the edges are the longs $0, \dots, m-1$, where
+ * edges are numbered by source and, for the same source, by target. The graph supports multiple
+ * edges and self-loops and may be directed or undirected. Looking up an edge between two vertices
+ * performs a binary search over the outgoing edges of the source. The graph is unmodifiable, except
+ * for the edge weights of a weighted graph which has been opened for writing.
+ *
+ * <p>
+ * Files are created from an existing graph with {@link #write(Graph, Path)} or from an edge list
+ * with {@link #write(Path, boolean, boolean, int, EdgeList)}, and opened with
+ * {@link #open(Path)}. The edge list import runs out of core, using the file itself as working
+ * storage, and therefore scales to edge lists which do not fit in memory. Since the graph
+ * implements the {@link Graph} interface, all algorithms of the library can run on it unmodified.
+ *
+ * @see MappedByteBuffer
+ */
+public class MemoryMappedGraph
+    extends
+    AbstractGraph<Integer, Long>
+{
+    private static final String UNMODIFIABLE = "this graph is unmodifiable";
+    private static final String READ_ONLY = "this graph has been opened read-only";
+    private static final String NO_SUCH_EDGE_IN_GRAPH = "no such edge in graph";
+
+    private final int n;
+    private final long m;
+    private final boolean writable;
+    private final GraphType type;
+
+    private final MappedRegion outOffsets;
+    private final MappedRegion inOffsets;
+    private final MappedRegion sources;
+    private final MappedRegion targets;
+    private final MappedRegion inEdges;
+    private final MappedRegion weights;
+
+    private final Set<Integer> vertexSet;
+    private final Set<Long> edgeSet;
+    private GraphIterables<Integer, Long> iterables;
+
+    /**
+     * Create a graph over the mapped sections of a file.
+     *
+     * @param channel the file channel
+     * @param writable whether the edge weights may be modified
+     * @param chunkBits the number of bits of the mapped chunks
+     * @throws IOException in case of an I/O error or if the file is not a graph file
+     */
+    private MemoryMappedGraph(FileChannel channel, boolean writable, int chunkBits)
+        throws IOException
+    {
+        ByteBuffer header =
+            ByteBuffer.allocate(MappedGraphLayout.HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) {
+                throw new IOException("Not a memory mapped graph file");
+            }
+        }
+        header.flip();
+        if (header.getInt() != MappedGraphLayout.MAGIC) {
+            throw new IOException("Not a memory mapped graph file");
+        }
+        int version = header.getInt();
+        if (version != MappedGraphLayout.VERSION) {
+            throw new IOException("Unsupported memory mapped graph file version " + version);
+        }
+        int flags = header.getInt();
+        boolean directed = (flags & MappedGraphLayout.DIRECTED_FLAG) != 0;
+        boolean weighted = (flags & MappedGraphLayout.WEIGHTED_FLAG) != 0;
+        this.n = header.getInt();
+        this.m = header.getLong();
+        if (n < 0 || m < 0) {
+            throw new IOException("Corrupted memory mapped graph file");
+        }
+        MappedGraphLayout layout = new MappedGraphLayout(n, m, weighted);
+        if (channel.size() < layout.length) {
+            throw new IOException("Truncated memory mapped graph file");
+        }
+
+        this.writable = writable;
+        FileChannel.MapMode mode =
+            writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY;
+        this.outOffsets =
+            new MappedRegion(channel, mode, layout.outOffsets, 8L * (n + 1L), chunkBits);
+        this.inOffsets =
+            new MappedRegion(channel, mode, layout.inOffsets, 8L * (n + 1L), chunkBits);
+        this.sources = new MappedRegion(channel, mode, layout.sources, 4L * m, chunkBits);
+        this.targets = new MappedRegion(channel, mode, layout.targets, 4L * m, chunkBits);
+        this.inEdges = new MappedRegion(channel, mode, layout.inEdges, 8L * m, chunkBits);
+        this.weights = weighted
+            ? new MappedRegion(channel, mode, layout.weights, 8L * m, chunkBits) : null;
+
+        DefaultGraphType.Builder builder = new DefaultGraphType.Builder();
+        this.type = (directed ? builder.directed() : builder.undirected())
+            .weighted(weighted).allowMultipleEdges(true).allowSelfLoops(true)
+            .allowCycles(true).modifiable(false).build();
+        this.vertexSet = new VertexSet();
+        this.edgeSet = new EdgeRangeSet(0, m);
+    }
+
+    /**
+     * Open a graph file for reading.
+     *
+     * @param file the file
+     * @return the graph
+     * @throws IOException in case of an I/O error or if the file is not a graph file
+     */
+    public static MemoryMappedGraph open(Path file)
+        throws IOException
+    {
+        return open(file, false);
+    }
+
+    /**
+     * Open a graph file.
+     *
+     * @param file the file
+     * @param writable whether the edge weights may be modified, in which case modifications are
+     *        written through to the file
+     * @return the graph
+     * @throws IOException in case of an I/O error or if the file is not a graph file
+     */
+    public static MemoryMappedGraph open(Path file, boolean writable)
+        throws IOException
+    {
+        return open(file, writable, MappedRegion.DEFAULT_CHUNK_BITS);
+    }
+
+    /**
+     * Open a graph file, mapping it in chunks of a given size.
+     *
+     * @param file the file
+     * @param writable whether the edge weights may be modified
+     * @param chunkBits the number of bits of the mapped chunks
+     * @return the graph
+     * @throws IOException in case of an I/O error or if the file is not a graph file
+     */
+    static MemoryMappedGraph open(Path file, boolean writable, int chunkBits)
+        throws IOException
+    {
+        // the mappings remain valid after the channel has been closed
+        try (FileChannel channel = writable
+            ? FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)
+            : FileChannel.open(file, StandardOpenOption.READ))
+        {
+            return new MemoryMappedGraph(channel, writable, chunkBits);
+        }
+    }
+
+    /**
+     * Write a graph to a graph file. The $i$-th vertex in the iteration order of the vertex set of
+     * the graph becomes vertex $i$ of the file. Edge weights are stored if the graph is weighted.
+     *
+     * @param graph the graph
+     * @param file the file, which is replaced if it exists
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @throws IOException in case of an I/O error
+     */
+    public static <V, E> void write(Graph<V, E> graph, Path file)
+        throws IOException
+    {
+        write(graph, file, MappedRegion.DEFAULT_CHUNK_BITS);
+    }
+
+    /**
+     * Write a graph to a graph file, mapping it in chunks of a given size.
+     *
+     * @param graph the graph
+     * @param file the file, which is replaced if it exists
+     * @param chunkBits the number of bits of the mapped chunks
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @throws IOException in case of an I/O error
+     */
+    static <V, E> void write(Graph<V, E> graph, Path file, int chunkBits)
+        throws IOException
+    {
+        GraphType graphType = graph.getType();
+        if (graphType.isMixed()) {
+            throw new IllegalArgumentException("Mixed graphs are not supported");
+        }
+        Map<V, Integer> index = new HashMap<>();
+        for (V v : graph.vertexSet()) {
+            index.put(v, index.size());
+        }
+        MappedGraphWriter
+            .write(
+                file, graphType.isDirected(), graphType.isWeighted(), index.size(), consumer -> {
+                    for (E e : graph.edgeSet()) {
+                        consumer
+                            .accept(
+                                index.get(graph.getEdgeSource(e)),
+                                index.get(graph.getEdgeTarget(e)), graph.getEdgeWeight(e));
+                    }
+                }, chunkBits);
+    }
+
+    /**
+     * Write an edge list to a graph file. The edge list is traversed twice and must report the same
+     * edges in the same order both times.
+     *
+     * @param file the file, which is replaced if it exists
+     * @param directed whether the graph is directed
+     * @param weighted whether the edge weights are stored
+     * @param vertexCount the number of vertices
+     * @param edges the edge list
+     * @throws IOException in case of an I/O error
+     * @throws IllegalArgumentException if an edge has an endpoint which is not in $[0, n)$
+     */
+    public static void write(
+        Path file, boolean directed, boolean weighted, int vertexCount, EdgeList edges)
+        throws IOException
+    {
+        write(file, directed, weighted, vertexCount, edges, MappedRegion.DEFAULT_CHUNK_BITS);
+    }
+
+    /**
+     * Write an edge list to a graph file, mapping it in chunks of a given size.
+     *
+     * @param file the file, which is replaced if it exists
+     * @param directed whether the graph is directed
+     * @param weighted whether the edge weights are stored
+     * @param vertexCount the number of vertices
+     * @param edges the edge list
+     * @param chunkBits the number of bits of the mapped chunks
+     * @throws IOException in case of an I/O error
+     */
+    static void write(
+        Path file, boolean directed, boolean weighted, int vertexCount, EdgeList edges,
+        int chunkBits)
+        throws IOException
+    {
+        MappedGraphWriter.write(file, directed, weighted, vertexCount, edges, chunkBits);
+    }
+
+    @Override
+    public Set<Long> getAllEdges(Integer sourceVertex, Integer targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+        Set<Long> edges = new LinkedHashSet<>();
+        addAllEdges(sourceVertex, targetVertex, edges);
+        if (!type.isDirected() && !sourceVertex.equals(targetVertex)) {
+            addAllEdges(targetVertex, sourceVertex, edges);
+        }
+        return edges;
+    }
+
+    @Override
+    public Long getEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+        long e = findEdge(sourceVertex, targetVertex);
+        if (e < 0 && !type.isDirected()) {
+            e = findEdge(targetVertex, sourceVertex);
+        }
+        return e < 0 ? null : e;
+    }
+
+    @Override
+    public Supplier<Integer> getVertexSupplier()
+    {
+        return null;
+    }
+
+    @Override
+    public Supplier<Long> getEdgeSupplier()
+    {
+        return null;
+    }
+
+    @Override
+    public Long addEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean addEdge(Integer sourceVertex, Integer targetVertex, Long e)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public Integer addVertex()
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean addVertex(Integer v)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean containsEdge(Long e)
+    {
+        return e != null && e >= 0 && e < m;
+    }
+
+    @Override
+    public boolean containsVertex(Integer v)
+    {
+        return v != null && v >= 0 && v < n;
+    }
+
+    @Override
+    public Set<Long> edgeSet()
+    {
+        return edgeSet;
+    }
+
+    @Override
+    public int degreeOf(Integer vertex)
+    {
+        return toSize(iterables().degreeOf(vertex));
+    }
+
+    @Override
+    public Set<Long> edgesOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return new IncidentEdgeSet(vertex);
+    }
+
+    @Override
+    public int inDegreeOf(Integer vertex)
+    {
+        return toSize(iterables().inDegreeOf(vertex));
+    }
+
+    @Override
+    public Set<Long> incomingEdgesOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        if (!type.isDirected()) {
+            return new IncidentEdgeSet(vertex);
+        }
+        return new IncomingEdgeSet(vertex);
+    }
+
+    @Override
+    public int outDegreeOf(Integer vertex)
+    {
+        return toSize(iterables().outDegreeOf(vertex));
+    }
+
+    @Override
+    public Set<Long> outgoingEdgesOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        if (!type.isDirected()) {
+            return new IncidentEdgeSet(vertex);
+        }
+        return new EdgeRangeSet(outOffsets.getLong(vertex), outOffsets.getLong(vertex + 1L));
+    }
+
+    @Override
+    public Long removeEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean removeEdge(Long e)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean removeVertex(Integer v)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public Set<Integer> vertexSet()
+    {
+        return vertexSet;
+    }
+
+    @Override
+    public Integer getEdgeSource(Long e)
+    {
+        assertEdgeExist(e);
+        return sources.getInt(e);
+    }
+
+    @Override
+    public Integer getEdgeTarget(Long e)
+    {
+        assertEdgeExist(e);
+        return targets.getInt(e);
+    }
+
+    @Override
+    public GraphType getType()
+    {
+        return type;
+    }
+
+    @Override
+    public double getEdgeWeight(Long e)
+    {
+        assertEdgeExist(e);
+        return weights == null ? Graph.DEFAULT_EDGE_WEIGHT : weights.getDouble(e);
+    }
+
+    @Override
+    public void setEdgeWeight(Long e, double weight)
+    {
+        if (weights == null) {
+            throw new UnsupportedOperationException("Graph is not weighted");
+        }
+        if (!writable) {
+            throw new UnsupportedOperationException(READ_ONLY);
+        }
+        assertEdgeExist(e);
+        weights.putDouble(e, weight);
+    }
+
+    @Override
+    public GraphIterables<Integer, Long> iterables()
+    {
+        if (iterables == null) {
+            iterables = new MappedGraphIterables();
+        }
+        return iterables;
+    }
+
+    /**
+     * Write any modified edge weights to the storage device.
+     */
+    public void force()
+    {
+        if (writable && weights != null) {
+            weights.force();
+        }
+    }
+
+    /**
+     * Ensures that the specified edge exists in this graph.
+     *
+     * @param e edge
+     * @throws NullPointerException if specified edge is <code>null</code>
+     * @throws IllegalArgumentException if specified edge does not exist in this graph
+     */
+    private void assertEdgeExist(Long e)
+    {
+        if (!containsEdge(Objects.requireNonNull(e))) {
+            throw new IllegalArgumentException(NO_SUCH_EDGE_IN_GRAPH);
+        }
+    }
+
+    /**
+     * Find the first position in the outgoing edges of a vertex whose target is not less than a
+     * given vertex.
+     *
+     * @param source the source vertex
+     * @param target the target vertex
+     * @return the position
+     */
+    private long lowerBound(int source, int target)
+    {
+        long low = outOffsets.getLong(source);
+        long high = outOffsets.getLong(source + 1L);
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            if (targets.getInt(mid) < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Find an edge from a source to a target vertex.
+     *
+     * @param source the source vertex
+     * @param target the target vertex
+     * @return the edge, or -1 if there is none
+     */
+    private long findEdge(int source, int target)
+    {
+        long p = lowerBound(source, target);
+        return p < outOffsets.getLong(source + 1L) && targets.getInt(p) == target ? p : -1;
+    }
+
+    /**
+     * Add all edges from a source to a target vertex to a collection.
+     *
+     * @param source the source vertex
+     * @param target the target vertex
+     * @param edges the collection
+     */
+    private void addAllEdges(int source, int target, Collection<Long> edges)
+    {
+        long end = outOffsets.getLong(source + 1L);
+        for (long p = lowerBound(source, target); p < end && targets.getInt(p) == target; p++) {
+            edges.add(p);
+        }
+    }
+
+    /**
+     * Returns the number of self-loops of a vertex.
+     *
+     * @param v the vertex
+     * @return the number of self-loops
+     */
+    private long loopCount(int v)
+    {
+        long end = outOffsets.getLong(v + 1L);
+        long p = lowerBound(v, v);
+        long first = p;
+        while (p < end && targets.getInt(p) == v) {
+            p++;
+        }
+        return p - first;
+    }
+
+    /**
+     * Convert a count to a collection size, saturating at {@link Integer#MAX_VALUE}.
+     *
+     * @param count the count
+     * @return the size
+     */
+    private static int toSize(long count)
+    {
+        return (int) Math.min(count, Integer.MAX_VALUE);
+    }
+
+    /**
+     * A consumer of edges.
+     */
+    @FunctionalInterface
+    public interface EdgeConsumer
+    {
+        /**
+         * Accept an edge.
+         *
+         * @param source the source vertex
+         * @param target the target vertex
+         * @param weight the edge weight
+         */
+        void accept(int source, int target, double weight);
+    }
+
+    /**
+     * An edge list which can be traversed multiple times, for example by reading a file.
+     */
+    @FunctionalInterface
+    public interface EdgeList
+    {
+        /**
+         * Report every edge of the list to a consumer.
+         *
+         * @param consumer the consumer
+         * @throws IOException in case of an I/O error
+         */
+        void forEachEdge(EdgeConsumer consumer)
+            throws IOException;
+    }
+
+    /**
+     * Iterables which report degrees and counts as longs.
+     */
+    private class MappedGraphIterables
+        extends
+        DefaultGraphIterables<Integer, Long>
+    {
+        MappedGraphIterables()
+        {
+            super(MemoryMappedGraph.this);
+        }
+
+        @Override
+        public long edgeCount()
+        {
+            return m;
+        }
+
+        @Override
+        public long vertexCount()
+        {
+            return n;
+        }
+
+        @Override
+        public long degreeOf(Integer vertex)
+        {
+            assertVertexExist(vertex);
+            return outOffsets.getLong(vertex + 1L) - outOffsets.getLong(vertex)
+                + inOffsets.getLong(vertex + 1L) - inOffsets.getLong(vertex);
+        }
+
+        @Override
+        public long inDegreeOf(Integer vertex)
+        {
+            if (!type.isDirected()) {
+                return degreeOf(vertex);
+            }
+            assertVertexExist(vertex);
+            return inOffsets.getLong(vertex + 1L) - inOffsets.getLong(vertex);
+        }
+
+        @Override
+        public long outDegreeOf(Integer vertex)
+        {
+            if (!type.isDirected()) {
+                return degreeOf(vertex);
+            }
+            assertVertexExist(vertex);
+            return outOffsets.getLong(vertex + 1L) - outOffsets.getLong(vertex);
+        }
+    }
+
+    /**
+     * The vertex set.
+     */
+    private class VertexSet
+        extends
+        AbstractSet<Integer>
+    {
+        @Override
+        public int size()
+        {
+            return n;
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return o instanceof Integer && containsVertex((Integer) o);
+        }
+
+        @Override
+        public Iterator<Integer> iterator()
+        {
+            return new Iterator<Integer>()
+            {
+                private int next;
+
+                @Override
+                public boolean hasNext()
+                {
+                    return next < n;
+                }
+
+                @Override
+                public Integer next()
+                {
+                    if (next >= n) {
+                        throw new NoSuchElementException();
+                    }
+                    return next++;
+                }
+            };
+        }
+    }
+
+    /**
+     * A set of edges with consecutive ids, such as the outgoing edges of a vertex.
+     */
+    private class EdgeRangeSet
+        extends
+        AbstractSet<Long>
+    {
+        private final long from;
+        private final long to;
+
+        EdgeRangeSet(long from, long to)
+        {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public int size()
+        {
+            return toSize(to - from);
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            if (!(o instanceof Long)) {
+                return false;
+            }
+            long e = (Long) o;
+            return e >= from && e < to;
+        }
+
+        @Override
+        public Iterator<Long> iterator()
+        {
+            return new Iterator<Long>()
+            {
+                private long next = from;
+
+                @Override
+                public boolean hasNext()
+                {
+                    return next < to;
+                }
+
+                @Override
+                public Long next()
+                {
+                    if (next >= to) {
+                        throw new NoSuchElementException();
+                    }
+                    return next++;
+                }
+            };
+        }
+    }
+
+    /**
+     * The incoming edges of a vertex of a directed graph.
+     */
+    private class IncomingEdgeSet
+        extends
+        AbstractSet<Long>
+    {
+        private final int vertex;
+
+        IncomingEdgeSet(int vertex)
+        {
+            this.vertex = vertex;
+        }
+
+        @Override
+        public int size()
+        {
+            return toSize(inOffsets.getLong(vertex + 1L) - inOffsets.getLong(vertex));
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return o instanceof Long && containsEdge((Long) o)
+                && targets.getInt((Long) o) == vertex;
+        }
+
+        @Override
+        public Iterator<Long> iterator()
+        {
+            return new Iterator<Long>()
+            {
+                private long next = inOffsets.getLong(vertex);
+                private final long end = inOffsets.getLong(vertex + 1L);
+
+                @Override
+                public boolean hasNext()
+                {
+                    return next < end;
+                }
+
+                @Override
+                public Long next()
+                {
+                    if (next >= end) {
+                        throw new NoSuchElementException();
+                    }
+                    return inEdges.getLong(next++);
+                }
+            };
+        }
+    }
+
+    /**
+     * The edges touching a vertex: its outgoing edges followed by its incoming edges which are not
+     * self-loops.
+     */
+    private class IncidentEdgeSet
+        extends
+        AbstractSet<Long>
+    {
+        private final int vertex;
+
+        IncidentEdgeSet(int vertex)
+        {
+            this.vertex = vertex;
+        }
+
+        @Override
+        public int size()
+        {
+            return toSize(iterables().degreeOf(vertex) - loopCount(vertex));
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            if (!(o instanceof Long) || !containsEdge((Long) o)) {
+                return false;
+            }
+            long e = (Long) o;
+            return sources.getInt(e) == vertex || targets.getInt(e) == vertex;
+        }
+
+        @Override
+        public Iterator<Long> iterator()
+        {
+            return new Iterator<Long>()
+            {
+                private long next = outOffsets.getLong(vertex);
+                private final long outEnd = outOffsets.getLong(vertex + 1L);
+                private long nextIn = inOffsets.getLong(vertex);
+                private final long inEnd = inOffsets.getLong(vertex + 1L);
+
+                {
+                    skipLoops();
+                }
+
+                private void skipLoops()
+                {
+                    while (nextIn < inEnd && sources.getInt(inEdges.getLong(nextIn)) == vertex) {
+                        nextIn++;
+                    }
+                }
+
+                @Override
+                public boolean hasNext()
+                {
+                    return next < outEnd || nextIn < inEnd;
+                }
+
+                @Override
+                public Long next()
+                {
+                    if (next < outEnd) {
+                        return next++;
+                    }
+                    if (nextIn >= inEnd) {
+                        throw new NoSuchElementException();
+                    }
+                    long e = inEdges.getLong(nextIn++);
+                    skipLoops();
+                    return e;
+                }
+            };
+        }
+    }
+}
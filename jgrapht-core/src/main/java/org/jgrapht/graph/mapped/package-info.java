@@ -0,0 +1,4 @@
+/**
+ * Graph implementations whose storage lives outside the Java heap, in memory mapped files.
+ */
+package org.jgrapht.graph.mapped;
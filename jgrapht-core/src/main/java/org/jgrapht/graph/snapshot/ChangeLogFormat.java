@@ -0,0 +1,199 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph.snapshot;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.util.zip.*;
+
+/**
+ * Constants and framing of the change log format.
+ *
+ * <p>
+ * A change log starts with a fixed size header holding the magic bytes {@code JGCL}, the format
+ * version and the flags, followed by a sequence of frames. Each frame is written by a single group
+ * commit and consists of a fixed size frame header, holding the payload length, a CRC32 checksum,
+ * the sequence number of the first change and the number of changes, followed by the payload with
+ * the encoded changes. A frame which is incomplete or whose checksum does not match marks the end
+ * of the durable part of the log.
+ */
+final class ChangeLogFormat
+{
+    static final byte[] MAGIC = { 'J', 'G', 'C', 'L' };
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 12;
+    static final int FRAME_HEADER_SIZE = 20;
+
+    static final int EDGE_IDS_FLAG = 1;
+
+    static final int VERTEX_ADDED = 1;
+    static final int VERTEX_REMOVED = 2;
+    static final int EDGE_ADDED = 3;
+    static final int EDGE_REMOVED = 4;
+    static final int EDGE_WEIGHT_UPDATED = 5;
+    static final int TYPE_MASK = 0x0F;
+    static final int WEIGHT_FLAG = 0x80;
+
+    private ChangeLogFormat()
+    {
+    }
+
+    /**
+     * Write the header of a log at the start of a channel.
+     *
+     * @param channel the channel
+     * @param flags the flags
+     * @throws IOException in case of an I/O error
+     */
+    static void writeHeader(FileChannel channel, int flags)
+        throws IOException
+    {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.put(MAGIC).putInt(VERSION).putInt(flags).flip();
+        long position = 0;
+        while (header.hasRemaining()) {
+            position += channel.write(header, position);
+        }
+    }
+
+    /**
+     * Read the header of a log.
+     *
+     * @param channel the channel
+     * @return the flags
+     * @throws IOException in case of an I/O error, or if the channel does not contain a change log
+     *         of a supported version
+     */
+    static int readHeader(FileChannel channel)
+        throws IOException
+    {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        if (!readFully(channel, header, 0)) {
+            throw new IOException("Not a change log");
+        }
+        for (byte b : MAGIC) {
+            if (header.get() != b) {
+                throw new IOException("Not a change log");
+            }
+        }
+        int version = header.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported change log version: " + version);
+        }
+        return header.getInt();
+    }
+
+    /**
+     * Compute the checksum of a frame.
+     *
+     * @param firstSequence the sequence number of the first change
+     * @param count the number of changes
+     * @param payload the payload
+     * @param length the length of the payload
+     * @return the checksum
+     */
+    static int checksum(long firstSequence, int count, byte[] payload, int length)
+    {
+        CRC32 crc = new CRC32();
+        ByteBuffer fields = ByteBuffer.allocate(12).order(ByteOrder.LITTLE_ENDIAN);
+        fields.putLong(firstSequence).putInt(count).flip();
+        crc.update(fields);
+        crc.update(payload, 0, length);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Read the frame at a position.
+     *
+     * @param channel the channel
+     * @param position the position of the frame
+     * @param loadPayload whether to load and verify the payload
+     * @return the frame, or null if there is no complete and valid frame at the position
+     * @throws IOException in case of an I/O error
+     */
+    static Frame readFrame(FileChannel channel, long position, boolean loadPayload)
+        throws IOException
+    {
+        ByteBuffer header = ByteBuffer.allocate(FRAME_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        if (!readFully(channel, header, position)) {
+            return null;
+        }
+        int length = header.getInt();
+        int crc = header.getInt();
+        long firstSequence = header.getLong();
+        int count = header.getInt();
+        long end = position + FRAME_HEADER_SIZE + length;
+        if (length < 0 || count < 0 || end > channel.size()) {
+            return null;
+        }
+
+        byte[] payload = null;
+        if (loadPayload) {
+            payload = new byte[length];
+            if (!readFully(channel, ByteBuffer.wrap(payload), position + FRAME_HEADER_SIZE)
+                || checksum(firstSequence, count, payload, length) != crc)
+            {
+                return null;
+            }
+        }
+        return new Frame(end, firstSequence, count, payload);
+    }
+
+    /**
+     * Fill a buffer from a channel, and flip it.
+     *
+     * @param channel the channel
+     * @param buffer the buffer
+     * @param position the position to read from
+     * @return true if the buffer was filled, false if the channel ended before
+     * @throws IOException in case of an I/O error
+     */
+    private static boolean readFully(FileChannel channel, ByteBuffer buffer, long position)
+        throws IOException
+    {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                return false;
+            }
+            position += read;
+        }
+        buffer.flip();
+        return true;
+    }
+
+    /**
+     * A frame of a log.
+     */
+    static final class Frame
+    {
+        final long end;
+        final long firstSequence;
+        final int count;
+        final byte[] payload;
+
+        Frame(long end, long firstSequence, int count, byte[] payload)
+        {
+            this.end = end;
+            this.firstSequence = firstSequence;
+            this.count = count;
+            this.payload = payload;
+        }
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph.snapshot;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.io.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Replays a log written by a {@link GraphChangeLogWriter} onto a graph.
+ *
+ * <p>
+ * A graph is rebuilt either by replaying a whole log onto an empty graph, or by loading a snapshot
+ * written by a {@link GraphSnapshotWriter} and replaying the tail of the log which follows the
+ * sequence number of the snapshot. A standby graph is kept up to date by calling
+ * {@link #replay(Path, Graph, long)} repeatedly, each time with the sequence number returned by
+ * the previous call. Frames whose changes all precede the requested sequence number are skipped
+ * without being decoded, and replay stops at the end of the durable part of the log.
+ *
+ * <p>
+ * Vertices are created from their identifiers by a vertex factory, which must return equal
+ * vertices for equal identifiers, as is the case for strings or numbers. If the log contains edge
+ * identifiers and an edge factory is given, edges are created and looked up by the edge factory
+ * under the same contract; otherwise edges are created by the edge supplier of the graph and
+ * looked up by their endpoints. When the graph is a {@link DefaultListenableGraph}, each replay
+ * runs as a single batch.
+ *
+ * <p>
+ * Looking up edges by their endpoints is lossy if the graph allows multiple edges. A removal or
+ * weight update is then applied to an arbitrary one of the parallel edges, as returned by
+ * {@link Graph#getEdge(Object, Object)}, which need not be the edge changed in the logged graph.
+ * The number of edges between each pair of vertices is preserved, but not the identity and weight
+ * of each parallel edge. Logs of multigraphs should therefore contain edge identifiers.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ * @see GraphChangeLogWriter
+ */
+public class GraphChangeLogReplayer<V, E>
+{
+    private final Function<String, V> vertexFactory;
+    private final Function<String, E> edgeFactory;
+
+    /**
+     * Create a new replayer which looks up edges by their endpoints.
+     *
+     * @param vertexFactory the vertex factory
+     */
+    public GraphChangeLogReplayer(Function<String, V> vertexFactory)
+    {
+        this(vertexFactory, null);
+    }
+
+    /**
+     * Create a new replayer.
+     *
+     * @param vertexFactory the vertex factory
+     * @param edgeFactory the edge factory, or null to create edges using the edge supplier of the
+     *        graph and look them up by their endpoints
+     */
+    public GraphChangeLogReplayer(
+        Function<String, V> vertexFactory, Function<String, E> edgeFactory)
+    {
+        this.vertexFactory = Objects.requireNonNull(vertexFactory);
+        this.edgeFactory = edgeFactory;
+    }
+
+    /**
+     * Restore a graph from a snapshot and the tail of a log.
+     *
+     * @param snapshot the snapshot file
+     * @param snapshotSequence the sequence number of the log to which the snapshot corresponds
+     * @param log the log file
+     * @param graph the graph, which should be empty
+     * @return the sequence number following the last replayed change
+     * @throws IOException in case of an I/O error, or if a file is malformed
+     */
+    public long restore(Path snapshot, long snapshotSequence, Path log, Graph<V, E> graph)
+        throws IOException
+    {
+        new GraphSnapshotReader<>(vertexFactory, edgeFactory).read(snapshot, graph);
+        return replay(log, graph, snapshotSequence);
+    }
+
+    /**
+     * Replay a whole log.
+     *
+     * @param log the log file
+     * @param graph the graph, which should be empty
+     * @return the sequence number following the last replayed change
+     * @throws IOException in case of an I/O error, or if the log is malformed
+     */
+    public long replay(Path log, Graph<V, E> graph)
+        throws IOException
+    {
+        return replay(log, graph, 0);
+    }
+
+    /**
+     * Replay the changes of a log starting at a sequence number.
+     *
+     * @param log the log file
+     * @param graph the graph, which must be in the state reached after the changes preceding the
+     *        sequence number
+     * @param fromSequence the sequence number of the first change to replay
+     * @return the sequence number following the last durable change of the log, or
+     *         <code>fromSequence</code> if the log ends before it
+     * @throws IOException in case of an I/O error, or if the log is malformed
+     * @throws IllegalArgumentException if the sequence number is negative
+     */
+    public long replay(Path log, Graph<V, E> graph, long fromSequence)
+        throws IOException
+    {
+        if (fromSequence < 0) {
+            throw new IllegalArgumentException("Sequence number must be non-negative");
+        }
+        DefaultListenableGraph<V, E> listenable =
+            graph instanceof DefaultListenableGraph ? TypeUtil.uncheckedCast(graph) : null;
+
+        try (FileChannel channel = FileChannel.open(log, StandardOpenOption.READ)) {
+            boolean edgeIds =
+                (ChangeLogFormat.readHeader(channel) & ChangeLogFormat.EDGE_IDS_FLAG) != 0;
+            boolean useEdgeFactory = edgeIds && edgeFactory != null;
+            boolean weighted = graph.getType().isWeighted();
+
+            if (listenable != null) {
+                listenable.beginBatch();
+            }
+            try {
+                long next = fromSequence;
+                long position = ChangeLogFormat.HEADER_SIZE;
+                List<V> vertices = new ArrayList<>();
+                while (true) {
+                    ChangeLogFormat.Frame frame =
+                        ChangeLogFormat.readFrame(channel, position, false);
+                    if (frame == null) {
+                        break;
+                    }
+                    if (frame.firstSequence + frame.count > fromSequence) {
+                        frame = ChangeLogFormat.readFrame(channel, position, true);
+                        if (frame == null) {
+                            break;
+                        }
+                        SnapshotInput in = new SnapshotInput(
+                            Channels.newChannel(new ByteArrayInputStream(frame.payload)));
+                        vertices.clear();
+                        for (int i = 0; i < frame.count; i++) {
+                            long s = frame.firstSequence + i;
+                            applyChange(
+                                in, vertices, s >= fromSequence ? graph : null, edgeIds,
+                                useEdgeFactory, weighted);
+                        }
+                        next = Math.max(next, frame.firstSequence + frame.count);
+                    }
+                    position = frame.end;
+                }
+                return next;
+            } finally {
+                if (listenable != null) {
+                    listenable.commit();
+                }
+            }
+        }
+    }
+
+    /**
+     * Decode a change and apply it to a graph.
+     *
+     * @param in the input
+     * @param vertices the vertices defined so far in the frame
+     * @param graph the graph, or null to only decode the change
+     * @param edgeIds whether the log contains edge identifiers
+     * @param useEdgeFactory whether to create and look up edges using the edge factory
+     * @param weighted whether the graph is weighted
+     * @throws IOException in case of an I/O error or if the change is malformed
+     */
+    private void applyChange(
+        SnapshotInput in, List<V> vertices, Graph<V, E> graph, boolean edgeIds,
+        boolean useEdgeFactory, boolean weighted)
+        throws IOException
+    {
+        int code = in.readByte();
+        int type = code & ChangeLogFormat.TYPE_MASK;
+        if (type == ChangeLogFormat.VERTEX_ADDED || type == ChangeLogFormat.VERTEX_REMOVED) {
+            V v = readVertex(in, vertices);
+            if (graph != null) {
+                if (type == ChangeLogFormat.VERTEX_ADDED) {
+                    graph.addVertex(v);
+                } else {
+                    graph.removeVertex(v);
+                }
+            }
+            return;
+        }
+        if (type < ChangeLogFormat.EDGE_ADDED || type > ChangeLogFormat.EDGE_WEIGHT_UPDATED) {
+            throw new IOException("Malformed change log: unknown change " + code);
+        }
+        V source = readVertex(in, vertices);
+        V target = readVertex(in, vertices);
+        String edgeId = edgeIds ? in.readString() : null;
+        double weight = Graph.DEFAULT_EDGE_WEIGHT;
+        if ((code & ChangeLogFormat.WEIGHT_FLAG) != 0) {
+            weight = in.readDouble();
+        }
+        if (graph == null) {
+            return;
+        }
+
+        if (type == ChangeLogFormat.EDGE_ADDED) {
+            E e;
+            if (useEdgeFactory) {
+                e = edgeFactory.apply(edgeId);
+                graph.addEdge(source, target, e);
+            } else {
+                e = graph.addEdge(source, target);
+            }
+            if (weighted && e != null && weight != Graph.DEFAULT_EDGE_WEIGHT) {
+                graph.setEdgeWeight(e, weight);
+            }
+        } else if (type == ChangeLogFormat.EDGE_REMOVED) {
+            if (useEdgeFactory) {
+                graph.removeEdge(edgeFactory.apply(edgeId));
+            } else {
+                graph.removeEdge(source, target);
+            }
+        } else if (weighted) {
+            E e = useEdgeFactory ? edgeFactory.apply(edgeId) : graph.getEdge(source, target);
+            if (e != null) {
+                graph.setEdgeWeight(e, weight);
+            }
+        }
+    }
+
+    /**
+     * Read a reference to a vertex.
+     *
+     * @param in the input
+     * @param vertices the vertices defined so far in the frame
+     * @return the vertex
+     * @throws IOException in case of an I/O error or if the reference is malformed
+     */
+    private V readVertex(SnapshotInput in, List<V> vertices)
+        throws IOException
+    {
+        long ref = in.readVarLong();
+        if (ref == 0) {
+            V v = vertexFactory.apply(in.readString());
+            vertices.add(v);
+            return v;
+        }
+        if (ref < 0 || ref > vertices.size()) {
+            throw new IOException("Malformed change log: unknown vertex reference " + ref);
+        }
+        return vertices.get((int) ref - 1);
+    }
+}
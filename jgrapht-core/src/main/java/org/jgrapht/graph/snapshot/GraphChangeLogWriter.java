@@ -0,0 +1,448 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph.snapshot;
+
+import org.jgrapht.*;
+import org.jgrapht.event.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * An append-only log of the changes of a listenable graph, for replication and recovery.
+ *
+ * <p>
+ * The writer is registered on a {@link ListenableGraph}, either as a {@link GraphListener} or, on
+ * a {@link org.jgrapht.graph.DefaultListenableGraph}, as a {@link GraphBatchListener}, but not as
+ * both. Every change is assigned a sequence number, starting from zero for a new log, and encoded
+ * in a compact binary form: vertices are written as string identifiers the first time they appear
+ * in a frame and as small integers afterwards. Edges are identified by their endpoints and, if an
+ * edge id provider is given, by an edge identifier.
+ *
+ * <p>
+ * Without an edge id provider the log is lossy for graphs which allow multiple edges: the removal
+ * or weight update of one of several parallel edges is recorded only by its endpoints, and is
+ * replayed on an arbitrary edge between these endpoints. The replica has the same number of edges
+ * between each pair of vertices, but the weights of parallel edges may be exchanged. An edge id
+ * provider should be given when logging a multigraph.
+ *
+ * <p>
+ * Changes are accumulated in memory and written with a group commit: a single frame, protected by a
+ * checksum, is appended to the file and optionally forced to the storage device. A group is
+ * committed when it reaches the group size, when a batch delivered to
+ * {@link #batchCommitted(GraphChangeBatch)} ends, or when {@link #commit()}, {@link #flush()} or
+ * {@link #close()} is called. The changes performed outside of a batch, which a
+ * {@link org.jgrapht.graph.DefaultListenableGraph} delivers as batches of a
+ * {@link GraphChangeBatch#isSingleChange() single change}, are grouped up to the group size like
+ * the changes delivered to a {@link GraphListener}. Changes of a group which has not been committed are lost if the
+ * process fails.
+ *
+ * <p>
+ * Opening an existing log appends to it. A frame left incomplete by a failure is discarded, and
+ * numbering continues after the last durable change. The log is replayed by a
+ * {@link GraphChangeLogReplayer}. The methods of the writer are synchronized, so that it can be
+ * used with an asynchronous batch executor.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ * @see GraphChangeLogReplayer
+ */
+public class GraphChangeLogWriter<V, E>
+    implements
+    GraphListener<V, E>,
+    GraphBatchListener<V, E>,
+    Flushable,
+    Closeable
+{
+    /**
+     * The default maximum number of changes of a group commit.
+     */
+    public static final int DEFAULT_GROUP_SIZE = 1024;
+
+    /*
+     * Batches are committed as a single frame unless they exceed this many changes.
+     */
+    private static final int MAX_FRAME_CHANGES = 1 << 20;
+
+    private final FileChannel channel;
+    private final Function<V, String> vertexIdProvider;
+    private final Function<E, String> edgeIdProvider;
+    private final int groupSize;
+    private final boolean sync;
+
+    private final PayloadBuffer payload;
+    private final SnapshotOutput out;
+    private final Map<V, Integer> dictionary;
+    private long sequence;
+    private int pending;
+    private boolean closed;
+
+    /**
+     * Create a writer with the default group size, which forces each group to the storage device.
+     *
+     * @param file the log file, which is created if it does not exist
+     * @param vertexIdProvider the vertex id provider, returning a unique identifier per vertex
+     * @param edgeIdProvider the edge id provider, or null to identify edges by their endpoints
+     * @throws IOException in case of an I/O error, or if the file is not a change log
+     * @throws IllegalArgumentException if an existing log was written with a different choice of
+     *         edge identifiers
+     */
+    public GraphChangeLogWriter(
+        Path file, Function<V, String> vertexIdProvider, Function<E, String> edgeIdProvider)
+        throws IOException
+    {
+        this(file, vertexIdProvider, edgeIdProvider, DEFAULT_GROUP_SIZE, true);
+    }
+
+    /**
+     * Create a writer.
+     *
+     * @param file the log file, which is created if it does not exist
+     * @param vertexIdProvider the vertex id provider, returning a unique identifier per vertex
+     * @param edgeIdProvider the edge id provider, or null to identify edges by their endpoints
+     * @param groupSize the maximum number of changes of a group commit outside of batches
+     * @param sync whether to force each group to the storage device
+     * @throws IOException in case of an I/O error, or if the file is not a change log
+     * @throws IllegalArgumentException if the group size is not positive, or if an existing log
+     *         was written with a different choice of edge identifiers
+     */
+    public GraphChangeLogWriter(
+        Path file, Function<V, String> vertexIdProvider, Function<E, String> edgeIdProvider,
+        int groupSize, boolean sync)
+        throws IOException
+    {
+        if (groupSize <= 0) {
+            throw new IllegalArgumentException("Group size must be positive");
+        }
+        this.vertexIdProvider = Objects.requireNonNull(vertexIdProvider);
+        this.edgeIdProvider = edgeIdProvider;
+        this.groupSize = groupSize;
+        this.sync = sync;
+        this.payload = new PayloadBuffer();
+        this.out = new SnapshotOutput(Channels.newChannel(payload));
+        this.dictionary = new HashMap<>();
+
+        int flags = edgeIdProvider != null ? ChangeLogFormat.EDGE_IDS_FLAG : 0;
+        this.channel = FileChannel
+            .open(
+                file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            if (channel.size() == 0) {
+                ChangeLogFormat.writeHeader(channel, flags);
+            } else {
+                if (ChangeLogFormat.readHeader(channel) != flags) {
+                    throw new IllegalArgumentException(
+                        "Change log was written with a different choice of edge identifiers");
+                }
+                long position = ChangeLogFormat.HEADER_SIZE;
+                ChangeLogFormat.Frame frame;
+                while ((frame = ChangeLogFormat.readFrame(channel, position, true)) != null) {
+                    sequence = frame.firstSequence + frame.count;
+                    position = frame.end;
+                }
+                // drop a frame left incomplete by a failure
+                channel.truncate(position);
+            }
+            channel.position(channel.size());
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the sequence number which will be assigned to the next change. This is also the
+     * number of changes logged so far, including changes which have not been committed yet. A
+     * snapshot of the graph taken while the graph is not modified corresponds to this sequence
+     * number.
+     *
+     * @return the sequence number of the next change
+     */
+    public synchronized long getSequence()
+    {
+        return sequence;
+    }
+
+    @Override
+    public synchronized void vertexAdded(GraphVertexChangeEvent<V> e)
+    {
+        appendVertex(ChangeLogFormat.VERTEX_ADDED, e.getVertex());
+        commitIfFull(groupSize);
+    }
+
+    @Override
+    public synchronized void vertexRemoved(GraphVertexChangeEvent<V> e)
+    {
+        appendVertex(ChangeLogFormat.VERTEX_REMOVED, e.getVertex());
+        commitIfFull(groupSize);
+    }
+
+    @Override
+    public synchronized void edgeAdded(GraphEdgeChangeEvent<V, E> e)
+    {
+        appendEdge(
+            ChangeLogFormat.EDGE_ADDED, e.getEdge(), e.getEdgeSource(), e.getEdgeTarget(),
+            e.getEdgeWeight());
+        commitIfFull(groupSize);
+    }
+
+    @Override
+    public synchronized void edgeRemoved(GraphEdgeChangeEvent<V, E> e)
+    {
+        appendEdge(
+            ChangeLogFormat.EDGE_REMOVED, e.getEdge(), e.getEdgeSource(), e.getEdgeTarget(),
+            e.getEdgeWeight());
+        commitIfFull(groupSize);
+    }
+
+    @Override
+    public synchronized void edgeWeightUpdated(GraphEdgeChangeEvent<V, E> e)
+    {
+        appendEdge(
+            ChangeLogFormat.EDGE_WEIGHT_UPDATED, e.getEdge(), e.getEdgeSource(),
+            e.getEdgeTarget(), e.getEdgeWeight());
+        commitIfFull(groupSize);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The changes of the batch are committed as a single group, unless the batch holds a single
+     * change performed outside of a batch, which is committed once the group is full.
+     */
+    @Override
+    public synchronized void batchCommitted(GraphChangeBatch<V, E> batch)
+    {
+        for (int i = 0; i < batch.size(); i++) {
+            int type = batch.getType(i);
+            if (batch.isVertexChange(i)) {
+                appendVertex(
+                    type == GraphVertexChangeEvent.VERTEX_ADDED ? ChangeLogFormat.VERTEX_ADDED
+                        : ChangeLogFormat.VERTEX_REMOVED,
+                    batch.getVertex(i));
+            } else {
+                int code;
+                if (type == GraphEdgeChangeEvent.EDGE_ADDED) {
+                    code = ChangeLogFormat.EDGE_ADDED;
+                } else if (type == GraphEdgeChangeEvent.EDGE_REMOVED) {
+                    code = ChangeLogFormat.EDGE_REMOVED;
+                } else {
+                    code = ChangeLogFormat.EDGE_WEIGHT_UPDATED;
+                }
+                appendEdge(
+                    code, batch.getEdge(i), batch.getEdgeSource(i), batch.getEdgeTarget(i),
+                    batch.getEdgeWeight(i));
+            }
+            commitIfFull(MAX_FRAME_CHANGES);
+        }
+        if (batch.isSingleChange()) {
+            commitIfFull(groupSize);
+        } else {
+            commit();
+        }
+    }
+
+    /**
+     * Commits the pending changes as a single group, writing them to the file and forcing them to
+     * the storage device if requested.
+     *
+     * @throws UncheckedIOException in case of an I/O error
+     */
+    public synchronized void commit()
+    {
+        if (pending == 0) {
+            return;
+        }
+        try {
+            out.flush();
+            long firstSequence = sequence - pending;
+            int length = payload.size();
+            ByteBuffer header = ByteBuffer
+                .allocate(ChangeLogFormat.FRAME_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            header
+                .putInt(length)
+                .putInt(ChangeLogFormat.checksum(firstSequence, pending, payload.array(), length))
+                .putLong(firstSequence).putInt(pending).flip();
+            ByteBuffer[] frame = { header, ByteBuffer.wrap(payload.array(), 0, length) };
+            while (frame[1].hasRemaining()) {
+                channel.write(frame);
+            }
+            if (sync) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            payload.reset();
+            dictionary.clear();
+            pending = 0;
+        }
+    }
+
+    /**
+     * Commits the pending changes.
+     *
+     * @throws IOException in case of an I/O error
+     */
+    @Override
+    public synchronized void flush()
+        throws IOException
+    {
+        try {
+            commit();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Commits the pending changes and closes the file.
+     *
+     * @throws IOException in case of an I/O error
+     */
+    @Override
+    public synchronized void close()
+        throws IOException
+    {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Commit the pending changes if there are at least a number of them.
+     *
+     * @param limit the number of changes
+     */
+    private void commitIfFull(int limit)
+    {
+        if (pending >= limit) {
+            commit();
+        }
+    }
+
+    /**
+     * Append a vertex change.
+     *
+     * @param code the code of the change
+     * @param v the vertex
+     */
+    private void appendVertex(int code, V v)
+    {
+        ensureOpen();
+        try {
+            out.writeByte(code);
+            writeVertex(v);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        sequence++;
+        pending++;
+    }
+
+    /**
+     * Append an edge change.
+     *
+     * @param code the code of the change
+     * @param e the edge
+     * @param source the source of the edge
+     * @param target the target of the edge
+     * @param weight the weight of the edge
+     */
+    private void appendEdge(int code, E e, V source, V target, double weight)
+    {
+        ensureOpen();
+        boolean writeWeight = code == ChangeLogFormat.EDGE_WEIGHT_UPDATED
+            || (code == ChangeLogFormat.EDGE_ADDED && weight != Graph.DEFAULT_EDGE_WEIGHT);
+        try {
+            out.writeByte(writeWeight ? code | ChangeLogFormat.WEIGHT_FLAG : code);
+            writeVertex(source);
+            writeVertex(target);
+            if (edgeIdProvider != null) {
+                out.writeString(edgeIdProvider.apply(e));
+            }
+            if (writeWeight) {
+                out.writeDouble(weight);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        sequence++;
+        pending++;
+    }
+
+    /**
+     * Write a reference to a vertex, defining its identifier the first time it appears in the
+     * current frame.
+     *
+     * @param v the vertex
+     * @throws IOException in case of an I/O error
+     */
+    private void writeVertex(V v)
+        throws IOException
+    {
+        Integer index = dictionary.get(v);
+        if (index == null) {
+            out.writeVarLong(0);
+            out.writeString(vertexIdProvider.apply(v));
+            dictionary.put(v, dictionary.size());
+        } else {
+            out.writeVarLong(index + 1L);
+        }
+    }
+
+    /**
+     * Check that the writer has not been closed.
+     */
+    private void ensureOpen()
+    {
+        if (closed) {
+            throw new IllegalStateException("Change log is closed");
+        }
+    }
+
+    /**
+     * A byte array output stream which exposes its array.
+     */
+    private static class PayloadBuffer
+        extends
+        ByteArrayOutputStream
+    {
+        /**
+         * Returns the array holding the bytes written so far.
+         *
+         * @return the array
+         */
+        byte[] array()
+        {
+            return buf;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph.snapshot;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+
+import java.io.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Reads graphs in the binary snapshot format described in the
+ * {@link org.jgrapht.graph.snapshot package documentation}.
+ *
+ * <p>
+ * Vertices are created from their identifiers by a vertex factory. If the snapshot contains edge
+ * identifiers and an edge factory is given, edges are created by the edge factory; otherwise they
+ * are created by the edge supplier of the target graph. Edge weights are restored if both the
+ * snapshot and the target graph are weighted.
+ *
+ * <p>
+ * A snapshot is a consistent image of a graph. When it is loaded into an empty
+ * {@link AbstractBaseGraph} with an edge supplier, which allows multiple edges if the snapshotted
+ * graph did, the edges are therefore added with
+ * {@link AbstractBaseGraph#addTrustedEdge(Graph, Object, Object)}, skipping the redundant duplicate
+ * checks; a snapshot which repeats an edge although it has no multiple edges is rejected as
+ * malformed instead. Graphs which override {@link Graph#addEdge(Object, Object)} to enforce an invariant, such
+ * as {@link DirectedAcyclicGraph}, still receive every edge through their own
+ * {@link Graph#addEdge(Object, Object)}, so loading a snapshot of a cyclic graph into a
+ * {@link DirectedAcyclicGraph} fails with an {@link IllegalArgumentException}.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ * @see GraphSnapshotWriter
+ */
+public class GraphSnapshotReader<V, E>
+{
+    private static final int MAX_INITIAL_CAPACITY = 1 << 16;
+
+    private final Function<String, V> vertexFactory;
+    private final Function<String, E> edgeFactory;
+
+    /**
+     * Create a new reader which creates the edges using the edge supplier of the target graph.
+     *
+     * @param vertexFactory the vertex factory
+     */
+    public GraphSnapshotReader(Function<String, V> vertexFactory)
+    {
+        this(vertexFactory, null);
+    }
+
+    /**
+     * Create a new reader.
+     *
+     * @param vertexFactory the vertex factory
+     * @param edgeFactory the edge factory, or null to create the edges using the edge supplier of
+     *        the target graph
+     */
+    public GraphSnapshotReader(Function<String, V> vertexFactory, Function<String, E> edgeFactory)
+    {
+        this.vertexFactory =
+            Objects.requireNonNull(vertexFactory, "Vertex factory cannot be null");
+        this.edgeFactory = edgeFactory;
+    }
+
+    /**
+     * Read a snapshot from a file into a graph.
+     *
+     * @param file the file
+     * @param graph the target graph
+     * @throws IOException in case of an I/O error or if the snapshot is malformed
+     */
+    public void read(Path file, Graph<V, E> graph)
+        throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            read(channel, graph);
+        }
+    }
+
+    /**
+     * Read a snapshot from a channel into a graph. The channel is not closed.
+     *
+     * @param channel the channel
+     * @param graph the target graph
+     * @throws IOException in case of an I/O error or if the snapshot is malformed
+     * @throws IllegalArgumentException if the directedness of the snapshot and the graph differ
+     */
+    public void read(ReadableByteChannel channel, Graph<V, E> graph)
+        throws IOException
+    {
+        SnapshotInput in = new SnapshotInput(channel);
+        for (byte b : SnapshotFormat.MAGIC) {
+            if (in.readByte() != b) {
+                throw new IOException("Not a graph snapshot");
+            }
+        }
+        long version = in.readVarLong();
+        if (version != SnapshotFormat.VERSION) {
+            throw new IOException("Unsupported graph snapshot version " + version);
+        }
+        long flags = in.readVarLong();
+        boolean directed = (flags & SnapshotFormat.DIRECTED_FLAG) != 0;
+        boolean weighted = (flags & SnapshotFormat.WEIGHTED_FLAG) != 0;
+        boolean multipleEdges = (flags & SnapshotFormat.MULTIPLE_EDGES_FLAG) != 0;
+        boolean edgeIds = (flags & SnapshotFormat.EDGE_IDS_FLAG) != 0;
+        int n = in.readVarInt();
+        int m = in.readVarInt();
+
+        GraphType type = graph.getType();
+        if (directed ? !type.isDirected() : !type.isUndirected()) {
+            throw new IllegalArgumentException(
+                "Cannot load a snapshot of a " + (directed ? "directed" : "undirected")
+                    + " graph into a graph which is not");
+        }
+        boolean setWeights = weighted && type.isWeighted();
+        boolean useEdgeFactory = edgeIds && edgeFactory != null;
+        boolean trusted = !useEdgeFactory && graph.getEdgeSupplier() != null
+            && graph.vertexSet().isEmpty() && (type.isAllowingMultipleEdges() || !multipleEdges);
+
+        // do not trust the header to size the list, a malformed snapshot may lie about it
+        List<V> vertices = new ArrayList<>(Math.min(n, MAX_INITIAL_CAPACITY));
+        for (int i = 0; i < n; i++) {
+            V v = vertexFactory.apply(in.readString());
+            graph.addVertex(v);
+            vertices.add(v);
+        }
+
+        int read = 0;
+        for (int i = 0; i < n; i++) {
+            V source = vertices.get(i);
+            int degree = in.readVarInt();
+            long target = 0;
+            for (int j = 0; j < degree; j++) {
+                long delta = in.readVarLong();
+                target += delta;
+                if (target < 0 || target >= n) {
+                    throw new IOException("Edge target out of range: " + target);
+                }
+                if (delta == 0 && j > 0 && !multipleEdges) {
+                    throw new IOException("Repeated edge in a graph without multiple edges");
+                }
+                double weight = weighted ? in.readDouble() : Graph.DEFAULT_EDGE_WEIGHT;
+                String edgeId = edgeIds ? in.readString() : null;
+
+                V v = vertices.get((int) target);
+                E e;
+                if (useEdgeFactory) {
+                    e = edgeFactory.apply(edgeId);
+                    graph.addEdge(source, v, e);
+                } else if (trusted) {
+                    // an undirected edge may be listed at either endpoint, so a malformed
+                    // snapshot may list it at both
+                    if (!directed && !multipleEdges && graph.containsEdge(source, v)) {
+                        throw new IOException(
+                            "Repeated edge in a graph without multiple edges");
+                    }
+                    e = AbstractBaseGraph.addTrustedEdge(graph, source, v);
+                } else {
+                    e = graph.addEdge(source, v);
+                }
+                if (setWeights && e != null) {
+                    graph.setEdgeWeight(e, weight);
+                }
+            }
+            read += degree;
+        }
+        if (read != m) {
+            throw new IOException("Graph snapshot has " + read + " edges instead of " + m);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph.snapshot;
+
+import org.jgrapht.*;
+
+import java.io.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Writes graphs in the binary snapshot format described in the
+ * {@link org.jgrapht.graph.snapshot package documentation}.
+ *
+ * <p>
+ * Vertices are written to a dictionary using the string identifiers returned by a vertex id
+ * provider. Edge identifiers are written only if an edge id provider is given; otherwise the edges
+ * are recreated by the edge supplier of the graph they are loaded into. The adjacency of every
+ * vertex is delta encoded, so that a graph with small average gaps between neighbor indices needs
+ * little more than a byte per edge. The output is buffered and streamed to the channel.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ * @see GraphSnapshotReader
+ */
+public class GraphSnapshotWriter<V, E>
+{
+    private final Function<V, String> vertexIdProvider;
+    private final Function<E, String> edgeIdProvider;
+
+    /**
+     * Create a new writer which does not write edge identifiers.
+     *
+     * @param vertexIdProvider the vertex id provider, returning a unique identifier per vertex
+     */
+    public GraphSnapshotWriter(Function<V, String> vertexIdProvider)
+    {
+        this(vertexIdProvider, null);
+    }
+
+    /**
+     * Create a new writer.
+     *
+     * @param vertexIdProvider the vertex id provider, returning a unique identifier per vertex
+     * @param edgeIdProvider the edge id provider, or null to not write edge identifiers
+     */
+    public GraphSnapshotWriter(
+        Function<V, String> vertexIdProvider, Function<E, String> edgeIdProvider)
+    {
+        this.vertexIdProvider =
+            Objects.requireNonNull(vertexIdProvider, "Vertex id provider cannot be null");
+        this.edgeIdProvider = edgeIdProvider;
+    }
+
+    /**
+     * Write a snapshot of a graph to a file.
+     *
+     * @param graph the graph
+     * @param file the file, which is replaced if it exists
+     * @throws IOException in case of an I/O error
+     */
+    public void write(Graph<V, E> graph, Path file)
+        throws IOException
+    {
+        try (FileChannel channel = FileChannel
+            .open(
+                file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE))
+        {
+            write(graph, channel);
+        }
+    }
+
+    /**
+     * Write a snapshot of a graph to a channel. The channel is not closed.
+     *
+     * @param graph the graph
+     * @param channel the channel
+     * @throws IOException in case of an I/O error
+     * @throws IllegalArgumentException if the graph is mixed
+     */
+    public void write(Graph<V, E> graph, WritableByteChannel channel)
+        throws IOException
+    {
+        GraphType type = graph.getType();
+        if (type.isMixed()) {
+            throw new IllegalArgumentException("Mixed graphs are not supported");
+        }
+        boolean weighted = type.isWeighted();
+        int n = graph.vertexSet().size();
+        int m = graph.edgeSet().size();
+
+        SnapshotOutput out = new SnapshotOutput(channel);
+        for (byte b : SnapshotFormat.MAGIC) {
+            out.writeByte(b);
+        }
+        out.writeVarLong(SnapshotFormat.VERSION);
+        out
+            .writeVarLong(
+                (type.isDirected() ? SnapshotFormat.DIRECTED_FLAG : 0)
+                    | (weighted ? SnapshotFormat.WEIGHTED_FLAG : 0)
+                    | (type.isAllowingMultipleEdges() ? SnapshotFormat.MULTIPLE_EDGES_FLAG : 0)
+                    | (edgeIdProvider != null ? SnapshotFormat.EDGE_IDS_FLAG : 0));
+        out.writeVarLong(n);
+        out.writeVarLong(m);
+
+        Map<V, Integer> index = new HashMap<>(2 * n);
+        for (V v : graph.vertexSet()) {
+            index.put(v, index.size());
+            out.writeString(vertexIdProvider.apply(v));
+        }
+
+        List<E> edges = new ArrayList<>();
+        long[] keys = new long[0];
+        int written = 0;
+        for (V v : graph.vertexSet()) {
+            // every edge is written once, at its source
+            edges.clear();
+            Set<E> candidates =
+                type.isDirected() ? graph.outgoingEdgesOf(v) : graph.edgesOf(v);
+            for (E e : candidates) {
+                if (!type.isDirected() && !graph.getEdgeSource(e).equals(v)) {
+                    continue;
+                }
+                edges.add(e);
+            }
+            int degree = edges.size();
+            if (keys.length < degree) {
+                keys = new long[Math.max(degree, 2 * keys.length)];
+            }
+            for (int i = 0; i < degree; i++) {
+                keys[i] = ((long) index.get(graph.getEdgeTarget(edges.get(i))) << 32) | i;
+            }
+            Arrays.sort(keys, 0, degree);
+
+            out.writeVarLong(degree);
+            long previous = 0;
+            for (int i = 0; i < degree; i++) {
+                long target = keys[i] >>> 32;
+                E e = edges.get((int) keys[i]);
+                out.writeVarLong(target - previous);
+                previous = target;
+                if (weighted) {
+                    out.writeDouble(graph.getEdgeWeight(e));
+                }
+                if (edgeIdProvider != null) {
+                    out.writeString(edgeIdProvider.apply(e));
+                }
+            }
+            written += degree;
+        }
+        if (written != m) {
+            throw new IllegalArgumentException("Graph edges are inconsistent with its edge set");
+        }
+        out.flush();
+    }
+}
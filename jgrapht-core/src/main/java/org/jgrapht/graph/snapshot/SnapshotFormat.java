@@ -0,0 +1,36 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph.snapshot;
+
+/**
+ * Constants of the snapshot format, see the package documentation.
+ */
+final class SnapshotFormat
+{
+    static final byte[] MAGIC = { 'J', 'G', 'S', 'N' };
+    static final int VERSION = 1;
+
+    static final int DIRECTED_FLAG = 1;
+    static final int WEIGHTED_FLAG = 2;
+    static final int MULTIPLE_EDGES_FLAG = 4;
+    static final int EDGE_IDS_FLAG = 8;
+
+    private SnapshotFormat()
+    {
+    }
+}
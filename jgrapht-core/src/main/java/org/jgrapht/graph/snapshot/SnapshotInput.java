@@ -0,0 +1,162 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph.snapshot;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+
+/**
+ * Buffered input of the primitive values of a snapshot from a channel.
+ */
+final class SnapshotInput
+{
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer;
+
+    /**
+     * Create a new input.
+     *
+     * @param channel the channel
+     */
+    SnapshotInput(ReadableByteChannel channel)
+    {
+        this.channel = channel;
+        this.buffer = ByteBuffer
+            .allocate(SnapshotOutput.BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.flip();
+    }
+
+    /**
+     * Read a byte.
+     *
+     * @return the value
+     * @throws IOException in case of an I/O error or if the input ends
+     */
+    int readByte()
+        throws IOException
+    {
+        ensure(1);
+        return buffer.get() & 0xFF;
+    }
+
+    /**
+     * Read a variable length integer.
+     *
+     * @return the value
+     * @throws IOException in case of an I/O error, if the input ends or the value is malformed
+     */
+    long readVarLong()
+        throws IOException
+    {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            if (!buffer.hasRemaining()) {
+                ensure(1);
+            }
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable length integer");
+    }
+
+    /**
+     * Read a non-negative variable length integer which must fit in an int.
+     *
+     * @return the value
+     * @throws IOException in case of an I/O error, if the input ends or the value is malformed
+     */
+    int readVarInt()
+        throws IOException
+    {
+        long value = readVarLong();
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IOException("Integer value out of range: " + value);
+        }
+        return (int) value;
+    }
+
+    /**
+     * Read a double.
+     *
+     * @return the value
+     * @throws IOException in case of an I/O error or if the input ends
+     */
+    double readDouble()
+        throws IOException
+    {
+        ensure(8);
+        return buffer.getDouble();
+    }
+
+    /**
+     * Read a string.
+     *
+     * @return the value
+     * @throws IOException in case of an I/O error or if the input ends
+     */
+    String readString()
+        throws IOException
+    {
+        int length = readVarInt();
+        if (length <= buffer.capacity()) {
+            ensure(length);
+            String value = new String(
+                buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+            return value;
+        }
+        byte[] bytes = new byte[length];
+        int offset = 0;
+        while (offset < length) {
+            if (!buffer.hasRemaining()) {
+                ensure(1);
+            }
+            int chunk = Math.min(buffer.remaining(), length - offset);
+            buffer.get(bytes, offset, chunk);
+            offset += chunk;
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Make sure that the buffer holds a number of bytes, reading from the channel if needed.
+     *
+     * @param bytes the number of bytes, at most the capacity of the buffer
+     * @throws IOException in case of an I/O error or if the input ends
+     */
+    private void ensure(int bytes)
+        throws IOException
+    {
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+        buffer.compact();
+        while (buffer.position() < bytes) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Unexpected end of snapshot");
+            }
+        }
+        buffer.flip();
+    }
+}
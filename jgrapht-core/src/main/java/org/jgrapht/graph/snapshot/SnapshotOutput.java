@@ -0,0 +1,139 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph.snapshot;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+
+/**
+ * Buffered output of the primitive values of a snapshot to a channel.
+ */
+final class SnapshotOutput
+{
+    static final int BUFFER_SIZE = 1 << 16;
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer;
+
+    /**
+     * Create a new output.
+     *
+     * @param channel the channel
+     */
+    SnapshotOutput(WritableByteChannel channel)
+    {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Write a byte.
+     *
+     * @param value the value
+     * @throws IOException in case of an I/O error
+     */
+    void writeByte(int value)
+        throws IOException
+    {
+        ensure(1);
+        buffer.put((byte) value);
+    }
+
+    /**
+     * Write a non-negative value as a variable length integer, seven bits per byte.
+     *
+     * @param value the value
+     * @throws IOException in case of an I/O error
+     */
+    void writeVarLong(long value)
+        throws IOException
+    {
+        ensure(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * Write a double.
+     *
+     * @param value the value
+     * @throws IOException in case of an I/O error
+     */
+    void writeDouble(double value)
+        throws IOException
+    {
+        ensure(8);
+        buffer.putDouble(value);
+    }
+
+    /**
+     * Write a string as its length followed by its UTF-8 encoding.
+     *
+     * @param value the value
+     * @throws IOException in case of an I/O error
+     */
+    void writeString(String value)
+        throws IOException
+    {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(bytes.length);
+        int offset = 0;
+        while (offset < bytes.length) {
+            if (!buffer.hasRemaining()) {
+                flush();
+            }
+            int length = Math.min(buffer.remaining(), bytes.length - offset);
+            buffer.put(bytes, offset, length);
+            offset += length;
+        }
+    }
+
+    /**
+     * Write the buffered bytes to the channel.
+     *
+     * @throws IOException in case of an I/O error
+     */
+    void flush()
+        throws IOException
+    {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Make room in the buffer for a number of bytes.
+     *
+     * @param bytes the number of bytes
+     * @throws IOException in case of an I/O error
+     */
+    private void ensure(int bytes)
+        throws IOException
+    {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+/**
+ * A compact binary snapshot format for graphs, and a change log to replicate and recover graphs
+ * from a snapshot and the changes which followed it.
+ *
+ * <p>
+ * A snapshot starts with the magic bytes {@code JGSN} and the format version, followed by the
+ * flags (directed, weighted, multiple edges allowed, edge identifiers present), the number of
+ * vertices $n$ and the number of edges $m$. Then come the identifiers of the vertices, which
+ * number the vertices $0, \dots, n-1$, and the adjacency of every vertex in turn: its number of
+ * outgoing edges, followed by the outgoing edges sorted by target. Every edge is stored as the
+ * difference between its target and the target of the previous edge, followed by its weight if the
+ * graph is weighted and by its identifier if edge identifiers are present.
+ *
+ * <p>
+ * Counts and target differences are variable length integers of seven bits per byte, weights are
+ * little-endian doubles, and identifiers are UTF-8 strings preceded by their length. Edges of
+ * undirected graphs are stored once, at their source.
+ *
+ * <p>
+ * A change log starts with the magic bytes {@code JGCL}, the format version and the flags (edge
+ * identifiers present), each a little-endian 32-bit integer, followed by frames. A frame holds the
+ * changes of one group commit: the length of its payload, a CRC32 checksum, the sequence number of
+ * its first change and its number of changes, followed by the changes. A change is a code byte,
+ * whose high bit marks a weight, and references to its vertices, followed for edge changes by the
+ * edge identifier if present and the weight if marked. A vertex reference is zero followed by the
+ * vertex identifier the first time the vertex appears in the frame, and otherwise one plus the
+ * number of the vertex in the order of first appearance in the frame.
+ */
+package org.jgrapht.graph.snapshot;
@@ -248,6 +248,45 @@ public class DirectedSpecifics<V, E>
         return getEdgeContainer(vertex).getUnmodifiableOutgoingEdges();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachEdgeOf(V vertex, Consumer<? super E> action)
+    {
+        DirectedEdgeContainer<V, E> ec = getEdgeContainer(vertex);
+        ec.incoming.forEach(action);
+
+        if (graph.getType().isAllowingSelfLoops()) {
+            // self-loops have already been visited as incoming edges
+            for (E e : ec.outgoing) {
+                if (!vertex.equals(graph.getEdgeTarget(e))) {
+                    action.accept(e);
+                }
+            }
+        } else {
+            ec.outgoing.forEach(action);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachIncomingEdge(V vertex, Consumer<? super E> action)
+    {
+        getEdgeContainer(vertex).incoming.forEach(action);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachOutgoingEdge(V vertex, Consumer<? super E> action)
+    {
+        getEdgeContainer(vertex).outgoing.forEach(action);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,151 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph.specifics;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Fast implementation of UndirectedSpecifics for graphs whose vertices are integral numbers, that is
+ * {@link Integer}, {@link Long}, {@link Short} or {@link Byte} ids, all of the same type. The
+ * vertices are stored in a {@link CompactHashMap}, and edge retrievals use an open addressing
+ * index keyed by the primitive ids of the touching vertices, so that no pair object is allocated
+ * and no vertex is compared through {@code equals}. Compared to {@link FastLookupUndirectedSpecifics}
+ * this considerably reduces the memory footprint and speeds up methods like getEdge(V u, V v).
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class PrimitiveIdUndirectedSpecifics<V, E>
+    extends
+    UndirectedSpecifics<V, E>
+{
+    private static final long serialVersionUID = 3015863958726170584L;
+
+    private final VertexPairIndex<E> index;
+    private Class<?> vertexClass;
+
+    /**
+     * Construct a new specifics.
+     *
+     * @param graph the graph for which these specifics are for
+     * @param edgeSetFactory factory for the creation of vertex edge sets
+     */
+    public PrimitiveIdUndirectedSpecifics(Graph<V, E> graph, EdgeSetFactory<V, E> edgeSetFactory)
+    {
+        super(graph, new CompactHashMap<>(), edgeSetFactory);
+        this.index = new VertexPairIndex<>(false);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the vertex is not an integral number, or is of a
+     *         different type than the other vertices
+     */
+    @Override
+    public boolean addVertex(V v)
+    {
+        if (vertexClass == null) {
+            if (!VertexPairIndex.isIntegral(v)) {
+                throw new IllegalArgumentException("Vertex must be an integral number: " + v);
+            }
+            vertexClass = v.getClass();
+        } else if (v.getClass() != vertexClass) {
+            throw new IllegalArgumentException(
+                "Vertex must be of type " + vertexClass.getSimpleName() + ": " + v);
+        }
+        return super.addVertex(v);
+    }
+
+    @Override
+    public Set<E> getAllEdges(V sourceVertex, V targetVertex)
+    {
+        if (graph.containsVertex(sourceVertex) && graph.containsVertex(targetVertex)) {
+            Set<E> edgeSet = edgeSetFactory.createEdgeSet(sourceVertex);
+            index
+                .getAll(
+                    VertexPairIndex.id(sourceVertex), VertexPairIndex.id(targetVertex), edgeSet);
+            return edgeSet.isEmpty() ? Collections.emptySet() : edgeSet;
+        } else {
+            return null;
+        }
+    }
+
+    @Override
+    public E getEdge(V sourceVertex, V targetVertex)
+    {
+        if (!isValid(sourceVertex) || !isValid(targetVertex)) {
+            return null;
+        }
+        return index.get(VertexPairIndex.id(sourceVertex), VertexPairIndex.id(targetVertex));
+    }
+
+    @Override
+    public boolean addEdgeToTouchingVertices(V sourceVertex, V targetVertex, E e)
+    {
+        if (!super.addEdgeToTouchingVertices(sourceVertex, targetVertex, e)) {
+            return false;
+        }
+        index.add(VertexPairIndex.id(sourceVertex), VertexPairIndex.id(targetVertex), e);
+        return true;
+    }
+
+    @Override
+    public boolean addEdgeToTouchingVerticesIfAbsent(V sourceVertex, V targetVertex, E e)
+    {
+        if (getEdge(sourceVertex, targetVertex) != null) {
+            return false;
+        }
+        return addEdgeToTouchingVertices(sourceVertex, targetVertex, e);
+    }
+
+    @Override
+    public E createEdgeToTouchingVerticesIfAbsent(
+        V sourceVertex, V targetVertex, Supplier<E> edgeSupplier)
+    {
+        if (getEdge(sourceVertex, targetVertex) != null) {
+            return null;
+        }
+        E e = edgeSupplier.get();
+        addEdgeToTouchingVertices(sourceVertex, targetVertex, e);
+        return e;
+    }
+
+    @Override
+    public void removeEdgeFromTouchingVertices(V sourceVertex, V targetVertex, E e)
+    {
+        super.removeEdgeFromTouchingVertices(sourceVertex, targetVertex, e);
+        index.remove(VertexPairIndex.id(sourceVertex), VertexPairIndex.id(targetVertex), e);
+    }
+
+    /**
+     * Check whether an object has the type of the vertices of the graph.
+     *
+     * @param v the object
+     * @return true if the object may be a vertex of the graph, false otherwise
+     */
+    private boolean isValid(Object v)
+    {
+        return v != null && v.getClass() == vertexClass;
+    }
+}
@@ -162,6 +162,40 @@ public interface Specifics<V, E>
      */
     Set<E> outgoingEdgesOf(V vertex);
 
+    /**
+     * Performs the given action for each edge touching the specified vertex, without creating an
+     * intermediate set.
+     *
+     * @param vertex the vertex
+     * @param action the action to be performed for each edge
+     */
+    default void forEachEdgeOf(V vertex, Consumer<? super E> action)
+    {
+        edgesOf(vertex).forEach(action);
+    }
+
+    /**
+     * Performs the given action for each edge incoming into the specified vertex.
+     *
+     * @param vertex the vertex
+     * @param action the action to be performed for each edge
+     */
+    default void forEachIncomingEdge(V vertex, Consumer<? super E> action)
+    {
+        incomingEdgesOf(vertex).forEach(action);
+    }
+
+    /**
+     * Performs the given action for each edge outgoing from the specified vertex.
+     *
+     * @param vertex the vertex
+     * @param action the action to be performed for each edge
+     */
+    default void forEachOutgoingEdge(V vertex, Consumer<? super E> action)
+    {
+        outgoingEdgesOf(vertex).forEach(action);
+    }
+
     /**
      * Removes the specified edge from the edge containers of its source and target vertices.
      *
@@ -262,6 +262,33 @@ public class UndirectedSpecifics<V, E>
         return getEdgeContainer(vertex).getUnmodifiableVertexEdges();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachEdgeOf(V vertex, Consumer<? super E> action)
+    {
+        getEdgeContainer(vertex).vertexEdges.forEach(action);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachIncomingEdge(V vertex, Consumer<? super E> action)
+    {
+        getEdgeContainer(vertex).vertexEdges.forEach(action);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachOutgoingEdge(V vertex, Consumer<? super E> action)
+    {
+        getEdgeContainer(vertex).vertexEdges.forEach(action);
+    }
+
     /**
      * {@inheritDoc}
      */
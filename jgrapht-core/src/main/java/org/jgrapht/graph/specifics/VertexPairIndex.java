@@ -0,0 +1,276 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph.specifics;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * An index from pairs of integral vertex ids to the edges connecting them, stored in an open
+ * addressing hash table of primitive keys.
+ *
+ * <p>
+ * A pair connected by a single edge stores the edge itself, and only pairs connected by multiple
+ * edges allocate a list. The table uses linear probing with backward shift deletion.
+ *
+ * @param <E> the graph edge type
+ */
+class VertexPairIndex<E>
+    implements
+    Serializable
+{
+    private static final long serialVersionUID = -2212553447262981540L;
+
+    private static final int MIN_CAPACITY = 16;
+
+    private final boolean directed;
+    private long[] firsts;
+    private long[] seconds;
+    private Object[] values;
+    private int size;
+
+    /**
+     * Create a new empty index.
+     *
+     * @param directed whether the pairs are ordered
+     */
+    VertexPairIndex(boolean directed)
+    {
+        this.directed = directed;
+        allocate(MIN_CAPACITY);
+    }
+
+    /**
+     * Check whether a vertex is represented by an integral id.
+     *
+     * @param v the vertex
+     * @return true if the vertex is an integral number, false otherwise
+     */
+    static boolean isIntegral(Object v)
+    {
+        return v instanceof Integer || v instanceof Long || v instanceof Short
+            || v instanceof Byte;
+    }
+
+    /**
+     * Returns the id of a vertex.
+     *
+     * @param v the vertex, which must be integral
+     * @return the id of the vertex
+     */
+    static long id(Object v)
+    {
+        return ((Number) v).longValue();
+    }
+
+    /**
+     * Returns an edge connecting a pair of vertices.
+     *
+     * @param u the first vertex
+     * @param v the second vertex
+     * @return an edge, or null if there is none
+     */
+    @SuppressWarnings("unchecked")
+    E get(long u, long v)
+    {
+        Object value = values[find(u, v)];
+        if (value instanceof Bucket) {
+            return ((Bucket<E>) value).get(0);
+        }
+        return (E) value;
+    }
+
+    /**
+     * Adds the edges connecting a pair of vertices to a collection.
+     *
+     * @param u the first vertex
+     * @param v the second vertex
+     * @param target the collection
+     */
+    @SuppressWarnings("unchecked")
+    void getAll(long u, long v, Collection<E> target)
+    {
+        Object value = values[find(u, v)];
+        if (value instanceof Bucket) {
+            target.addAll((Bucket<E>) value);
+        } else if (value != null) {
+            target.add((E) value);
+        }
+    }
+
+    /**
+     * Adds an edge connecting a pair of vertices.
+     *
+     * @param u the first vertex
+     * @param v the second vertex
+     * @param e the edge
+     */
+    @SuppressWarnings("unchecked")
+    void add(long u, long v, E e)
+    {
+        int slot = find(u, v);
+        Object value = values[slot];
+        if (value == null) {
+            if (!directed && u > v) {
+                long t = u;
+                u = v;
+                v = t;
+            }
+            firsts[slot] = u;
+            seconds[slot] = v;
+            values[slot] = e;
+            if (++size > values.length / 2) {
+                allocate(values.length * 2);
+            }
+        } else if (value instanceof Bucket) {
+            ((Bucket<E>) value).add(e);
+        } else {
+            Bucket<E> bucket = new Bucket<>();
+            bucket.add((E) value);
+            bucket.add(e);
+            values[slot] = bucket;
+        }
+    }
+
+    /**
+     * Removes an edge connecting a pair of vertices.
+     *
+     * @param u the first vertex
+     * @param v the second vertex
+     * @param e the edge
+     */
+    @SuppressWarnings("unchecked")
+    void remove(long u, long v, E e)
+    {
+        int slot = find(u, v);
+        Object value = values[slot];
+        if (value instanceof Bucket) {
+            Bucket<E> bucket = (Bucket<E>) value;
+            bucket.remove(e);
+            if (bucket.size() == 1) {
+                values[slot] = bucket.get(0);
+            }
+        } else if (value != null && value.equals(e)) {
+            removeSlot(slot);
+        }
+    }
+
+    /**
+     * Find the slot of a pair, or the empty slot where it would be inserted.
+     *
+     * @param u the first vertex
+     * @param v the second vertex
+     * @return the slot
+     */
+    private int find(long u, long v)
+    {
+        if (!directed && u > v) {
+            long t = u;
+            u = v;
+            v = t;
+        }
+        int mask = values.length - 1;
+        for (int slot = hash(u, v) & mask;; slot = (slot + 1) & mask) {
+            if (values[slot] == null || (firsts[slot] == u && seconds[slot] == v)) {
+                return slot;
+            }
+        }
+    }
+
+    /**
+     * Remove the pair in a slot, shifting back the following slots of the probe sequence.
+     *
+     * @param slot the slot
+     */
+    private void removeSlot(int slot)
+    {
+        int mask = values.length - 1;
+        int hole = slot;
+        for (int next = (hole + 1) & mask; values[next] != null; next = (next + 1) & mask) {
+            int home = hash(firsts[next], seconds[next]) & mask;
+            boolean stays = hole <= next ? (hole < home && home <= next)
+                : (hole < home || home <= next);
+            if (!stays) {
+                firsts[hole] = firsts[next];
+                seconds[hole] = seconds[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+        }
+        values[hole] = null;
+        size--;
+    }
+
+    /**
+     * Compute the hash of a pair.
+     *
+     * @param u the first vertex
+     * @param v the second vertex
+     * @return the hash
+     */
+    private static int hash(long u, long v)
+    {
+        long h = (u * 0x9E3779B97F4A7C15L + v) * 0xC2B2AE3D27D4EB4FL;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * Rehash the pairs into new arrays.
+     *
+     * @param capacity the new capacity, a power of two
+     */
+    private void allocate(int capacity)
+    {
+        long[] oldFirsts = firsts;
+        long[] oldSeconds = seconds;
+        Object[] oldValues = values;
+        firsts = new long[capacity];
+        seconds = new long[capacity];
+        values = new Object[capacity];
+        if (oldValues == null) {
+            return;
+        }
+        int mask = capacity - 1;
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int slot = hash(oldFirsts[i], oldSeconds[i]) & mask;
+                while (values[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                firsts[slot] = oldFirsts[i];
+                seconds[slot] = oldSeconds[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * The edges of a pair connected by multiple edges.
+     */
+    private static class Bucket<E>
+        extends
+        ArrayList<E>
+    {
+        private static final long serialVersionUID = 1L;
+
+        Bucket()
+        {
+            super(2);
+        }
+    }
+}
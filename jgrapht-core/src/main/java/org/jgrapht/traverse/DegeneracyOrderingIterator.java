@@ -23,6 +23,7 @@ import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.jgrapht.Graph;
 import org.jgrapht.Graphs;
@@ -57,6 +58,8 @@ public class DegeneracyOrderingIterator<V, E>
     private Map<V, Integer> degrees;
     private int minDegree;
     private V cur;
+    private V removed;
+    private final Consumer<V> releaseNeighbor = this::releaseNeighbor;
 
     /**
      * Constructor
@@ -166,28 +169,33 @@ public class DegeneracyOrderingIterator<V, E>
             b.remove(v);
             degrees.remove(v);
 
-            for (E e : graph.edgesOf(v)) {
-                V u = Graphs.getOppositeVertex(graph, e, v);
-
-                if (v.equals(u)) {
-                    // ignore self-loop
-                    continue;
-                }
-
-                if (degrees.containsKey(u)) {
-                    int uDegree = degrees.get(u);
-                    if (uDegree > minDegree) {
-                        buckets[uDegree].remove(u);
-                        uDegree--;
-                        degrees.put(u, uDegree);
-                        buckets[uDegree].add(u);
-                    }
-                }
-            }
+            removed = v;
+            graph.iterables().forEachNeighbor(v, releaseNeighbor);
+            removed = null;
             result = v;
         }
 
         return result;
     }
 
+    /**
+     * Decrease the degree of a neighbor of the vertex being removed.
+     *
+     * @param u the neighbor
+     */
+    private void releaseNeighbor(V u)
+    {
+        if (removed.equals(u)) {
+            // ignore self-loop
+            return;
+        }
+
+        Integer uDegree = degrees.get(u);
+        if (uDegree != null && uDegree > minDegree) {
+            buckets[uDegree].remove(u);
+            degrees.put(u, uDegree - 1);
+            buckets[uDegree - 1].add(u);
+        }
+    }
+
 }
@@ -21,6 +21,7 @@ import org.jgrapht.*;
 import org.jgrapht.util.*;
 
 import java.util.*;
+import java.util.function.*;
 
 /**
  * A topological ordering iterator for a directed acyclic graph.
@@ -56,6 +57,7 @@ public class TopologicalOrderIterator<V, E>
     private Map<V, ModifiableInteger> inDegreeMap;
     private int remainingVertices;
     private V cur;
+    private final Consumer<V> releaseSuccessor = this::releaseSuccessor;
 
     /**
      * Construct a topological order iterator.
@@ -176,18 +178,7 @@ public class TopologicalOrderIterator<V, E>
         V result = queue.poll();
 
         if (result != null) {
-            for (E e : graph.outgoingEdgesOf(result)) {
-                V other = Graphs.getOppositeVertex(graph, e, result);
-
-                ModifiableInteger inDegree = inDegreeMap.get(other);
-                if (inDegree.value > 0) {
-                    inDegree.value--;
-
-                    if (inDegree.value == 0) {
-                        queue.offer(other);
-                    }
-                }
-            }
+            graph.iterables().forEachSuccessor(result, releaseSuccessor);
 
             --remainingVertices;
         } else {
@@ -202,4 +193,22 @@ public class TopologicalOrderIterator<V, E>
         return result;
     }
 
+    /**
+     * Decrease the in-degree of a successor of the vertex being removed, queuing it when it
+     * becomes a source.
+     *
+     * @param other the successor
+     */
+    private void releaseSuccessor(V other)
+    {
+        ModifiableInteger inDegree = inDegreeMap.get(other);
+        if (inDegree.value > 0) {
+            inDegree.value--;
+
+            if (inDegree.value == 0) {
+                queue.offer(other);
+            }
+        }
+    }
+
 }
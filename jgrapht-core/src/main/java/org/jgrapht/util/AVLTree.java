@@ -38,8 +38,14 @@ import java.util.*;
  * <li>Node successor/predecessor queries in $\mathcal{O}(1)$ time</li>
  * <li>Tree split in $\mathcal{O}(\log n)$ time</li>
  * <li>Tree merge in $\mathcal{O}(\log n)$ time</li>
+ * <li>Node flag update in $\mathcal{O}(\log n)$ time</li>
+ * <li>Search of a node with a given flag in $\mathcal{O}(\log n)$ time</li>
  * </ul>
  * <p>
+ * Every node carries an integer bit mask of user-defined flags. The tree maintains the bitwise OR
+ * of the flags in every subtree, which allows to find a flagged node without traversing the
+ * unflagged ones.
+ * <p>
  * This implementation gives users access to the tree nodes which hold the inserted elements. The
  * user is able to store the tree nodes references but isn't able to modify them.
  *
@@ -311,6 +317,31 @@ public class AVLTree<T>
         return virtualRoot.left;
     }
 
+    /**
+     * Returns the minimum node in this tree which has at least one of the flags in the
+     * {@code mask} set. Returns {@code null} if there is no such node. The running time of this
+     * method is $\mathcal{O}(\log n)$.
+     *
+     * @param mask a bit mask of flags to search for
+     * @return the minimum node having some of the flags in the {@code mask}, or {@code null}
+     */
+    public TreeNode<T> findFlagged(int mask)
+    {
+        TreeNode<T> node = getRoot();
+        if (node == null || (node.subtreeFlags & mask) == 0) {
+            return null;
+        }
+        while (true) {
+            if (node.left != null && (node.left.subtreeFlags & mask) != 0) {
+                node = node.left;
+            } else if ((node.flags & mask) != 0) {
+                return node;
+            } else {
+                node = node.right;
+            }
+        }
+    }
+
     /**
      * Returns the node following the {@code node} in the order defined by this tree. Returns null
      * if the {@code node} is the maximum node in the tree.
@@ -773,6 +804,14 @@ public class AVLTree<T>
          * Size of the subtree rooted at this node
          */
         int subtreeSize;
+        /**
+         * User-defined flags of this node
+         */
+        int flags;
+        /**
+         * Bitwise OR of the flags of the nodes in the subtree rooted at this node
+         */
+        int subtreeFlags;
 
         /**
          * Constructs a new node with the {@code value} stored in it
@@ -899,6 +938,40 @@ public class AVLTree<T>
             return subtreeSize;
         }
 
+        /**
+         * Returns the flags of this node
+         *
+         * @return the flags of this node
+         */
+        public int getFlags()
+        {
+            return flags;
+        }
+
+        /**
+         * Returns the bitwise OR of the flags of the nodes in the subtree rooted at this node
+         *
+         * @return the bitwise OR of the flags of the nodes in the subtree rooted at this node
+         */
+        public int getSubtreeFlags()
+        {
+            return subtreeFlags;
+        }
+
+        /**
+         * Sets the flags of this node and updates the subtree flags of its ancestors. The running
+         * time of this method is $\mathcal{O}(\log n)$.
+         *
+         * @param flags the new flags of this node
+         */
+        public void setFlags(int flags)
+        {
+            this.flags = flags;
+            for (TreeNode<T> node = this; node != null; node = node.parent) {
+                node.updateSubtreeFlags();
+            }
+        }
+
         /**
          * Resets this node to the default state
          */
@@ -906,6 +979,7 @@ public class AVLTree<T>
         {
             this.height = 1;
             this.subtreeSize = 1;
+            this.subtreeFlags = flags;
             this.subtreeMin = this;
             this.subtreeMax = this;
             this.left = this.right = this.parent = this.predecessor = this.successor = null;
@@ -952,13 +1026,24 @@ public class AVLTree<T>
         }
 
         /**
-         * Updates the height and subtree size of this node according to the values of the left and
-         * right children
+         * Updates the height, subtree size and subtree flags of this node according to the values
+         * of the left and right children
          */
         void updateHeightAndSubtreeSize()
         {
             height = Math.max(getLeftHeight(), getRightHeight()) + 1;
             subtreeSize = getLeftSubtreeSize() + getRightSubtreeSize() + 1;
+            updateSubtreeFlags();
+        }
+
+        /**
+         * Updates the subtree flags of this node according to the values of the left and right
+         * children
+         */
+        void updateSubtreeFlags()
+        {
+            subtreeFlags = flags | (left == null ? 0 : left.subtreeFlags)
+                | (right == null ? 0 : right.subtreeFlags);
         }
 
         /**
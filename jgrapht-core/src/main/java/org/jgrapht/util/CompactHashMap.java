@@ -0,0 +1,515 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.util;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * A hash map with open addressing which iterates in insertion order.
+ *
+ * <p>
+ * The keys, values and hash codes of the mappings are stored in parallel arrays in insertion order,
+ * and a separate table of primitive integers, using linear probing, maps hash codes to positions in
+ * these arrays. Compared to {@link LinkedHashMap}, no entry object is allocated per mapping, which
+ * considerably reduces the memory footprint and improves locality. Removed mappings leave a hole
+ * in the arrays, which is reclaimed when the arrays are compacted on growth.
+ *
+ * <p>
+ * Null keys are not supported, null values are. The iterators of the views are fail-fast and
+ * support removal. This implementation is not synchronized.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public class CompactHashMap<K, V>
+    extends
+    AbstractMap<K, V>
+    implements
+    Serializable
+{
+    private static final long serialVersionUID = 4726315012744436092L;
+
+    private static final int MIN_CAPACITY = 4;
+
+    /*
+     * The mappings in insertion order. A null key marks a removed mapping.
+     */
+    private Object[] keys;
+    private Object[] values;
+    private int[] hashes;
+    private int end;
+    private int size;
+
+    /*
+     * Open addressing table of positions plus one, zero marks an empty slot. Its length is a power
+     * of two and at least twice the capacity of the arrays.
+     */
+    private int[] table;
+
+    private transient int modCount;
+    private transient Set<K> keySet;
+    private transient Set<Map.Entry<K, V>> entrySet;
+
+    /**
+     * Create a new empty map.
+     */
+    public CompactHashMap()
+    {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * Create a new empty map which can hold the given number of mappings without growing.
+     *
+     * @param expectedSize the expected number of mappings
+     * @throws IllegalArgumentException if the expected size is negative
+     */
+    public CompactHashMap(int expectedSize)
+    {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must be non-negative");
+        }
+        allocate(Math.max(MIN_CAPACITY, expectedSize));
+    }
+
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return key != null && findSlot(key, hash(key)) >= 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key)
+    {
+        if (key == null) {
+            return null;
+        }
+        int slot = findSlot(key, hash(key));
+        return slot < 0 ? null : (V) values[table[slot] - 1];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value)
+    {
+        Objects.requireNonNull(key);
+        int h = hash(key);
+        int slot = findSlot(key, h);
+        if (slot >= 0) {
+            int position = table[slot] - 1;
+            V old = (V) values[position];
+            values[position] = value;
+            return old;
+        }
+        if (end == keys.length) {
+            allocate(Math.max(MIN_CAPACITY, 2 * size));
+        }
+        keys[end] = key;
+        values[end] = value;
+        hashes[end] = h;
+        insertSlot(h, end);
+        end++;
+        size++;
+        modCount++;
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(Object key)
+    {
+        if (key == null) {
+            return null;
+        }
+        int slot = findSlot(key, hash(key));
+        if (slot < 0) {
+            return null;
+        }
+        int position = table[slot] - 1;
+        V old = (V) values[position];
+        removeSlot(slot, position);
+        return old;
+    }
+
+    @Override
+    public void clear()
+    {
+        if (end > 0) {
+            Arrays.fill(keys, 0, end, null);
+            Arrays.fill(values, 0, end, null);
+            Arrays.fill(table, 0);
+            end = 0;
+            size = 0;
+            modCount++;
+        }
+    }
+
+    @Override
+    public Set<K> keySet()
+    {
+        if (keySet == null) {
+            keySet = new KeySet();
+        }
+        return keySet;
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet()
+    {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    /**
+     * Compute the hash of a key.
+     *
+     * @param key the key
+     * @return the hash of the key
+     */
+    private static int hash(Object key)
+    {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Find the slot of the table which refers to a key.
+     *
+     * @param key the key
+     * @param h the hash of the key
+     * @return the slot, or -1 if the key is absent
+     */
+    private int findSlot(Object key, int h)
+    {
+        int mask = table.length - 1;
+        for (int slot = h & mask;; slot = (slot + 1) & mask) {
+            int p = table[slot];
+            if (p == 0) {
+                return -1;
+            }
+            if (hashes[p - 1] == h && key.equals(keys[p - 1])) {
+                return slot;
+            }
+        }
+    }
+
+    /**
+     * Find the slot of the table which refers to a position.
+     *
+     * @param position the position
+     * @return the slot
+     */
+    private int findSlot(int position)
+    {
+        int mask = table.length - 1;
+        int slot = hashes[position] & mask;
+        while (table[slot] != position + 1) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Insert a position in the first free slot of its probe sequence.
+     *
+     * @param h the hash of the key at the position
+     * @param position the position
+     */
+    private void insertSlot(int h, int position)
+    {
+        int mask = table.length - 1;
+        int slot = h & mask;
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = position + 1;
+    }
+
+    /**
+     * Remove a mapping, shifting back the following slots of the probe sequence so that no
+     * tombstones are needed in the table.
+     *
+     * @param slot the slot of the mapping
+     * @param position the position of the mapping
+     */
+    private void removeSlot(int slot, int position)
+    {
+        int mask = table.length - 1;
+        int hole = slot;
+        for (int next = (hole + 1) & mask;; next = (next + 1) & mask) {
+            int p = table[next];
+            if (p == 0) {
+                break;
+            }
+            int home = hashes[p - 1] & mask;
+            // move the entry unless its home lies cyclically in (hole, next]
+            boolean stays = hole <= next ? (hole < home && home <= next)
+                : (hole < home || home <= next);
+            if (!stays) {
+                table[hole] = p;
+                hole = next;
+            }
+        }
+        table[hole] = 0;
+
+        keys[position] = null;
+        values[position] = null;
+        size--;
+        modCount++;
+        if (position == end - 1) {
+            while (end > 0 && keys[end - 1] == null) {
+                end--;
+            }
+        }
+    }
+
+    /**
+     * Move the mappings to new arrays, dropping the removed ones, and rebuild the table.
+     *
+     * @param capacity the capacity of the new arrays, at least the number of mappings
+     */
+    private void allocate(int capacity)
+    {
+        Object[] newKeys = new Object[capacity];
+        Object[] newValues = new Object[capacity];
+        int[] newHashes = new int[capacity];
+        int count = 0;
+        for (int i = 0; i < end; i++) {
+            if (keys[i] != null) {
+                newKeys[count] = keys[i];
+                newValues[count] = values[i];
+                newHashes[count++] = hashes[i];
+            }
+        }
+        keys = newKeys;
+        values = newValues;
+        hashes = newHashes;
+        end = count;
+        table = new int[Integer.highestOneBit(capacity) << 2];
+        for (int i = 0; i < count; i++) {
+            insertSlot(hashes[i], i);
+        }
+    }
+
+    private void readObject(ObjectInputStream in)
+        throws IOException, ClassNotFoundException
+    {
+        in.defaultReadObject();
+
+        // hash codes may be identity based, so they are recomputed
+        Arrays.fill(table, 0);
+        for (int i = 0; i < end; i++) {
+            if (keys[i] != null) {
+                hashes[i] = hash(keys[i]);
+                insertSlot(hashes[i], i);
+            }
+        }
+    }
+
+    /**
+     * Iterator over the positions of the mappings.
+     */
+    private abstract class PositionIterator<T>
+        implements
+        Iterator<T>
+    {
+        private int next;
+        private int current = -1;
+        private int expectedModCount = modCount;
+
+        PositionIterator()
+        {
+            advance();
+        }
+
+        private void advance()
+        {
+            while (next < end && keys[next] == null) {
+                next++;
+            }
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return next < end;
+        }
+
+        @Override
+        public T next()
+        {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next >= end) {
+                throw new NoSuchElementException();
+            }
+            current = next++;
+            advance();
+            return get(current);
+        }
+
+        @Override
+        public void remove()
+        {
+            if (current < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeSlot(findSlot(current), current);
+            current = -1;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Returns the element at a position.
+         *
+         * @param position the position
+         * @return the element
+         */
+        abstract T get(int position);
+    }
+
+    private class KeySet
+        extends
+        AbstractSet<K>
+    {
+        @Override
+        public int size()
+        {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return containsKey(o);
+        }
+
+        @Override
+        public boolean remove(Object o)
+        {
+            if (o == null) {
+                return false;
+            }
+            int slot = findSlot(o, hash(o));
+            if (slot < 0) {
+                return false;
+            }
+            removeSlot(slot, table[slot] - 1);
+            return true;
+        }
+
+        @Override
+        public void clear()
+        {
+            CompactHashMap.this.clear();
+        }
+
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new PositionIterator<K>()
+            {
+                @Override
+                @SuppressWarnings("unchecked")
+                K get(int position)
+                {
+                    return (K) keys[position];
+                }
+            };
+        }
+    }
+
+    private class EntrySet
+        extends
+        AbstractSet<Map.Entry<K, V>>
+    {
+        @Override
+        public int size()
+        {
+            return size;
+        }
+
+        @Override
+        public void clear()
+        {
+            CompactHashMap.this.clear();
+        }
+
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator()
+        {
+            return new PositionIterator<Map.Entry<K, V>>()
+            {
+                @Override
+                Map.Entry<K, V> get(int position)
+                {
+                    return new Entry(position);
+                }
+            };
+        }
+    }
+
+    /**
+     * A view of the mapping at a position.
+     */
+    private class Entry
+        extends
+        AbstractMap.SimpleEntry<K, V>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final int position;
+
+        @SuppressWarnings("unchecked")
+        Entry(int position)
+        {
+            super((K) keys[position], (V) values[position]);
+            this.position = position;
+        }
+
+        @Override
+        public V setValue(V value)
+        {
+            if (keys[position] != getKey()) {
+                throw new ConcurrentModificationException();
+            }
+            values[position] = value;
+            return super.setValue(value);
+        }
+    }
+}
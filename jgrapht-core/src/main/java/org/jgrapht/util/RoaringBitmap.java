@@ -0,0 +1,813 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.util;
+
+import java.io.*;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * A compressed bitmap of integers in the style of Roaring bitmaps.
+ *
+ * <p>
+ * The integers are partitioned by their upper 16 bits into chunks. Each chunk stores its lower 16
+ * bits in a container, which is either a sorted array of at most {@value #MAX_ARRAY_SIZE} values
+ * or, for denser chunks, a bitmap of $2^{16}$ bits. Sparse sets therefore use about two bytes per
+ * value and dense sets about one bit per value, while membership tests remain fast. The union,
+ * intersection and difference of two bitmaps are computed chunk by chunk, with specialized merges
+ * for every pair of container kinds.
+ *
+ * <p>
+ * Integers are ordered as unsigned values, so that negative integers follow the non-negative ones
+ * when iterating. This implementation is not synchronized.
+ *
+ * @see <a href="https://roaringbitmap.org/">Roaring bitmaps</a>
+ */
+public class RoaringBitmap
+    implements
+    Serializable
+{
+    private static final long serialVersionUID = 7205519268326457218L;
+
+    /**
+     * The maximum number of values in an array container.
+     */
+    static final int MAX_ARRAY_SIZE = 4096;
+
+    private static final int WORDS = 1 << 10;
+
+    private char[] keys;
+    private Container[] containers;
+    private int size;
+    private int cardinality;
+
+    /**
+     * Create a new empty bitmap.
+     */
+    public RoaringBitmap()
+    {
+        this.keys = new char[4];
+        this.containers = new Container[4];
+    }
+
+    /**
+     * Create a new bitmap containing some values.
+     *
+     * @param values the values
+     * @return the bitmap
+     */
+    public static RoaringBitmap of(int... values)
+    {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (int value : values) {
+            bitmap.add(value);
+        }
+        return bitmap;
+    }
+
+    /**
+     * Add a value.
+     *
+     * @param value the value
+     * @return true if the value was not already present, false otherwise
+     */
+    public boolean add(int value)
+    {
+        char key = (char) (value >>> 16);
+        int i = indexOf(key);
+        if (i < 0) {
+            i = -i - 1;
+            insertContainer(i, key, new ArrayContainer());
+        }
+        Container container = containers[i];
+        int before = container.cardinality();
+        containers[i] = container.add((char) value);
+        if (containers[i].cardinality() == before) {
+            return false;
+        }
+        cardinality++;
+        return true;
+    }
+
+    /**
+     * Remove a value.
+     *
+     * @param value the value
+     * @return true if the value was present, false otherwise
+     */
+    public boolean remove(int value)
+    {
+        int i = indexOf((char) (value >>> 16));
+        if (i < 0) {
+            return false;
+        }
+        Container container = containers[i];
+        int before = container.cardinality();
+        containers[i] = container.remove((char) value);
+        if (containers[i].cardinality() == before) {
+            return false;
+        }
+        cardinality--;
+        if (containers[i].cardinality() == 0) {
+            removeContainer(i);
+        }
+        return true;
+    }
+
+    /**
+     * Check whether a value is present.
+     *
+     * @param value the value
+     * @return true if the value is present, false otherwise
+     */
+    public boolean contains(int value)
+    {
+        int i = indexOf((char) (value >>> 16));
+        return i >= 0 && containers[i].contains((char) value);
+    }
+
+    /**
+     * Returns the number of values.
+     *
+     * @return the number of values
+     */
+    public int cardinality()
+    {
+        return cardinality;
+    }
+
+    /**
+     * Check whether the bitmap is empty.
+     *
+     * @return true if the bitmap is empty, false otherwise
+     */
+    public boolean isEmpty()
+    {
+        return cardinality == 0;
+    }
+
+    /**
+     * Perform an action for every value, in increasing unsigned order.
+     *
+     * @param action the action
+     */
+    public void forEach(IntConsumer action)
+    {
+        for (int i = 0; i < size; i++) {
+            containers[i].forEach(keys[i] << 16, action);
+        }
+    }
+
+    /**
+     * Returns an iterator over the values, in increasing unsigned order. The iterator does not
+     * support removal.
+     *
+     * @return an iterator over the values
+     */
+    public PrimitiveIterator.OfInt iterator()
+    {
+        return new PrimitiveIterator.OfInt()
+        {
+            private int container;
+            private int next = advance(0, 0);
+
+            /**
+             * Returns the first value at or after a position.
+             */
+            private int advance(int from, int start)
+            {
+                container = from;
+                int low = start;
+                while (container < size) {
+                    int value = low <= Character.MAX_VALUE ? containers[container].next(low) : -1;
+                    if (value >= 0) {
+                        return value;
+                    }
+                    container++;
+                    low = 0;
+                }
+                return -1;
+            }
+
+            @Override
+            public boolean hasNext()
+            {
+                return container < size;
+            }
+
+            @Override
+            public int nextInt()
+            {
+                if (container >= size) {
+                    throw new NoSuchElementException();
+                }
+                int value = (keys[container] << 16) | next;
+                next = advance(container, next + 1);
+                return value;
+            }
+        };
+    }
+
+    /**
+     * Returns the union of this bitmap and another bitmap.
+     *
+     * @param other the other bitmap
+     * @return a new bitmap with the values of both bitmaps
+     */
+    public RoaringBitmap or(RoaringBitmap other)
+    {
+        RoaringBitmap result = new RoaringBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < size || j < other.size) {
+            if (j >= other.size || i < size && keys[i] < other.keys[j]) {
+                result.appendContainer(keys[i], containers[i].copy());
+                i++;
+            } else if (i >= size || other.keys[j] < keys[i]) {
+                result.appendContainer(other.keys[j], other.containers[j].copy());
+                j++;
+            } else {
+                result.appendContainer(keys[i], or(containers[i], other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the intersection of this bitmap and another bitmap.
+     *
+     * @param other the other bitmap
+     * @return a new bitmap with the values present in both bitmaps
+     */
+    public RoaringBitmap and(RoaringBitmap other)
+    {
+        RoaringBitmap result = new RoaringBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (other.keys[j] < keys[i]) {
+                j++;
+            } else {
+                result.appendContainer(keys[i], and(containers[i], other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the difference of this bitmap and another bitmap.
+     *
+     * @param other the other bitmap
+     * @return a new bitmap with the values of this bitmap which are not present in the other
+     */
+    public RoaringBitmap andNot(RoaringBitmap other)
+    {
+        RoaringBitmap result = new RoaringBitmap();
+        int j = 0;
+        for (int i = 0; i < size; i++) {
+            while (j < other.size && other.keys[j] < keys[i]) {
+                j++;
+            }
+            if (j < other.size && other.keys[j] == keys[i]) {
+                result.appendContainer(keys[i], andNot(containers[i], other.containers[j]));
+            } else {
+                result.appendContainer(keys[i], containers[i].copy());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a copy of this bitmap.
+     *
+     * @return a copy of this bitmap
+     */
+    public RoaringBitmap copy()
+    {
+        RoaringBitmap result = new RoaringBitmap();
+        for (int i = 0; i < size; i++) {
+            result.appendContainer(keys[i], containers[i].copy());
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof RoaringBitmap)) {
+            return false;
+        }
+        RoaringBitmap other = (RoaringBitmap) obj;
+        if (cardinality != other.cardinality || size != other.size) {
+            return false;
+        }
+        PrimitiveIterator.OfInt it = iterator();
+        PrimitiveIterator.OfInt otherIt = other.iterator();
+        while (it.hasNext()) {
+            if (it.nextInt() != otherIt.nextInt()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int[] hash = new int[1];
+        forEach(value -> hash[0] = 31 * hash[0] + value);
+        return hash[0];
+    }
+
+    @Override
+    public String toString()
+    {
+        StringJoiner joiner = new StringJoiner(", ", "{", "}");
+        forEach(value -> joiner.add(Integer.toUnsignedString(value)));
+        return joiner.toString();
+    }
+
+    /**
+     * Find the index of the container of a key.
+     *
+     * @param key the key
+     * @return the index, or (-(insertion point) - 1) if there is no container for the key
+     */
+    private int indexOf(char key)
+    {
+        // the last container is the common target of increasing insertions
+        if (size > 0 && keys[size - 1] == key) {
+            return size - 1;
+        }
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    /**
+     * Insert a container.
+     *
+     * @param i the index
+     * @param key the key
+     * @param container the container
+     */
+    private void insertContainer(int i, char key, Container container)
+    {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, 2 * size);
+            containers = Arrays.copyOf(containers, 2 * size);
+        }
+        System.arraycopy(keys, i, keys, i + 1, size - i);
+        System.arraycopy(containers, i, containers, i + 1, size - i);
+        keys[i] = key;
+        containers[i] = container;
+        size++;
+    }
+
+    /**
+     * Append a container, unless it is null or empty.
+     *
+     * @param key the key, larger than all keys
+     * @param container the container
+     */
+    private void appendContainer(char key, Container container)
+    {
+        if (container != null && container.cardinality() > 0) {
+            insertContainer(size, key, container);
+            cardinality += container.cardinality();
+        }
+    }
+
+    /**
+     * Remove a container.
+     *
+     * @param i the index
+     */
+    private void removeContainer(int i)
+    {
+        System.arraycopy(keys, i + 1, keys, i, size - i - 1);
+        System.arraycopy(containers, i + 1, containers, i, size - i - 1);
+        containers[--size] = null;
+    }
+
+    /**
+     * Returns the union of two containers.
+     *
+     * @param a the first container
+     * @param b the second container
+     * @return the union
+     */
+    private static Container or(Container a, Container b)
+    {
+        if (a instanceof ArrayContainer && b instanceof ArrayContainer) {
+            ArrayContainer x = (ArrayContainer) a;
+            ArrayContainer y = (ArrayContainer) b;
+            if (x.size + y.size <= MAX_ARRAY_SIZE) {
+                char[] values = new char[x.size + y.size];
+                int i = 0;
+                int j = 0;
+                int k = 0;
+                while (i < x.size && j < y.size) {
+                    if (x.values[i] < y.values[j]) {
+                        values[k++] = x.values[i++];
+                    } else if (y.values[j] < x.values[i]) {
+                        values[k++] = y.values[j++];
+                    } else {
+                        values[k++] = x.values[i++];
+                        j++;
+                    }
+                }
+                while (i < x.size) {
+                    values[k++] = x.values[i++];
+                }
+                while (j < y.size) {
+                    values[k++] = y.values[j++];
+                }
+                return new ArrayContainer(values, k);
+            }
+        }
+        BitmapContainer result = a instanceof BitmapContainer ? (BitmapContainer) a.copy()
+            : a.toBitmap();
+        if (b instanceof BitmapContainer) {
+            long[] words = ((BitmapContainer) b).words;
+            for (int w = 0; w < WORDS; w++) {
+                result.words[w] |= words[w];
+            }
+            result.recount();
+        } else {
+            ArrayContainer y = (ArrayContainer) b;
+            for (int j = 0; j < y.size; j++) {
+                result.add(y.values[j]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the intersection of two containers.
+     *
+     * @param a the first container
+     * @param b the second container
+     * @return the intersection
+     */
+    private static Container and(Container a, Container b)
+    {
+        if (a instanceof ArrayContainer) {
+            return ((ArrayContainer) a).filter(b, true);
+        }
+        if (b instanceof ArrayContainer) {
+            return ((ArrayContainer) b).filter(a, true);
+        }
+        long[] x = ((BitmapContainer) a).words;
+        long[] y = ((BitmapContainer) b).words;
+        BitmapContainer result = new BitmapContainer();
+        for (int w = 0; w < WORDS; w++) {
+            result.words[w] = x[w] & y[w];
+        }
+        result.recount();
+        return result.optimize();
+    }
+
+    /**
+     * Returns the difference of two containers.
+     *
+     * @param a the first container
+     * @param b the second container
+     * @return the difference
+     */
+    private static Container andNot(Container a, Container b)
+    {
+        if (a instanceof ArrayContainer) {
+            return ((ArrayContainer) a).filter(b, false);
+        }
+        BitmapContainer result = (BitmapContainer) a.copy();
+        if (b instanceof ArrayContainer) {
+            ArrayContainer y = (ArrayContainer) b;
+            for (int j = 0; j < y.size; j++) {
+                char value = y.values[j];
+                result.words[value >>> 6] &= ~(1L << value);
+            }
+        } else {
+            long[] y = ((BitmapContainer) b).words;
+            for (int w = 0; w < WORDS; w++) {
+                result.words[w] &= ~y[w];
+            }
+        }
+        result.recount();
+        return result.optimize();
+    }
+
+    /**
+     * A set of 16-bit values.
+     */
+    private abstract static class Container
+        implements
+        Serializable
+    {
+        private static final long serialVersionUID = 1L;
+
+        abstract boolean contains(char value);
+
+        /**
+         * Add a value, possibly converting the container.
+         *
+         * @param value the value
+         * @return the container holding the values
+         */
+        abstract Container add(char value);
+
+        /**
+         * Remove a value, possibly converting the container.
+         *
+         * @param value the value
+         * @return the container holding the values
+         */
+        abstract Container remove(char value);
+
+        abstract int cardinality();
+
+        /**
+         * Returns the first value which is not smaller than a given value.
+         *
+         * @param from the given value
+         * @return the value, or -1 if there is none
+         */
+        abstract int next(int from);
+
+        abstract void forEach(int high, IntConsumer action);
+
+        abstract Container copy();
+
+        abstract BitmapContainer toBitmap();
+    }
+
+    /**
+     * A sorted array of values.
+     */
+    private static final class ArrayContainer
+        extends
+        Container
+    {
+        private static final long serialVersionUID = 1L;
+
+        private char[] values;
+        private int size;
+
+        ArrayContainer()
+        {
+            this(new char[4], 0);
+        }
+
+        ArrayContainer(char[] values, int size)
+        {
+            this.values = values;
+            this.size = size;
+        }
+
+        @Override
+        boolean contains(char value)
+        {
+            return Arrays.binarySearch(values, 0, size, value) >= 0;
+        }
+
+        @Override
+        Container add(char value)
+        {
+            int i = size > 0 && values[size - 1] < value ? -size - 1
+                : Arrays.binarySearch(values, 0, size, value);
+            if (i >= 0) {
+                return this;
+            }
+            if (size == MAX_ARRAY_SIZE) {
+                return toBitmap().add(value);
+            }
+            i = -i - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.min(2 * size, MAX_ARRAY_SIZE));
+            }
+            System.arraycopy(values, i, values, i + 1, size - i);
+            values[i] = value;
+            size++;
+            return this;
+        }
+
+        @Override
+        Container remove(char value)
+        {
+            int i = Arrays.binarySearch(values, 0, size, value);
+            if (i >= 0) {
+                System.arraycopy(values, i + 1, values, i, size - i - 1);
+                size--;
+            }
+            return this;
+        }
+
+        @Override
+        int cardinality()
+        {
+            return size;
+        }
+
+        @Override
+        int next(int from)
+        {
+            int i = Arrays.binarySearch(values, 0, size, (char) from);
+            if (i < 0) {
+                i = -i - 1;
+            }
+            return i < size ? values[i] : -1;
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action)
+        {
+            for (int i = 0; i < size; i++) {
+                action.accept(high | values[i]);
+            }
+        }
+
+        @Override
+        Container copy()
+        {
+            return new ArrayContainer(Arrays.copyOf(values, Math.max(size, 1)), size);
+        }
+
+        @Override
+        BitmapContainer toBitmap()
+        {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < size; i++) {
+                bitmap.words[values[i] >>> 6] |= 1L << values[i];
+            }
+            bitmap.cardinality = size;
+            return bitmap;
+        }
+
+        /**
+         * Returns the values which are, or are not, present in another container.
+         *
+         * @param other the other container
+         * @param present whether to keep the values present in the other container
+         * @return a new container
+         */
+        Container filter(Container other, boolean present)
+        {
+            char[] result = new char[Math.max(size, 1)];
+            int k = 0;
+            for (int i = 0; i < size; i++) {
+                if (other.contains(values[i]) == present) {
+                    result[k++] = values[i];
+                }
+            }
+            return new ArrayContainer(result, k);
+        }
+    }
+
+    /**
+     * A bitmap of $2^{16}$ bits.
+     */
+    private static final class BitmapContainer
+        extends
+        Container
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final long[] words = new long[WORDS];
+        private int cardinality;
+
+        @Override
+        boolean contains(char value)
+        {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        Container add(char value)
+        {
+            long word = words[value >>> 6];
+            long updated = word | (1L << value);
+            if (updated != word) {
+                words[value >>> 6] = updated;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Container remove(char value)
+        {
+            long word = words[value >>> 6];
+            long updated = word & ~(1L << value);
+            if (updated != word) {
+                words[value >>> 6] = updated;
+                cardinality--;
+            }
+            return optimize();
+        }
+
+        @Override
+        int cardinality()
+        {
+            return cardinality;
+        }
+
+        @Override
+        int next(int from)
+        {
+            int w = from >>> 6;
+            long word = words[w] & (-1L << from);
+            while (true) {
+                if (word != 0) {
+                    return (w << 6) + Long.numberOfTrailingZeros(word);
+                }
+                if (++w == WORDS) {
+                    return -1;
+                }
+                word = words[w];
+            }
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action)
+        {
+            for (int w = 0; w < WORDS; w++) {
+                long word = words[w];
+                while (word != 0) {
+                    action.accept(high | (w << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        @Override
+        Container copy()
+        {
+            BitmapContainer result = new BitmapContainer();
+            System.arraycopy(words, 0, result.words, 0, WORDS);
+            result.cardinality = cardinality;
+            return result;
+        }
+
+        @Override
+        BitmapContainer toBitmap()
+        {
+            return this;
+        }
+
+        /**
+         * Recompute the cardinality from the words.
+         */
+        void recount()
+        {
+            int count = 0;
+            for (long word : words) {
+                count += Long.bitCount(word);
+            }
+            cardinality = count;
+        }
+
+        /**
+         * Convert the container to an array container if it is sparse enough.
+         *
+         * @return the container holding the values
+         */
+        Container optimize()
+        {
+            if (cardinality > MAX_ARRAY_SIZE) {
+                return this;
+            }
+            char[] values = new char[Math.max(cardinality, 1)];
+            int k = 0;
+            for (int w = 0; w < WORDS; w++) {
+                long word = words[w];
+                while (word != 0) {
+                    values[k++] = (char) ((w << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return new ArrayContainer(values, k);
+        }
+    }
+}
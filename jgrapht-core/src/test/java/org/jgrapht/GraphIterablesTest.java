@@ -0,0 +1,140 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht;
+
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.function.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the callback based traversals of {@link GraphIterables}.
+ */
+public class GraphIterablesTest
+{
+    @Test
+    public void testDirectedPseudograph()
+    {
+        assertSameTraversals(randomGraph(new DirectedPseudograph<>(null, null, false), 1));
+    }
+
+    @Test
+    public void testUndirectedPseudograph()
+    {
+        assertSameTraversals(randomGraph(new Pseudograph<>(null, null, false), 2));
+    }
+
+    @Test
+    public void testSimpleDirectedGraph()
+    {
+        assertSameTraversals(randomGraph(new SimpleDirectedGraph<>(null, null, false), 5));
+    }
+
+    @Test
+    public void testGraphViews()
+    {
+        Graph<Integer, DefaultEdge> g =
+            randomGraph(new DirectedPseudograph<>(null, null, false), 6);
+        assertSameTraversals(new AsUndirectedGraph<>(g));
+        assertSameTraversals(new EdgeReversedGraph<>(g));
+        assertSameTraversals(new AsUnmodifiableGraph<>(g));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownVertex()
+    {
+        Graph<Integer, DefaultEdge> g = new DefaultDirectedGraph<>(DefaultEdge.class);
+        g.addVertex(1);
+        g.iterables().forEachSuccessor(2, v -> fail());
+    }
+
+    @Test
+    public void testDirectedNeighborOrder()
+    {
+        // incoming edges come first and a self-loop is visited once
+        Graph<Integer, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, List.of(1, 2, 3));
+        g.addEdge(1, 1);
+        g.addEdge(1, 2);
+        g.addEdge(3, 1);
+        List<Integer> neighbors = new ArrayList<>();
+        g.iterables().forEachNeighbor(1, neighbors::add);
+        assertEquals(List.of(1, 3, 2), neighbors);
+    }
+
+    private static Graph<Integer, DefaultEdge> randomGraph(
+        Graph<Integer, DefaultEdge> g, long seed)
+    {
+        Random rng = new Random(seed);
+        int n = 30;
+        for (int v = 0; v < n; v++) {
+            g.addVertex(v);
+        }
+        for (int i = 0; i < 4 * n; i++) {
+            int u = rng.nextInt(n);
+            int v = rng.nextInt(n);
+            if (u != v || g.getType().isAllowingSelfLoops()) {
+                g.addEdge(u, v, new DefaultEdge());
+            }
+        }
+        return g;
+    }
+
+    private static <V, E> void assertSameTraversals(Graph<V, E> g)
+    {
+        GraphIterables<V, E> iterables = g.iterables();
+        for (V v : g.vertexSet()) {
+            assertEquals(new ArrayList<>(g.edgesOf(v)), collect(c -> iterables.forEachEdgeOf(v, c)));
+            assertEquals(
+                new ArrayList<>(g.incomingEdgesOf(v)),
+                collect(c -> iterables.forEachIncomingEdge(v, c)));
+            assertEquals(
+                new ArrayList<>(g.outgoingEdgesOf(v)),
+                collect(c -> iterables.forEachOutgoingEdge(v, c)));
+            assertEquals(
+                opposites(g, v, g.edgesOf(v)), collect(c -> iterables.forEachNeighbor(v, c)));
+            assertEquals(
+                opposites(g, v, g.incomingEdgesOf(v)),
+                collect(c -> iterables.forEachPredecessor(v, c)));
+            assertEquals(
+                opposites(g, v, g.outgoingEdgesOf(v)),
+                collect(c -> iterables.forEachSuccessor(v, c)));
+            assertEquals(opposites(g, v, g.edgesOf(v)), Graphs.neighborListOf(g, v));
+        }
+    }
+
+    private static <V, E> List<V> opposites(Graph<V, E> g, V v, Set<E> edges)
+    {
+        List<V> result = new ArrayList<>();
+        for (E e : edges) {
+            result.add(Graphs.getOppositeVertex(g, e, v));
+        }
+        return result;
+    }
+
+    private static <T> List<T> collect(Consumer<Consumer<T>> traversal)
+    {
+        List<T> result = new ArrayList<>();
+        traversal.accept(result::add);
+        return result;
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.traverse.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link TransitiveClosureIndex}.
+ */
+public class TransitiveClosureIndexTest
+{
+    private static ForkJoinPool pool;
+
+    @BeforeClass
+    public static void setUp()
+    {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public static void tearDown()
+    {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testSmallExample()
+    {
+        Graph<String, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, List.of("a", "b", "c", "d", "e"));
+        g.addEdge("a", "b");
+        g.addEdge("b", "c");
+        g.addEdge("c", "b");
+        g.addEdge("c", "d");
+        g.addEdge("e", "e");
+
+        for (boolean compressed : new boolean[] { false, true }) {
+            TransitiveClosureIndex<String, DefaultEdge> closure =
+                new TransitiveClosureIndex<>(g, null, compressed);
+            assertEquals(4, closure.getNumberOfComponents());
+            assertTrue(closure.isReachable("a", "d"));
+            assertTrue(closure.isReachable("c", "b"));
+            assertTrue(closure.isReachable("e", "e"));
+            assertTrue(closure.isReachable("a", "a"));
+            assertFalse(closure.isReachable("d", "a"));
+            assertFalse(closure.isReachable("a", "e"));
+        }
+    }
+
+    @Test
+    public void testChains()
+    {
+        // a path is a single chain
+        Graph<Integer, DefaultEdge> g = new SimpleDirectedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new LinearGraphGenerator<Integer, DefaultEdge>(100).generateGraph(g);
+        TransitiveClosureIndex<Integer, DefaultEdge> closure =
+            new TransitiveClosureIndex<>(g, null, true);
+        assertEquals(1, closure.getNumberOfChains());
+        assertTrue(closure.isReachable(0, 99));
+        assertFalse(closure.isReachable(99, 0));
+        assertEquals(-1, new TransitiveClosureIndex<>(g).getNumberOfChains());
+    }
+
+    @Test
+    public void testRandomGraphs()
+    {
+        Random rng = new Random(13);
+        for (int round = 0; round < 30; round++) {
+            Graph<Integer, DefaultEdge> g = new DefaultDirectedGraph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+            int n = 5 + rng.nextInt(60);
+            new GnpRandomGraphGenerator<Integer, DefaultEdge>(
+                n, 0.5 * rng.nextDouble() / Math.sqrt(n), rng, true).generateGraph(g);
+            assertSameReachability(g);
+        }
+    }
+
+    @Test
+    public void testLargeGraph()
+    {
+        // layers of 1000 vertices, each pointing to random vertices of the previous layer, so
+        // that the parallel computation splits the levels
+        Graph<Integer, DefaultEdge> g = new SimpleDirectedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        Random rng = new Random(1);
+        int n = 4000;
+        for (int v = 0; v < n; v++) {
+            g.addVertex(v);
+        }
+        for (int v = 1000; v < n; v++) {
+            int previousLayer = (v / 1000 - 1) * 1000;
+            for (int i = 0; i < 2; i++) {
+                g.addEdge(v, previousLayer + rng.nextInt(1000));
+            }
+        }
+        TransitiveClosureIndex<Integer, DefaultEdge> sequential = new TransitiveClosureIndex<>(g);
+        TransitiveClosureIndex<Integer, DefaultEdge> parallel =
+            new TransitiveClosureIndex<>(g, pool);
+        TransitiveClosureIndex<Integer, DefaultEdge> compressed =
+            new TransitiveClosureIndex<>(g, pool, true);
+        for (int i = 0; i < 20000; i++) {
+            int u = rng.nextInt(n);
+            int v = rng.nextInt(n);
+            boolean expected = sequential.isReachable(u, v);
+            assertEquals(expected, parallel.isReachable(u, v));
+            assertEquals(expected, compressed.isReachable(u, v));
+        }
+        for (int u = 0; u < n; u += 97) {
+            Set<Integer> reachable = reachableSet(g, u);
+            for (int v = 0; v < n; v++) {
+                assertEquals(reachable.contains(v), parallel.isReachable(u, v));
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUndirected()
+    {
+        new TransitiveClosureIndex<>(new SimpleGraph<>(DefaultEdge.class));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingVertex()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleDirectedGraph<>(DefaultEdge.class);
+        g.addVertex(1);
+        new TransitiveClosureIndex<>(g).isReachable(1, 2);
+    }
+
+    private void assertSameReachability(Graph<Integer, DefaultEdge> g)
+    {
+        List<TransitiveClosureIndex<Integer, DefaultEdge>> closures = List
+            .of(
+                new TransitiveClosureIndex<>(g), new TransitiveClosureIndex<>(g, pool),
+                new TransitiveClosureIndex<>(g, null, true),
+                new TransitiveClosureIndex<>(g, pool, true));
+        for (Integer u : g.vertexSet()) {
+            Set<Integer> reachable = reachableSet(g, u);
+            for (Integer v : g.vertexSet()) {
+                for (TransitiveClosureIndex<Integer, DefaultEdge> closure : closures) {
+                    assertEquals(reachable.contains(v), closure.isReachable(u, v));
+                }
+            }
+        }
+    }
+
+    private static Set<Integer> reachableSet(Graph<Integer, DefaultEdge> g, Integer u)
+    {
+        Set<Integer> result = new HashSet<>();
+        new DepthFirstIterator<>(g, u).forEachRemaining(result::add);
+        return result;
+    }
+}
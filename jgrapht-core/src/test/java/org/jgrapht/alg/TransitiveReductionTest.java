@@ -277,6 +277,37 @@ public class TransitiveReductionTest
         assertArrayEquals(EXPECTED_TRANSITIVELY_REDUCED_MATRIX, actualTransitivelyReducedMatrix);
     }
 
+    @Test
+    public void testReduceRandomAcyclicGraphs()
+    {
+        Random rng = new Random(21);
+        for (int round = 0; round < 20; round++) {
+            int n = 5 + rng.nextInt(40);
+            int[][] matrix = new int[n][n];
+            List<Integer> order = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                order.add(i);
+            }
+            Collections.shuffle(order, rng);
+            for (int i = 0; i < n; i++) {
+                for (int j = i + 1; j < n; j++) {
+                    if (rng.nextDouble() < 0.2) {
+                        matrix[order.get(i)][order.get(j)] = 1;
+                    }
+                }
+            }
+            Graph<Integer, DefaultEdge> graph = fromMatrixToDirectedGraph(matrix);
+
+            // the reduction computed with the matrix algorithm
+            BitSet[] expected = asBitSetArray(fromDirectedGraphToMatrix(graph));
+            TransitiveReduction.transformToPathMatrix(expected);
+            TransitiveReduction.transitiveReduction(expected);
+
+            TransitiveReduction.INSTANCE.reduce(graph);
+            assertArrayEquals(asIntArray(expected), fromDirectedGraphToMatrix(graph));
+        }
+    }
+
     static private Graph<Integer, DefaultEdge> fromMatrixToDirectedGraph(final int[][] matrix)
     {
         final SimpleDirectedGraph<Integer, DefaultEdge> graph =
@@ -0,0 +1,149 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.clique;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.CliqueAlgorithm.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link BranchAndBoundMaxCliqueFinder}.
+ */
+public class BranchAndBoundMaxCliqueFinderTest
+{
+
+    @Test
+    public void testEmptyGraph()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        Clique<Integer> clique = new BranchAndBoundMaxCliqueFinder<>(g).getClique();
+        assertTrue(clique.isEmpty());
+        assertEquals(0d, clique.getWeight(), 0d);
+    }
+
+    @Test
+    public void testEdgelessGraph()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        g.addVertex(1);
+        g.addVertex(2);
+        assertEquals(1, new BranchAndBoundMaxCliqueFinder<>(g).getClique().size());
+    }
+
+    @Test
+    public void testSmallGraph()
+    {
+        Graph<String, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        BaseBronKerboschCliqueFinderTest.createGraph(g);
+
+        Clique<String> clique = new BranchAndBoundMaxCliqueFinder<>(g).getClique();
+        assertEquals(4, clique.size());
+        assertEquals(4d, clique.getWeight(), 0d);
+        assertTrue(isClique(g, clique));
+    }
+
+    @Test
+    public void testComplete()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new CompleteGraphGenerator<Integer, DefaultEdge>(100).generateGraph(g);
+        assertEquals(100, new BranchAndBoundMaxCliqueFinder<>(g).getClique().size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonSimple()
+    {
+        Graph<Integer, DefaultEdge> g = new Pseudograph<>(DefaultEdge.class);
+        Graphs.addEdgeWithVertices(g, 1, 1);
+        new BranchAndBoundMaxCliqueFinder<>(g).getClique();
+    }
+
+    @Test
+    public void testRandomInstances()
+    {
+        Random rng = new Random(17);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int i = 0; i < 30; i++) {
+                int n = 10 + rng.nextInt(60);
+                double p = 0.1 + 0.6 * rng.nextDouble();
+                Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+                    SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+                    false);
+                new GnpRandomGraphGenerator<Integer, DefaultEdge>(n, p, rng, false)
+                    .generateGraph(g);
+
+                int expected = 0;
+                for (Set<Integer> c : new DegeneracyBronKerboschCliqueFinder<>(g)) {
+                    expected = Math.max(expected, c.size());
+                }
+
+                BranchAndBoundMaxCliqueFinder<Integer, DefaultEdge> sequential =
+                    new BranchAndBoundMaxCliqueFinder<>(g);
+                Clique<Integer> clique = sequential.getClique();
+                assertEquals(expected, clique.size());
+                assertTrue(isClique(g, clique));
+
+                Clique<Integer> parallelClique =
+                    new BranchAndBoundMaxCliqueFinder<>(g, pool, 0L, TimeUnit.SECONDS).getClique();
+                assertEquals(expected, parallelClique.size());
+                assertTrue(isClique(g, parallelClique));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testTimeLimit()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnpRandomGraphGenerator<Integer, DefaultEdge>(300, 0.9, new Random(7), false)
+            .generateGraph(g);
+
+        BranchAndBoundMaxCliqueFinder<Integer, DefaultEdge> finder =
+            new BranchAndBoundMaxCliqueFinder<>(g, 1, TimeUnit.MILLISECONDS);
+        Clique<Integer> clique = finder.getClique();
+        assertTrue(finder.isTimeLimitReached());
+        assertTrue(isClique(g, clique));
+    }
+
+    private static <V, E> boolean isClique(Graph<V, E> g, Set<V> clique)
+    {
+        for (V u : clique) {
+            for (V v : clique) {
+                if (u != v && !g.containsEdge(u, v)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.clique;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Tests for {@link ParallelDegeneracyBronKerboschCliqueFinder}.
+ */
+public class ParallelDegeneracyBronKerboschCliqueFinderTest
+    extends
+    BaseBronKerboschCliqueFinderTest
+{
+
+    @Override
+    protected BaseBronKerboschCliqueFinder<String, DefaultEdge> createFinder1(
+        Graph<String, DefaultEdge> graph)
+    {
+        return new ParallelDegeneracyBronKerboschCliqueFinder<>(graph);
+    }
+
+    @Override
+    protected BaseBronKerboschCliqueFinder<Object, DefaultEdge> createFinder2(
+        Graph<Object, DefaultEdge> graph)
+    {
+        return new ParallelDegeneracyBronKerboschCliqueFinder<>(graph);
+    }
+
+    @Override
+    protected BaseBronKerboschCliqueFinder<Object, DefaultEdge> createFinder2(
+        Graph<Object, DefaultEdge> graph, long timeout, TimeUnit unit)
+    {
+        return new ParallelDegeneracyBronKerboschCliqueFinder<>(graph, timeout, unit);
+    }
+
+    @Test
+    public void testSparseNeighborhoods()
+    {
+        // hubs with large sparse neighborhoods use the sorted array representation
+        Random rng = new Random(7);
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(1000, 3000, rng, false, false)
+            .generateGraph(g);
+        for (int hub = 0; hub < 3; hub++) {
+            for (int v = hub + 1; v < 1000; v++) {
+                g.addEdge(hub, v);
+            }
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ParallelDegeneracyBronKerboschCliqueFinder<Integer, DefaultEdge> parallel =
+                new ParallelDegeneracyBronKerboschCliqueFinder<>(g, pool, 0L, TimeUnit.SECONDS);
+            Set<Set<Integer>> expected = new HashSet<>();
+            new DegeneracyBronKerboschCliqueFinder<>(g).forEach(expected::add);
+            List<Set<Integer>> actual = new ArrayList<>();
+            parallel.forEach(actual::add);
+
+            assertEquals(expected.size(), actual.size());
+            assertEquals(expected, new HashSet<>(actual));
+            assertFalse(parallel.isTimeLimitReached());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testDeterministicOrder()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnpRandomGraphGenerator<Integer, DefaultEdge>(60, 0.4, 11L, false).generateGraph(g);
+
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool multi = new ForkJoinPool(4);
+        try {
+            List<Set<Integer>> first = new ArrayList<>();
+            new ParallelDegeneracyBronKerboschCliqueFinder<>(g, single, 0L, TimeUnit.SECONDS)
+                .forEach(first::add);
+            List<Set<Integer>> second = new ArrayList<>();
+            new ParallelDegeneracyBronKerboschCliqueFinder<>(g, multi, 0L, TimeUnit.SECONDS)
+                .forEach(second::add);
+            assertEquals(first, second);
+        } finally {
+            single.shutdown();
+            multi.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,151 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.clique;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.stream.*;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link StreamingBronKerboschCliqueFinder}.
+ */
+public class StreamingBronKerboschCliqueFinderTest
+{
+
+    @Test
+    public void testFindAll()
+    {
+        Graph<String, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        BaseBronKerboschCliqueFinderTest.createGraph(g);
+
+        Set<Set<String>> expected = new HashSet<>();
+        new DegeneracyBronKerboschCliqueFinder<>(g).iterator().forEachRemaining(expected::add);
+
+        List<Set<String>> actual = new ArrayList<>();
+        new StreamingBronKerboschCliqueFinder<>(g).iterator().forEachRemaining(actual::add);
+
+        assertEquals(5, actual.size());
+        assertEquals(expected, new HashSet<>(actual));
+    }
+
+    @Test
+    public void testMinimumSize()
+    {
+        Graph<String, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        BaseBronKerboschCliqueFinderTest.createGraph(g);
+
+        Set<Set<String>> actual = new HashSet<>();
+        new StreamingBronKerboschCliqueFinder<>(g, 4, Long.MAX_VALUE)
+            .iterator().forEachRemaining(actual::add);
+
+        Set<Set<String>> expected = new HashSet<>();
+        expected.add(new HashSet<>(Arrays.asList("v1", "v2", "v3", "v4")));
+        expected.add(new HashSet<>(Arrays.asList("v1", "v2", "v9", "v10")));
+        assertEquals(expected, actual);
+
+        Iterator<Set<String>> it = new StreamingBronKerboschCliqueFinder<>(g, 5, Long.MAX_VALUE)
+            .iterator();
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    public void testMaximumResults()
+    {
+        Graph<String, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        BaseBronKerboschCliqueFinderTest.createGraph(g);
+
+        Set<Set<String>> all = new HashSet<>();
+        new DegeneracyBronKerboschCliqueFinder<>(g).iterator().forEachRemaining(all::add);
+
+        List<Set<String>> actual = new ArrayList<>();
+        new StreamingBronKerboschCliqueFinder<>(g, 0, 3).iterator().forEachRemaining(actual::add);
+        assertEquals(3, actual.size());
+        assertTrue(all.containsAll(actual));
+
+        Iterator<Set<String>> it = new StreamingBronKerboschCliqueFinder<>(g, 0, 0).iterator();
+        assertFalse(it.hasNext());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testExhausted()
+    {
+        Graph<String, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        g.addVertex("a");
+
+        Iterator<Set<String>> it = new StreamingBronKerboschCliqueFinder<>(g).iterator();
+        assertEquals(Collections.singleton("a"), it.next());
+        it.next();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonSimple()
+    {
+        Graph<String, DefaultEdge> g = new Pseudograph<>(DefaultEdge.class);
+        g.addVertex("1");
+        g.addVertex("2");
+        g.addEdge("1", "2");
+        g.addEdge("1", "2");
+
+        new StreamingBronKerboschCliqueFinder<>(g).iterator();
+    }
+
+    @Test
+    public void testRandomInstancesWithFilters()
+    {
+        final Random rng = new Random(7);
+        GraphGenerator<Integer, DefaultEdge, Integer> gg =
+            new GnpRandomGraphGenerator<>(60, 0.3, rng, false);
+
+        for (int i = 0; i < 10; i++) {
+            Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+            gg.generateGraph(g);
+
+            Set<Set<Integer>> all = new HashSet<>();
+            new DegeneracyBronKerboschCliqueFinder<>(g).iterator().forEachRemaining(all::add);
+
+            for (int minSize = 1; minSize <= 6; minSize++) {
+                final int threshold = minSize;
+                Set<Set<Integer>> expected = all
+                    .stream().filter(c -> c.size() >= threshold).collect(Collectors.toSet());
+
+                StreamingBronKerboschCliqueFinder<Integer, DefaultEdge> finder =
+                    new StreamingBronKerboschCliqueFinder<>(g, minSize, Long.MAX_VALUE);
+                Set<Set<Integer>> actual = new HashSet<>();
+                finder.iterator().forEachRemaining(actual::add);
+                assertEquals(expected, actual);
+
+                // the enumeration can be restarted
+                Set<Set<Integer>> again = new HashSet<>();
+                finder.iterator().forEachRemaining(again::add);
+                assertEquals(expected, again);
+                assertFalse(finder.isTimeLimitReached());
+            }
+        }
+    }
+
+}
@@ -18,15 +18,18 @@
 package org.jgrapht.alg.clustering;
 
 import org.jgrapht.*;
+import org.jgrapht.alg.connectivity.*;
 import org.jgrapht.alg.interfaces.ClusteringAlgorithm.*;
+import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
 import org.jgrapht.graph.builder.*;
 import org.jgrapht.util.*;
 import org.junit.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
-import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.*;
 
 /**
  * Tests
@@ -35,6 +38,20 @@ import static org.junit.Assert.assertEquals;
  */
 public class LabelPropagationClusteringTest
 {
+    private static ForkJoinPool pool;
+
+    @BeforeClass
+    public static void createPool()
+    {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public static void shutdownPool()
+    {
+        pool.shutdown();
+    }
+
     @Test
     public void test1()
     {
@@ -193,4 +210,87 @@ public class LabelPropagationClusteringTest
         assertEquals(Set.of(3), clusters.get(1));
     }
 
+    @Test
+    public void testParallelCliques()
+    {
+        Graph<Integer,
+            DefaultEdge> g = GraphTypeBuilder
+                .undirected().allowingMultipleEdges(true).allowingSelfLoops(true).weighted(false)
+                .edgeSupplier(SupplierUtil.DEFAULT_EDGE_SUPPLIER)
+                .vertexSupplier(SupplierUtil.createIntegerSupplier()).buildGraph();
+
+        // three cliques in a chain, a self loop and an isolated vertex
+        for (int i = 0; i < 13; i++) {
+            g.addVertex();
+        }
+        for (int c = 0; c < 3; c++) {
+            for (int i = 4 * c; i < 4 * c + 4; i++) {
+                for (int j = i + 1; j < 4 * c + 4; j++) {
+                    g.addEdge(i, j);
+                }
+            }
+        }
+        g.addEdge(3, 4);
+        g.addEdge(7, 8);
+        g.addEdge(5, 5);
+
+        LabelPropagationClustering<Integer, DefaultEdge> alg =
+            new LabelPropagationClustering<>(g, 0, new Random(13), pool);
+        List<Set<Integer>> clusters = alg.getClustering().getClusters();
+
+        assertEquals(4, clusters.size());
+        assertEquals(Set.of(0, 1, 2, 3), clusters.get(0));
+        assertEquals(Set.of(4, 5, 6, 7), clusters.get(1));
+        assertEquals(Set.of(8, 9, 10, 11), clusters.get(2));
+        assertEquals(Set.of(12), clusters.get(3));
+    }
+
+    @Test
+    public void testParallelReproducible()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(5000, 15000, 7).generateGraph(g);
+
+        ForkJoinPool single = new ForkJoinPool(1);
+        try {
+            List<Set<Integer>> expected =
+                new LabelPropagationClustering<>(g, 0, new Random(17), single)
+                    .getClustering().getClusters();
+            List<Set<Integer>> actual = new LabelPropagationClustering<>(g, 0, new Random(17), pool)
+                .getClustering().getClusters();
+            assertEquals(expected, actual);
+            assertConnectedPartition(g, actual);
+        } finally {
+            single.shutdown();
+        }
+    }
+
+    @Test
+    public void testParallelMaxIterations()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(2000, 8000, 3).generateGraph(g);
+
+        List<Set<Integer>> clusters = new LabelPropagationClustering<>(g, 1, new Random(5), pool)
+            .getClustering().getClusters();
+        assertConnectedPartition(g, clusters);
+        assertEquals(
+            clusters, new LabelPropagationClustering<>(g, 1, new Random(5), pool)
+                .getClustering().getClusters());
+    }
+
+    private static <V, E> void assertConnectedPartition(Graph<V, E> g, List<Set<V>> clusters)
+    {
+        // clusters partition the vertices and are connected
+        Set<V> covered = new HashSet<>();
+        for (Set<V> cluster : clusters) {
+            for (V v : cluster) {
+                assertTrue(covered.add(v));
+            }
+            assertTrue(new ConnectivityInspector<>(new AsSubgraph<>(g, cluster)).isConnected());
+        }
+        assertEquals(g.vertexSet(), covered);
+    }
 }
@@ -0,0 +1,216 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.connectivity;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link FullyDynamicConnectivity}.
+ */
+public class FullyDynamicConnectivityTest
+{
+    @Test
+    public void testSmallExample()
+    {
+        FullyDynamicConnectivity<Integer, String> dc = new FullyDynamicConnectivity<>();
+        assertTrue(dc.addEdge(1, 2, "a"));
+        assertTrue(dc.addEdge(2, 3, "b"));
+        assertTrue(dc.addEdge(3, 1, "c"));
+        assertTrue(dc.addEdge(3, 4, "d"));
+        assertFalse(dc.addEdge(3, 4, "d"));
+        assertTrue(dc.addVertex(5));
+        assertEquals(2, dc.getNumberOfConnectedComponents());
+        assertTrue(dc.connected(1, 4));
+        assertFalse(dc.connected(1, 5));
+        assertTrue(dc.connected(5, 5));
+        assertFalse(dc.connected(1, 6));
+
+        // the cycle keeps the vertices connected after any single removal
+        assertTrue(dc.removeEdge("a"));
+        assertTrue(dc.connected(1, 2));
+        assertTrue(dc.removeEdge("c"));
+        assertFalse(dc.connected(1, 2));
+        assertFalse(dc.removeEdge("c"));
+        assertEquals(Set.of(2, 3, 4), dc.connectedSetOf(4));
+        assertEquals(3, dc.getNumberOfConnectedComponents());
+
+        assertTrue(dc.removeVertex(3));
+        assertFalse(dc.containsEdge("b"));
+        assertFalse(dc.connected(2, 4));
+        assertEquals(4, dc.getNumberOfConnectedComponents());
+    }
+
+    @Test
+    public void testLoopsAndMultipleEdges()
+    {
+        FullyDynamicConnectivity<Integer, String> dc = new FullyDynamicConnectivity<>();
+        dc.addEdge(1, 1, "loop");
+        dc.addEdge(1, 2, "a");
+        dc.addEdge(1, 2, "b");
+        dc.addEdge(2, 1, "c");
+        assertEquals(1, dc.getNumberOfConnectedComponents());
+        dc.removeEdge("a");
+        dc.removeEdge("c");
+        assertTrue(dc.connected(1, 2));
+        dc.removeEdge("b");
+        assertFalse(dc.connected(1, 2));
+        dc.removeEdge("loop");
+        assertEquals(2, dc.getNumberOfConnectedComponents());
+    }
+
+    @Test
+    public void testRandomOperations()
+    {
+        Random rng = new Random(13);
+        for (int round = 0; round < 10; round++) {
+            int n = 5 + rng.nextInt(40);
+            Graph<Integer, DefaultEdge> g = new Pseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+            for (int v = 0; v < n; v++) {
+                g.addVertex();
+            }
+            List<DefaultEdge> edges = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                edges.add(g.addEdge(rng.nextInt(n), rng.nextInt(n)));
+            }
+            FullyDynamicConnectivity<Integer, DefaultEdge> dc = new FullyDynamicConnectivity<>(g);
+
+            for (int step = 0; step < 400; step++) {
+                if (edges.isEmpty() || rng.nextInt(5) < 2) {
+                    int u = rng.nextInt(n);
+                    int v = rng.nextInt(n);
+                    DefaultEdge e = g.addEdge(u, v);
+                    edges.add(e);
+                    dc.addEdge(u, v, e);
+                } else {
+                    DefaultEdge e = edges.remove(rng.nextInt(edges.size()));
+                    g.removeEdge(e);
+                    assertTrue(dc.removeEdge(e));
+                }
+                if (step % 10 == 0) {
+                    assertSameConnectivity(g, dc);
+                }
+            }
+            assertSameConnectivity(g, dc);
+        }
+    }
+
+    @Test
+    public void testListenableGraph()
+    {
+        Random rng = new Random(3);
+        ListenableGraph<Integer, DefaultEdge> g =
+            new DefaultListenableGraph<>(new DirectedPseudograph<>(DefaultEdge.class));
+        for (int v = 0; v < 30; v++) {
+            g.addVertex(v);
+        }
+        FullyDynamicConnectivity<Integer, DefaultEdge> dc = new FullyDynamicConnectivity<>(g);
+        g.addGraphListener(dc);
+
+        for (int step = 0; step < 500; step++) {
+            int op = rng.nextInt(10);
+            List<Integer> vertices = new ArrayList<>(g.vertexSet());
+            if (op == 0) {
+                g.removeVertex(vertices.get(rng.nextInt(vertices.size())));
+                g.addVertex(30 + step);
+            } else if (op < 5 && !g.edgeSet().isEmpty()) {
+                List<DefaultEdge> edges = new ArrayList<>(g.edgeSet());
+                g.removeEdge(edges.get(rng.nextInt(edges.size())));
+            } else {
+                g.addEdge(
+                    vertices.get(rng.nextInt(vertices.size())),
+                    vertices.get(rng.nextInt(vertices.size())));
+            }
+            assertSameConnectivity(g, dc);
+        }
+    }
+
+    @Test
+    public void testLargeGraph()
+    {
+        // a grid loses and regains its edges, which forces promotions to higher levels
+        int rows = 40;
+        int cols = 40;
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        FullyDynamicConnectivity<Integer, DefaultEdge> dc = new FullyDynamicConnectivity<>();
+        for (int v = 0; v < rows * cols; v++) {
+            g.addVertex(v);
+            dc.addVertex(v);
+        }
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                int v = r * cols + c;
+                if (c + 1 < cols) {
+                    dc.addEdge(v, v + 1, g.addEdge(v, v + 1));
+                }
+                if (r + 1 < rows) {
+                    dc.addEdge(v, v + cols, g.addEdge(v, v + cols));
+                }
+            }
+        }
+        Random rng = new Random(9);
+        List<DefaultEdge> removed = new ArrayList<>();
+        List<DefaultEdge> edges = new ArrayList<>(g.edgeSet());
+        Collections.shuffle(edges, rng);
+        for (DefaultEdge e : edges.subList(0, edges.size() / 2)) {
+            g.removeEdge(e);
+            dc.removeEdge(e);
+            removed.add(e);
+        }
+        assertSameConnectivity(g, dc);
+        for (DefaultEdge e : removed) {
+            int u = g.getEdgeSource(e);
+            int v = g.getEdgeTarget(e);
+            DefaultEdge added = g.addEdge(u, v);
+            dc.addEdge(u, v, added);
+        }
+        edges = new ArrayList<>(g.edgeSet());
+        Collections.shuffle(edges, rng);
+        for (DefaultEdge e : edges.subList(0, 2 * edges.size() / 3)) {
+            g.removeEdge(e);
+            dc.removeEdge(e);
+        }
+        assertSameConnectivity(g, dc);
+    }
+
+    private static <V, E> void assertSameConnectivity(
+        Graph<V, E> g, FullyDynamicConnectivity<V, E> dc)
+    {
+        List<Set<V>> components = new ConnectivityInspector<>(g).connectedSets();
+        assertEquals(components.size(), dc.getNumberOfConnectedComponents());
+        for (Set<V> component : components) {
+            V first = component.iterator().next();
+            assertEquals(component, dc.connectedSetOf(first));
+        }
+        List<V> vertices = new ArrayList<>(g.vertexSet());
+        Map<V, Set<V>> componentOf = new HashMap<>();
+        components.forEach(c -> c.forEach(v -> componentOf.put(v, c)));
+        for (int i = 0; i + 1 < vertices.size(); i++) {
+            V u = vertices.get(i);
+            V v = vertices.get(i + 1);
+            assertEquals(componentOf.get(u) == componentOf.get(v), dc.connected(u, v));
+        }
+    }
+}
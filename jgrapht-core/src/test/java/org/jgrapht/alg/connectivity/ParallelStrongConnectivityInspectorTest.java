@@ -0,0 +1,130 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.connectivity;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link ParallelStrongConnectivityInspector}.
+ */
+public class ParallelStrongConnectivityInspectorTest
+{
+    private static ForkJoinPool pool;
+
+    @BeforeClass
+    public static void setUp()
+    {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public static void tearDown()
+    {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testRandomGraphs()
+    {
+        Random rng = new Random(17);
+        for (int i = 0; i < 50; i++) {
+            Graph<Integer, DefaultEdge> g = new DirectedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+            int n = 1 + rng.nextInt(60);
+            new GnmRandomGraphGenerator<Integer, DefaultEdge>(
+                n, rng.nextInt(2 * n), rng.nextLong(), true, true).generateGraph(g);
+
+            Set<Set<Integer>> expected =
+                new HashSet<>(new GabowStrongConnectivityInspector<>(g).stronglyConnectedSets());
+            assertEquals(
+                expected, new HashSet<>(
+                    new ParallelStrongConnectivityInspector<>(g).stronglyConnectedSets()));
+            ParallelStrongConnectivityInspector<Integer, DefaultEdge> parallel =
+                new ParallelStrongConnectivityInspector<>(g, pool);
+            assertEquals(expected, new HashSet<>(parallel.stronglyConnectedSets()));
+            assertEquals(expected.size(), parallel.getCondensation().vertexSet().size());
+        }
+    }
+
+    @Test
+    public void testLargeGraph()
+    {
+        // chains of cycles joined by forward edges, so that every phase of the algorithm is used
+        Graph<Integer, DefaultEdge> g = new DefaultDirectedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        Random rng = new Random(5);
+        int n = 20000;
+        for (int v = 0; v < n; v++) {
+            g.addVertex();
+        }
+        for (int v = 0; v < n; v++) {
+            if (v % 50 != 49) {
+                g.addEdge(v, v + 1);
+            } else if (rng.nextBoolean()) {
+                g.addEdge(v, v - 49);
+            }
+            int w = rng.nextInt(n);
+            if (w > v) {
+                g.addEdge(v, w);
+            }
+        }
+
+        Set<Set<Integer>> expected =
+            new HashSet<>(new GabowStrongConnectivityInspector<>(g).stronglyConnectedSets());
+        ParallelStrongConnectivityInspector<Integer, DefaultEdge> sequential =
+            new ParallelStrongConnectivityInspector<>(g);
+        assertEquals(expected, new HashSet<>(sequential.stronglyConnectedSets()));
+        ParallelStrongConnectivityInspector<Integer, DefaultEdge> parallel =
+            new ParallelStrongConnectivityInspector<>(g, pool);
+        assertEquals(expected, new HashSet<>(parallel.stronglyConnectedSets()));
+    }
+
+    @Test
+    public void testLongCycle()
+    {
+        Graph<Integer, DefaultEdge> g = new DefaultDirectedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        int n = 100000;
+        for (int v = 0; v < n; v++) {
+            g.addVertex();
+        }
+        for (int v = 0; v < n; v++) {
+            g.addEdge(v, (v + 1) % n);
+        }
+        assertTrue(new ParallelStrongConnectivityInspector<>(g, pool).isStronglyConnected());
+
+        g.removeEdge(n - 1, 0);
+        assertEquals(
+            n, new ParallelStrongConnectivityInspector<>(g, pool).stronglyConnectedSets().size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUndirected()
+    {
+        new ParallelStrongConnectivityInspector<>(new SimpleGraph<>(DefaultEdge.class));
+    }
+}
@@ -82,7 +82,10 @@ public class StrongConnectivityAlgorithmTest
                     (Function<Graph<?, ?>, ?>) GabowStrongConnectivityInspector::new },
 
                 new Object[] { KosarajuStrongConnectivityInspector.class.getSimpleName(),
-                    (Function<Graph<?, ?>, ?>) KosarajuStrongConnectivityInspector::new });
+                    (Function<Graph<?, ?>, ?>) KosarajuStrongConnectivityInspector::new },
+
+                new Object[] { ParallelStrongConnectivityInspector.class.getSimpleName(),
+                    (Function<Graph<?, ?>, ?>) ParallelStrongConnectivityInspector::new });
     }
 
     @Test
@@ -26,6 +26,7 @@ import org.junit.*;
 import java.util.*;
 
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -95,6 +96,49 @@ public class TreeDynamicConnectivityTest
         }
     }
 
+    @Test
+    public void testTreeDynamicConnectivity_flags()
+    {
+        int n = 30;
+        TreeDynamicConnectivity<Integer> connectivity = new TreeDynamicConnectivity<>();
+        Map<Integer, Integer> flags = new HashMap<>();
+        List<int[]> links = new ArrayList<>();
+        for (int v = 0; v < n; v++) {
+            connectivity.add(v);
+            flags.put(v, 0);
+        }
+        for (int i = 0; i < 5000; i++) {
+            int v = RANDOM.nextInt(n);
+            int u = RANDOM.nextInt(n);
+            int operation = RANDOM.nextInt(3);
+            if (operation == 0) {
+                int f = RANDOM.nextInt(4) == 0 ? 1 + RANDOM.nextInt(3) : 0;
+                connectivity.setFlags(v, f);
+                flags.put(v, f);
+            } else if (operation == 1 && v != u && !connectivity.connected(v, u)) {
+                assertTrue(connectivity.link(v, u));
+                links.add(new int[] { v, u });
+            } else if (!links.isEmpty()) {
+                int[] link = links.remove(RANDOM.nextInt(links.size()));
+                assertTrue(connectivity.cut(link[0], link[1]));
+            }
+
+            for (int mask = 1; mask <= 3; mask++) {
+                Integer flagged = connectivity.findFlagged(v, mask);
+                boolean expected = false;
+                for (int w : connectivity.elements(v)) {
+                    expected |= (flags.get(w) & mask) != 0;
+                }
+                if (expected) {
+                    assertTrue((flags.get(flagged) & mask) != 0);
+                    assertTrue(connectivity.elements(v).contains(flagged));
+                } else {
+                    assertNull(flagged);
+                }
+            }
+        }
+    }
+
     private void destroyTree(
         Graph<Integer, DefaultEdge> graph, TreeDynamicConnectivity<Integer> connectivity)
     {
@@ -0,0 +1,302 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.cycle;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.connectivity.*;
+import org.jgrapht.alg.interfaces.CycleBasisAlgorithm.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link DePinaMinimumCycleBasis}.
+ */
+public class DePinaMinimumCycleBasisTest
+{
+    private static ForkJoinPool pool;
+
+    @BeforeClass
+    public static void setUp()
+    {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public static void tearDown()
+    {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testSmallExample()
+    {
+        // a square with a diagonal and a pendant triangle
+        Graph<Integer, DefaultWeightedEdge> g =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, List.of(0, 1, 2, 3, 4, 5));
+        Graphs.addEdge(g, 0, 1, 1d);
+        Graphs.addEdge(g, 1, 2, 1d);
+        Graphs.addEdge(g, 2, 3, 1d);
+        Graphs.addEdge(g, 3, 0, 1d);
+        Graphs.addEdge(g, 0, 2, 5d);
+        Graphs.addEdge(g, 3, 4, 2d);
+        Graphs.addEdge(g, 4, 5, 2d);
+        Graphs.addEdge(g, 5, 3, 2d);
+
+        CycleBasis<Integer, DefaultWeightedEdge> basis =
+            new DePinaMinimumCycleBasis<>(g).getCycleBasis();
+        assertEquals(3, basis.getCycles().size());
+        assertEquals(10, basis.getLength());
+        assertEquals(4d + 7d + 6d, basis.getWeight(), 1e-9);
+        assertTrue(edgeSets(basis).contains(edgeSet(g, 0, 1, 2, 3)));
+        assertValidBasis(g, basis);
+    }
+
+    @Test
+    public void testPseudograph()
+    {
+        Graph<Integer, DefaultWeightedEdge> g =
+            new WeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, List.of(0, 1, 2));
+        Graphs.addEdge(g, 0, 0, 3d);
+        Graphs.addEdge(g, 0, 1, 1d);
+        Graphs.addEdge(g, 0, 1, 2d);
+        Graphs.addEdge(g, 0, 1, 4d);
+        Graphs.addEdge(g, 1, 2, 1d);
+
+        CycleBasis<Integer, DefaultWeightedEdge> basis =
+            new DePinaMinimumCycleBasis<>(g, pool).getCycleBasis();
+        assertEquals(3, basis.getCycles().size());
+        assertEquals(5, basis.getLength());
+        assertEquals(3d + 3d + 5d, basis.getWeight(), 1e-9);
+    }
+
+    @Test
+    public void testDirectedGraph()
+    {
+        Graph<Integer, DefaultEdge> g = new DefaultDirectedGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, List.of(0, 1, 2, 3));
+        g.addEdge(0, 1);
+        g.addEdge(1, 2);
+        g.addEdge(0, 2);
+        g.addEdge(2, 3);
+        g.addEdge(3, 0);
+        g.addEdge(0, 3);
+
+        CycleBasis<Integer, DefaultEdge> basis = new DePinaMinimumCycleBasis<>(g).getCycleBasis();
+        assertEquals(3, basis.getCycles().size());
+        assertEquals(8, basis.getLength());
+    }
+
+    @Test
+    public void testRandomGraphs()
+    {
+        Random rng = new Random(11);
+        for (int i = 0; i < 80; i++) {
+            Graph<Integer, DefaultWeightedEdge> g = new SimpleWeightedGraph<>(
+                SupplierUtil.createIntegerSupplier(),
+                SupplierUtil.createDefaultWeightedEdgeSupplier());
+            int n = 4 + rng.nextInt(7);
+            new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(
+                n, 0.2 + 0.4 * rng.nextDouble(), rng, false).generateGraph(g);
+            if (g.edgeSet().size() - n + 1 > 14) {
+                continue;
+            }
+            // unit weights in every third graph, to exercise ties between shortest paths
+            for (DefaultWeightedEdge e : g.edgeSet()) {
+                g.setEdgeWeight(e, i % 3 == 0 ? 1d : rng.nextInt(6));
+            }
+
+            double expected = bruteForceWeight(g);
+            for (DePinaMinimumCycleBasis<Integer, DefaultWeightedEdge> alg : List
+                .of(
+                    new DePinaMinimumCycleBasis<>(g), new DePinaMinimumCycleBasis<>(g, pool),
+                    new DePinaMinimumCycleBasis<>(g, null, false)))
+            {
+                CycleBasis<Integer, DefaultWeightedEdge> basis = alg.getCycleBasis();
+                assertEquals(expected, basis.getWeight(), 1e-9);
+                assertValidBasis(g, basis);
+            }
+            assertTrue(
+                new QueueBFSFundamentalCycleBasis<>(g).getCycleBasis().getWeight()
+                    >= expected - 1e-9);
+        }
+    }
+
+    @Test
+    public void testLargerGraph()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = new SimpleWeightedGraph<>(
+            SupplierUtil.createIntegerSupplier(),
+            SupplierUtil.createDefaultWeightedEdgeSupplier());
+        new GridGraphGenerator<Integer, DefaultWeightedEdge>(20, 30).generateGraph(g);
+
+        // the faces of a grid form its minimum cycle basis
+        CycleBasis<Integer, DefaultWeightedEdge> sequential =
+            new DePinaMinimumCycleBasis<>(g).getCycleBasis();
+        assertEquals(19 * 29, sequential.getCycles().size());
+        assertEquals(4 * 19 * 29, sequential.getLength());
+        CycleBasis<Integer, DefaultWeightedEdge> parallel =
+            new DePinaMinimumCycleBasis<>(g, pool).getCycleBasis();
+        assertEquals(edgeSets(sequential), edgeSets(parallel));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeight()
+    {
+        Graph<Integer, DefaultWeightedEdge> g =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, List.of(0, 1));
+        Graphs.addEdge(g, 0, 1, -1d);
+        new DePinaMinimumCycleBasis<>(g).getCycleBasis();
+    }
+
+    /**
+     * Check that a basis consists of the right number of independent simple cycles.
+     */
+    private static <V, E> void assertValidBasis(Graph<V, E> g, CycleBasis<V, E> basis)
+    {
+        List<E> edges = new ArrayList<>(g.edgeSet());
+        int components = new ConnectivityInspector<>(g).connectedSets().size();
+        assertEquals(
+            g.edgeSet().size() - g.vertexSet().size() + components, basis.getCycles().size());
+
+        List<BitSet> rows = new ArrayList<>();
+        for (List<E> cycle : basis.getCycles()) {
+            assertNotNull(Cycles.simpleCycleToGraphPath(g, cycle));
+            BitSet row = new BitSet();
+            for (E e : cycle) {
+                row.set(edges.indexOf(e));
+            }
+            assertTrue(addIfIndependent(rows, row));
+        }
+    }
+
+    /**
+     * Compute the weight of a minimum cycle basis by enumerating the cycle space and greedily
+     * selecting independent simple cycles.
+     */
+    private static <V, E> double bruteForceWeight(Graph<V, E> g)
+    {
+        List<E> edges = new ArrayList<>(g.edgeSet());
+        List<BitSet> fundamental = new ArrayList<>();
+        for (List<E> cycle : new QueueBFSFundamentalCycleBasis<>(g).getCycleBasis().getCycles()) {
+            BitSet row = new BitSet();
+            cycle.forEach(e -> row.set(edges.indexOf(e)));
+            fundamental.add(row);
+        }
+
+        List<BitSet> simpleCycles = new ArrayList<>();
+        for (int mask = 1; mask < 1 << fundamental.size(); mask++) {
+            BitSet element = new BitSet();
+            for (int i = 0; i < fundamental.size(); i++) {
+                if ((mask & (1 << i)) != 0) {
+                    element.xor(fundamental.get(i));
+                }
+            }
+            if (isSimpleCycle(g, edges, element)) {
+                simpleCycles.add(element);
+            }
+        }
+        simpleCycles.sort(Comparator.comparingDouble(c -> weight(g, edges, c)));
+
+        List<BitSet> rows = new ArrayList<>();
+        double result = 0d;
+        for (BitSet c : simpleCycles) {
+            if (addIfIndependent(rows, c)) {
+                result += weight(g, edges, c);
+            }
+        }
+        return result;
+    }
+
+    private static <V, E> boolean isSimpleCycle(Graph<V, E> g, List<E> edges, BitSet element)
+    {
+        Set<E> subset = new HashSet<>();
+        element.stream().forEach(i -> subset.add(edges.get(i)));
+        Graph<V, E> subgraph = new AsSubgraph<>(g, null, subset);
+        Set<V> touched = new HashSet<>();
+        for (E e : subset) {
+            touched.add(g.getEdgeSource(e));
+            touched.add(g.getEdgeTarget(e));
+        }
+        for (V v : touched) {
+            if (subgraph.degreeOf(v) != 2) {
+                return false;
+            }
+        }
+        return new ConnectivityInspector<>(new AsSubgraph<>(g, touched, subset))
+            .isConnected();
+    }
+
+    private static <V, E> double weight(Graph<V, E> g, List<E> edges, BitSet c)
+    {
+        return c.stream().mapToDouble(i -> g.getEdgeWeight(edges.get(i))).sum();
+    }
+
+    /**
+     * Add a vector to a row-reduced set of vectors if it is independent of them.
+     */
+    private static boolean addIfIndependent(List<BitSet> rows, BitSet vector)
+    {
+        BitSet v = (BitSet) vector.clone();
+        for (BitSet row : rows) {
+            int pivot = row.nextSetBit(0);
+            if (v.get(pivot)) {
+                v.xor(row);
+            }
+        }
+        if (v.isEmpty()) {
+            return false;
+        }
+        int pivot = v.nextSetBit(0);
+        for (BitSet row : rows) {
+            if (row.get(pivot)) {
+                row.xor(v);
+            }
+        }
+        rows.add(v);
+        return true;
+    }
+
+    private static <V, E> Set<Set<E>> edgeSets(CycleBasis<V, E> basis)
+    {
+        Set<Set<E>> result = new HashSet<>();
+        for (List<E> cycle : basis.getCycles()) {
+            result.add(new HashSet<>(cycle));
+        }
+        return result;
+    }
+
+    private static Set<DefaultWeightedEdge> edgeSet(
+        Graph<Integer, DefaultWeightedEdge> g, Integer... vertices)
+    {
+        Set<DefaultWeightedEdge> result = new HashSet<>();
+        for (int i = 0; i < vertices.length; i++) {
+            result.add(g.getEdge(vertices[i], vertices[(i + 1) % vertices.length]));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.cycle;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link ParallelJohnsonSimpleCycles}.
+ */
+public class ParallelJohnsonSimpleCyclesTest
+{
+    private static ForkJoinPool pool;
+
+    @BeforeClass
+    public static void setUp()
+    {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public static void tearDown()
+    {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testSmallExample()
+    {
+        Graph<Integer, DefaultEdge> g = new DefaultDirectedGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(1, 2, 3, 4, 5, 6));
+        g.addEdge(1, 2);
+        g.addEdge(2, 3);
+        g.addEdge(2, 5);
+        g.addEdge(3, 4);
+        g.addEdge(4, 5);
+        g.addEdge(5, 6);
+        g.addEdge(6, 1);
+        g.addEdge(6, 6);
+
+        Set<List<Integer>> expected =
+            Set.of(List.of(1, 2, 3, 4, 5, 6), List.of(1, 2, 5, 6), List.of(6));
+        assertEquals(
+            expected, new HashSet<>(new ParallelJohnsonSimpleCycles<>(g).findSimpleCycles()));
+        assertEquals(
+            expected,
+            new HashSet<>(new ParallelJohnsonSimpleCycles<>(g, pool).findSimpleCycles()));
+
+        assertEquals(
+            Set.of(List.of(1, 2, 5, 6), List.of(6)), new HashSet<>(
+                new ParallelJohnsonSimpleCycles<>(g, pool, 4, Long.MAX_VALUE)
+                    .findSimpleCycles()));
+    }
+
+    @Test
+    public void testRandomGraphs()
+    {
+        Random rng = new Random(7);
+        for (int i = 0; i < 30; i++) {
+            Graph<Integer, DefaultEdge> g =
+                generate(5 + rng.nextInt(10), 0.15 + 0.2 * rng.nextDouble(), rng);
+            List<List<Integer>> expected = new JohnsonSimpleCycles<>(g).findSimpleCycles();
+
+            List<List<Integer>> sequential =
+                new ParallelJohnsonSimpleCycles<>(g).findSimpleCycles();
+            assertEquals(expected.size(), sequential.size());
+            assertEquals(new HashSet<>(expected), new HashSet<>(sequential));
+
+            List<List<Integer>> parallel =
+                new ParallelJohnsonSimpleCycles<>(g, pool).findSimpleCycles();
+            assertEquals(expected.size(), parallel.size());
+            assertEquals(new HashSet<>(expected), new HashSet<>(parallel));
+
+            for (int maxLength = 1; maxLength <= 4; maxLength++) {
+                int bound = maxLength;
+                Set<List<Integer>> shortCycles = expected
+                    .stream().filter(c -> c.size() <= bound).collect(Collectors.toSet());
+                List<List<Integer>> bounded = new ParallelJohnsonSimpleCycles<>(
+                    g, i % 2 == 0 ? pool : null, bound, Long.MAX_VALUE).findSimpleCycles();
+                assertEquals(shortCycles.size(), bounded.size());
+                assertEquals(shortCycles, new HashSet<>(bounded));
+            }
+        }
+    }
+
+    @Test
+    public void testMaxCycles()
+    {
+        // the complete directed graph on 7 vertices has 2372 simple cycles
+        Graph<Integer, DefaultEdge> g = new DefaultDirectedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new CompleteGraphGenerator<Integer, DefaultEdge>(7).generateGraph(g);
+        Set<List<Integer>> all = new HashSet<>(new JohnsonSimpleCycles<>(g).findSimpleCycles());
+
+        List<List<Integer>> cycles = new ArrayList<>();
+        new ParallelJohnsonSimpleCycles<>(g, pool, Integer.MAX_VALUE, 100)
+            .findSimpleCycles(cycles::add);
+        assertEquals(100, cycles.size());
+        assertEquals(100, new HashSet<>(cycles).size());
+        assertTrue(all.containsAll(cycles));
+
+        cycles.clear();
+        new ParallelJohnsonSimpleCycles<>(g, null, 3, 1000).findSimpleCycles(cycles::add);
+        // 7 * 6 / 2 cycles of length 2 and 7 * 6 * 5 / 3 cycles of length 3
+        assertEquals(21 + 70, cycles.size());
+
+        assertTrue(
+            new ParallelJohnsonSimpleCycles<>(g, pool, Integer.MAX_VALUE, 0)
+                .findSimpleCycles().isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUndirected()
+    {
+        new ParallelJohnsonSimpleCycles<>(new SimpleGraph<>(DefaultEdge.class));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidMaxLength()
+    {
+        new ParallelJohnsonSimpleCycles<>(
+            new DefaultDirectedGraph<>(DefaultEdge.class), null, 0, Long.MAX_VALUE);
+    }
+
+    private static Graph<Integer, DefaultEdge> generate(int n, double p, Random rng)
+    {
+        Graph<Integer, DefaultEdge> g = new DefaultDirectedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnpRandomGraphGenerator<Integer, DefaultEdge>(n, p, rng, true).generateGraph(g);
+        return g;
+    }
+}
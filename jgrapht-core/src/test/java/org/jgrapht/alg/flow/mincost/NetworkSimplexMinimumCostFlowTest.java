@@ -0,0 +1,237 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.flow.mincost;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.MinimumCostFlowAlgorithm.*;
+import org.jgrapht.generate.netgen.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link NetworkSimplexMinimumCostFlow}
+ */
+public class NetworkSimplexMinimumCostFlowTest
+{
+
+    private static final double EPS = 1e-9;
+
+    @Test
+    public void testGetMinimumCostFlow1()
+    {
+        int[][] testCase = new int[][] { { 1, 3 }, { 2, -3 }, { 1, 2, 0, 4, 5 } };
+        test(testCase, 15);
+    }
+
+    @Test
+    public void testGetMinimumCostFlow2()
+    {
+        int[][] testCase = new int[][] { { 1, 4 }, { 4, -4 }, { 1, 2, 0, 4, 2 }, { 1, 3, 0, 1, 3 },
+            { 2, 3, 0, 1, 1 }, { 2, 4, 0, 5, 6 }, { 3, 4, 0, 4, 2 } };
+        test(testCase, 26);
+    }
+
+    @Test
+    public void testGetMinimumCostFlow3()
+    {
+        int[][] testCase =
+            new int[][] { { 1, 2 }, { 2, 5 }, { 6, -7 }, { 1, 5, 0, 3, 6 }, { 3, 6, 0, 3, 9 },
+                { 3, 1, 0, 3, 6 }, { 5, 3, 0, 3, 4 }, { 5, 6, 0, 7, 4 }, { 2, 4, 0, 5, 10 },
+                { 2, 3, 0, 1, 3 }, { 4, 6, 0, 5, 10 }, { 4, 1, 0, 5, 3 }, { 4, 3, 0, 1, 8 }, };
+        test(testCase, 112);
+    }
+
+    /**
+     * Test case generated with NETGEN generator params: vertices = 6, edges = 12, sources = 2,
+     * sinks = 2, supply = 10, min. capacity = 1, max. capacity = 10, min. cost = 1, max. cost = 10,
+     * capacitated = 50%, seed = 1
+     */
+    @Test
+    public void testGetMinimumCostFlow4()
+    {
+        int testCase[][] = new int[][] { { 1, 2731 }, { 2, 414 }, { 3, -1264 }, { 4, 216 },
+            { 5, -1785 }, { 6, -312 }, { 1, 4, 910, 2147483647, 10 }, { 1, 5, 957, 2147483647, 1 },
+            { 1, 3, 863, 2147483647, 3 }, { 3, 5, 1, 1, -5 }, { 3, 6, 1, 1, 10 }, { 3, 4, 1, 9, 2 },
+            { 4, 3, 1, 1, 8 }, { 4, 5, 820, 2147483647, 4 }, { 4, 6, 306, 2147483647, 7 },
+            { 2, 5, 1, 9, 7 }, { 2, 6, 1, 9, 10 }, { 2, 3, 403, 2147483647, 6 }, };
+        test(testCase, 20594);
+    }
+
+    @Test
+    public void testNegativeCostSelfLoop()
+    {
+        int[][] testCase = new int[][] { { 1, 2 }, { 2, -2 }, { 1, 2, 0, 5, 3 }, { 2, 2, 0, 4, -2 } };
+        test(testCase, -2);
+    }
+
+    @Test
+    public void testNegativeCostInfiniteCapacityArc()
+    {
+        int[][] testCase = new int[][] { { 1, 2 }, { 2, -2 }, { 1, 2, 0, 2147483647, -3 },
+            { 2, 1, 0, 1, 5 } };
+        test(testCase, -6);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnboundedProblem()
+    {
+        int[][] testCase = new int[][] { { 1, 0 }, { 2, 0 }, { 1, 2, 0, 2147483647, -3 },
+            { 2, 1, 0, 2147483647, 1 } };
+        test(testCase, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInfeasibleProblem()
+    {
+        int[][] testCase = new int[][] { { 1, 5 }, { 2, -5 }, { 1, 2, 0, 4, 1 } };
+        test(testCase, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnbalancedSupplies()
+    {
+        int[][] testCase = new int[][] { { 1, 5 }, { 2, -4 }, { 1, 2, 0, 10, 1 } };
+        test(testCase, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUndirectedNetwork()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(graph, 1, 2, 1);
+        new NetworkSimplexMinimumCostFlow<Integer, DefaultWeightedEdge>().getMinimumCostFlow(
+            new MinimumCostFlowProblem.MinimumCostFlowProblemImpl<>(graph, v -> 0, e -> 1));
+    }
+
+    @Test
+    public void testRandomNetgenProblems()
+    {
+        Random rng = new Random(17);
+        for (int i = 0; i < 50; i++) {
+            int nodeNum = 10 + rng.nextInt(60);
+            int sourceNum = 1 + rng.nextInt(nodeNum / 4);
+            int sinkNum = 1 + rng.nextInt(nodeNum / 4);
+            int tNodeNum = nodeNum - sourceNum - sinkNum;
+            int minArcNum =
+                (int) NetworkGeneratorConfig.getMinimumArcNum(sourceNum, tNodeNum, sinkNum);
+            int arcNum = minArcNum + rng.nextInt(4 * nodeNum);
+            NetworkGeneratorConfig config = new NetworkGeneratorConfigBuilder()
+                .setParams(
+                    nodeNum, arcNum, sourceNum, sinkNum, 0, 0, 10 * nodeNum, 1, 50, 1, 100,
+                    rng.nextInt(101), 0)
+                .build();
+            Graph<Integer, DefaultEdge> graph = new DefaultDirectedGraph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.createDefaultEdgeSupplier(),
+                true);
+            MinimumCostFlowProblem<Integer, DefaultEdge> problem =
+                new NetworkGenerator<Integer, DefaultEdge>(config, rng.nextLong())
+                    .generateMinimumCostFlowProblem(graph);
+
+            double expectedCost = new CapacityScalingMinimumCostFlow<Integer, DefaultEdge>()
+                .getMinimumCostFlow(problem).getCost();
+            NetworkSimplexMinimumCostFlow<Integer, DefaultEdge> algorithm =
+                new NetworkSimplexMinimumCostFlow<>(rng.nextDouble() + 0.1);
+            MinimumCostFlow<DefaultEdge> flow = algorithm.getMinimumCostFlow(problem);
+
+            assertEquals(expectedCost, flow.getCost(), EPS);
+            assertTrue(checkFlowAndDualSolution(algorithm.getDualSolution(), flow, problem));
+        }
+    }
+
+    private void test(int[][] testCase, double cost)
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Map<Integer, Integer> supplyMap = new HashMap<>();
+        Map<DefaultWeightedEdge, Integer> lowerMap = new HashMap<>();
+        Map<DefaultWeightedEdge, Integer> upperMap = new HashMap<>();
+        for (int[] data : testCase) {
+            if (data.length == 2) {
+                // this is information about a supply of a node
+                graph.addVertex(data[0]);
+                supplyMap.put(data[0], data[1]);
+            } else {
+                // this is information about an edge
+                DefaultWeightedEdge edge =
+                    Graphs.addEdgeWithVertices(graph, data[0], data[1], data[4]);
+                lowerMap.put(edge, data[2]);
+                upperMap.put(edge, data[3]);
+            }
+        }
+        MinimumCostFlowProblem<Integer,
+            DefaultWeightedEdge> problem = new MinimumCostFlowProblem.MinimumCostFlowProblemImpl<>(
+                graph, v -> supplyMap.getOrDefault(v, 0), upperMap::get,
+                e -> lowerMap.getOrDefault(e, 0));
+        NetworkSimplexMinimumCostFlow<Integer, DefaultWeightedEdge> minimumCostFlowAlgorithm =
+            new NetworkSimplexMinimumCostFlow<>();
+        MinimumCostFlow<DefaultWeightedEdge> minimumCostFlow =
+            minimumCostFlowAlgorithm.getMinimumCostFlow(problem);
+        assertEquals(cost, minimumCostFlow.getCost(), EPS);
+
+        assertTrue(
+            checkFlowAndDualSolution(
+                minimumCostFlowAlgorithm.getDualSolution(), minimumCostFlow, problem));
+    }
+
+    private <V, E> boolean checkFlowAndDualSolution(
+        Map<V, Double> dualVariables, MinimumCostFlow<E> flow, MinimumCostFlowProblem<V, E> problem)
+    {
+        Graph<V, E> graph = problem.getGraph();
+        // check supply constraints
+        for (V vertex : graph.vertexSet()) {
+            int supply = problem.getNodeSupply().apply(vertex);
+            double flowIn = 0;
+            for (E edge : graph.incomingEdgesOf(vertex)) {
+                flowIn += flow.getFlow(edge);
+            }
+            double flowOut = 0;
+            for (E edge : graph.outgoingEdgesOf(vertex)) {
+                flowOut += flow.getFlow(edge);
+            }
+            if (Math.abs(supply - (flowOut - flowIn)) > EPS) {
+                return false;
+            }
+        }
+        // check capacity constraints and complementary slackness
+        for (E edge : graph.edgeSet()) {
+            double value = flow.getFlow(edge);
+            int lower = problem.getArcCapacityLowerBounds().apply(edge);
+            int upper = problem.getArcCapacityUpperBounds().apply(edge);
+            if (lower > value || upper < value) {
+                return false;
+            }
+            double reducedCost = problem.getArcCosts().apply(edge)
+                + dualVariables.get(graph.getEdgeTarget(edge))
+                - dualVariables.get(graph.getEdgeSource(edge));
+            if (value < upper && reducedCost < -EPS) {
+                return false;
+            }
+            if (value > lower && reducedCost > EPS) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
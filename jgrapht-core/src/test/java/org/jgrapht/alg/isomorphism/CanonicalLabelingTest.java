@@ -0,0 +1,244 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.isomorphism;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.VertexColoringAlgorithm.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.function.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link CanonicalLabeling}
+ */
+public class CanonicalLabelingTest
+{
+
+    @Test
+    public void testEmptyGraph()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        CanonicalLabeling<Integer, DefaultEdge> labeling = new CanonicalLabeling<>(g);
+        assertTrue(labeling.getCanonicalOrdering().isEmpty());
+        assertEquals(0, labeling.getCertificate().getNumberOfVertices());
+    }
+
+    @Test
+    public void testCanonicalOrdering()
+    {
+        Graph<Integer, DefaultEdge> g = NamedGraphGenerator.petersenGraph();
+        List<Integer> ordering = new CanonicalLabeling<>(g).getCanonicalOrdering();
+        assertEquals(g.vertexSet(), new HashSet<>(ordering));
+
+        // the graph relabeled by its canonical ordering is the canonical form, which is the
+        // same for every isomorphic graph
+        Graph<Integer, DefaultEdge> canonical = relabel(g, ordering::indexOf);
+        Graph<Integer, DefaultEdge> h = shuffle(g, new Random(1));
+        List<Integer> hOrdering = new CanonicalLabeling<>(h).getCanonicalOrdering();
+        assertEquals(edgePairs(canonical), edgePairs(relabel(h, hOrdering::indexOf)));
+    }
+
+    @Test
+    public void testSymmetricGraphs()
+    {
+        Random rng = new Random(3);
+        List<Graph<Integer, DefaultEdge>> graphs = new ArrayList<>();
+        graphs.add(NamedGraphGenerator.petersenGraph());
+        graphs.add(NamedGraphGenerator.dodecahedronGraph());
+        graphs.add(NamedGraphGenerator.desarguesGraph());
+        graphs.add(NamedGraphGenerator.clebschGraph());
+        graphs.add(NamedGraphGenerator.heawoodGraph());
+        graphs.add(NamedGraphGenerator.pappusGraph());
+        graphs.add(generate(new CompleteGraphGenerator<>(12)));
+        graphs.add(generate(new HyperCubeGraphGenerator<>(5)));
+        graphs.add(generate(new RingGraphGenerator<>(20)));
+        graphs.add(generate(new CompleteBipartiteGraphGenerator<>(5, 6)));
+
+        Set<CanonicalLabeling.Certificate> certificates = new HashSet<>();
+        for (Graph<Integer, DefaultEdge> g : graphs) {
+            CanonicalLabeling.Certificate expected = new CanonicalLabeling<>(g).getCertificate();
+            for (int i = 0; i < 3; i++) {
+                Graph<Integer, DefaultEdge> h = shuffle(g, rng);
+                CanonicalLabeling<Integer, DefaultEdge> labeling = new CanonicalLabeling<>(h);
+                assertEquals(expected, labeling.getCertificate());
+                assertEquals(expected.getHash64(), labeling.getCertificateHash());
+                assertArrayEquals(
+                    expected.getHash128(), labeling.getCertificate().getHash128());
+            }
+            certificates.add(expected);
+        }
+        assertEquals(graphs.size(), certificates.size());
+    }
+
+    @Test
+    public void testIsomorphismClasses()
+    {
+        // bucket random small graphs and compare the buckets with an isomorphism test
+        Random rng = new Random(17);
+        Map<CanonicalLabeling.Certificate, List<Graph<Integer, DefaultEdge>>> classes =
+            new HashMap<>();
+        for (int i = 0; i < 300; i++) {
+            Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+            new GnmRandomGraphGenerator<Integer, DefaultEdge>(
+                6, 2 + rng.nextInt(8), rng, false, false).generateGraph(g);
+            classes
+                .computeIfAbsent(new CanonicalLabeling<>(g).getCertificate(),
+                    c -> new ArrayList<>())
+                .add(g);
+        }
+
+        List<Graph<Integer, DefaultEdge>> representatives = new ArrayList<>();
+        for (List<Graph<Integer, DefaultEdge>> members : classes.values()) {
+            for (Graph<Integer, DefaultEdge> g : members) {
+                assertTrue(isIsomorphic(members.get(0), g));
+            }
+            representatives.add(members.get(0));
+        }
+        for (int i = 0; i < representatives.size(); i++) {
+            for (int j = i + 1; j < representatives.size(); j++) {
+                assertFalse(isIsomorphic(representatives.get(i), representatives.get(j)));
+            }
+        }
+    }
+
+    @Test
+    public void testDirectedPseudograph()
+    {
+        Random rng = new Random(5);
+        for (int i = 0; i < 20; i++) {
+            Graph<Integer, DefaultEdge> g = new DirectedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+            new GnmRandomGraphGenerator<Integer, DefaultEdge>(8, 20, rng, true, true)
+                .generateGraph(g);
+            CanonicalLabeling.Certificate expected = new CanonicalLabeling<>(g).getCertificate();
+            assertEquals(20, expected.getNumberOfEdges());
+            assertEquals(expected, new CanonicalLabeling<>(shuffle(g, rng)).getCertificate());
+        }
+
+        // the orientation matters
+        Graph<Integer, DefaultEdge> path1 = new DirectedPseudograph<>(DefaultEdge.class);
+        Graphs.addEdgeWithVertices(path1, 0, 1);
+        Graphs.addEdgeWithVertices(path1, 1, 2);
+        Graph<Integer, DefaultEdge> path2 = new DirectedPseudograph<>(DefaultEdge.class);
+        Graphs.addEdgeWithVertices(path2, 0, 1);
+        Graphs.addEdgeWithVertices(path2, 2, 1);
+        assertNotEquals(
+            new CanonicalLabeling<>(path1).getCertificate(),
+            new CanonicalLabeling<>(path2).getCertificate());
+    }
+
+    @Test
+    public void testInitialColoring()
+    {
+        // a path a-b-c where the endpoints have different labels
+        Graph<String, DefaultEdge> g1 = new SimpleGraph<>(DefaultEdge.class);
+        Graphs.addEdgeWithVertices(g1, "a", "b");
+        Graphs.addEdgeWithVertices(g1, "b", "c");
+        Graph<String, DefaultEdge> g2 = new SimpleGraph<>(DefaultEdge.class);
+        Graphs.addEdgeWithVertices(g2, "x", "y");
+        Graphs.addEdgeWithVertices(g2, "y", "z");
+
+        Map<String, Integer> colors1 = Map.of("a", 0, "b", 1, "c", 2);
+        Map<String, Integer> colors2 = Map.of("x", 2, "y", 1, "z", 0);
+        Map<String, Integer> colors3 = Map.of("x", 1, "y", 0, "z", 2);
+
+        CanonicalLabeling.Certificate c1 =
+            new CanonicalLabeling<>(g1, new ColoringImpl<>(colors1, 3)).getCertificate();
+        CanonicalLabeling.Certificate c2 =
+            new CanonicalLabeling<>(g2, new ColoringImpl<>(colors2, 3)).getCertificate();
+        CanonicalLabeling.Certificate c3 =
+            new CanonicalLabeling<>(g2, new ColoringImpl<>(colors3, 3)).getCertificate();
+        assertEquals(c1, c2);
+        assertNotEquals(c1, c3);
+        assertNotEquals(c1, new CanonicalLabeling<>(g1).getCertificate());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidInitialColoring()
+    {
+        Graph<String, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        Graphs.addEdgeWithVertices(g, "a", "b");
+        new CanonicalLabeling<>(g, new ColoringImpl<>(Map.of("a", 0, "b", 2), 2))
+            .getCertificate();
+    }
+
+    private static Graph<Integer, DefaultEdge> generate(
+        GraphGenerator<Integer, DefaultEdge, Integer> generator)
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        generator.generateGraph(g);
+        return g;
+    }
+
+    private static Graph<Integer, DefaultEdge> shuffle(Graph<Integer, DefaultEdge> g, Random rng)
+    {
+        List<Integer> permutation = new ArrayList<>(g.vertexSet());
+        Collections.shuffle(permutation, rng);
+        Map<Integer, Integer> mapping = new HashMap<>();
+        int i = 0;
+        for (Integer v : g.vertexSet()) {
+            mapping.put(v, permutation.get(i++));
+        }
+        return relabel(g, mapping::get);
+    }
+
+    private static Graph<Integer, DefaultEdge> relabel(
+        Graph<Integer, DefaultEdge> g, Function<Integer, Integer> mapping)
+    {
+        Graph<Integer, DefaultEdge> h = g.getType().isDirected()
+            ? new DirectedPseudograph<>(DefaultEdge.class)
+            : new Pseudograph<>(DefaultEdge.class);
+        // insert the vertices and edges in a different order as well
+        List<Integer> vertices = new ArrayList<>(g.vertexSet());
+        Collections.reverse(vertices);
+        for (Integer v : vertices) {
+            h.addVertex(mapping.apply(v));
+        }
+        List<DefaultEdge> edges = new ArrayList<>(g.edgeSet());
+        Collections.reverse(edges);
+        for (DefaultEdge e : edges) {
+            h.addEdge(mapping.apply(g.getEdgeSource(e)), mapping.apply(g.getEdgeTarget(e)));
+        }
+        return h;
+    }
+
+    private static Set<List<Integer>> edgePairs(Graph<Integer, DefaultEdge> g)
+    {
+        Set<List<Integer>> pairs = new HashSet<>();
+        for (DefaultEdge e : g.edgeSet()) {
+            int s = g.getEdgeSource(e);
+            int t = g.getEdgeTarget(e);
+            pairs.add(List.of(Math.min(s, t), Math.max(s, t)));
+        }
+        return pairs;
+    }
+
+    private static boolean isIsomorphic(
+        Graph<Integer, DefaultEdge> g1, Graph<Integer, DefaultEdge> g2)
+    {
+        return new VF2GraphIsomorphismInspector<>(g1, g2).isomorphismExists();
+    }
+}
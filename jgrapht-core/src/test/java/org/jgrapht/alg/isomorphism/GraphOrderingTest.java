@@ -270,4 +270,29 @@ public class GraphOrderingTest
         assertEquals(false, g1Ordering.hasEdge(v5o, v4o));
         assertEquals(false, g1Ordering.hasEdge(v5o, v5o));
     }
+
+    @Test
+    public void testEdgeCache()
+    {
+        Graph<Integer, DefaultEdge> g = new DefaultDirectedGraph<>(DefaultEdge.class);
+        Random rng = new Random(7);
+        for (int i = 0; i < 30; i++) {
+            g.addVertex(i);
+        }
+        for (int i = 0; i < 150; i++) {
+            int s = rng.nextInt(30), t = rng.nextInt(30);
+            if (s != t) {
+                g.addEdge(s, t);
+            }
+        }
+
+        GraphOrdering<Integer, DefaultEdge> cached = new GraphOrdering<>(g, true, true);
+        GraphOrdering<Integer, DefaultEdge> uncached = new GraphOrdering<>(g, true, false);
+        for (int v1 = 0; v1 < 30; v1++) {
+            for (int v2 = 0; v2 < 30; v2++) {
+                assertEquals(uncached.hasEdge(v1, v2), cached.hasEdge(v1, v2));
+                assertEquals(uncached.getEdge(v1, v2), cached.getEdge(v1, v2));
+            }
+        }
+    }
 }
@@ -0,0 +1,267 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.isomorphism;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link ParallelSubgraphIsomorphismInspector}.
+ */
+public class ParallelSubgraphIsomorphismInspectorTest
+{
+    private static ForkJoinPool pool;
+
+    @BeforeClass
+    public static void setUp()
+    {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public static void tearDown()
+    {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testGraphTypes()
+    {
+        Graph<Integer, DefaultEdge> directed = new DefaultDirectedGraph<>(DefaultEdge.class);
+        Graph<Integer, DefaultEdge> undirected = new SimpleGraph<>(DefaultEdge.class);
+        Graph<Integer, DefaultEdge> multigraph = new Multigraph<>(DefaultEdge.class);
+
+        try {
+            new ParallelSubgraphIsomorphismInspector<>(multigraph, undirected);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+        }
+        try {
+            new ParallelSubgraphIsomorphismInspector<>(directed, undirected);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+        }
+        try {
+            new ParallelSubgraphIsomorphismInspector<>(directed, directed, null, null, null, -1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+        }
+    }
+
+    @Test
+    public void testEmptyPattern()
+    {
+        Graph<Integer, DefaultEdge> g1 = new SimpleGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g1, List.of(1, 2, 3));
+        Graph<Integer, DefaultEdge> g2 = new SimpleGraph<>(DefaultEdge.class);
+
+        ParallelSubgraphIsomorphismInspector<Integer, DefaultEdge> inspector =
+            new ParallelSubgraphIsomorphismInspector<>(g1, g2);
+        assertTrue(inspector.isomorphismExists());
+        assertEquals(1, mappings(inspector).size());
+
+        // the pattern is larger than the target
+        assertFalse(new ParallelSubgraphIsomorphismInspector<>(g2, g1).isomorphismExists());
+    }
+
+    @Test
+    public void testRandomDirectedGraphs()
+    {
+        Random rng = new Random(17);
+        for (int i = 0; i < 60; i++) {
+            int n = 3 + rng.nextInt(6);
+            Graph<Integer, DefaultEdge> g1 =
+                SubgraphIsomorphismTestUtils.randomGraph(n, rng.nextInt(n * (n - 1) / 2 + 1), i);
+            Graph<Integer, DefaultEdge> g2 = i % 2 == 0
+                ? SubgraphIsomorphismTestUtils.randomSubgraph(g1, 1 + rng.nextInt(n), i)
+                : SubgraphIsomorphismTestUtils.randomGraph(3, rng.nextInt(4), i);
+            assertSameMappings(g1, g2, null);
+        }
+    }
+
+    @Test
+    public void testRandomUndirectedGraphs()
+    {
+        Random rng = new Random(33);
+        for (int i = 0; i < 60; i++) {
+            int n = 4 + rng.nextInt(10);
+            Graph<Integer, DefaultEdge> g1 = generate(n, 0.2 + 0.5 * rng.nextDouble(), rng);
+            Graph<Integer, DefaultEdge> g2 = generate(2 + rng.nextInt(3), 0.5, rng);
+            assertSameMappings(g1, g2, null);
+            assertSameMappings(g1, g2, Comparator.comparingInt(v -> v % 3));
+        }
+    }
+
+    @Test
+    public void testSemanticCheck()
+    {
+        SimpleGraph<String, Integer> g1 = new SimpleGraph<>(Integer.class);
+        SimpleGraph<String, Integer> g2 = new SimpleGraph<>(Integer.class);
+        Graphs.addAllVertices(g1, List.of("a", "b", "A", "B"));
+        g1.addEdge("a", "b", 3);
+        g1.addEdge("b", "B", 1);
+        g1.addEdge("B", "A", 2);
+        g1.addEdge("A", "a", 4);
+        Graphs.addAllVertices(g2, List.of("A", "b", "B"));
+        g2.addEdge("A", "b", 6);
+        g2.addEdge("b", "B", 5);
+
+        Comparator<String> vertexComparator =
+            (s1, s2) -> s1.toLowerCase().equals(s2.toLowerCase()) ? 0 : 1;
+        Comparator<Integer> edgeComparator = (e1, e2) -> (e1 % 2) - (e2 % 2);
+
+        Set<String> expected = Set.of("[A=A B=b a=~~ b=B]");
+        assertEquals(
+            expected, toStrings(
+                new ParallelSubgraphIsomorphismInspector<>(
+                    g1, g2, vertexComparator, edgeComparator)));
+
+        expected = Set.of("[A=A B=b a=~~ b=B]", "[A=~~ B=B a=A b=b]");
+        assertEquals(
+            expected, toStrings(
+                new ParallelSubgraphIsomorphismInspector<>(
+                    g1, g2, vertexComparator, (e1, e2) -> 0, pool, Long.MAX_VALUE)));
+
+        expected = Set.of("[A=A B=b a=~~ b=B]", "[A=A B=~~ a=b b=B]");
+        assertEquals(
+            expected, toStrings(
+                new ParallelSubgraphIsomorphismInspector<>(
+                    g1, g2, (v1, v2) -> 0, edgeComparator, pool, Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void testMaxMappings()
+    {
+        // a triangle matches a complete graph on 8 vertices in 8 * 7 * 6 ways
+        Graph<Integer, DefaultEdge> g1 = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new CompleteGraphGenerator<Integer, DefaultEdge>(8).generateGraph(g1);
+        Graph<Integer, DefaultEdge> g2 = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new CompleteGraphGenerator<Integer, DefaultEdge>(3).generateGraph(g2);
+
+        assertEquals(
+            336, new ParallelSubgraphIsomorphismInspector<>(g1, g2, null, null, pool, 1000)
+                .findMappings(m -> {
+                }));
+
+        List<GraphMapping<Integer, DefaultEdge>> found = new ArrayList<>();
+        assertEquals(
+            25, new ParallelSubgraphIsomorphismInspector<>(g1, g2, null, null, pool, 25)
+                .findMappings(found::add));
+        assertEquals(25, found.size());
+        for (GraphMapping<Integer, DefaultEdge> m : found) {
+            assertTrue(SubgraphIsomorphismTestUtils.isCorrectMatching(m, g1, g2));
+        }
+
+        assertEquals(
+            0, new ParallelSubgraphIsomorphismInspector<>(g1, g2, null, null, pool, 0)
+                .findMappings(m -> {
+                }));
+    }
+
+    @Test
+    public void testLargeTarget()
+    {
+        // a labeled path in a large sparse graph
+        Random rng = new Random(5);
+        Graph<Integer, DefaultEdge> g1 = generate(3000, 0.002, rng);
+        Graph<Integer, DefaultEdge> g2 = new SimpleGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g2, List.of(0, 1, 2, 3));
+        g2.addEdge(0, 1);
+        g2.addEdge(1, 2);
+        g2.addEdge(2, 3);
+        Comparator<Integer> labels = Comparator.comparingInt(v -> v % 7);
+
+        Set<List<Integer>> sequential =
+            backwardMappings(new ParallelSubgraphIsomorphismInspector<>(g1, g2, labels, null));
+        Set<List<Integer>> parallel = backwardMappings(
+            new ParallelSubgraphIsomorphismInspector<>(
+                g1, g2, labels, null, pool, Long.MAX_VALUE));
+        assertFalse(sequential.isEmpty());
+        assertEquals(sequential, parallel);
+        for (List<Integer> images : sequential) {
+            for (int u = 0; u < 4; u++) {
+                assertEquals(u % 7, images.get(u) % 7);
+            }
+        }
+    }
+
+    private static void assertSameMappings(
+        Graph<Integer, DefaultEdge> g1, Graph<Integer, DefaultEdge> g2,
+        Comparator<Integer> vertexComparator)
+    {
+        Set<List<Integer>> expected = backwardMappings(
+            new VF2SubgraphIsomorphismInspector<>(g1, g2, vertexComparator, null));
+        assertEquals(
+            expected, backwardMappings(
+                new ParallelSubgraphIsomorphismInspector<>(g1, g2, vertexComparator, null)));
+        assertEquals(
+            expected, backwardMappings(
+                new ParallelSubgraphIsomorphismInspector<>(
+                    g1, g2, vertexComparator, null, pool, Long.MAX_VALUE)));
+        assertEquals(
+            !expected.isEmpty(), new ParallelSubgraphIsomorphismInspector<>(
+                g1, g2, vertexComparator, null, pool, Long.MAX_VALUE).isomorphismExists());
+    }
+
+    private static Set<List<Integer>> backwardMappings(
+        IsomorphismInspector<Integer, DefaultEdge> inspector)
+    {
+        Set<List<Integer>> result = new HashSet<>();
+        for (GraphMapping<Integer, DefaultEdge> m : mappings(inspector)) {
+            // the images of the pattern vertices in increasing order
+            Map<Integer, Integer> backward =
+                ((IsomorphicGraphMapping<Integer, DefaultEdge>) m).getBackwardMapping();
+            result.add(new ArrayList<>(new TreeMap<>(backward).values()));
+        }
+        return result;
+    }
+
+    private static <V, E> List<GraphMapping<V, E>> mappings(IsomorphismInspector<V, E> inspector)
+    {
+        List<GraphMapping<V, E>> result = new ArrayList<>();
+        inspector.getMappings().forEachRemaining(result::add);
+        return result;
+    }
+
+    private static <V, E> Set<String> toStrings(IsomorphismInspector<V, E> inspector)
+    {
+        Set<String> result = new HashSet<>();
+        for (GraphMapping<V, E> m : mappings(inspector)) {
+            result.add(m.toString());
+        }
+        return result;
+    }
+
+    private static Graph<Integer, DefaultEdge> generate(int n, double p, Random rng)
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnpRandomGraphGenerator<Integer, DefaultEdge>(n, p, rng, false).generateGraph(g);
+        return g;
+    }
+}
@@ -911,6 +911,26 @@ public class VF2SubgraphIsomorphismInspectorTest
         }
     }
 
+    /**
+     * Tests that an exhausted iterator does not restart the search.
+     */
+    @Test
+    public void testExhaustedIterator()
+    {
+        Graph<Integer, DefaultEdge> g1 = SubgraphIsomorphismTestUtils.randomGraph(8, 20, 3),
+            g2 = SubgraphIsomorphismTestUtils.randomSubgraph(g1, 4, 5);
+
+        Iterator<GraphMapping<Integer, DefaultEdge>> mappings =
+            new VF2SubgraphIsomorphismInspector<>(g1, g2).getMappings();
+        Set<String> found = new HashSet<>();
+        while (mappings.hasNext()) {
+            assertTrue(found.add(mappings.next().toString()));
+        }
+        assertFalse(found.isEmpty());
+        assertFalse(mappings.hasNext());
+        assertFalse(mappings.hasNext());
+    }
+
     /**
      * HG: measures time needed to check a pair of huge random graphs
      */
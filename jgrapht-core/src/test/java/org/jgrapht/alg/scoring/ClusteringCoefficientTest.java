@@ -23,6 +23,9 @@ import org.jgrapht.graph.*;
 import org.jgrapht.util.*;
 import org.junit.*;
 
+import java.util.*;
+import java.util.concurrent.*;
+
 import static org.junit.Assert.*;
 
 /**
@@ -381,4 +384,69 @@ public class ClusteringCoefficientTest
 
         assertEquals(0.333, new ClusteringCoefficient<>(graph).getVertexScore(node1), 0.01);
     }
+
+    @Test
+    public void testParallelMatchesSequential()
+    {
+        Graph<Integer, DefaultEdge> graph = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnpRandomGraphGenerator<Integer, DefaultEdge>(150, 0.1, new Random(17), false)
+            .generateGraph(graph);
+
+        ClusteringCoefficient<Integer, DefaultEdge> sequential = new ClusteringCoefficient<>(graph);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ClusteringCoefficient<Integer, DefaultEdge> parallel =
+                new ClusteringCoefficient<>(graph, pool);
+            assertEquals(sequential.getScores(), parallel.getScores());
+            assertEquals(
+                sequential.getGlobalClusteringCoefficient(),
+                parallel.getGlobalClusteringCoefficient(), 0.0);
+            assertEquals(
+                sequential.getAverageClusteringCoefficient(),
+                parallel.getAverageClusteringCoefficient(), 0.0);
+        } finally {
+            pool.shutdown();
+        }
+
+        // vertex scores computed one by one agree with the full map
+        ClusteringCoefficient<Integer, DefaultEdge> single = new ClusteringCoefficient<>(graph);
+        for (Integer v : graph.vertexSet()) {
+            assertEquals(sequential.getScores().get(v), single.getVertexScore(v), 1e-12);
+        }
+    }
+
+    @Test
+    public void testApproximate()
+    {
+        Graph<Integer, DefaultEdge> graph = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnpRandomGraphGenerator<Integer, DefaultEdge>(300, 0.2, new Random(3), false)
+            .generateGraph(graph);
+
+        ClusteringCoefficient<Integer, DefaultEdge> exact = new ClusteringCoefficient<>(graph);
+        ClusteringCoefficient<Integer, DefaultEdge> approximate =
+            new ClusteringCoefficient<>(graph, 20000, new Random(5));
+
+        assertEquals(
+            exact.getGlobalClusteringCoefficient(), approximate.getGlobalClusteringCoefficient(),
+            0.01);
+        assertEquals(
+            exact.getAverageClusteringCoefficient(),
+            approximate.getAverageClusteringCoefficient(), 0.01);
+
+        // with enough samples the local coefficients are exact
+        ClusteringCoefficient<Integer, DefaultEdge> exhaustive =
+            new ClusteringCoefficient<>(graph, Integer.MAX_VALUE, new Random(5));
+        for (Integer v : graph.vertexSet()) {
+            assertEquals(exact.getVertexScore(v), exhaustive.getVertexScore(v), 1e-12);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testApproximateDirected()
+    {
+        new ClusteringCoefficient<>(
+            new SimpleDirectedGraph<>(DefaultEdge.class), 100, new Random(1));
+    }
 }
@@ -0,0 +1,186 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.scoring;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link TriangleCounting}
+ */
+public class TriangleCountingTest
+{
+
+    @Test
+    public void testEmptyGraph()
+    {
+        Graph<Integer, DefaultEdge> graph = new SimpleGraph<>(DefaultEdge.class);
+        TriangleCounting<Integer, DefaultEdge> tc = new TriangleCounting<>(graph);
+        assertEquals(0, tc.getNumberOfTriangles());
+        assertEquals(0, tc.getNumberOfWedges());
+        assertTrue(tc.getScores().isEmpty());
+        assertEquals(0d, tc.estimateNumberOfTriangles(10, new Random(1)), 0d);
+    }
+
+    @Test
+    public void testWheel()
+    {
+        Graph<Integer, DefaultEdge> graph = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        Map<String, Integer> resultMap = new HashMap<>();
+        new WheelGraphGenerator<Integer, DefaultEdge>(50).generateGraph(graph, resultMap);
+        Integer hub = resultMap.get(WheelGraphGenerator.HUB_VERTEX);
+
+        TriangleCounting<Integer, DefaultEdge> tc = new TriangleCounting<>(graph);
+        assertEquals(49, tc.getNumberOfTriangles());
+        assertEquals(49L, (long) tc.getVertexScore(hub));
+        for (Integer v : graph.vertexSet()) {
+            if (!v.equals(hub)) {
+                assertEquals(2L, (long) tc.getVertexScore(v));
+            }
+        }
+    }
+
+    @Test
+    public void testMultipleEdgesAndSelfLoopsIgnored()
+    {
+        Graph<Integer, DefaultEdge> graph = new Pseudograph<>(DefaultEdge.class);
+        Graphs.addEdgeWithVertices(graph, 1, 2);
+        Graphs.addEdgeWithVertices(graph, 1, 2);
+        Graphs.addEdgeWithVertices(graph, 2, 3);
+        Graphs.addEdgeWithVertices(graph, 3, 1);
+        Graphs.addEdgeWithVertices(graph, 3, 3);
+
+        TriangleCounting<Integer, DefaultEdge> tc = new TriangleCounting<>(graph);
+        assertEquals(1, tc.getNumberOfTriangles());
+        assertEquals(3, tc.getNumberOfWedges());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDirected()
+    {
+        new TriangleCounting<>(new SimpleDirectedGraph<>(DefaultEdge.class));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownVertex()
+    {
+        Graph<Integer, DefaultEdge> graph = new SimpleGraph<>(DefaultEdge.class);
+        new TriangleCounting<>(graph).getVertexScore(1);
+    }
+
+    @Test
+    public void testRandomGraphs()
+    {
+        Random rng = new Random(7);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int i = 0; i < 20; i++) {
+                Graph<Integer, DefaultEdge> graph = new SimpleGraph<>(
+                    SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+                    false);
+                new GnpRandomGraphGenerator<Integer, DefaultEdge>(
+                    10 + rng.nextInt(80), rng.nextDouble(), rng, false).generateGraph(graph);
+
+                Map<Integer, Long> expected = naiveTriangles(graph);
+                long expectedTotal =
+                    expected.values().stream().mapToLong(Long::longValue).sum() / 3;
+
+                TriangleCounting<Integer, DefaultEdge> sequential = new TriangleCounting<>(graph);
+                assertEquals(expectedTotal, sequential.getNumberOfTriangles());
+                assertEquals(expected, sequential.getScores());
+
+                TriangleCounting<Integer, DefaultEdge> parallel =
+                    new TriangleCounting<>(graph, pool);
+                assertEquals(expectedTotal, parallel.getNumberOfTriangles());
+                assertEquals(expected, parallel.getScores());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testSkewedDegrees()
+    {
+        // hubs adjacent to everything make the intersections use galloping
+        Graph<Integer, DefaultEdge> graph = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(2000, 3000, 11, false, false)
+            .generateGraph(graph);
+        List<Integer> vertices = new ArrayList<>(graph.vertexSet());
+        for (int h = 0; h < 3; h++) {
+            Integer hub = graph.addVertex();
+            for (Integer v : vertices) {
+                graph.addEdge(hub, v);
+            }
+            vertices.add(hub);
+        }
+
+        Map<Integer, Long> expected = naiveTriangles(graph);
+        TriangleCounting<Integer, DefaultEdge> tc = new TriangleCounting<>(graph);
+        assertEquals(expected, tc.getScores());
+        assertEquals(
+            expected.values().stream().mapToLong(Long::longValue).sum() / 3,
+            tc.getNumberOfTriangles());
+    }
+
+    @Test
+    public void testEstimate()
+    {
+        Graph<Integer, DefaultEdge> graph = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnpRandomGraphGenerator<Integer, DefaultEdge>(300, 0.2, new Random(3), false)
+            .generateGraph(graph);
+
+        TriangleCounting<Integer, DefaultEdge> tc = new TriangleCounting<>(graph);
+        double exact = tc.getNumberOfTriangles();
+        double estimate = tc.estimateNumberOfTriangles(100000, new Random(5));
+        assertEquals(1d, estimate / exact, 0.05);
+
+        // with enough samples all wedges are inspected
+        assertEquals(
+            exact, tc.estimateNumberOfTriangles(Integer.MAX_VALUE, new Random(5)), 1e-6 * exact);
+    }
+
+    private static <V, E> Map<V, Long> naiveTriangles(Graph<V, E> graph)
+    {
+        Map<V, Long> result = new HashMap<>();
+        for (V v : graph.vertexSet()) {
+            List<V> neighbors = Graphs.neighborListOf(graph, v);
+            long count = 0;
+            for (int i = 0; i < neighbors.size(); i++) {
+                for (int j = i + 1; j < neighbors.size(); j++) {
+                    if (graph.containsEdge(neighbors.get(i), neighbors.get(j))) {
+                        count++;
+                    }
+                }
+            }
+            result.put(v, count);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.util;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link ConcurrentNeighborCache}.
+ */
+public class ConcurrentNeighborCacheTest
+{
+    private static ForkJoinPool pool;
+
+    @BeforeClass
+    public static void createPool()
+    {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public static void shutdownPool()
+    {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testSameAsGraphs()
+    {
+        Graph<Integer, DefaultEdge> g = randomMultigraph(new Random(7), 60, 600);
+        ConcurrentNeighborCache<Integer, DefaultEdge> cache = new ConcurrentNeighborCache<>(g);
+        for (int i = 0; i < 2; i++) {
+            for (Integer v : g.vertexSet()) {
+                assertSameNeighbors(g, cache, v);
+            }
+        }
+    }
+
+    @Test
+    public void testImmutable()
+    {
+        Graph<Integer, DefaultEdge> g = randomMultigraph(new Random(3), 10, 30);
+        ConcurrentNeighborCache<Integer, DefaultEdge> cache = new ConcurrentNeighborCache<>(g);
+        assertThrows(UnsupportedOperationException.class, () -> cache.neighborsOf(0).add(1));
+        assertThrows(UnsupportedOperationException.class, () -> cache.neighborListOf(0).add(1));
+        assertThrows(IllegalArgumentException.class, () -> cache.neighborsOf(10));
+        assertThrows(
+            IllegalArgumentException.class, () -> new ConcurrentNeighborCache<>(g, 0));
+    }
+
+    @Test
+    public void testInvalidation()
+    {
+        for (boolean directed : new boolean[] { true, false }) {
+            ListenableGraph<Integer, DefaultEdge> g = new DefaultListenableGraph<>(
+                directed ? new DirectedPseudograph<>(DefaultEdge.class)
+                    : new Pseudograph<>(DefaultEdge.class));
+            ConcurrentNeighborCache<Integer, DefaultEdge> cache =
+                new ConcurrentNeighborCache<>(g);
+            g.addGraphListener(cache);
+            Random rng = new Random(11);
+            for (int v = 0; v < 20; v++) {
+                g.addVertex(v);
+            }
+            for (int step = 0; step < 500; step++) {
+                List<Integer> vertices = new ArrayList<>(g.vertexSet());
+                int op = rng.nextInt(10);
+                if (op == 0) {
+                    g.removeVertex(vertices.get(rng.nextInt(vertices.size())));
+                    g.addVertex(20 + step);
+                } else if (op < 4 && !g.edgeSet().isEmpty()) {
+                    List<DefaultEdge> edges = new ArrayList<>(g.edgeSet());
+                    g.removeEdge(edges.get(rng.nextInt(edges.size())));
+                } else {
+                    g.addEdge(
+                        vertices.get(rng.nextInt(vertices.size())),
+                        vertices.get(rng.nextInt(vertices.size())));
+                }
+                Integer v = vertices.get(rng.nextInt(vertices.size()));
+                if (g.containsVertex(v)) {
+                    assertSameNeighbors(g, cache, v);
+                }
+            }
+            for (Integer v : g.vertexSet()) {
+                assertSameNeighbors(g, cache, v);
+            }
+            cache.clear();
+            assertEquals(0, cache.size());
+        }
+    }
+
+    @Test
+    public void testEviction()
+    {
+        Graph<Integer, DefaultEdge> g = randomMultigraph(new Random(5), 200, 1000);
+        ConcurrentNeighborCache<Integer, DefaultEdge> cache =
+            new ConcurrentNeighborCache<>(g, 100);
+        Random rng = new Random(9);
+        for (int i = 0; i < 5000; i++) {
+            Integer v = rng.nextInt(200);
+            assertSameNeighbors(g, cache, v);
+            assertTrue(cache.size() <= 100);
+        }
+    }
+
+    @Test
+    public void testConcurrentLookups()
+        throws Exception
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(2000, 20000, 17).generateGraph(g);
+        Map<Integer, Set<Integer>> expected = new HashMap<>();
+        for (Integer v : g.vertexSet()) {
+            expected.put(v, new HashSet<>(Graphs.neighborListOf(g, v)));
+        }
+
+        for (long maximumSize : new long[] { Long.MAX_VALUE, 1000 }) {
+            ConcurrentNeighborCache<Integer, DefaultEdge> cache =
+                new ConcurrentNeighborCache<>(g, maximumSize);
+            List<Callable<Boolean>> tasks = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int seed = t;
+                tasks.add(() -> {
+                    Random rng = new Random(seed);
+                    for (int i = 0; i < 20000; i++) {
+                        int v = rng.nextInt(2000);
+                        if (!expected.get(v).equals(cache.neighborsOf(v))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                });
+            }
+            for (Future<Boolean> result : pool.invokeAll(tasks)) {
+                assertTrue(result.get());
+            }
+        }
+    }
+
+    private static Graph<Integer, DefaultEdge> randomMultigraph(Random rng, int n, int m)
+    {
+        Graph<Integer, DefaultEdge> g = new DirectedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        for (int v = 0; v < n; v++) {
+            g.addVertex();
+        }
+        for (int i = 0; i < m; i++) {
+            // a skewed distribution gives a few vertices with large neighborhoods
+            g.addEdge(rng.nextInt(1 + rng.nextInt(n)), rng.nextInt(n));
+        }
+        return g;
+    }
+
+    private static <V, E> void assertSameNeighbors(
+        Graph<V, E> g, ConcurrentNeighborCache<V, E> cache, V v)
+    {
+        assertEquals(new HashSet<>(Graphs.successorListOf(g, v)), cache.successorsOf(v));
+        assertEquals(new HashSet<>(Graphs.predecessorListOf(g, v)), cache.predecessorsOf(v));
+        Set<V> neighbors = cache.neighborsOf(v);
+        assertEquals(new HashSet<>(Graphs.neighborListOf(g, v)), neighbors);
+        for (V u : g.vertexSet()) {
+            assertEquals(neighbors.contains(u), Graphs.neighborListOf(g, v).contains(u));
+        }
+        List<V> expected = new ArrayList<>(Graphs.neighborListOf(g, v));
+        List<V> actual = new ArrayList<>(cache.neighborListOf(v));
+        assertEquals(expected.size(), actual.size());
+        assertTrue(expected.containsAll(actual) && actual.containsAll(expected));
+    }
+}
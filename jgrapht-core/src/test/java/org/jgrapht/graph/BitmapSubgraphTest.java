@@ -0,0 +1,166 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.stream.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link BitmapSubgraph}.
+ */
+public class BitmapSubgraphTest
+{
+    @Test
+    public void testInducedSubgraph()
+    {
+        for (boolean directed : new boolean[] { true, false }) {
+            Graph<Integer, DefaultEdge> base = createGraph(directed, 11);
+            BitmapSubgraph.Index<Integer, DefaultEdge> index = new BitmapSubgraph.Index<>(base);
+            Set<Integer> vertices = randomVertices(base, new Random(1));
+
+            BitmapSubgraph<Integer, DefaultEdge> subgraph =
+                BitmapSubgraph.induced(index, vertices);
+            assertTrue(subgraph.isInduced());
+            assertSameGraph(new AsSubgraph<>(base, vertices), subgraph);
+        }
+    }
+
+    @Test
+    public void testEdgeSubset()
+    {
+        Graph<Integer, DefaultEdge> base = createGraph(true, 12);
+        BitmapSubgraph.Index<Integer, DefaultEdge> index = new BitmapSubgraph.Index<>(base);
+        Random rng = new Random(2);
+        Set<Integer> vertices = randomVertices(base, rng);
+        Set<DefaultEdge> edges =
+            base.edgeSet().stream().filter(e -> rng.nextBoolean()).collect(Collectors.toSet());
+
+        BitmapSubgraph<Integer, DefaultEdge> subgraph = BitmapSubgraph.of(index, vertices, edges);
+        assertFalse(subgraph.isInduced());
+        assertSameGraph(new AsSubgraph<>(base, vertices, edges), subgraph);
+    }
+
+    @Test
+    public void testSetAlgebra()
+    {
+        for (boolean directed : new boolean[] { true, false }) {
+            Graph<Integer, DefaultEdge> base = createGraph(directed, 13);
+            BitmapSubgraph.Index<Integer, DefaultEdge> index = new BitmapSubgraph.Index<>(base);
+            Random rng = new Random(3);
+            Set<Integer> vertices1 = randomVertices(base, rng);
+            Set<Integer> vertices2 = randomVertices(base, rng);
+            Set<DefaultEdge> edges2 =
+                base.edgeSet().stream().filter(e -> rng.nextBoolean()).collect(Collectors.toSet());
+            BitmapSubgraph<Integer, DefaultEdge> a = BitmapSubgraph.induced(index, vertices1);
+            BitmapSubgraph<Integer, DefaultEdge> b = BitmapSubgraph.of(index, vertices2, edges2);
+            Graph<Integer, DefaultEdge> expectedA = new AsSubgraph<>(base, vertices1);
+            Graph<Integer, DefaultEdge> expectedB = new AsSubgraph<>(base, vertices2, edges2);
+
+            Set<Integer> union = new HashSet<>(vertices1);
+            union.addAll(vertices2);
+            Set<DefaultEdge> unionEdges = new HashSet<>(expectedA.edgeSet());
+            unionEdges.addAll(expectedB.edgeSet());
+            assertSameGraph(new AsSubgraph<>(base, union, unionEdges), a.union(b));
+
+            Set<Integer> intersection = new HashSet<>(vertices1);
+            intersection.retainAll(vertices2);
+            Set<DefaultEdge> intersectionEdges = new HashSet<>(expectedA.edgeSet());
+            intersectionEdges.retainAll(expectedB.edgeSet());
+            assertSameGraph(
+                new AsSubgraph<>(base, intersection, intersectionEdges), a.intersection(b));
+            assertSameGraph(
+                new AsSubgraph<>(base, intersection),
+                a.intersection(BitmapSubgraph.induced(index, vertices2)));
+
+            Set<Integer> difference = new HashSet<>(vertices1);
+            difference.removeAll(vertices2);
+            assertSameGraph(new AsSubgraph<>(base, difference), a.difference(b));
+            assertTrue(a.difference(b).isInduced());
+        }
+    }
+
+    @Test
+    public void testBitmaps()
+    {
+        Graph<Integer, DefaultEdge> base = new SimpleGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(base, List.of(10, 20, 30));
+        base.addEdge(10, 20);
+        base.addEdge(20, 30);
+        BitmapSubgraph.Index<Integer, DefaultEdge> index = new BitmapSubgraph.Index<>(base);
+        BitmapSubgraph<Integer, DefaultEdge> subgraph =
+            new BitmapSubgraph<>(index, RoaringBitmap.of(0, 1), null);
+        assertEquals(Set.of(10, 20), subgraph.vertexSet());
+        assertEquals(RoaringBitmap.of(0, 1), subgraph.getVertexBitmap());
+        assertEquals(RoaringBitmap.of(0), subgraph.getEdgeBitmap());
+        assertEquals(1, subgraph.degreeOf(20));
+        assertFalse(subgraph.containsVertex(30));
+        assertFalse(subgraph.containsEdge(base.getEdge(20, 30)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownVertex()
+    {
+        Graph<Integer, DefaultEdge> base = createGraph(false, 14);
+        BitmapSubgraph.induced(new BitmapSubgraph.Index<>(base), Set.of(-1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDifferentIndices()
+    {
+        Graph<Integer, DefaultEdge> base = createGraph(false, 15);
+        BitmapSubgraph
+            .induced(new BitmapSubgraph.Index<>(base), Set.of(1))
+            .union(BitmapSubgraph.induced(new BitmapSubgraph.Index<>(base), Set.of(2)));
+    }
+
+    private static Graph<Integer, DefaultEdge> createGraph(boolean directed, long seed)
+    {
+        Graph<Integer, DefaultEdge> g = directed
+            ? new DirectedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false)
+            : new Pseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(60, 300, seed, true, true)
+            .generateGraph(g);
+        return g;
+    }
+
+    private static Set<Integer> randomVertices(Graph<Integer, DefaultEdge> g, Random rng)
+    {
+        return g.vertexSet().stream().filter(v -> rng.nextInt(3) > 0).collect(Collectors.toSet());
+    }
+
+    private static <V, E> void assertSameGraph(Graph<V, E> expected, Graph<V, E> actual)
+    {
+        assertEquals(expected.vertexSet(), actual.vertexSet());
+        assertEquals(expected.edgeSet(), actual.edgeSet());
+        assertEquals(expected.edgeSet().size(), actual.edgeSet().size());
+        for (V v : expected.vertexSet()) {
+            assertEquals(expected.degreeOf(v), actual.degreeOf(v));
+            assertEquals(expected.outDegreeOf(v), actual.outDegreeOf(v));
+            assertEquals(expected.edgesOf(v), actual.edgesOf(v));
+        }
+    }
+}
@@ -0,0 +1,347 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph;
+
+import org.jgrapht.event.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the batched event delivery of {@link DefaultListenableGraph}.
+ */
+public class DefaultListenableGraphBatchTest
+{
+    @Test
+    public void testBatchDelivery()
+    {
+        DefaultListenableGraph<Integer, DefaultWeightedEdge> g =
+            new DefaultListenableGraph<>(new WeightedPseudograph<>(DefaultWeightedEdge.class));
+        g.addVertex(3);
+        List<String> events = new ArrayList<>();
+        g.addGraphListener(new RecordingListener(events));
+        List<GraphChangeBatch<Integer, DefaultWeightedEdge>> batches = new ArrayList<>();
+        g.addBatchListener(batches::add);
+
+        g.beginBatch();
+        assertTrue(g.isBatchInProgress());
+        g.addVertex(1);
+        g.addVertex(2);
+        DefaultWeightedEdge e = g.addEdge(1, 2);
+        g.setEdgeWeight(e, 3d);
+        g.removeEdge(g.addEdge(2, 2));
+        g.addEdge(2, 3);
+        g.removeVertex(3);
+        assertTrue(events.isEmpty());
+        assertTrue(batches.isEmpty());
+        g.commit();
+        assertFalse(g.isBatchInProgress());
+
+        // the loop and the edge to the removed vertex were added and removed within the batch
+        assertEquals(
+            List.of(
+                "vertexAdded 1", "vertexAdded 2", "edgeAdded 1-2", "edgeWeightUpdated 1-2",
+                "vertexRemoved 3"),
+            events);
+        assertEquals(1, batches.size());
+        GraphChangeBatch<Integer, DefaultWeightedEdge> batch = batches.get(0);
+        assertEquals(5, batch.size());
+        assertSame(g, batch.getSource());
+        assertEquals(GraphVertexChangeEvent.VERTEX_ADDED, batch.getType(0));
+        assertEquals(Integer.valueOf(2), batch.getVertex(1));
+        assertEquals(GraphEdgeChangeEvent.EDGE_WEIGHT_UPDATED, batch.getType(3));
+        assertSame(e, batch.getEdge(3));
+        assertEquals(Integer.valueOf(1), batch.getEdgeSource(3));
+        assertEquals(Integer.valueOf(2), batch.getEdgeTarget(3));
+        assertEquals(3d, batch.getEdgeWeight(3), 0d);
+        assertTrue(batch.getEvent(4) instanceof GraphVertexChangeEvent);
+        assertEquals(3, ((GraphVertexChangeEvent<?>) batch.getEvent(4)).getVertex());
+    }
+
+    @Test
+    public void testAddAndRemoveWithinBatch()
+    {
+        DefaultListenableGraph<Integer, DefaultEdge> g =
+            new DefaultListenableGraph<>(new SimpleGraph<>(DefaultEdge.class));
+        g.addVertex(1);
+        g.addVertex(2);
+        AsSubgraph<Integer, DefaultEdge> subgraph = new AsSubgraph<>(g, Set.of(1, 2));
+        List<GraphChangeBatch<Integer, DefaultEdge>> batches = new ArrayList<>();
+        g.addBatchListener(batches::add);
+
+        g.beginBatch();
+        DefaultEdge e = g.addEdge(1, 2);
+        g.removeEdge(e);
+        g.addVertex(3);
+        g.removeVertex(3);
+        // the view is stale until the commit
+        DefaultEdge f = g.addEdge(1, 2);
+        assertFalse(subgraph.containsEdge(f));
+        g.commit();
+
+        assertEquals(Set.of(f), subgraph.edgeSet());
+        assertEquals(1, batches.size());
+        assertEquals(1, batches.get(0).size());
+        assertSame(f, batches.get(0).getEdge(0));
+
+        g.beginBatch();
+        g.removeEdge(f);
+        g.addVertex(4);
+        g.removeVertex(4);
+        g.commit();
+        assertTrue(subgraph.edgeSet().isEmpty());
+        assertEquals(2, batches.size());
+        assertEquals(1, batches.get(1).size());
+        assertFalse(batches.get(1).isSingleChange());
+        assertEquals(GraphEdgeChangeEvent.EDGE_REMOVED, batches.get(1).getType(0));
+    }
+
+    @Test
+    public void testThrowingListener()
+    {
+        DefaultListenableGraph<Integer, DefaultEdge> g =
+            new DefaultListenableGraph<>(new SimpleGraph<>(DefaultEdge.class));
+        g.addVertexSetListener(new VertexSetListener<>()
+        {
+            @Override
+            public void vertexAdded(GraphVertexChangeEvent<Integer> e)
+            {
+                throw new IllegalStateException("listener failure");
+            }
+
+            @Override
+            public void vertexRemoved(GraphVertexChangeEvent<Integer> e)
+            {
+            }
+        });
+        List<GraphChangeBatch<Integer, DefaultEdge>> batches = new ArrayList<>();
+        g.addBatchListener(batches::add);
+
+        g.beginBatch();
+        g.addVertex(1);
+        g.addVertex(2);
+        g.addEdge(1, 2);
+        try {
+            g.commit();
+            fail("Listener failure not propagated");
+        } catch (IllegalStateException e) {
+            assertEquals("listener failure", e.getMessage());
+        }
+        assertFalse(g.isBatchInProgress());
+        assertEquals(1, batches.size());
+        assertEquals(3, batches.get(0).size());
+
+        // the same holds for a change outside a batch
+        try {
+            g.addVertex(3);
+            fail("Listener failure not propagated");
+        } catch (IllegalStateException e) {
+            assertEquals("listener failure", e.getMessage());
+        }
+        assertEquals(2, batches.size());
+    }
+
+    @Test
+    public void testSingleChangesAndNesting()
+    {
+        DefaultListenableGraph<Integer, DefaultEdge> g =
+            new DefaultListenableGraph<>(new SimpleGraph<>(DefaultEdge.class), true);
+        List<GraphChangeBatch<Integer, DefaultEdge>> batches = new ArrayList<>();
+        g.addBatchListener(batches::add);
+
+        // outside a batch each change is a batch of its own
+        g.addVertex(1);
+        g.addVertex(2);
+        assertEquals(2, batches.size());
+        assertEquals(1, batches.get(1).size());
+        assertTrue(batches.get(1).isSingleChange());
+
+        g.beginBatch();
+        g.beginBatch();
+        g.addEdge(1, 2);
+        g.commit();
+        assertEquals(2, batches.size());
+        g.addVertex(3);
+        g.commit();
+        assertEquals(3, batches.size());
+        assertEquals(2, batches.get(2).size());
+        assertFalse(batches.get(2).isSingleChange());
+
+        // empty batches are not delivered
+        g.beginBatch();
+        g.addVertex(3);
+        g.commit();
+        assertEquals(3, batches.size());
+    }
+
+    @Test
+    public void testRemoveTransientChanges()
+    {
+        Object source = new Object();
+        DefaultWeightedEdge e = new DefaultWeightedEdge();
+        DefaultWeightedEdge f = new DefaultWeightedEdge();
+        GraphChangeBatch<Integer, DefaultWeightedEdge> batch = new GraphChangeBatch<>(source);
+        // e is added, updated and removed, f existed before and is updated and removed
+        batch.addEdgeChange(GraphEdgeChangeEvent.EDGE_ADDED, e, 1, 2, 1d);
+        batch.addEdgeChange(GraphEdgeChangeEvent.EDGE_WEIGHT_UPDATED, f, 2, 3, 2d);
+        batch.addEdgeChange(GraphEdgeChangeEvent.EDGE_WEIGHT_UPDATED, e, 1, 2, 2d);
+        batch.addEdgeChange(GraphEdgeChangeEvent.EDGE_REMOVED, e, 1, 2, 2d);
+        batch.addEdgeChange(GraphEdgeChangeEvent.EDGE_REMOVED, f, 2, 3, 2d);
+        // e is added again and kept, vertex 1 is added and removed twice
+        batch.addVertexChange(GraphVertexChangeEvent.VERTEX_ADDED, 1);
+        batch.addEdgeChange(GraphEdgeChangeEvent.EDGE_ADDED, e, 1, 2, 1d);
+        batch.addVertexChange(GraphVertexChangeEvent.VERTEX_REMOVED, 1);
+        batch.addVertexChange(GraphVertexChangeEvent.VERTEX_ADDED, 1);
+        batch.addVertexChange(GraphVertexChangeEvent.VERTEX_REMOVED, 1);
+        batch.removeTransientChanges();
+
+        assertEquals(2, batch.size());
+        assertEquals(GraphEdgeChangeEvent.EDGE_REMOVED, batch.getType(0));
+        assertSame(f, batch.getEdge(0));
+        assertEquals(GraphEdgeChangeEvent.EDGE_ADDED, batch.getType(1));
+        assertSame(e, batch.getEdge(1));
+    }
+
+    @Test
+    public void testListenerRegisteredWithinBatch()
+    {
+        DefaultListenableGraph<Integer, DefaultEdge> g =
+            new DefaultListenableGraph<>(new SimpleGraph<>(DefaultEdge.class));
+        List<GraphChangeBatch<Integer, DefaultEdge>> batches = new ArrayList<>();
+
+        g.beginBatch();
+        g.addVertex(1);
+        g.addBatchListener(batches::add);
+        g.addVertex(2);
+        g.commit();
+
+        assertEquals(1, batches.size());
+        assertEquals(1, batches.get(0).size());
+        assertEquals(Integer.valueOf(2), batches.get(0).getVertex(0));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testCommitWithoutBatch()
+    {
+        new DefaultListenableGraph<>(new SimpleGraph<>(DefaultEdge.class)).commit();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalChangeType()
+    {
+        new GraphChangeBatch<Integer, DefaultEdge>(this)
+            .addVertexChange(GraphEdgeChangeEvent.EDGE_ADDED, 1);
+    }
+
+    @Test
+    public void testAsynchronousDelivery()
+        throws InterruptedException
+    {
+        DefaultListenableGraph<Integer, DefaultEdge> g =
+            new DefaultListenableGraph<>(new SimpleGraph<>(DefaultEdge.class));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            g.setBatchExecutor(executor);
+            List<Integer> sizes = Collections.synchronizedList(new ArrayList<>());
+            List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+            g.addBatchListener(batch -> {
+                sizes.add(batch.size());
+                threads.add(Thread.currentThread());
+            });
+
+            for (int round = 0; round < 10; round++) {
+                g.beginBatch();
+                for (int i = 0; i <= round; i++) {
+                    g.addVertex(100 * round + i);
+                }
+                g.commit();
+            }
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+            assertEquals(List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10), sizes);
+            assertFalse(threads.contains(Thread.currentThread()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testClone()
+    {
+        DefaultListenableGraph<Integer, DefaultEdge> g =
+            new DefaultListenableGraph<>(new SimpleGraph<>(DefaultEdge.class));
+        List<GraphChangeBatch<Integer, DefaultEdge>> batches = new ArrayList<>();
+        g.addBatchListener(batches::add);
+        g.beginBatch();
+        @SuppressWarnings("unchecked") DefaultListenableGraph<Integer, DefaultEdge> copy =
+            (DefaultListenableGraph<Integer, DefaultEdge>) g.clone();
+        assertFalse(copy.isBatchInProgress());
+        copy.addVertex(1);
+        g.commit();
+        assertTrue(batches.isEmpty());
+    }
+
+    /**
+     * Records the events it receives.
+     */
+    private static class RecordingListener
+        implements
+        GraphListener<Integer, DefaultWeightedEdge>
+    {
+        private final List<String> events;
+
+        RecordingListener(List<String> events)
+        {
+            this.events = events;
+        }
+
+        @Override
+        public void vertexAdded(GraphVertexChangeEvent<Integer> e)
+        {
+            events.add("vertexAdded " + e.getVertex());
+        }
+
+        @Override
+        public void vertexRemoved(GraphVertexChangeEvent<Integer> e)
+        {
+            events.add("vertexRemoved " + e.getVertex());
+        }
+
+        @Override
+        public void edgeAdded(GraphEdgeChangeEvent<Integer, DefaultWeightedEdge> e)
+        {
+            events.add("edgeAdded " + e.getEdgeSource() + "-" + e.getEdgeTarget());
+        }
+
+        @Override
+        public void edgeRemoved(GraphEdgeChangeEvent<Integer, DefaultWeightedEdge> e)
+        {
+            events.add("edgeRemoved " + e.getEdgeSource() + "-" + e.getEdgeTarget());
+        }
+
+        @Override
+        public void edgeWeightUpdated(GraphEdgeChangeEvent<Integer, DefaultWeightedEdge> e)
+        {
+            events.add("edgeWeightUpdated " + e.getEdgeSource() + "-" + e.getEdgeTarget());
+        }
+    }
+}
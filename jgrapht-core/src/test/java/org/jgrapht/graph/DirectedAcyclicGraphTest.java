@@ -649,8 +649,229 @@ public class DirectedAcyclicGraphTest
         assertEquals(b, it.next());
     }
 
+    @Test
+    public void testAddEdgesBatch()
+    {
+        Random rng = new Random(3);
+        for (int n : new int[] { 10, 200 }) {
+            // the edges of a random DAG, in random order
+            List<Long> order = new ArrayList<>();
+            for (long v = 0; v < n; v++) {
+                order.add(v);
+            }
+            Collections.shuffle(order, rng);
+            List<Long> sources = new ArrayList<>();
+            List<Long> targets = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                for (int j = i + 1; j < n; j++) {
+                    if (rng.nextDouble() < 0.1) {
+                        sources.add(order.get(i));
+                        targets.add(order.get(j));
+                    }
+                }
+            }
+
+            DirectedAcyclicGraph<Long, DefaultEdge> dag =
+                new DirectedAcyclicGraph<>(DefaultEdge.class);
+            for (long v = 0; v < n; v++) {
+                dag.addVertex(v);
+            }
+            List<DefaultEdge> added = dag.addEdges(sources, targets);
+            assertEquals(sources.size(), added.size());
+            assertEquals(sources.size(), dag.edgeSet().size());
+            for (int i = 0; i < sources.size(); i++) {
+                assertEquals(dag.getEdge(sources.get(i), targets.get(i)), added.get(i));
+            }
+            assertTopologicalOrder(dag);
+        }
+
+        // a linear graph in reverse, followed by a batch closing a cycle
+        DirectedAcyclicGraph<Integer, DefaultEdge> dag =
+            new DirectedAcyclicGraph<>(DefaultEdge.class);
+        List<Integer> sources = new ArrayList<>();
+        List<Integer> targets = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            dag.addVertex(i);
+        }
+        for (int i = 99; i > 0; i--) {
+            sources.add(i);
+            targets.add(i - 1);
+        }
+        List<DefaultEdge> added = dag.addEdges(sources, targets);
+        assertEquals(99, added.size());
+        assertEquals(99, dag.edgeSet().size());
+        assertTopologicalOrder(dag);
+        assertEquals(Integer.valueOf(99), dag.iterator().next());
+
+        // a duplicate edge is not added
+        assertNull(dag.addEdges(List.of(3), List.of(2)).get(0));
+
+        // a small batch is inserted incrementally, a large one at once
+        for (int size : new int[] { 1, 20 }) {
+            List<Integer> batchSources = new ArrayList<>();
+            List<Integer> batchTargets = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                batchSources.add(size - 1 - i);
+                batchTargets.add(i == size - 1 ? 99 : 50 + i);
+            }
+            try {
+                dag.addEdges(batchSources, batchTargets);
+                fail("Expected GraphCycleProhibitedException");
+            } catch (GraphCycleProhibitedException e) {
+                assertEquals(99, dag.edgeSet().size());
+            }
+        }
+        assertTopologicalOrder(dag);
+    }
+
+    @Test
+    public void testTopoVertexIntMap()
+        throws Exception
+    {
+        Random rng = new Random(21);
+        DirectedAcyclicGraph.TopoVertexIntMap<Integer> map =
+            new DirectedAcyclicGraph.TopoVertexIntMap<>();
+        DirectedAcyclicGraph.TopoVertexBiMap<Integer> expected =
+            new DirectedAcyclicGraph.TopoVertexBiMap<>();
+        for (int step = 0; step < 5000; step++) {
+            int v = rng.nextInt(300);
+            if (rng.nextInt(3) == 0) {
+                assertEquals(expected.removeVertex(v), map.removeVertex(v));
+            } else if (expected.getTopologicalIndex(v) == null) {
+                int index = rng.nextInt(1000) - 500;
+                while (expected.getVertex(index) != null) {
+                    index = rng.nextInt(1000) - 500;
+                }
+                expected.putVertex(index, v);
+                map.putVertex(index, v);
+            }
+        }
+        map = SerializationTestUtils.serializeAndDeserialize(map);
+        for (int v = 0; v < 300; v++) {
+            Integer index = expected.getTopologicalIndex(v);
+            assertEquals(index, map.getTopologicalIndex(v));
+            if (index != null) {
+                assertEquals(index.intValue(), map.getTopologicalIndexAsInt(v));
+            }
+        }
+        for (int index = -500; index < 500; index++) {
+            assertEquals(expected.getVertex(index), map.getVertex(index));
+        }
+
+        map.putAllVertices(List.of(7, 8, 9), -1);
+        assertEquals(Integer.valueOf(8), map.getVertex(0));
+        assertEquals(1, map.getTopologicalIndexAsInt(9));
+        assertNull(map.getTopologicalIndex(10));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddEdgesBatchWithLoop()
+    {
+        DirectedAcyclicGraph<Integer, DefaultEdge> dag =
+            new DirectedAcyclicGraph<>(DefaultEdge.class);
+        dag.addVertex(1);
+        dag.addEdges(List.of(1), List.of(1));
+    }
+
+    @Test
+    public void testReachabilityIndex()
+    {
+        Random rng = new Random(9);
+        for (int round = 0; round < 4; round++) {
+            DirectedAcyclicGraph<Long, DefaultEdge> dag = new DirectedAcyclicGraph<>(
+                SupplierUtil.createLongSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+            new RepeatableRandomGraphGenerator<Long, DefaultEdge>(90, 150, round)
+                .generateGraph(dag);
+            DirectedAcyclicGraph<Long, DefaultEdge> indexed = new DirectedAcyclicGraph<>(
+                SupplierUtil.createLongSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+            Graphs.addGraph(indexed, dag);
+            indexed.setReachabilityIndexEnabled(true);
+            assertTrue(indexed.isReachabilityIndexEnabled());
+            assertSameReachability(dag, indexed);
+
+            // incremental updates and invalidation
+            List<Long> vertices = new ArrayList<>(dag.vertexSet());
+            for (int i = 0; i < 30; i++) {
+                Long u = vertices.get(rng.nextInt(vertices.size()));
+                Long v = vertices.get(rng.nextInt(vertices.size()));
+                if (rng.nextInt(4) == 0) {
+                    dag.removeEdge(u, v);
+                    indexed.removeEdge(u, v);
+                } else if (!u.equals(v) && !dag.isReachable(v, u)) {
+                    dag.addEdge(u, v);
+                    indexed.addEdge(u, v);
+                }
+                if (i % 10 == 0) {
+                    Long w = dag.addVertex();
+                    indexed.addVertex(w);
+                    vertices.add(w);
+                }
+                if (i % 5 == 0) {
+                    assertSameReachability(dag, indexed);
+                }
+            }
+            assertSameReachability(dag, indexed);
+        }
+    }
+
+    @Test
+    public void testReachabilityIndexIncrementalUpdates()
+    {
+        Random rng = new Random(13);
+        DirectedAcyclicGraph<Long, DefaultEdge> dag = new DirectedAcyclicGraph<>(
+            SupplierUtil.createLongSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new RepeatableRandomGraphGenerator<Long, DefaultEdge>(150, 100, 3).generateGraph(dag);
+        DirectedAcyclicGraph<Long, DefaultEdge> indexed = new DirectedAcyclicGraph<>(
+            SupplierUtil.createLongSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        Graphs.addGraph(indexed, dag);
+        indexed.setReachabilityIndexEnabled(true);
+        assertSameReachability(dag, indexed);
+
+        // only edge additions, which reorder the vertices and update the index in place
+        List<Long> vertices = new ArrayList<>(dag.vertexSet());
+        for (int i = 0; i < 200; i++) {
+            Long u = vertices.get(rng.nextInt(vertices.size()));
+            Long v = vertices.get(rng.nextInt(vertices.size()));
+            if (!u.equals(v) && !dag.isReachable(v, u)) {
+                dag.addEdge(u, v);
+                indexed.addEdge(u, v);
+            }
+            if (i % 40 == 0) {
+                assertSameReachability(dag, indexed);
+            }
+        }
+        assertSameReachability(dag, indexed);
+    }
+
     // ~ Private Methods ----------------------------------------------------------
 
+    private static <V, E> void assertTopologicalOrder(DirectedAcyclicGraph<V, E> dag)
+    {
+        Map<V, Integer> topo = new HashMap<>();
+        for (V v : dag) {
+            topo.put(v, topo.size());
+        }
+        assertEquals(dag.vertexSet(), topo.keySet());
+        for (E e : dag.edgeSet()) {
+            assertTrue(topo.get(dag.getEdgeSource(e)) < topo.get(dag.getEdgeTarget(e)));
+        }
+    }
+
+    private static <V, E> void assertSameReachability(
+        DirectedAcyclicGraph<V, E> dag, DirectedAcyclicGraph<V, E> indexed)
+    {
+        for (V u : dag.vertexSet()) {
+            Set<V> descendants = dag.getDescendants(u);
+            assertEquals(descendants, indexed.getDescendants(u));
+            assertEquals(dag.getAncestors(u), indexed.getAncestors(u));
+            for (V v : dag.vertexSet()) {
+                boolean reachable = u.equals(v) || descendants.contains(v);
+                assertEquals(reachable, dag.isReachable(u, v));
+                assertEquals(reachable, indexed.isReachable(u, v));
+            }
+        }
+    }
+
     private Graph<Long, DefaultEdge> setUpWithSeed(int vertices, int edges, long seed)
     {
         GraphGenerator<Long, DefaultEdge, Long> randomGraphGenerator =
@@ -0,0 +1,188 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph;
+
+import org.jgrapht.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.io.*;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link PrimitiveIdGraphSpecificsStrategy}.
+ */
+public class PrimitiveIdGraphSpecificsStrategyTest
+{
+    @Test
+    public void testAgainstDefaultStrategy()
+    {
+        List<GraphType> types = List
+            .of(
+                DefaultGraphType.simple(), DefaultGraphType.pseudograph(),
+                DefaultGraphType.directedSimple(), DefaultGraphType.directedPseudograph(),
+                DefaultGraphType.directedMultigraph().asWeighted());
+        Random rng = new Random(7);
+        for (GraphType type : types) {
+            Graph<Integer, DefaultWeightedEdge> expected = new PrimitiveIdGraph<>(
+                type.asWeighted(), new DefaultGraphSpecificsStrategy<>());
+            Graph<Integer, DefaultWeightedEdge> actual =
+                new PrimitiveIdGraph<>(type.asWeighted(), new PrimitiveIdGraphSpecificsStrategy<>());
+            int n = 60;
+            for (int i = 0; i < 3000; i++) {
+                int u = rng.nextInt(n);
+                int v = rng.nextInt(n);
+                int op = rng.nextInt(10);
+                if (op == 0) {
+                    assertEquals(expected.removeVertex(u), actual.removeVertex(u));
+                } else if (op < 3) {
+                    assertEquals(expected.addVertex(u), actual.addVertex(u));
+                } else if (op < 5) {
+                    assertEquals(
+                        expected.removeEdge(u, v) != null, actual.removeEdge(u, v) != null);
+                } else if (expected.containsVertex(u) && expected.containsVertex(v)
+                    && (u != v || type.isAllowingSelfLoops()))
+                {
+                    assertEquals(expected.addEdge(u, v) != null, actual.addEdge(u, v) != null);
+                }
+                assertEquals(
+                    expected.getAllEdges(u, v) == null ? null
+                        : expected.getAllEdges(u, v).size(),
+                    actual.getAllEdges(u, v) == null ? null : actual.getAllEdges(u, v).size());
+                assertEquals(expected.containsEdge(u, v), actual.containsEdge(u, v));
+            }
+            assertSameGraph(expected, actual);
+        }
+    }
+
+    @Test
+    public void testLongVertices()
+    {
+        Graph<Long, DefaultEdge> g = new PrimitiveIdGraph<>(
+            DefaultGraphType.directedMultigraph(), new PrimitiveIdGraphSpecificsStrategy<>());
+        long big = 1L << 40;
+        g.addVertex(big);
+        g.addVertex(-big);
+        g.addVertex(0L);
+        DefaultEdge e1 = g.addEdge(big, -big);
+        DefaultEdge e2 = g.addEdge(big, -big);
+        g.addEdge(-big, 0L);
+        assertEquals(e1, g.getEdge(big, -big));
+        assertEquals(Set.of(e1, e2), g.getAllEdges(big, -big));
+        assertNull(g.getEdge(-big, big));
+        assertNull(g.getEdge(0L, big));
+        g.removeEdge(e1);
+        assertEquals(e2, g.getEdge(big, -big));
+        g.removeVertex(-big);
+        assertEquals(Set.of(big, 0L), g.vertexSet());
+        assertTrue(g.edgeSet().isEmpty());
+    }
+
+    @Test
+    public void testUndirectedLookup()
+    {
+        Graph<Integer, DefaultEdge> g = new PrimitiveIdGraph<>(
+            DefaultGraphType.multigraph(), new PrimitiveIdGraphSpecificsStrategy<>());
+        Graphs.addAllVertices(g, List.of(1, 2, 3));
+        DefaultEdge e1 = g.addEdge(1, 2);
+        DefaultEdge e2 = g.addEdge(2, 1);
+        assertEquals(e1, g.getEdge(2, 1));
+        assertEquals(Set.of(e1, e2), g.getAllEdges(1, 2));
+        assertEquals(Collections.emptySet(), g.getAllEdges(1, 3));
+        assertNull(g.getAllEdges(1, 4));
+        g.removeEdge(e1);
+        assertEquals(e2, g.getEdge(1, 2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonIntegralVertex()
+    {
+        Graph<Object, DefaultEdge> g = new PrimitiveIdGraph<>(
+            DefaultGraphType.simple(), new PrimitiveIdGraphSpecificsStrategy<>());
+        g.addVertex("a");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMixedVertexTypes()
+    {
+        Graph<Object, DefaultEdge> g = new PrimitiveIdGraph<>(
+            DefaultGraphType.simple(), new PrimitiveIdGraphSpecificsStrategy<>());
+        g.addVertex(1);
+        g.addVertex(1L);
+    }
+
+    @Test
+    public void testSerialization()
+        throws IOException, ClassNotFoundException
+    {
+        Graph<Integer, DefaultEdge> g = new PrimitiveIdGraph<>(
+            DefaultGraphType.directedSimple(), new PrimitiveIdGraphSpecificsStrategy<>());
+        Graphs.addAllVertices(g, List.of(1, 2, 3));
+        g.addEdge(1, 2);
+        g.addEdge(2, 3);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(g);
+        }
+        try (ObjectInputStream in =
+            new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())))
+        {
+            @SuppressWarnings("unchecked") Graph<Integer, DefaultEdge> copy =
+                (Graph<Integer, DefaultEdge>) in.readObject();
+            assertSameGraph(g, copy);
+            assertNotNull(copy.getEdge(1, 2));
+            assertNotNull(copy.removeEdge(2, 3));
+            assertEquals(1, copy.edgeSet().size());
+        }
+    }
+
+    private static <V, E> void assertSameGraph(Graph<V, E> expected, Graph<V, E> actual)
+    {
+        assertEquals(new ArrayList<>(expected.vertexSet()), new ArrayList<>(actual.vertexSet()));
+        assertEquals(expected.edgeSet().size(), actual.edgeSet().size());
+        for (V v : expected.vertexSet()) {
+            assertEquals(expected.degreeOf(v), actual.degreeOf(v));
+            assertEquals(expected.inDegreeOf(v), actual.inDegreeOf(v));
+            assertEquals(expected.outDegreeOf(v), actual.outDegreeOf(v));
+            for (V u : expected.vertexSet()) {
+                assertEquals(
+                    expected.getAllEdges(u, v).size(), actual.getAllEdges(u, v).size());
+            }
+        }
+    }
+
+    private static class PrimitiveIdGraph<V, E>
+        extends
+        AbstractBaseGraph<V, E>
+    {
+        private static final long serialVersionUID = 1L;
+
+        @SuppressWarnings("unchecked")
+        PrimitiveIdGraph(GraphType type, GraphSpecificsStrategy<V, E> strategy)
+        {
+            super(
+                null, (java.util.function.Supplier<E>) (type.isWeighted()
+                    ? SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER
+                    : SupplierUtil.DEFAULT_EDGE_SUPPLIER),
+                type, strategy);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph;
+
+import org.jgrapht.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the adjacency cache of {@link MaskSubgraph} and {@link AsSubgraph}.
+ */
+public class SubgraphAdjacencyCacheTest
+{
+    @Test
+    public void testMaskSubgraphTracksListenableBase()
+    {
+        for (boolean directed : new boolean[] { true, false }) {
+            ListenableGraph<Integer, DefaultEdge> base = createBase(directed);
+            Graph<Integer, DefaultEdge> expected =
+                new MaskSubgraph<>(base, v -> v % 5 == 0, e -> e.hashCode() % 7 == 0);
+            Graph<Integer, DefaultEdge> cached =
+                new MaskSubgraph<>(base, v -> v % 5 == 0, e -> e.hashCode() % 7 == 0, true);
+            mutateAndCompare(base, expected, cached, new Random(1));
+        }
+    }
+
+    @Test
+    public void testAsSubgraphTracksListenableBase()
+    {
+        for (boolean directed : new boolean[] { true, false }) {
+            ListenableGraph<Integer, DefaultEdge> base = createBase(directed);
+            Set<Integer> vertices = new HashSet<>();
+            for (int v = 0; v < 40; v += 2) {
+                vertices.add(v);
+            }
+            Graph<Integer, DefaultEdge> expected = new AsSubgraph<>(base, vertices);
+            Graph<Integer, DefaultEdge> cached = new AsSubgraph<>(base, vertices, null, true);
+            mutateAndCompare(base, expected, cached, new Random(2));
+        }
+    }
+
+    @Test
+    public void testAsSubgraphOwnModifications()
+    {
+        Graph<Integer, DefaultEdge> base = createBase(true);
+        Set<DefaultEdge> edges = new HashSet<>(base.edgeSet());
+        Graph<Integer, DefaultEdge> expected = new AsSubgraph<>(base, null, edges);
+        Graph<Integer, DefaultEdge> cached = new AsSubgraph<>(base, null, edges, true);
+        Random rng = new Random(3);
+        List<DefaultEdge> all = new ArrayList<>(base.edgeSet());
+        for (int i = 0; i < 300; i++) {
+            DefaultEdge e = all.get(rng.nextInt(all.size()));
+            if (rng.nextBoolean()) {
+                assertEquals(expected.removeEdge(e), cached.removeEdge(e));
+            } else {
+                Integer s = base.getEdgeSource(e);
+                Integer t = base.getEdgeTarget(e);
+                assertEquals(expected.addEdge(s, t, e), cached.addEdge(s, t, e));
+            }
+            assertSameAdjacency(expected, cached);
+        }
+        Integer v = expected.vertexSet().iterator().next();
+        expected.removeVertex(v);
+        cached.removeVertex(v);
+        assertSameAdjacency(expected, cached);
+    }
+
+    @Test
+    public void testMaskSubgraphExplicitInvalidation()
+    {
+        Graph<Integer, DefaultEdge> base = new SimpleGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(base, List.of(1, 2, 3));
+        base.addEdge(1, 2);
+        base.addEdge(1, 3);
+        Set<Integer> masked = new HashSet<>();
+        MaskSubgraph<Integer, DefaultEdge> cached =
+            new MaskSubgraph<>(base, masked::contains, e -> false, true);
+        assertEquals(2, cached.degreeOf(1));
+        masked.add(3);
+        assertEquals(2, cached.degreeOf(1));
+        cached.invalidateAdjacencyCache();
+        assertEquals(1, cached.degreeOf(1));
+        assertEquals(Set.of(base.getEdge(1, 2)), cached.edgesOf(1));
+        assertFalse(cached.edgesOf(1).contains(base.getEdge(1, 3)));
+    }
+
+    private static ListenableGraph<Integer, DefaultEdge> createBase(boolean directed)
+    {
+        Graph<Integer, DefaultEdge> g = directed
+            ? new DirectedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false)
+            : new Pseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        ListenableGraph<Integer, DefaultEdge> base = new DefaultListenableGraph<>(g);
+        Random rng = new Random(directed ? 4 : 5);
+        for (int v = 0; v < 40; v++) {
+            base.addVertex();
+        }
+        for (int i = 0; i < 200; i++) {
+            base.addEdge(rng.nextInt(40), rng.nextInt(40));
+        }
+        return base;
+    }
+
+    private static void mutateAndCompare(
+        ListenableGraph<Integer, DefaultEdge> base, Graph<Integer, DefaultEdge> expected,
+        Graph<Integer, DefaultEdge> cached, Random rng)
+    {
+        assertSameAdjacency(expected, cached);
+        for (int i = 0; i < 300; i++) {
+            int op = rng.nextInt(10);
+            List<Integer> vertices = new ArrayList<>(base.vertexSet());
+            if (op == 0) {
+                base.removeVertex(vertices.get(rng.nextInt(vertices.size())));
+                base.addVertex();
+            } else if (op < 5) {
+                List<DefaultEdge> edges = new ArrayList<>(base.edgeSet());
+                base.removeEdge(edges.get(rng.nextInt(edges.size())));
+            } else {
+                base
+                    .addEdge(
+                        vertices.get(rng.nextInt(vertices.size())),
+                        vertices.get(rng.nextInt(vertices.size())));
+            }
+            assertSameAdjacency(expected, cached);
+        }
+    }
+
+    private static <V, E> void assertSameAdjacency(Graph<V, E> expected, Graph<V, E> cached)
+    {
+        assertEquals(expected.vertexSet(), cached.vertexSet());
+        List<E> allEdges = new ArrayList<>(expected.edgeSet());
+        for (V v : expected.vertexSet()) {
+            assertEquals(expected.degreeOf(v), cached.degreeOf(v));
+            assertEquals(expected.inDegreeOf(v), cached.inDegreeOf(v));
+            assertEquals(expected.outDegreeOf(v), cached.outDegreeOf(v));
+            assertEquals(new HashSet<>(expected.edgesOf(v)), new HashSet<>(cached.edgesOf(v)));
+            assertEquals(expected.edgesOf(v).size(), cached.edgesOf(v).size());
+            assertEquals(
+                new HashSet<>(expected.incomingEdgesOf(v)),
+                new HashSet<>(cached.incomingEdgesOf(v)));
+            assertEquals(
+                new HashSet<>(expected.outgoingEdgesOf(v)),
+                new HashSet<>(cached.outgoingEdgesOf(v)));
+            assertEquals(expected.outgoingEdgesOf(v).size(), cached.outgoingEdgesOf(v).size());
+            Set<E> expectedEdges = new HashSet<>(expected.edgesOf(v));
+            Set<E> cachedEdges = cached.edgesOf(v);
+            for (E e : allEdges) {
+                assertEquals(expectedEdges.contains(e), cachedEdges.contains(e));
+            }
+        }
+    }
+}
@@ -18,13 +18,18 @@
 package org.jgrapht.graph.builder;
 
 import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
 import org.junit.*;
 
 import java.util.*;
+import java.util.stream.*;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public class GraphBuilderTest
 {
@@ -136,6 +141,95 @@ public class GraphBuilderTest
         assertTrue(g2.containsEdge(v3, v4));
     }
 
+    @Test
+    public void testAddEdgesStream()
+    {
+        Graph<String, DefaultEdge> g = new GraphBuilder<>(
+            new SimpleDirectedGraph<>(
+                SupplierUtil.createStringSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false))
+                    .addVertex(v1)
+                    .addEdges(Stream.of(Pair.of(v1, v2), Pair.of(v2, v3), Pair.of(v1, v2)))
+                    .addEdges(List.of(Pair.of(v3, v1)).iterator()).build();
+
+        assertEquals(3, g.vertexSet().size());
+        assertEquals(3, g.edgeSet().size());
+        assertTrue(g.containsEdge(v1, v2));
+        assertTrue(g.containsEdge(v2, v3));
+        assertTrue(g.containsEdge(v3, v1));
+    }
+
+    @Test
+    public void testAddEdgesColumnar()
+    {
+        String[] sources = { v1, v2, v3, v1 };
+        String[] targets = { v2, v3, v4, v4 };
+        double[] weights = { 1d, 2d, 3d, 4d };
+        for (boolean trusted : List.of(false, true)) {
+            Graph<String, DefaultWeightedEdge> g = new GraphBuilder<>(
+                new DefaultDirectedWeightedGraph<>(
+                    SupplierUtil.createStringSupplier(),
+                    SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER))
+                        .trustedInput(trusted).addEdges(sources, targets, weights)
+                        .addEdges(new String[] { v4 }, new String[] { v5 }).build();
+
+            assertEquals(5, g.vertexSet().size());
+            assertEquals(5, g.edgeSet().size());
+            for (int i = 0; i < sources.length; i++) {
+                assertEquals(weights[i], g.getEdgeWeight(g.getEdge(sources[i], targets[i])), 0);
+            }
+            assertEquals(Graph.DEFAULT_EDGE_WEIGHT, g.getEdgeWeight(g.getEdge(v4, v5)), 0);
+            assertEquals(2, g.outDegreeOf(v1));
+            assertEquals(2, g.inDegreeOf(v4));
+            assertFalse(g.containsEdge(v2, v1));
+        }
+    }
+
+    @Test
+    public void testAddEdgesUntrustedDuplicates()
+    {
+        Graph<String, DefaultEdge> g = new GraphBuilder<>(
+            new SimpleGraph<>(
+                SupplierUtil.createStringSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false))
+                    .addEdges(new String[] { v1, v2, v1 }, new String[] { v2, v1, v3 }).build();
+
+        assertEquals(3, g.vertexSet().size());
+        assertEquals(2, g.edgeSet().size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddEdgesDifferentLengths()
+    {
+        new GraphBuilder<>(new SimpleGraph<String, DefaultEdge>(DefaultEdge.class))
+            .addEdges(new String[] { v1, v2 }, new String[] { v2 });
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddEdgesTrustedLoop()
+    {
+        new GraphBuilder<>(new SimpleGraph<String, DefaultEdge>(DefaultEdge.class))
+            .trustedInput(true).addEdges(Stream.of(Pair.of(v1, v1)));
+    }
+
+    @Test
+    public void testAddEdgesTrustedDirectedAcyclicGraph()
+    {
+        DirectedAcyclicGraph<String, DefaultEdge> dag =
+            new DirectedAcyclicGraph<>(DefaultEdge.class);
+        GraphBuilder<String, DefaultEdge, DirectedAcyclicGraph<String, DefaultEdge>> builder =
+            new GraphBuilder<>(dag).trustedInput(true);
+        try {
+            builder.addEdges(Stream.of(Pair.of(v3, v2), Pair.of(v2, v1), Pair.of(v1, v3)));
+            fail("Cycle accepted");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+
+        assertEquals(2, dag.edgeSet().size());
+        assertTrue(dag.containsEdge(v3, v2));
+        assertTrue(dag.containsEdge(v2, v1));
+        assertFalse(dag.containsEdge(v1, v3));
+    }
+
     @Test
     public void testAddVertexPseudograph()
     {
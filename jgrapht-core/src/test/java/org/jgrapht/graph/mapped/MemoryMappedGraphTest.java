@@ -0,0 +1,286 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph.mapped;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.connectivity.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.scoring.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+import org.junit.rules.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link MemoryMappedGraph}.
+ */
+public class MemoryMappedGraphTest
+{
+    // tiny chunks exercise values at chunk boundaries
+    private static final int SMALL_CHUNK_BITS = 6;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testDirectedWeightedCopy()
+        throws IOException
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        fillRandomly(g, 150, 1000, new Random(17));
+        Path file = folder.newFile().toPath();
+        MemoryMappedGraph.write(g, file, SMALL_CHUNK_BITS);
+        MemoryMappedGraph mg = MemoryMappedGraph.open(file, false, SMALL_CHUNK_BITS);
+
+        assertTrue(mg.getType().isDirected());
+        assertTrue(mg.getType().isWeighted());
+        assertFalse(mg.getType().isModifiable());
+        assertSameStructure(g, mg);
+    }
+
+    @Test
+    public void testUndirectedCopy()
+        throws IOException
+    {
+        Graph<String, DefaultEdge> g = new Pseudograph<>(DefaultEdge.class);
+        fillRandomly(g, 120, 700, new Random(5));
+        Path file = folder.newFile().toPath();
+        MemoryMappedGraph.write(g, file, SMALL_CHUNK_BITS);
+        MemoryMappedGraph mg = MemoryMappedGraph.open(file, false, SMALL_CHUNK_BITS);
+
+        assertTrue(mg.getType().isUndirected());
+        assertFalse(mg.getType().isWeighted());
+        assertSameStructure(g, mg);
+        assertEquals(Graph.DEFAULT_EDGE_WEIGHT, mg.getEdgeWeight(0L), 0.0);
+    }
+
+    @Test
+    public void testAlgorithms()
+        throws IOException
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        fillRandomly(g, 300, 600, new Random(3));
+        Path file = folder.newFile().toPath();
+        MemoryMappedGraph.write(g, file);
+        MemoryMappedGraph mg = MemoryMappedGraph.open(file);
+        List<String> vertices = new ArrayList<>(g.vertexSet());
+
+        assertEquals(
+            new ConnectivityInspector<>(g).connectedSets().size(),
+            new ConnectivityInspector<>(mg).connectedSets().size());
+        assertEquals(
+            new KosarajuStrongConnectivityInspector<>(g).stronglyConnectedSets().size(),
+            new KosarajuStrongConnectivityInspector<>(mg).stronglyConnectedSets().size());
+
+        ShortestPathAlgorithm.SingleSourcePaths<String, DefaultWeightedEdge> expectedPaths =
+            new BFSShortestPath<>(g).getPaths(vertices.get(0));
+        ShortestPathAlgorithm.SingleSourcePaths<Integer, Long> actualPaths =
+            new BFSShortestPath<>(mg).getPaths(0);
+        Map<String, Double> expectedRanks = new PageRank<>(g).getScores();
+        Map<Integer, Double> actualRanks = new PageRank<>(mg).getScores();
+        for (int i = 0; i < vertices.size(); i++) {
+            GraphPath<String, DefaultWeightedEdge> expected =
+                expectedPaths.getPath(vertices.get(i));
+            GraphPath<Integer, Long> actual = actualPaths.getPath(i);
+            assertEquals(expected == null, actual == null);
+            if (expected != null) {
+                assertEquals(expected.getLength(), actual.getLength());
+            }
+            assertEquals(expectedRanks.get(vertices.get(i)), actualRanks.get(i), 1e-9);
+        }
+        assertEquals(
+            new DijkstraShortestPath<>(g).getPathWeight(vertices.get(0), vertices.get(1)),
+            new DijkstraShortestPath<>(mg).getPathWeight(0, 1), 1e-9);
+    }
+
+    @Test
+    public void testEdgeListImport()
+        throws IOException
+    {
+        int rows = 30;
+        int cols = 40;
+        Path file = folder.newFile().toPath();
+        // edges are reported in reverse order, so that the import has to sort them
+        MemoryMappedGraph.write(file, true, true, rows * cols, consumer -> {
+            for (int v = rows * cols - 1; v >= 0; v--) {
+                if (v % cols + 1 < cols) {
+                    consumer.accept(v, v + 1, v);
+                }
+                if (v + cols < rows * cols) {
+                    consumer.accept(v, v + cols, -v);
+                }
+            }
+        }, SMALL_CHUNK_BITS);
+        MemoryMappedGraph mg = MemoryMappedGraph.open(file, false, SMALL_CHUNK_BITS);
+
+        assertEquals(rows * cols, mg.vertexSet().size());
+        assertEquals(2 * rows * cols - rows - cols, mg.edgeSet().size());
+        assertEquals(2 * rows * cols - rows - cols, mg.iterables().edgeCount());
+        assertEquals(Long.valueOf(0), mg.getEdge(0, 1));
+        assertEquals(Long.valueOf(1), mg.getEdge(0, cols));
+        assertNull(mg.getEdge(1, 0));
+        assertEquals(-cols, mg.getEdgeWeight(mg.getEdge(cols, 2 * cols)), 0.0);
+        assertEquals(cols + 1, mg.getEdgeWeight(mg.getEdge(cols + 1, cols + 2)), 0.0);
+        assertEquals(2, mg.inDegreeOf(cols + 1));
+        assertEquals(4, mg.degreeOf(cols + 1));
+        assertEquals(Set.of(0L), mg.incomingEdgesOf(1));
+        assertEquals(
+            rows + cols - 2, new BFSShortestPath<>(mg).getPath(0, rows * cols - 1).getLength());
+    }
+
+    @Test
+    public void testEdgeWeightUpdates()
+        throws IOException
+    {
+        Path file = folder.newFile().toPath();
+        MemoryMappedGraph.write(file, false, true, 3, consumer -> {
+            consumer.accept(0, 1, 1.5);
+            consumer.accept(2, 1, 2.5);
+        });
+        MemoryMappedGraph readOnly = MemoryMappedGraph.open(file);
+        try {
+            readOnly.setEdgeWeight(0L, 3.0);
+            fail("Expected an UnsupportedOperationException");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+
+        MemoryMappedGraph writable = MemoryMappedGraph.open(file, true);
+        assertEquals(Long.valueOf(1), writable.getEdge(1, 2));
+        writable.setEdgeWeight(1, 2, 7.0);
+        writable.force();
+        assertEquals(7.0, MemoryMappedGraph.open(file).getEdgeWeight(1L), 0.0);
+        assertEquals(1.5, MemoryMappedGraph.open(file).getEdgeWeight(0L), 0.0);
+    }
+
+    @Test
+    public void testEmptyGraph()
+        throws IOException
+    {
+        Path file = folder.newFile().toPath();
+        MemoryMappedGraph.write(new SimpleGraph<>(DefaultEdge.class), file);
+        MemoryMappedGraph mg = MemoryMappedGraph.open(file);
+        assertTrue(mg.vertexSet().isEmpty());
+        assertTrue(mg.edgeSet().isEmpty());
+        assertNull(mg.getEdge(0, 0));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnmodifiable()
+        throws IOException
+    {
+        Path file = folder.newFile().toPath();
+        MemoryMappedGraph.write(file, true, false, 2, consumer -> consumer.accept(0, 1, 1.0));
+        MemoryMappedGraph.open(file).addEdge(1, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEndpointOutOfRange()
+        throws IOException
+    {
+        Path file = folder.newFile().toPath();
+        MemoryMappedGraph.write(file, true, false, 2, consumer -> consumer.accept(0, 2, 1.0));
+    }
+
+    @Test(expected = IOException.class)
+    public void testNotAGraphFile()
+        throws IOException
+    {
+        Path file = folder.newFile().toPath();
+        Files.write(file, new byte[64]);
+        MemoryMappedGraph.open(file);
+    }
+
+    private static <E> void fillRandomly(Graph<String, E> g, int n, int m, Random rng)
+    {
+        for (int i = 0; i < n; i++) {
+            g.addVertex("v" + i);
+        }
+        for (int i = 0; i < m; i++) {
+            // skewed endpoints create hubs, multiple edges and self-loops
+            int u = rng.nextInt(1 + rng.nextInt(n));
+            int v = rng.nextInt(n);
+            E e = g.addEdge("v" + u, "v" + v);
+            if (g.getType().isWeighted()) {
+                g.setEdgeWeight(e, rng.nextInt(100));
+            }
+        }
+    }
+
+    private static <V, E> void assertSameStructure(Graph<V, E> g, MemoryMappedGraph mg)
+    {
+        List<V> vertices = new ArrayList<>(g.vertexSet());
+        assertEquals(vertices.size(), mg.vertexSet().size());
+        assertEquals(g.edgeSet().size(), mg.edgeSet().size());
+        for (int i = 0; i < vertices.size(); i++) {
+            V v = vertices.get(i);
+            assertTrue(mg.containsVertex(i));
+            assertEquals(g.degreeOf(v), mg.degreeOf(i));
+            assertEquals(g.inDegreeOf(v), mg.inDegreeOf(i));
+            assertEquals(g.outDegreeOf(v), mg.outDegreeOf(i));
+            assertEquals(g.edgesOf(v).size(), mg.edgesOf(i).size());
+            assertEquals(mg.edgesOf(i).size(), new HashSet<>(mg.edgesOf(i)).size());
+            assertEquals(
+                opposites(g, v, vertices, g.edgesOf(v)), opposites(mg, i, null, mg.edgesOf(i)));
+            assertEquals(
+                opposites(g, v, vertices, g.outgoingEdgesOf(v)),
+                opposites(mg, i, null, mg.outgoingEdgesOf(i)));
+            assertEquals(
+                opposites(g, v, vertices, g.incomingEdgesOf(v)),
+                opposites(mg, i, null, mg.incomingEdgesOf(i)));
+            for (Long e : mg.edgesOf(i)) {
+                assertTrue(mg.edgesOf(i).contains(e));
+            }
+            for (int j = 0; j < vertices.size(); j += 7) {
+                V u = vertices.get(j);
+                assertEquals(g.getAllEdges(v, u).size(), mg.getAllEdges(i, j).size());
+                assertEquals(g.containsEdge(v, u), mg.containsEdge(i, j));
+                Long e = mg.getEdge(i, j);
+                if (e != null) {
+                    assertTrue(mg.getAllEdges(i, j).contains(e));
+                }
+            }
+        }
+        assertNull(mg.getAllEdges(0, vertices.size()));
+        assertFalse(mg.containsVertex(-1));
+        assertFalse(mg.containsEdge((long) g.edgeSet().size()));
+    }
+
+    /**
+     * Returns the multiset of opposite vertices and weights of some edges touching a vertex.
+     */
+    private static <V, E> Map<String, Integer> opposites(
+        Graph<V, E> g, V v, List<V> vertices, Set<E> edges)
+    {
+        Map<String, Integer> result = new HashMap<>();
+        for (E e : edges) {
+            V u = Graphs.getOppositeVertex(g, e, v);
+            Object key = vertices == null ? u : vertices.indexOf(u);
+            result.merge(key + ":" + g.getEdgeWeight(e), 1, Integer::sum);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,332 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph.snapshot;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+import org.junit.rules.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link GraphChangeLogWriter} and {@link GraphChangeLogReplayer}.
+ */
+public class GraphChangeLogTest
+{
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testReplayWholeLog()
+        throws IOException
+    {
+        Path log = folder.getRoot().toPath().resolve("graph.log");
+        DefaultListenableGraph<Integer, String> g =
+            new DefaultListenableGraph<>(new DirectedWeightedPseudograph<>(null, null));
+        GraphChangeLogWriter<Integer, String> writer =
+            new GraphChangeLogWriter<>(log, String::valueOf, e -> e, 7, false);
+        g.addGraphListener(writer);
+        randomChanges(g, new Random(5), 0, 2000);
+        writer.close();
+        assertTrue(writer.getSequence() >= 2000);
+
+        Graph<Integer, String> replica = new DirectedWeightedPseudograph<>(null, null);
+        long next = new GraphChangeLogReplayer<Integer, String>(Integer::valueOf, e -> e)
+            .replay(log, replica);
+        assertEquals(writer.getSequence(), next);
+        assertSameGraph(g, replica);
+    }
+
+    @Test
+    public void testEdgesByEndpoints()
+        throws IOException
+    {
+        Path log = folder.getRoot().toPath().resolve("graph.log");
+        DefaultListenableGraph<Integer, DefaultWeightedEdge> g =
+            new DefaultListenableGraph<>(new SimpleWeightedGraph<>(DefaultWeightedEdge.class));
+        Random rng = new Random(3);
+        try (GraphChangeLogWriter<Integer, DefaultWeightedEdge> writer =
+            new GraphChangeLogWriter<>(log, String::valueOf, null))
+        {
+            g.addBatchListener(writer);
+            g.beginBatch();
+            for (int v = 0; v < 50; v++) {
+                g.addVertex(v);
+            }
+            g.commit();
+            for (int i = 0; i < 300; i++) {
+                int u = rng.nextInt(50);
+                int v = rng.nextInt(50);
+                if (u == v) {
+                    continue;
+                }
+                DefaultWeightedEdge e = g.getEdge(u, v);
+                if (e == null) {
+                    g.setEdgeWeight(g.addEdge(u, v), rng.nextInt(10));
+                } else if (rng.nextBoolean()) {
+                    g.removeEdge(e);
+                } else {
+                    g.setEdgeWeight(e, rng.nextDouble());
+                }
+            }
+        }
+
+        Graph<Integer, DefaultWeightedEdge> replica =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        new GraphChangeLogReplayer<Integer, DefaultWeightedEdge>(Integer::valueOf)
+            .replay(log, replica);
+        assertEquals(g.vertexSet(), replica.vertexSet());
+        assertEquals(g.edgeSet().size(), replica.edgeSet().size());
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            DefaultWeightedEdge f = replica.getEdge(g.getEdgeSource(e), g.getEdgeTarget(e));
+            assertNotNull(f);
+            assertEquals(g.getEdgeWeight(e), replica.getEdgeWeight(f), 0d);
+        }
+    }
+
+    @Test
+    public void testParallelEdgesByEndpoints()
+        throws IOException
+    {
+        Path log = folder.getRoot().toPath().resolve("graph.log");
+        DefaultListenableGraph<Integer, DefaultWeightedEdge> g =
+            new DefaultListenableGraph<>(new WeightedMultigraph<>(DefaultWeightedEdge.class));
+        try (GraphChangeLogWriter<Integer, DefaultWeightedEdge> writer =
+            new GraphChangeLogWriter<>(log, String::valueOf, null))
+        {
+            g.addGraphListener(writer);
+            g.addVertex(1);
+            g.addVertex(2);
+            g.addVertex(3);
+            g.setEdgeWeight(g.addEdge(1, 2), 1d);
+            DefaultWeightedEdge e = g.addEdge(1, 2);
+            g.setEdgeWeight(e, 2d);
+            g.setEdgeWeight(g.addEdge(2, 3), 3d);
+            g.addEdge(2, 3);
+            g.removeEdge(e);
+            g.setEdgeWeight(g.getAllEdges(2, 3).iterator().next(), 4d);
+        }
+
+        Graph<Integer, DefaultWeightedEdge> replica =
+            new WeightedMultigraph<>(DefaultWeightedEdge.class);
+        new GraphChangeLogReplayer<Integer, DefaultWeightedEdge>(Integer::valueOf)
+            .replay(log, replica);
+
+        // the number of parallel edges is preserved, but not which of them a change applied to
+        assertEquals(g.edgeSet().size(), replica.edgeSet().size());
+        assertEquals(1, replica.getAllEdges(1, 2).size());
+        assertEquals(2, replica.getAllEdges(2, 3).size());
+        double weight = replica.getEdgeWeight(replica.getEdge(1, 2));
+        assertTrue(weight == 1d || weight == 2d);
+    }
+
+    @Test
+    public void testSnapshotAndCatchUp()
+        throws IOException
+    {
+        Path log = folder.getRoot().toPath().resolve("graph.log");
+        Path snapshot = folder.getRoot().toPath().resolve("graph.snapshot");
+        DefaultListenableGraph<Integer, String> g =
+            new DefaultListenableGraph<>(new WeightedPseudograph<>(null, null));
+        GraphChangeLogReplayer<Integer, String> replayer =
+            new GraphChangeLogReplayer<>(Integer::valueOf, e -> e);
+        Graph<Integer, String> standby = new WeightedPseudograph<>(null, null);
+        Random rng = new Random(17);
+
+        long snapshotSequence;
+        long standbySequence;
+        try (GraphChangeLogWriter<Integer, String> writer =
+            new GraphChangeLogWriter<>(log, String::valueOf, e -> e))
+        {
+            g.addBatchListener(writer);
+            for (int round = 0; round < 5; round++) {
+                g.beginBatch();
+                randomChanges(g, rng, 1000 * round, 200);
+                g.commit();
+            }
+            new GraphSnapshotWriter<Integer, String>(String::valueOf, e -> e).write(g, snapshot);
+            snapshotSequence = writer.getSequence();
+
+            standbySequence = replayer.replay(log, standby, 0);
+            assertEquals(snapshotSequence, standbySequence);
+            assertSameGraph(g, standby);
+
+            for (int round = 5; round < 10; round++) {
+                g.beginBatch();
+                randomChanges(g, rng, 1000 * round, 200);
+                g.commit();
+            }
+            standbySequence = replayer.replay(log, standby, standbySequence);
+            assertEquals(writer.getSequence(), standbySequence);
+            assertSameGraph(g, standby);
+        }
+
+        Graph<Integer, String> restored = new WeightedPseudograph<>(null, null);
+        assertEquals(
+            standbySequence, replayer.restore(snapshot, snapshotSequence, log, restored));
+        assertSameGraph(g, restored);
+    }
+
+    @Test
+    public void testTornTailAndReopen()
+        throws IOException
+    {
+        Path log = folder.getRoot().toPath().resolve("graph.log");
+        DefaultListenableGraph<Integer, String> g =
+            new DefaultListenableGraph<>(new DirectedWeightedPseudograph<>(null, null));
+        Random rng = new Random(23);
+        GraphChangeLogWriter<Integer, String> writer =
+            new GraphChangeLogWriter<>(log, String::valueOf, e -> e, 16, false);
+        g.addGraphListener(writer);
+        randomChanges(g, rng, 0, 500);
+        writer.close();
+        long durable = writer.getSequence();
+
+        // a frame interrupted by a failure
+        try (FileChannel channel = FileChannel.open(log, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[] { 100, 0, 0, 0, 1, 2, 3 }));
+        }
+        Graph<Integer, String> replica = new DirectedWeightedPseudograph<>(null, null);
+        GraphChangeLogReplayer<Integer, String> replayer =
+            new GraphChangeLogReplayer<>(Integer::valueOf, e -> e);
+        assertEquals(durable, replayer.replay(log, replica));
+        assertSameGraph(g, replica);
+
+        g.removeGraphListener(writer);
+        writer = new GraphChangeLogWriter<>(log, String::valueOf, e -> e, 16, false);
+        assertEquals(durable, writer.getSequence());
+        g.addGraphListener(writer);
+        randomChanges(g, rng, 10000, 500);
+        writer.close();
+
+        assertEquals(writer.getSequence(), replayer.replay(log, replica, durable));
+        assertSameGraph(g, replica);
+    }
+
+    @Test
+    public void testGroupCommitOfSingleChanges()
+        throws IOException
+    {
+        Path log = folder.getRoot().toPath().resolve("graph.log");
+        DefaultListenableGraph<Integer, String> g =
+            new DefaultListenableGraph<>(new DirectedWeightedPseudograph<>(null, null));
+        GraphChangeLogWriter<Integer, String> writer =
+            new GraphChangeLogWriter<>(log, String::valueOf, e -> e, 10, false);
+        g.addBatchListener(writer);
+
+        // changes outside a batch are grouped, the end of a batch commits the group
+        for (int v = 0; v < 25; v++) {
+            g.addVertex(v);
+        }
+        g.beginBatch();
+        g.addEdge(0, 1, "a");
+        g.addEdge(1, 2, "b");
+        g.commit();
+        g.addVertex(25);
+        writer.close();
+
+        List<Integer> frames = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(log, StandardOpenOption.READ)) {
+            long position = ChangeLogFormat.HEADER_SIZE;
+            ChangeLogFormat.Frame frame;
+            while ((frame = ChangeLogFormat.readFrame(channel, position, false)) != null) {
+                frames.add(frame.count);
+                position = frame.end;
+            }
+        }
+        assertEquals(List.of(10, 10, 7, 1), frames);
+        assertEquals(28, writer.getSequence());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEdgeIdentifierMismatch()
+        throws IOException
+    {
+        Path log = folder.getRoot().toPath().resolve("graph.log");
+        new GraphChangeLogWriter<Integer, String>(log, String::valueOf, e -> e).close();
+        new GraphChangeLogWriter<Integer, String>(log, String::valueOf, null).close();
+    }
+
+    @Test(expected = IOException.class)
+    public void testNotALog()
+        throws IOException
+    {
+        Path file = folder.newFile().toPath();
+        Files.write(file, new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12 });
+        new GraphChangeLogReplayer<Integer, String>(Integer::valueOf)
+            .replay(file, new WeightedPseudograph<>(null, null));
+    }
+
+    /**
+     * Perform random changes on a graph with string edges.
+     *
+     * @param g the graph
+     * @param rng the random number generator
+     * @param firstId the first vertex and edge identifier to use
+     * @param changes the number of changes
+     */
+    private static void randomChanges(
+        Graph<Integer, String> g, Random rng, int firstId, int changes)
+    {
+        int id = firstId;
+        for (int i = 0; i < changes; i++) {
+            List<Integer> vertices = new ArrayList<>(g.vertexSet());
+            int op = rng.nextInt(10);
+            if (vertices.size() < 2 || op < 2) {
+                g.addVertex(id++);
+            } else if (op == 2) {
+                g.removeVertex(vertices.get(rng.nextInt(vertices.size())));
+            } else if (op < 7 || g.edgeSet().isEmpty()) {
+                String e = "e" + id++;
+                g
+                    .addEdge(
+                        vertices.get(rng.nextInt(vertices.size())),
+                        vertices.get(rng.nextInt(vertices.size())), e);
+                if (rng.nextBoolean()) {
+                    g.setEdgeWeight(e, rng.nextDouble());
+                }
+            } else {
+                List<String> edges = new ArrayList<>(g.edgeSet());
+                String e = edges.get(rng.nextInt(edges.size()));
+                if (op == 7) {
+                    g.removeEdge(e);
+                } else {
+                    g.setEdgeWeight(e, rng.nextInt(100));
+                }
+            }
+        }
+    }
+
+    private static void assertSameGraph(Graph<Integer, String> expected, Graph<Integer, String> g)
+    {
+        assertEquals(expected.vertexSet(), g.vertexSet());
+        assertEquals(expected.edgeSet(), g.edgeSet());
+        for (String e : expected.edgeSet()) {
+            assertEquals(expected.getEdgeSource(e), g.getEdgeSource(e));
+            assertEquals(expected.getEdgeTarget(e), g.getEdgeTarget(e));
+            assertEquals(expected.getEdgeWeight(e), g.getEdgeWeight(e), 0d);
+        }
+    }
+}
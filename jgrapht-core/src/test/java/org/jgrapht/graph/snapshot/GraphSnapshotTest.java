@@ -0,0 +1,287 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph.snapshot;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+import org.junit.rules.*;
+
+import java.io.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link GraphSnapshotWriter} and {@link GraphSnapshotReader}.
+ */
+public class GraphSnapshotTest
+{
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testDirectedWeightedRoundTrip()
+        throws IOException
+    {
+        Graph<Integer, DefaultWeightedEdge> g = new DefaultDirectedWeightedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        Random rng = new Random(11);
+        for (int i = 0; i < 500; i++) {
+            g.addVertex();
+        }
+        for (int i = 0; i < 3000; i++) {
+            DefaultWeightedEdge e = g.addEdge(rng.nextInt(500), rng.nextInt(500));
+            if (e != null) {
+                g.setEdgeWeight(e, rng.nextGaussian());
+            }
+        }
+
+        Path file = folder.newFile().toPath();
+        new GraphSnapshotWriter<Integer, DefaultWeightedEdge>(String::valueOf).write(g, file);
+        Graph<Integer, DefaultWeightedEdge> copy =
+            new DefaultDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        new GraphSnapshotReader<Integer, DefaultWeightedEdge>(Integer::valueOf).read(file, copy);
+
+        assertEquals(g.vertexSet(), copy.vertexSet());
+        assertEquals(new ArrayList<>(g.vertexSet()), new ArrayList<>(copy.vertexSet()));
+        assertEquals(g.edgeSet().size(), copy.edgeSet().size());
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            DefaultWeightedEdge copied = copy.getEdge(g.getEdgeSource(e), g.getEdgeTarget(e));
+            assertNotNull(copied);
+            assertEquals(g.getEdgeWeight(e), copy.getEdgeWeight(copied), 0.0);
+        }
+        // a dense numbering needs about a byte per delta plus eight per weight
+        assertTrue(Files.size(file) < 12L * g.edgeSet().size());
+    }
+
+    @Test
+    public void testDirectedAcyclicGraphTarget()
+        throws IOException
+    {
+        // the vertex order of the snapshot is the reverse of the topological order
+        Graph<Integer, DefaultEdge> g = new DefaultDirectedGraph<>(DefaultEdge.class);
+        for (int i = 5; i >= 0; i--) {
+            g.addVertex(i);
+        }
+        for (int i = 0; i < 5; i++) {
+            g.addEdge(i, i + 1);
+        }
+        g.addEdge(0, 5);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new GraphSnapshotWriter<Integer, DefaultEdge>(String::valueOf)
+            .write(g, Channels.newChannel(bytes));
+        DirectedAcyclicGraph<Integer, DefaultEdge> copy =
+            new DirectedAcyclicGraph<>(DefaultEdge.class);
+        new GraphSnapshotReader<Integer, DefaultEdge>(Integer::valueOf)
+            .read(Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())), copy);
+
+        assertEquals(g.vertexSet(), copy.vertexSet());
+        assertEquals(g.edgeSet().size(), copy.edgeSet().size());
+        List<Integer> order = new ArrayList<>();
+        copy.forEach(order::add);
+        for (DefaultEdge e : g.edgeSet()) {
+            int source = g.getEdgeSource(e);
+            int target = g.getEdgeTarget(e);
+            assertTrue(copy.containsEdge(source, target));
+            assertTrue(order.indexOf(source) < order.indexOf(target));
+        }
+
+        // a snapshot of a cyclic graph is rejected by the cycle check of the target
+        g.addEdge(5, 0);
+        bytes.reset();
+        new GraphSnapshotWriter<Integer, DefaultEdge>(String::valueOf)
+            .write(g, Channels.newChannel(bytes));
+        DirectedAcyclicGraph<Integer, DefaultEdge> cyclic =
+            new DirectedAcyclicGraph<>(DefaultEdge.class);
+        try {
+            new GraphSnapshotReader<Integer, DefaultEdge>(Integer::valueOf)
+                .read(Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())), cyclic);
+            fail("Cycle accepted");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        assertTrue(cyclic.edgeSet().size() < g.edgeSet().size());
+    }
+
+    @Test
+    public void testUndirectedPseudographWithEdgeIds()
+        throws IOException
+    {
+        Graph<String, String> g = new Pseudograph<>(null, null, false);
+        Graphs.addAllVertices(g, List.of("a", "b", "c", "d"));
+        g.addEdge("a", "b", "ab1");
+        g.addEdge("b", "a", "ab2");
+        g.addEdge("c", "c", "loop");
+        g.addEdge("d", "a", "da");
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new GraphSnapshotWriter<String, String>(v -> v, e -> e)
+            .write(g, Channels.newChannel(bytes));
+        Graph<String, String> copy = new Pseudograph<>(null, null, false);
+        new GraphSnapshotReader<String, String>(v -> v, e -> e)
+            .read(Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())), copy);
+
+        assertEquals(g.vertexSet(), copy.vertexSet());
+        assertEquals(g.edgeSet(), copy.edgeSet());
+        for (String e : g.edgeSet()) {
+            assertEquals(g.getEdgeSource(e), copy.getEdgeSource(e));
+            assertEquals(g.getEdgeTarget(e), copy.getEdgeTarget(e));
+        }
+        assertEquals(2, copy.degreeOf("c"));
+    }
+
+    @Test
+    public void testLongIdentifiersAndSmallBuffers()
+        throws IOException
+    {
+        // identifiers larger than the buffer and a channel returning few bytes per read
+        Graph<String, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        char[] chars = new char[100000];
+        Arrays.fill(chars, 'é');
+        String big = new String(chars);
+        Graphs.addAllVertices(g, List.of(big, "x", big + "y"));
+        g.addEdge(big, "x");
+        g.addEdge("x", big + "y");
+        g.addEdge("x", big + "y");
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new GraphSnapshotWriter<String, DefaultEdge>(v -> v).write(g, Channels.newChannel(bytes));
+        InputStream slow = new ByteArrayInputStream(bytes.toByteArray())
+        {
+            @Override
+            public synchronized int read(byte[] b, int off, int len)
+            {
+                return super.read(b, off, Math.min(len, 7));
+            }
+        };
+        Graph<String, DefaultEdge> copy = new DirectedPseudograph<>(DefaultEdge.class);
+        new GraphSnapshotReader<String, DefaultEdge>(v -> v)
+            .read(Channels.newChannel(slow), copy);
+
+        assertEquals(g.vertexSet(), copy.vertexSet());
+        assertEquals(2, copy.getAllEdges("x", big + "y").size());
+        assertTrue(copy.containsEdge(big, "x"));
+    }
+
+    @Test
+    public void testMultigraphIntoSimpleGraph()
+        throws IOException
+    {
+        // duplicates are dropped by the checked insertion path
+        Graph<String, DefaultEdge> g = new DirectedMultigraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, List.of("a", "b"));
+        g.addEdge("a", "b");
+        g.addEdge("a", "b");
+        Path file = folder.newFile().toPath();
+        new GraphSnapshotWriter<String, DefaultEdge>(v -> v).write(g, file);
+
+        Graph<String, DefaultEdge> copy = new SimpleDirectedGraph<>(DefaultEdge.class);
+        new GraphSnapshotReader<String, DefaultEdge>(v -> v).read(file, copy);
+        assertEquals(1, copy.edgeSet().size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDirectednessMismatch()
+        throws IOException
+    {
+        Graph<String, DefaultEdge> g = new SimpleDirectedGraph<>(DefaultEdge.class);
+        g.addVertex("a");
+        Path file = folder.newFile().toPath();
+        new GraphSnapshotWriter<String, DefaultEdge>(v -> v).write(g, file);
+        new GraphSnapshotReader<String, DefaultEdge>(v -> v)
+            .read(file, new SimpleGraph<>(DefaultEdge.class));
+    }
+
+    @Test(expected = IOException.class)
+    public void testNotASnapshot()
+        throws IOException
+    {
+        Path file = folder.newFile().toPath();
+        Files.write(file, new byte[] { 'J', 'G', 'X', 'X', 1 });
+        new GraphSnapshotReader<String, DefaultEdge>(v -> v)
+            .read(file, new SimpleGraph<>(DefaultEdge.class));
+    }
+
+    @Test(expected = EOFException.class)
+    public void testTruncatedSnapshot()
+        throws IOException
+    {
+        Graph<String, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, List.of("a", "b"));
+        g.addEdge("a", "b");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new GraphSnapshotWriter<String, DefaultEdge>(v -> v).write(g, Channels.newChannel(bytes));
+        byte[] truncated = Arrays.copyOf(bytes.toByteArray(), bytes.size() - 1);
+        new GraphSnapshotReader<String, DefaultEdge>(v -> v)
+            .read(
+                Channels.newChannel(new ByteArrayInputStream(truncated)),
+                new SimpleGraph<>(DefaultEdge.class));
+    }
+
+    @Test(expected = IOException.class)
+    public void testNegativeVertexCount()
+        throws IOException
+    {
+        // a ten byte varint with the top bit set decodes to -1
+        byte[] snapshot = { 'J', 'G', 'S', 'N', 1, 0, -1, -1, -1, -1, -1, -1, -1, -1, -1, 1, 0 };
+        new GraphSnapshotReader<String, DefaultEdge>(v -> v)
+            .read(
+                Channels.newChannel(new ByteArrayInputStream(snapshot)),
+                new SimpleGraph<>(DefaultEdge.class));
+    }
+
+    @Test(expected = IOException.class)
+    public void testNegativeTargetDelta()
+        throws IOException
+    {
+        byte[] snapshot = { 'J', 'G', 'S', 'N', 1, 0, 2, 1, 1, 'a', 1, 'b', 1, -1, -1, -1, -1, -1,
+            -1, -1, -1, -1, 1 };
+        new GraphSnapshotReader<String, DefaultEdge>(v -> v)
+            .read(
+                Channels.newChannel(new ByteArrayInputStream(snapshot)),
+                new SimpleGraph<>(DefaultEdge.class));
+    }
+
+    @Test(expected = IOException.class)
+    public void testRepeatedDirectedEdge()
+        throws IOException
+    {
+        // vertex a has degree two with target deltas 1 and 0
+        byte[] snapshot = { 'J', 'G', 'S', 'N', 1, 1, 2, 2, 1, 'a', 1, 'b', 2, 1, 0, 0 };
+        new GraphSnapshotReader<String, DefaultEdge>(v -> v)
+            .read(
+                Channels.newChannel(new ByteArrayInputStream(snapshot)),
+                new SimpleDirectedGraph<>(DefaultEdge.class));
+    }
+
+    @Test(expected = IOException.class)
+    public void testUndirectedEdgeAtBothEndpoints()
+        throws IOException
+    {
+        byte[] snapshot = { 'J', 'G', 'S', 'N', 1, 0, 2, 2, 1, 'a', 1, 'b', 1, 1, 1, 0 };
+        new GraphSnapshotReader<String, DefaultEdge>(v -> v)
+            .read(
+                Channels.newChannel(new ByteArrayInputStream(snapshot)),
+                new SimpleGraph<>(DefaultEdge.class));
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.perf.flow;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.flow.mincost.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.generate.netgen.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Compares the minimum cost flow algorithms on transportation instances produced by the NETGEN
+ * generator.
+ */
+public class MinimumCostFlowAlgorithmPerformanceTest
+{
+
+    public static final int NUMBER_OF_PROBLEMS = 5;
+    public static final int PERF_BENCHMARK_VERTICES_COUNT = 2000;
+    public static final int PERF_BENCHMARK_EDGES_COUNT = 20000;
+    public static final int PERF_BENCHMARK_SOURCES_COUNT = 200;
+    public static final int PERF_BENCHMARK_SINKS_COUNT = 200;
+
+    @State(Scope.Benchmark)
+    private static abstract class NetgenBenchmarkBase
+    {
+
+        public static final long SEED = 1446523573696201013L;
+
+        private List<MinimumCostFlowProblem<Integer, DefaultEdge>> problems;
+
+        abstract MinimumCostFlowAlgorithm<Integer, DefaultEdge> createSolver();
+
+        @Setup
+        public void setup()
+        {
+            problems = new ArrayList<>();
+
+            NetworkGeneratorConfig config = new NetworkGeneratorConfigBuilder()
+                .setParams(
+                    PERF_BENCHMARK_VERTICES_COUNT, PERF_BENCHMARK_EDGES_COUNT,
+                    PERF_BENCHMARK_SOURCES_COUNT, PERF_BENCHMARK_SINKS_COUNT, 0, 0, 100000, 100,
+                    1000, 1, 1000, 50, 0)
+                .build();
+
+            for (int i = 0; i < NUMBER_OF_PROBLEMS; i++) {
+                // every problem refers to the internal data of its generator
+                NetworkGenerator<Integer, DefaultEdge> generator =
+                    new NetworkGenerator<>(config, SEED + i);
+                Graph<Integer, DefaultEdge> network = new DefaultDirectedGraph<>(
+                    SupplierUtil.createIntegerSupplier(), SupplierUtil.createDefaultEdgeSupplier(),
+                    true);
+                problems.add(generator.generateMinimumCostFlowProblem(network));
+            }
+        }
+
+        @Benchmark
+        public void run()
+        {
+            for (MinimumCostFlowProblem<Integer, DefaultEdge> problem : problems) {
+                createSolver().getMinimumCostFlow(problem);
+            }
+        }
+    }
+
+    public static class CapacityScalingMinimumCostFlowNetgenBenchmark
+        extends
+        NetgenBenchmarkBase
+    {
+        @Override
+        MinimumCostFlowAlgorithm<Integer, DefaultEdge> createSolver()
+        {
+            return new CapacityScalingMinimumCostFlow<>();
+        }
+    }
+
+    public static class NetworkSimplexMinimumCostFlowNetgenBenchmark
+        extends
+        NetgenBenchmarkBase
+    {
+        @Override
+        MinimumCostFlowAlgorithm<Integer, DefaultEdge> createSolver()
+        {
+            return new NetworkSimplexMinimumCostFlow<>();
+        }
+    }
+
+    @Test
+    public void testNetgenBenchmark()
+        throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+            .include(".*" + CapacityScalingMinimumCostFlowNetgenBenchmark.class.getSimpleName() + ".*")
+            .include(".*" + NetworkSimplexMinimumCostFlowNetgenBenchmark.class.getSimpleName() + ".*")
+
+            .mode(Mode.AverageTime).timeUnit(TimeUnit.MILLISECONDS).warmupTime(TimeValue.seconds(1))
+            .warmupIterations(3).measurementTime(TimeValue.seconds(1)).measurementIterations(5)
+            .forks(1).shouldFailOnError(true).shouldDoGC(true).build();
+
+        new Runner(opt).run();
+    }
+}
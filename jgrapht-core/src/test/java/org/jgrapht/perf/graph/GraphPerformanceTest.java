@@ -17,12 +17,14 @@
  */
 package org.jgrapht.perf.graph;
 
+import org.jgrapht.*;
 import org.jgrapht.alg.connectivity.*;
 import org.jgrapht.alg.flow.*;
 import org.jgrapht.alg.interfaces.*;
 import org.jgrapht.alg.shortestpath.*;
 import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.graph.builder.*;
 import org.jgrapht.util.*;
 import org.junit.*;
 import org.openjdk.jmh.annotations.*;
@@ -201,6 +203,82 @@ public class GraphPerformanceTest
         }
     }
 
+    /**
+     * Benchmark for loading a large edge list into a graph, one edge at a time or in bulk.
+     */
+    @State(Scope.Benchmark)
+    public static class BulkLoadBenchmark
+    {
+        private static final int VERTICES = 100000;
+        private static final int EDGES = 1000000;
+
+        private Integer[] sources;
+        private Integer[] targets;
+        private double[] weights;
+
+        @Setup
+        public void setup()
+        {
+            Random rng = new Random(SEED);
+            Set<Long> seen = new HashSet<>();
+            sources = new Integer[EDGES];
+            targets = new Integer[EDGES];
+            weights = new double[EDGES];
+            int m = 0;
+            while (m < EDGES) {
+                int u = rng.nextInt(VERTICES);
+                int v = rng.nextInt(VERTICES);
+                if (u != v && seen.add((long) u * VERTICES + v)) {
+                    sources[m] = u;
+                    targets[m] = v;
+                    weights[m++] = rng.nextDouble();
+                }
+            }
+        }
+
+        private DefaultDirectedWeightedGraph<Integer, DefaultWeightedEdge> createGraph()
+        {
+            return new DefaultDirectedWeightedGraph<>(
+                null, SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        }
+
+        @Benchmark
+        public Graph<Integer, DefaultWeightedEdge> addEdgeBenchmark()
+        {
+            Graph<Integer, DefaultWeightedEdge> graph = createGraph();
+            for (int i = 0; i < EDGES; i++) {
+                Graphs.addEdgeWithVertices(graph, sources[i], targets[i], weights[i]);
+            }
+            return graph;
+        }
+
+        @Benchmark
+        public Graph<Integer, DefaultWeightedEdge> bulkLoadBenchmark()
+        {
+            return new GraphBuilder<>(createGraph())
+                .addEdges(sources, targets, weights).build();
+        }
+
+        @Benchmark
+        public Graph<Integer, DefaultWeightedEdge> trustedBulkLoadBenchmark()
+        {
+            return new GraphBuilder<>(createGraph())
+                .trustedInput(true).addEdges(sources, targets, weights).build();
+        }
+    }
+
+    @Test
+    public void testBulkLoadBenchmark()
+        throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+            .include(".*" + BulkLoadBenchmark.class.getSimpleName() + ".*")
+            .mode(Mode.AverageTime).timeUnit(TimeUnit.MILLISECONDS).warmupIterations(3)
+            .measurementIterations(5).forks(1).shouldFailOnError(true).shouldDoGC(true).build();
+
+        new Runner(opt).run();
+    }
+
     @Test
     public void testRandomGraphBenchmark()
         throws RunnerException
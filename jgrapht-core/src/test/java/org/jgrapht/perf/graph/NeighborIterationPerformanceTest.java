@@ -0,0 +1,155 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.perf.graph;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.*;
+import org.openjdk.jmh.profile.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+/**
+ * Compares neighbor traversal through the edge set views of a graph with the callback based
+ * traversal of {@link GraphIterables}. The benchmarks run with the GC profiler, whose
+ * {@code gc.alloc.rate.norm} metric reports the bytes allocated per traversal of all vertices.
+ */
+@Fork(value = 1, warmups = 0)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class NeighborIterationPerformanceTest
+{
+    private static final int VERTICES = 10000;
+    private static final int EDGES = 50000;
+    private static final long SEED = 17;
+
+    @State(Scope.Benchmark)
+    public static class Data
+    {
+        Graph<Integer, DefaultEdge> directed;
+        Graph<Integer, DefaultEdge> undirected;
+
+        @Setup
+        public void setup()
+        {
+            directed = new DefaultDirectedGraph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+            undirected = new SimpleGraph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+            new GnmRandomGraphGenerator<Integer, DefaultEdge>(VERTICES, EDGES, SEED)
+                .generateGraph(directed);
+            new GnmRandomGraphGenerator<Integer, DefaultEdge>(VERTICES, EDGES, SEED)
+                .generateGraph(undirected);
+        }
+    }
+
+    @Benchmark
+    public void testDirectedOutgoingEdgesOf(Data data, Blackhole blackhole)
+    {
+        Graph<Integer, DefaultEdge> g = data.directed;
+        for (Integer v : g.vertexSet()) {
+            for (DefaultEdge e : g.outgoingEdgesOf(v)) {
+                blackhole.consume(Graphs.getOppositeVertex(g, e, v));
+            }
+        }
+    }
+
+    @Benchmark
+    public void testDirectedForEachSuccessor(Data data, Blackhole blackhole)
+    {
+        Graph<Integer, DefaultEdge> g = data.directed;
+        Consumer<Integer> sink = blackhole::consume;
+        for (Integer v : g.vertexSet()) {
+            g.iterables().forEachSuccessor(v, sink);
+        }
+    }
+
+    @Benchmark
+    public void testDirectedEdgesOf(Data data, Blackhole blackhole)
+    {
+        Graph<Integer, DefaultEdge> g = data.directed;
+        for (Integer v : g.vertexSet()) {
+            for (DefaultEdge e : g.edgesOf(v)) {
+                blackhole.consume(Graphs.getOppositeVertex(g, e, v));
+            }
+        }
+    }
+
+    @Benchmark
+    public void testDirectedForEachNeighbor(Data data, Blackhole blackhole)
+    {
+        Graph<Integer, DefaultEdge> g = data.directed;
+        Consumer<Integer> sink = blackhole::consume;
+        for (Integer v : g.vertexSet()) {
+            g.iterables().forEachNeighbor(v, sink);
+        }
+    }
+
+    @Benchmark
+    public void testUndirectedEdgesOf(Data data, Blackhole blackhole)
+    {
+        Graph<Integer, DefaultEdge> g = data.undirected;
+        for (Integer v : g.vertexSet()) {
+            for (DefaultEdge e : g.edgesOf(v)) {
+                blackhole.consume(Graphs.getOppositeVertex(g, e, v));
+            }
+        }
+    }
+
+    @Benchmark
+    public void testUndirectedForEachNeighbor(Data data, Blackhole blackhole)
+    {
+        Graph<Integer, DefaultEdge> g = data.undirected;
+        Consumer<Integer> sink = blackhole::consume;
+        for (Integer v : g.vertexSet()) {
+            g.iterables().forEachNeighbor(v, sink);
+        }
+    }
+
+    @Benchmark
+    public List<Integer> testNeighborListOf(Data data)
+    {
+        Graph<Integer, DefaultEdge> g = data.undirected;
+        List<Integer> last = null;
+        for (Integer v : g.vertexSet()) {
+            last = Graphs.neighborListOf(g, v);
+        }
+        return last;
+    }
+
+    @Test
+    public void testNeighborIterationBenchmark()
+        throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+            .include(".*" + NeighborIterationPerformanceTest.class.getSimpleName() + ".*")
+            .addProfiler(GCProfiler.class).shouldFailOnError(true).shouldDoGC(true).build();
+
+        new Runner(opt).run();
+    }
+}
@@ -177,6 +177,35 @@ public class AVLTreeTest
         }
     }
 
+    @Test
+    public void testFlags()
+    {
+        AVLTree<Integer> tree = new AVLTree<>();
+        List<TreeNode<Integer>> nodes = fillNodes(tree, 0, 100);
+        for (int i = 0; i < 1000; i++) {
+            TreeNode<Integer> node = nodes.get(RANDOM.nextInt(nodes.size()));
+            node.setFlags(RANDOM.nextInt(8) == 0 ? 1 + RANDOM.nextInt(3) : 0);
+
+            int split = RANDOM.nextInt(nodes.size());
+            AVLTree<Integer> right = tree.splitAfter(nodes.get(split));
+            diagnostic(tree);
+            diagnostic(right);
+            tree.mergeAfter(right);
+            diagnostic(tree);
+
+            for (int mask = 1; mask <= 3; mask++) {
+                TreeNode<Integer> expected = null;
+                for (TreeNode<Integer> n : nodes) {
+                    if ((n.getFlags() & mask) != 0) {
+                        expected = n;
+                        break;
+                    }
+                }
+                assertSame(expected, tree.findFlagged(mask));
+            }
+        }
+    }
+
     @Test
     public void testIterator()
     {
@@ -248,6 +277,10 @@ public class AVLTreeTest
 
         assertEquals(node.getHeight(), Math.max(leftInfo.height, rightInfo.height) + 1);
         assertEquals(node.getSubtreeSize(), leftInfo.size + rightInfo.size + 1);
+        assertEquals(
+            node.getSubtreeFlags(),
+            node.getFlags() | (node.getLeft() == null ? 0 : node.getLeft().getSubtreeFlags())
+                | (node.getRight() == null ? 0 : node.getRight().getSubtreeFlags()));
 
         assertTrue(Math.abs(node.getLeftHeight() - node.getRightHeight()) < 2);
 
@@ -0,0 +1,152 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.util;
+
+import org.junit.*;
+
+import java.io.*;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link CompactHashMap}.
+ */
+public class CompactHashMapTest
+{
+    @Test
+    public void testBasicOperations()
+    {
+        Map<String, Integer> map = new CompactHashMap<>();
+        assertTrue(map.isEmpty());
+        assertNull(map.put("a", 1));
+        assertNull(map.put("b", 2));
+        assertNull(map.put("c", null));
+        assertEquals(Integer.valueOf(1), map.put("a", 3));
+        assertEquals(3, map.size());
+        assertEquals(Integer.valueOf(3), map.get("a"));
+        assertTrue(map.containsKey("c"));
+        assertNull(map.get("c"));
+        assertNull(map.get(null));
+        assertFalse(map.containsKey(null));
+        assertEquals(List.of("a", "b", "c"), new ArrayList<>(map.keySet()));
+
+        assertEquals(Integer.valueOf(2), map.remove("b"));
+        assertNull(map.remove("b"));
+        assertTrue(map.keySet().remove("c"));
+        assertFalse(map.keySet().remove("c"));
+        assertEquals(Map.of("a", 3), map);
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertTrue(map.keySet().isEmpty());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullKey()
+    {
+        new CompactHashMap<String, String>().put(null, "a");
+    }
+
+    @Test
+    public void testRandomOperations()
+    {
+        Random rng = new Random(3);
+        Map<Integer, Integer> expected = new LinkedHashMap<>();
+        Map<Integer, Integer> map = new CompactHashMap<>();
+        for (int i = 0; i < 100000; i++) {
+            // colliding hash codes exercise long probe sequences
+            Integer key = rng.nextInt(2000) << (i % 3 == 0 ? 16 : 0);
+            switch (rng.nextInt(4)) {
+            case 0:
+                assertEquals(expected.remove(key), map.remove(key));
+                break;
+            case 1:
+                assertEquals(expected.get(key), map.get(key));
+                assertEquals(expected.containsKey(key), map.containsKey(key));
+                break;
+            default:
+                assertEquals(expected.put(key, i), map.put(key, i));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        assertEquals(new ArrayList<>(expected.entrySet()), new ArrayList<>(map.entrySet()));
+        assertEquals(expected, map);
+        assertEquals(expected.hashCode(), map.hashCode());
+    }
+
+    @Test
+    public void testIteratorRemoval()
+    {
+        Map<Integer, String> map = new CompactHashMap<>(2);
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, String.valueOf(i));
+        }
+        Iterator<Integer> it = map.keySet().iterator();
+        while (it.hasNext()) {
+            if (it.next() % 3 != 0) {
+                it.remove();
+            }
+        }
+        assertEquals(334, map.size());
+        for (Map.Entry<Integer, String> entry : map.entrySet()) {
+            assertEquals(0, entry.getKey() % 3);
+            entry.setValue("x" + entry.getKey());
+        }
+        assertEquals("x999", map.get(999));
+        assertNull(map.get(998));
+
+        Iterator<Integer> failing = map.keySet().iterator();
+        failing.next();
+        map.put(-1, "y");
+        try {
+            failing.next();
+            fail("Expected a ConcurrentModificationException");
+        } catch (ConcurrentModificationException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testSerialization()
+        throws IOException, ClassNotFoundException
+    {
+        CompactHashMap<Object, Integer> map = new CompactHashMap<>();
+        Object identityKey = new ArrayList<>(List.of(1));
+        for (int i = 0; i < 100; i++) {
+            map.put(i, i);
+        }
+        map.put(identityKey, -1);
+        map.remove(50);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(map);
+        }
+        try (ObjectInputStream in =
+            new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())))
+        {
+            @SuppressWarnings("unchecked") Map<Object, Integer> copy =
+                (Map<Object, Integer>) in.readObject();
+            assertEquals(map, copy);
+            assertEquals(new ArrayList<>(map.keySet()), new ArrayList<>(copy.keySet()));
+            assertEquals(Integer.valueOf(-1), copy.get(List.of(1)));
+            copy.put(50, 50);
+            assertEquals(101, copy.size());
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.util;
+
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link RoaringBitmap}.
+ */
+public class RoaringBitmapTest
+{
+    @Test
+    public void testBasicOperations()
+    {
+        RoaringBitmap bitmap = RoaringBitmap.of(5, 1, 70000, -1, 5);
+        assertEquals(4, bitmap.cardinality());
+        assertTrue(bitmap.contains(70000));
+        assertFalse(bitmap.contains(2));
+        assertFalse(bitmap.add(1));
+        assertTrue(bitmap.remove(1));
+        assertFalse(bitmap.remove(1));
+        // values are ordered as unsigned integers
+        assertEquals("{5, 70000, 4294967295}", bitmap.toString());
+        assertEquals(List.of(5, 70000, -1), toList(bitmap));
+        assertEquals(RoaringBitmap.of(-1, 70000, 5), bitmap);
+        assertEquals(RoaringBitmap.of(-1, 70000, 5).hashCode(), bitmap.hashCode());
+        assertTrue(new RoaringBitmap().isEmpty());
+    }
+
+    @Test
+    public void testRandomOperations()
+    {
+        Random rng = new Random(5);
+        for (int round = 0; round < 20; round++) {
+            // mixes sparse and dense chunks, so both container kinds are exercised
+            int range = round % 2 == 0 ? 300000 : 70000;
+            int count = rng.nextInt(60000);
+            TreeSet<Integer> expectedA = new TreeSet<>();
+            TreeSet<Integer> expectedB = new TreeSet<>();
+            RoaringBitmap a = new RoaringBitmap();
+            RoaringBitmap b = new RoaringBitmap();
+            for (int i = 0; i < count; i++) {
+                int x = rng.nextInt(range);
+                int y = rng.nextInt(range);
+                assertEquals(expectedA.add(x), a.add(x));
+                assertEquals(expectedB.add(y), b.add(y));
+                if (i % 3 == 0) {
+                    int z = rng.nextInt(range);
+                    assertEquals(expectedA.remove(z), a.remove(z));
+                }
+            }
+            assertSameValues(expectedA, a);
+            assertSameValues(expectedB, b);
+
+            Set<Integer> union = new TreeSet<>(expectedA);
+            union.addAll(expectedB);
+            Set<Integer> intersection = new TreeSet<>(expectedA);
+            intersection.retainAll(expectedB);
+            Set<Integer> difference = new TreeSet<>(expectedA);
+            difference.removeAll(expectedB);
+            assertSameValues(union, a.or(b));
+            assertSameValues(intersection, a.and(b));
+            assertSameValues(difference, a.andNot(b));
+            assertSameValues(expectedA, a.copy());
+
+            // shrinking a dense chunk converts it back
+            for (int x : expectedA) {
+                if (x % 4 != 0) {
+                    a.remove(x);
+                }
+            }
+            expectedA.removeIf(x -> x % 4 != 0);
+            assertSameValues(expectedA, a);
+        }
+    }
+
+    @Test
+    public void testIterator()
+    {
+        RoaringBitmap bitmap = RoaringBitmap.of(0, 65535, 65536, 131071);
+        PrimitiveIterator.OfInt it = bitmap.iterator();
+        assertEquals(0, it.nextInt());
+        assertEquals(65535, it.nextInt());
+        assertEquals(65536, it.nextInt());
+        assertEquals(131071, it.nextInt());
+        assertFalse(it.hasNext());
+        try {
+            it.nextInt();
+            fail("Expected a NoSuchElementException");
+        } catch (NoSuchElementException e) {
+            // expected
+        }
+        assertFalse(new RoaringBitmap().iterator().hasNext());
+    }
+
+    private static void assertSameValues(Set<Integer> expected, RoaringBitmap bitmap)
+    {
+        assertEquals(expected.size(), bitmap.cardinality());
+        assertEquals(new ArrayList<>(expected), toList(bitmap));
+        for (int x : expected) {
+            assertTrue(bitmap.contains(x));
+        }
+        List<Integer> visited = new ArrayList<>();
+        bitmap.forEach(visited::add);
+        assertEquals(new ArrayList<>(expected), visited);
+    }
+
+    private static List<Integer> toList(RoaringBitmap bitmap)
+    {
+        List<Integer> result = new ArrayList<>();
+        bitmap.iterator().forEachRemaining((int x) -> result.add(x));
+        return result;
+    }
+}